@@ -0,0 +1,278 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.core.Neo4jTemplate;
+import org.springframework.data.neo4j.core.ReactiveNeo4jTemplate;
+import org.springframework.data.neo4j.core.schema.GeneratedValue;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
+import org.springframework.data.neo4j.core.schema.RelationshipId;
+import org.springframework.data.neo4j.core.schema.RelationshipProperties;
+import org.springframework.data.neo4j.core.schema.TargetNode;
+import org.springframework.data.neo4j.repository.Neo4jRepository;
+import org.springframework.data.neo4j.repository.ReactiveNeo4jRepository;
+import org.springframework.data.neo4j.repository.config.EnableNeo4jRepositories;
+import org.springframework.data.neo4j.repository.config.EnableReactiveNeo4jRepositories;
+import org.springframework.data.neo4j.test.Neo4jExtension;
+import org.springframework.data.neo4j.test.Neo4jImperativeTestConfiguration;
+import org.springframework.data.neo4j.test.Neo4jReactiveTestConfiguration;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * End-to-end throughput of the templates and repositories against a real database, provided by the
+ * {@link Neo4jExtension}. Each workload is run by the {@link LoadHarness} and reports throughput, latency
+ * percentiles, round trips and allocations per operation.
+ * <p>
+ * The harness is configured through system properties:
+ * <ul>
+ * <li>{@code sdn.benchmark.workloads}: Comma separated list of workloads to run, any of {@code deep-aggregate-load},
+ * {@code derived-finder}, {@code paging} and {@code bulk-save}. Defaults to all.</li>
+ * <li>{@code sdn.benchmark.warmup}, {@code sdn.benchmark.duration}, {@code sdn.benchmark.threads} and
+ * {@code sdn.benchmark.virtual-threads}: See {@link LoadHarness.Settings#fromSystemProperties()}.</li>
+ * <li>{@code sdn.benchmark.departments} and {@code sdn.benchmark.employees}: Size of the loaded aggregate, the number of
+ * departments of the company and the number of employees per department. Defaults to 10 and 10.</li>
+ * <li>{@code sdn.benchmark.batch-size}: Number of entities saved per operation of {@code bulk-save}. Defaults to 100.</li>
+ * </ul>
+ * Run it with {@code ./mvnw -Pjmh test -Dtest=EndToEndBenchmark}.
+ */
+@ExtendWith(Neo4jExtension.class)
+class EndToEndBenchmark {
+
+	protected static Neo4jExtension.Neo4jConnectionSupport neo4jConnectionSupport;
+
+	private static final LongAdder ROUND_TRIPS = new LongAdder();
+
+	private static final List<String> ALL_WORKLOADS = List.of("deep-aggregate-load", "derived-finder", "paging",
+			"bulk-save");
+
+	private static final int PAGE_SIZE = 20;
+
+	private static final UUID COMPANY_ID = UUID.randomUUID();
+
+	private final LoadHarness harness = new LoadHarness(LoadHarness.Settings.fromSystemProperties(), ROUND_TRIPS);
+
+	private final Set<String> workloads = Arrays.stream(System.getProperty("sdn.benchmark.workloads",
+			String.join(",", ALL_WORKLOADS)).split(",")).map(String::trim).collect(Collectors.toSet());
+
+	private final int batchSize = Integer.getInteger("sdn.benchmark.batch-size", 100);
+
+	private static int numberOfEmployees;
+
+	@BeforeAll
+	static void createCompany() {
+
+		int departments = Integer.getInteger("sdn.benchmark.departments", 10);
+		int employeesPerDepartment = Integer.getInteger("sdn.benchmark.employees", 10);
+		numberOfEmployees = departments * employeesPerDepartment;
+
+		try (Session session = neo4jConnectionSupport.getDriver().session()) {
+			session.run("MATCH (n) DETACH DELETE n").consume();
+			session.run("""
+					CREATE (c:Company {id: $companyId, name: 'ACME'})
+					WITH c UNWIND range(1, $departments) AS d
+					CREATE (c)-[:HAS]->(department:Department {id: randomUUID(), name: 'Department ' + d})
+					WITH department UNWIND range(1, $employees) AS e
+					CREATE (department)-[:EMPLOYS {since: date()}]->(:Employee {id: randomUUID(), name: 'Employee ' + (e % 10), age: 20 + e % 40})
+					""", Map.of("companyId", COMPANY_ID.toString(), "departments", departments, "employees",
+					employeesPerDepartment)).consume();
+		}
+	}
+
+	@Test
+	void imperative() throws Exception {
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ImperativeConfig.class)) {
+			Neo4jTemplate template = context.getBean(Neo4jTemplate.class);
+			EmployeeRepository repository = context.getBean(EmployeeRepository.class);
+
+			Map<String, LoadHarness.Operation> operations = new LinkedHashMap<>();
+			operations.put("deep-aggregate-load", () -> assertThat(template.findById(COMPANY_ID, Company.class)).isPresent());
+			operations.put("derived-finder", () -> repository.findAllByName("Employee " + ThreadLocalRandom.current().nextInt(10)));
+			operations.put("paging", () -> repository.findAll(randomPage()));
+			operations.put("bulk-save", () -> template.saveAll(newEmployees()));
+			run("imperative", operations);
+		}
+	}
+
+	@Test
+	@Tag(Neo4jExtension.NEEDS_REACTIVE_SUPPORT)
+	void reactive() throws Exception {
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(ReactiveConfig.class)) {
+			ReactiveNeo4jTemplate template = context.getBean(ReactiveNeo4jTemplate.class);
+			ReactiveEmployeeRepository repository = context.getBean(ReactiveEmployeeRepository.class);
+
+			Map<String, LoadHarness.Operation> operations = new LinkedHashMap<>();
+			operations.put("deep-aggregate-load", () -> assertThat(template.findById(COMPANY_ID, Company.class).block()).isNotNull());
+			operations.put("derived-finder", () -> repository.findAllByName("Employee " + ThreadLocalRandom.current().nextInt(10)).then().block());
+			operations.put("paging", () -> repository.findAllByAgeGreaterThan(0, randomPage()).then().block());
+			operations.put("bulk-save", () -> Flux.from(template.saveAll(newEmployees())).then().block());
+			run("reactive", operations);
+		}
+	}
+
+	private void run(String prefix, Map<String, LoadHarness.Operation> operations) throws Exception {
+
+		List<LoadHarness.Report> reports = new ArrayList<>();
+		for (Map.Entry<String, LoadHarness.Operation> operation : operations.entrySet()) {
+			if (workloads.contains(operation.getKey())) {
+				reports.add(harness.run(prefix + "/" + operation.getKey(), operation.getValue()));
+			}
+		}
+		removeSavedEmployees();
+		reports.forEach(System.out::println);
+	}
+
+	private PageRequest randomPage() {
+		return PageRequest.of(ThreadLocalRandom.current().nextInt(Math.max(1, numberOfEmployees / PAGE_SIZE)), PAGE_SIZE,
+				Sort.by("name"));
+	}
+
+	private List<Employee> newEmployees() {
+
+		List<Employee> employees = new ArrayList<>(batchSize);
+		for (int i = 0; i < batchSize; ++i) {
+			Employee employee = new Employee();
+			employee.name = "Saved " + i;
+			employee.age = 20 + i % 40;
+			employees.add(employee);
+		}
+		return employees;
+	}
+
+	private static void removeSavedEmployees() {
+
+		try (Session session = neo4jConnectionSupport.getDriver().session()) {
+			session.run("MATCH (e:Employee) WHERE e.name STARTS WITH 'Saved ' DETACH DELETE e").consume();
+		}
+	}
+
+	@Node
+	static class Company {
+
+		@Id @GeneratedValue(GeneratedValue.UUIDGenerator.class) UUID id;
+
+		String name;
+
+		@Relationship("HAS") List<Department> departments;
+	}
+
+	@Node
+	static class Department {
+
+		@Id @GeneratedValue(GeneratedValue.UUIDGenerator.class) UUID id;
+
+		String name;
+
+		@Relationship("EMPLOYS") List<Employment> employees;
+	}
+
+	@RelationshipProperties
+	static class Employment {
+
+		@RelationshipId Long id;
+
+		LocalDate since;
+
+		@TargetNode Employee employee;
+	}
+
+	@Node
+	static class Employee {
+
+		@Id @GeneratedValue(GeneratedValue.UUIDGenerator.class) UUID id;
+
+		String name;
+
+		int age;
+	}
+
+	interface EmployeeRepository extends Neo4jRepository<Employee, UUID> {
+
+		List<Employee> findAllByName(String name);
+	}
+
+	interface ReactiveEmployeeRepository extends ReactiveNeo4jRepository<Employee, UUID> {
+
+		Flux<Employee> findAllByName(String name);
+
+		Flux<Employee> findAllByAgeGreaterThan(int age, Pageable pageable);
+	}
+
+	@Configuration
+	@EnableTransactionManagement
+	@EnableNeo4jRepositories(considerNestedRepositories = true)
+	static class ImperativeConfig extends Neo4jImperativeTestConfiguration {
+
+		@Bean(destroyMethod = "")
+		@Override
+		public Driver driver() {
+			return RoundTripCountingDriver.wrap(neo4jConnectionSupport.getDriver(), ROUND_TRIPS);
+		}
+
+		@Override
+		public boolean isCypher5Compatible() {
+			return neo4jConnectionSupport.isCypher5SyntaxCompatible();
+		}
+	}
+
+	@Configuration
+	@EnableTransactionManagement
+	@EnableReactiveNeo4jRepositories(considerNestedRepositories = true)
+	static class ReactiveConfig extends Neo4jReactiveTestConfiguration {
+
+		@Bean(destroyMethod = "")
+		@Override
+		public Driver driver() {
+			return RoundTripCountingDriver.wrap(neo4jConnectionSupport.getDriver(), ROUND_TRIPS);
+		}
+
+		@Override
+		public boolean isCypher5Compatible() {
+			return neo4jConnectionSupport.isCypher5SyntaxCompatible();
+		}
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.data.neo4j.test.VirtualThreads;
+
+/**
+ * Drives a single operation from a configurable number of threads, first for a warmup period and then for a measurement
+ * period, and reports throughput, latency percentiles, round trips and allocations of the measurement period.
+ * <p>
+ * Allocations are measured over all threads alive at the start and at the end of the measurement, including the
+ * threads of the driver and of Project Reactor. Allocations of threads terminating in between are not accounted for,
+ * neither are allocations of virtual threads.
+ */
+final class LoadHarness {
+
+	/**
+	 * A single operation of a workload, such as saving a batch of entities or loading an aggregate.
+	 */
+	@FunctionalInterface
+	interface Operation {
+
+		void execute() throws Exception;
+	}
+
+	/**
+	 * Configuration of the harness, see {@link #fromSystemProperties()}.
+	 *
+	 * @param warmup      Duration of the warmup
+	 * @param measurement Duration of the measurement
+	 * @param threads     Number of threads executing the operation concurrently
+	 * @param virtualThreads Whether the operation is executed on virtual instead of platform threads
+	 */
+	record Settings(Duration warmup, Duration measurement, int threads, boolean virtualThreads) {
+
+		/**
+		 * @return Settings read from the system properties {@code sdn.benchmark.warmup} and
+		 * {@code sdn.benchmark.duration} (both in seconds), {@code sdn.benchmark.threads} and
+		 * {@code sdn.benchmark.virtual-threads}
+		 */
+		static Settings fromSystemProperties() {
+			return new Settings(Duration.ofSeconds(Long.getLong("sdn.benchmark.warmup", 5)),
+					Duration.ofSeconds(Long.getLong("sdn.benchmark.duration", 10)),
+					Integer.getInteger("sdn.benchmark.threads", 4),
+					Boolean.getBoolean("sdn.benchmark.virtual-threads"));
+		}
+	}
+
+	/**
+	 * The result of a measurement.
+	 *
+	 * @param workload                  Name of the workload
+	 * @param operations                Number of operations executed during the measurement
+	 * @param operationsPerSecond       Throughput
+	 * @param p50                       Median latency
+	 * @param p99                       99th percentile of the latency
+	 * @param roundTripsPerOperation    Statements sent to the server per operation
+	 * @param allocatedBytesPerOperation Bytes allocated per operation
+	 * @param allocationRate            Bytes allocated per second
+	 */
+	record Report(String workload, long operations, double operationsPerSecond, Duration p50, Duration p99,
+			double roundTripsPerOperation, double allocatedBytesPerOperation, double allocationRate) {
+
+		@Override
+		public String toString() {
+			return String.format(Locale.ENGLISH,
+					"%-36s %10.1f ops/s  p50 %9.3f ms  p99 %9.3f ms  %7.2f round trips/op  %12.0f B/op  %9.1f MB/s",
+					workload, operationsPerSecond, p50.toNanos() / 1_000_000.0, p99.toNanos() / 1_000_000.0,
+					roundTripsPerOperation, allocatedBytesPerOperation, allocationRate / (1024 * 1024));
+		}
+	}
+
+	private final Settings settings;
+
+	private final LongAdder roundTrips;
+
+	/**
+	 * @param settings   The settings to use for all workloads
+	 * @param roundTrips The counter of round trips, usually fed by a {@link RoundTripCountingDriver}
+	 */
+	LoadHarness(Settings settings, LongAdder roundTrips) {
+		this.settings = settings;
+		this.roundTrips = roundTrips;
+	}
+
+	Report run(String workload, Operation operation) throws Exception {
+
+		ExecutorService executor = settings.virtualThreads()
+				? VirtualThreads.newVirtualThreadPerTaskExecutor()
+				: Executors.newFixedThreadPool(settings.threads());
+		try {
+			execute(executor, operation, settings.warmup());
+
+			long roundTripsBefore = roundTrips.sum();
+			long allocatedBytesBefore = allocatedBytes();
+			long start = System.nanoTime();
+			List<long[]> latencies = execute(executor, operation, settings.measurement());
+			long elapsed = System.nanoTime() - start;
+			long allocatedBytes = allocatedBytes() - allocatedBytesBefore;
+			long roundTripsDuringMeasurement = roundTrips.sum() - roundTripsBefore;
+
+			long[] allLatencies = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+			long operations = allLatencies.length;
+			if (operations == 0) {
+				throw new IllegalStateException("No operation of " + workload + " finished during the measurement");
+			}
+			double seconds = elapsed / 1_000_000_000.0;
+			return new Report(workload, operations, operations / seconds,
+					Duration.ofNanos(percentile(allLatencies, 0.5)), Duration.ofNanos(percentile(allLatencies, 0.99)),
+					roundTripsDuringMeasurement / (double) operations, allocatedBytes / (double) operations,
+					allocatedBytes / seconds);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private List<long[]> execute(ExecutorService executor, Operation operation, Duration duration) throws Exception {
+
+		long deadline = System.nanoTime() + duration.toNanos();
+		List<Future<long[]>> workers = new ArrayList<>(settings.threads());
+		for (int i = 0; i < settings.threads(); ++i) {
+			workers.add(executor.submit(() -> {
+				long[] latencies = new long[1024];
+				int size = 0;
+				while (System.nanoTime() < deadline) {
+					long start = System.nanoTime();
+					operation.execute();
+					if (size == latencies.length) {
+						latencies = Arrays.copyOf(latencies, size * 2);
+					}
+					latencies[size++] = System.nanoTime() - start;
+				}
+				return Arrays.copyOf(latencies, size);
+			}));
+		}
+
+		List<long[]> latencies = new ArrayList<>(workers.size());
+		for (Future<long[]> worker : workers) {
+			latencies.add(worker.get());
+		}
+		return latencies;
+	}
+
+	private static long percentile(long[] sortedValues, double percentile) {
+		int index = (int) Math.ceil(percentile * sortedValues.length) - 1;
+		return sortedValues[Math.max(0, Math.min(index, sortedValues.length - 1))];
+	}
+
+	private static long allocatedBytes() {
+
+		if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean)) {
+			return 0L;
+		}
+		long allocatedBytes = 0L;
+		for (long bytes : threadMXBean.getThreadAllocatedBytes(threadMXBean.getAllThreadIds())) {
+			if (bytes > 0) {
+				allocatedBytes += bytes;
+			}
+		}
+		return allocatedBytes;
+	}
+}
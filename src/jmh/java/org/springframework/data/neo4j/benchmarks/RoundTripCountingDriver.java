@@ -0,0 +1,88 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.reactivestreams.ReactiveSession;
+import org.neo4j.driver.reactivestreams.ReactiveTransaction;
+import org.reactivestreams.Publisher;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Wraps a driver and counts the statements run through all sessions and transactions opened from it, regardless of
+ * whether they are run imperatively or reactively. Every statement is at least one round trip to the server.
+ */
+final class RoundTripCountingDriver implements InvocationHandler {
+
+	private static final List<Class<?>> WRAPPED_TYPES = List.of(Session.class, Transaction.class, ReactiveSession.class,
+			ReactiveTransaction.class);
+
+	private final Object delegate;
+
+	private final LongAdder roundTrips;
+
+	static Driver wrap(Driver driver, LongAdder roundTrips) {
+		return proxy(Driver.class, driver, roundTrips);
+	}
+
+	private static <T> T proxy(Class<T> type, Object delegate, LongAdder roundTrips) {
+		return type.cast(Proxy.newProxyInstance(RoundTripCountingDriver.class.getClassLoader(), new Class<?>[] {type},
+				new RoundTripCountingDriver(delegate, roundTrips)));
+	}
+
+	private RoundTripCountingDriver(Object delegate, LongAdder roundTrips) {
+		this.delegate = delegate;
+		this.roundTrips = roundTrips;
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+		if ("run".equals(method.getName())) {
+			roundTrips.increment();
+		}
+
+		Object result;
+		try {
+			result = method.invoke(delegate, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+
+		if (result == null) {
+			return null;
+		}
+		for (Class<?> type : WRAPPED_TYPES) {
+			if (type.isInstance(result) && method.getReturnType().isAssignableFrom(type)) {
+				return proxy(type, result, roundTrips);
+			}
+		}
+		if (result instanceof Publisher<?> publisher && "beginTransaction".equals(method.getName())) {
+			return Flux.from(publisher).map(tx -> proxy(ReactiveTransaction.class, tx, roundTrips));
+		}
+		return result;
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.neo4j.core.schema.CompositeProperty;
+import org.springframework.data.neo4j.core.schema.GeneratedValue;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
+import org.springframework.data.neo4j.core.schema.RelationshipId;
+import org.springframework.data.neo4j.core.schema.RelationshipProperties;
+import org.springframework.data.neo4j.core.schema.TargetNode;
+
+/**
+ * The domain model used by the benchmarks. It covers a deep class hierarchy with composite properties, relationships
+ * with properties and a model with cycles.
+ */
+final class BenchmarkDomain {
+
+	static Neo4jMappingContext createMappingContext() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(Thing.class, Device.class, Sensor.class, TemperatureSensor.class,
+				Movie.class, Role.class, Actor.class, Person.class));
+		mappingContext.initialize();
+		return mappingContext;
+	}
+
+	static TemperatureSensor temperatureSensor() {
+
+		TemperatureSensor sensor = new TemperatureSensor();
+		sensor.id = "sensor";
+		sensor.name = "Sensor";
+		sensor.attributes = new LinkedHashMap<>();
+		sensor.attributes.put("vendor", "ACME");
+		sensor.attributes.put("location", "Basement");
+		sensor.attributes.put("firmware", "1.2.3");
+		sensor.serialNumber = "SN-4711";
+		sensor.threshold = 42.0;
+		sensor.unit = "Celsius";
+		return sensor;
+	}
+
+	static Movie movieWithActors(int numberOfActors) {
+
+		Movie movie = new Movie();
+		movie.title = "The Matrix";
+		movie.released = 1999;
+		movie.actors = new ArrayList<>(numberOfActors);
+		for (int i = 0; i < numberOfActors; ++i) {
+			Actor actor = new Actor();
+			actor.name = "Actor " + i;
+			actor.born = 1960 + i % 40;
+
+			Role role = new Role();
+			role.id = (long) i;
+			role.roles = List.of("Role " + i);
+			role.actor = actor;
+			movie.actors.add(role);
+		}
+		return movie;
+	}
+
+	/**
+	 * @param numberOfPersons The number of persons in the aggregate
+	 * @return The first person of a group of persons in which everyone knows the first and the next person
+	 */
+	static Person personWithAcquaintances(int numberOfPersons) {
+
+		List<Person> persons = new ArrayList<>(numberOfPersons);
+		for (int i = 0; i < numberOfPersons; ++i) {
+			Person person = new Person();
+			person.id = "person" + i;
+			person.name = "Person " + i;
+			person.knows = new ArrayList<>();
+			persons.add(person);
+		}
+		Person root = persons.get(0);
+		for (int i = 1; i < numberOfPersons; ++i) {
+			Person person = persons.get(i);
+			root.knows.add(person);
+			person.knows.add(root);
+			if (i + 1 < numberOfPersons) {
+				person.knows.add(persons.get(i + 1));
+			}
+		}
+		return root;
+	}
+
+	@Node
+	abstract static class Thing {
+
+		@Id @GeneratedValue String id;
+
+		String name;
+
+		@CompositeProperty Map<String, String> attributes;
+	}
+
+	@Node
+	abstract static class Device extends Thing {
+
+		String serialNumber;
+	}
+
+	@Node
+	abstract static class Sensor extends Device {
+
+		double threshold;
+	}
+
+	@Node
+	static class TemperatureSensor extends Sensor {
+
+		String unit;
+	}
+
+	@Node
+	static class Movie {
+
+		@Id String title;
+
+		Integer released;
+
+		@Relationship(type = "ACTED_IN", direction = Relationship.Direction.INCOMING) List<Role> actors;
+	}
+
+	@RelationshipProperties
+	static class Role {
+
+		@RelationshipId Long id;
+
+		List<String> roles;
+
+		@TargetNode Actor actor;
+	}
+
+	@Node
+	static class Actor {
+
+		@Id String name;
+
+		Integer born;
+	}
+
+	@Node
+	static class Person {
+
+		@Id @GeneratedValue String id;
+
+		String name;
+
+		@Relationship("KNOWS") List<Person> knows;
+	}
+
+	private BenchmarkDomain() {
+	}
+}
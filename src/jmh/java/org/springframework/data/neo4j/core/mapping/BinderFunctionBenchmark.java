@@ -0,0 +1,68 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Neo4jMappingContext#getRequiredBinderFunctionFor(Class)}, including the lookup of the binder
+ * function, as the templates look it up for every entity to save.
+ */
+@Testable
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BinderFunctionBenchmark {
+
+	private Neo4jMappingContext mappingContext;
+
+	private BenchmarkDomain.TemperatureSensor temperatureSensor;
+
+	private BenchmarkDomain.Movie movie;
+
+	@Setup
+	public void setup() {
+		this.mappingContext = BenchmarkDomain.createMappingContext();
+		this.temperatureSensor = BenchmarkDomain.temperatureSensor();
+		this.movie = BenchmarkDomain.movieWithActors(10);
+	}
+
+	@Benchmark
+	public Map<String, Object> bindDeepHierarchyWithCompositeProperties() {
+		return mappingContext.getRequiredBinderFunctionFor(BenchmarkDomain.TemperatureSensor.class).apply(temperatureSensor);
+	}
+
+	@Benchmark
+	public Map<String, Object> bindEntityWithRelationships() {
+		return mappingContext.getRequiredBinderFunctionFor(BenchmarkDomain.Movie.class).apply(movie);
+	}
+}
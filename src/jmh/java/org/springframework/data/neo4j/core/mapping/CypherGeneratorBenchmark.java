@@ -0,0 +1,97 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.neo4j.cypherdsl.core.Expression;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures building the return clause of a match via
+ * {@link CypherGenerator#createReturnStatementForMatch(Neo4jPersistentEntity)} and rendering the complete statement.
+ * The statements are built fresh for every invocation, so the statement cache of the renderer is never hit.
+ */
+@Testable
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CypherGeneratorBenchmark {
+
+	private final CypherGenerator cypherGenerator = CypherGenerator.INSTANCE;
+
+	private final Renderer renderer = Renderer.getDefaultRenderer();
+
+	private Neo4jPersistentEntity<?> thing;
+
+	private Neo4jPersistentEntity<?> movie;
+
+	private Neo4jPersistentEntity<?> person;
+
+	@Setup
+	public void setup() {
+		Neo4jMappingContext mappingContext = BenchmarkDomain.createMappingContext();
+		this.thing = mappingContext.getRequiredPersistentEntity(BenchmarkDomain.Thing.class);
+		this.movie = mappingContext.getRequiredPersistentEntity(BenchmarkDomain.Movie.class);
+		this.person = mappingContext.getRequiredPersistentEntity(BenchmarkDomain.Person.class);
+	}
+
+	@Benchmark
+	public Collection<Expression> createReturnStatementForDeepHierarchy() {
+		return cypherGenerator.createReturnStatementForMatch(thing);
+	}
+
+	@Benchmark
+	public Collection<Expression> createReturnStatementForRelationshipsWithProperties() {
+		return cypherGenerator.createReturnStatementForMatch(movie);
+	}
+
+	@Benchmark
+	public Collection<Expression> createReturnStatementForCyclicModel() {
+		return cypherGenerator.createReturnStatementForMatch(person);
+	}
+
+	@Benchmark
+	public String renderMatchOfDeepHierarchy() {
+		return renderMatchOf(thing);
+	}
+
+	@Benchmark
+	public String renderMatchOfRelationshipsWithProperties() {
+		return renderMatchOf(movie);
+	}
+
+	private String renderMatchOf(Neo4jPersistentEntity<?> entity) {
+		return renderer.render(cypherGenerator.prepareMatchOf(entity)
+				.returning(cypherGenerator.createReturnStatementForMatch(entity))
+				.build());
+	}
+}
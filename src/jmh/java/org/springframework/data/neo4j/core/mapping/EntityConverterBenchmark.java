@@ -0,0 +1,92 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Neo4jEntityConverter#read(Class, org.neo4j.driver.types.MapAccessor)}. Every invocation uses a new
+ * converter, as the templates do for every result set.
+ */
+@Testable
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class EntityConverterBenchmark {
+
+	private Neo4jMappingContext mappingContext;
+
+	private Value temperatureSensor;
+
+	@Setup
+	public void setup() {
+		this.mappingContext = BenchmarkDomain.createMappingContext();
+		this.temperatureSensor = SyntheticRecords.temperatureSensor();
+	}
+
+	@Benchmark
+	public Object readDeepHierarchyWithCompositeProperties() {
+		return mappingContext.getEntityConverter().read(BenchmarkDomain.Thing.class, temperatureSensor);
+	}
+
+	@Benchmark
+	public Object readRelationshipsWithProperties(Aggregates aggregates) {
+		return mappingContext.getEntityConverter().read(BenchmarkDomain.Movie.class, aggregates.movieWithActors);
+	}
+
+	@Benchmark
+	public Object readCyclicAggregate(Aggregates aggregates) {
+		return mappingContext.getEntityConverter().read(BenchmarkDomain.Person.class, aggregates.personWithAcquaintances);
+	}
+
+	/**
+	 * Records of aggregates with a varying number of related nodes.
+	 */
+	@State(Scope.Benchmark)
+	public static class Aggregates {
+
+		@Param({"10", "100", "1000"})
+		int numberOfRelatedNodes;
+
+		Record movieWithActors;
+
+		Record personWithAcquaintances;
+
+		@Setup
+		public void setup() {
+			this.movieWithActors = SyntheticRecords.movieWithActors(numberOfRelatedNodes);
+			this.personWithAcquaintances = SyntheticRecords.personWithAcquaintances(numberOfRelatedNodes);
+		}
+	}
+}
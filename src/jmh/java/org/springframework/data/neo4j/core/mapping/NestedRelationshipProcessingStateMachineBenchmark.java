@@ -0,0 +1,94 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the bookkeeping of {@link NestedRelationshipProcessingStateMachine} while planning the save of an aggregate
+ * with cycles. The traversal follows the one of the templates, without the actual database interaction.
+ */
+@Testable
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class NestedRelationshipProcessingStateMachineBenchmark {
+
+	@Param({"10", "100", "1000"})
+	int numberOfRelatedNodes;
+
+	private Neo4jMappingContext mappingContext;
+
+	private RelationshipDescription knows;
+
+	private BenchmarkDomain.Person personWithAcquaintances;
+
+	@Setup
+	public void setup() {
+		this.mappingContext = BenchmarkDomain.createMappingContext();
+		this.knows = mappingContext.getRequiredPersistentEntity(BenchmarkDomain.Person.class).getRelationships()
+				.iterator().next();
+		this.personWithAcquaintances = BenchmarkDomain.personWithAcquaintances(numberOfRelatedNodes);
+	}
+
+	@Benchmark
+	public NestedRelationshipProcessingStateMachine planSaveOfCyclicAggregate() {
+
+		BenchmarkDomain.Person root = personWithAcquaintances;
+		NestedRelationshipProcessingStateMachine stateMachine = new NestedRelationshipProcessingStateMachine(
+				mappingContext, root, root.id);
+
+		Deque<BenchmarkDomain.Person> toProcess = new ArrayDeque<>();
+		toProcess.add(root);
+		while (!toProcess.isEmpty()) {
+			BenchmarkDomain.Person person = toProcess.poll();
+			NestedRelationshipProcessingStateMachine.ProcessState processState = stateMachine.getStateOf(person.id, knows,
+					person.knows);
+			if (processState == NestedRelationshipProcessingStateMachine.ProcessState.PROCESSED_ALL_RELATIONSHIPS
+					|| processState == NestedRelationshipProcessingStateMachine.ProcessState.PROCESSED_BOTH) {
+				continue;
+			}
+
+			for (BenchmarkDomain.Person related : person.knows) {
+				if (!stateMachine.hasProcessedValue(related)) {
+					stateMachine.markEntityAsProcessed(related, related.id);
+					toProcess.add(related);
+				}
+				stateMachine.markRelationshipAsProcessed(stateMachine.getObjectId(related), knows.getRelationshipObverse());
+			}
+			stateMachine.markRelationshipAsProcessed(person.id, knows);
+		}
+		return stateMachine;
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.InternalRelationship;
+import org.neo4j.driver.types.Relationship;
+
+/**
+ * Creates driver records in the shape of the results of the queries generated for the {@link BenchmarkDomain}, so that
+ * mapping can be measured without a database.
+ */
+final class SyntheticRecords {
+
+	/**
+	 * @return A single node with all labels of a deep class hierarchy and composite properties
+	 */
+	static Value temperatureSensor() {
+
+		Map<String, Value> properties = new HashMap<>();
+		properties.put("name", Values.value("Sensor"));
+		properties.put("attributes.vendor", Values.value("ACME"));
+		properties.put("attributes.location", Values.value("Basement"));
+		properties.put("attributes.firmware", Values.value("1.2.3"));
+		properties.put("serialNumber", Values.value("SN-4711"));
+		properties.put("threshold", Values.value(42.0));
+		properties.put("unit", Values.value("Celsius"));
+		return new InternalNode(1L, List.of("TemperatureSensor", "Sensor", "Device", "Thing"), properties).asValue();
+	}
+
+	/**
+	 * @param numberOfActors The number of related actors
+	 * @return A record containing a map projection of a movie and its actors, connected by relationships with properties
+	 */
+	static Record movieWithActors(int numberOfActors) {
+
+		long movieId = 0L;
+		List<Value> actors = new ArrayList<>(numberOfActors);
+		for (int i = 0; i < numberOfActors; ++i) {
+			long actorId = i + 1L;
+			Relationship actedIn = new InternalRelationship(numberOfActors + actorId, actorId, movieId, "ACTED_IN",
+					Map.of("roles", Values.value(List.of("Role " + i))));
+
+			Map<String, Object> actor = new HashMap<>();
+			actor.put(Constants.NAME_OF_LABELS, List.of("Actor"));
+			actor.put(Constants.NAME_OF_INTERNAL_ID, actorId);
+			actor.put(Constants.NAME_OF_ELEMENT_ID, Long.toString(actorId));
+			actor.put("name", "Actor " + i);
+			actor.put("born", 1960 + i % 40);
+			actor.put("Movie" + RelationshipDescription.NAME_OF_RELATIONSHIP + "Actor", actedIn);
+			actors.add(Values.value(actor));
+		}
+
+		Map<String, Object> movie = new HashMap<>();
+		movie.put(Constants.NAME_OF_LABELS, List.of("Movie"));
+		movie.put(Constants.NAME_OF_INTERNAL_ID, movieId);
+		movie.put(Constants.NAME_OF_ELEMENT_ID, Long.toString(movieId));
+		movie.put("title", "The Matrix");
+		movie.put("released", 1999);
+		movie.put("Movie_ACTED_IN_Actor", actors);
+
+		return new InternalRecord(List.of(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE), new Value[] {Values.value(movie)});
+	}
+
+	/**
+	 * @param numberOfPersons The number of persons in the aggregate
+	 * @return A record as returned for models with cycles: The root node, all related nodes and all relationships. Every
+	 * person knows the first and the next person.
+	 */
+	static Record personWithAcquaintances(int numberOfPersons) {
+
+		List<InternalNode> persons = new ArrayList<>(numberOfPersons);
+		for (int i = 0; i < numberOfPersons; ++i) {
+			persons.add(new InternalNode(i, List.of("Person"), Map.of("name", Values.value("Person " + i))));
+		}
+
+		List<Relationship> relationships = new ArrayList<>();
+		for (int i = 1; i < numberOfPersons; ++i) {
+			relationships.add(new InternalRelationship(relationships.size(), 0L, i, "KNOWS"));
+			relationships.add(new InternalRelationship(relationships.size(), i, 0L, "KNOWS"));
+			if (i + 1 < numberOfPersons) {
+				relationships.add(new InternalRelationship(relationships.size(), i, i + 1L, "KNOWS"));
+			}
+		}
+
+		return new InternalRecord(
+				List.of(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE, Constants.NAME_OF_SYNTHESIZED_RELATED_NODES,
+						Constants.NAME_OF_SYNTHESIZED_RELATIONS),
+				new Value[] {persons.get(0).asValue(), Values.value(persons.subList(1, numberOfPersons)),
+						Values.value(relationships)});
+	}
+
+	private SyntheticRecords() {
+	}
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.neo4j.cypherdsl.core.Condition;
+import org.neo4j.cypherdsl.core.Cypher;
+import org.neo4j.cypherdsl.core.FunctionInvocation;
+import org.neo4j.cypherdsl.core.Named;
+import org.neo4j.cypherdsl.core.Node;
+import org.neo4j.cypherdsl.core.PatternElement;
+import org.neo4j.cypherdsl.core.Statement;
+import org.neo4j.driver.types.MapAccessor;
+import org.springframework.data.mapping.Association;
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.CypherGenerator;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.core.mapping.NodeDescription;
+import org.springframework.data.neo4j.core.mapping.PropertyFilter;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+import org.springframework.data.neo4j.core.schema.TargetNode;
+import org.springframework.data.neo4j.repository.query.QueryFragments;
+import org.springframework.lang.Nullable;
+
+/**
+ * Walks the graph of a domain model with possible cycles level by level. All relationships that need to be followed on
+ * one level, regardless of their type and their source nodes, are combined into one statement, so that the number of
+ * queries is bounded by the depth of the graph and not by the number of relationships times the depth.
+ * <p>
+ * This class is not thread safe. It does not execute any queries itself, so that it can be used by both the imperative
+ * and the reactive template: Callers fetch the records for {@link #nextLevel(Map)} and hand them over to
+ * {@link #processLevel(Collection)} until {@link #hasNextLevel()} returns {@literal false}.
+ *
+ * @since 7.4
+ */
+@API(status = API.Status.INTERNAL, since = "7.4")
+final class BreadthFirstExpansion {
+
+	private static final String NAME_OF_BRANCH = "__branch__";
+
+	private final CypherGenerator cypherGenerator;
+	private final Function<Named, FunctionInvocation> elementIdOrIdFunction;
+	private final QueryFragments queryFragments;
+	private final Class<?> rootType;
+
+	private final Set<String> rootNodeIds = new HashSet<>();
+	private final Set<String> relationshipIds = new HashSet<>();
+	private final Set<String> relatedNodeIds = new HashSet<>();
+
+	/**
+	 * Ids of the nodes that already have been expanded per relationship. Expanding the same node along the same
+	 * relationship again would not yield anything new.
+	 */
+	private final Map<RelationshipDescription, Set<String>> expandedNodeIds = new HashMap<>();
+
+	private List<Branch> frontier;
+	private boolean firstLevel = true;
+
+	/**
+	 * A relationship to follow from a set of nodes. The node ids are {@literal null} on the first level, where the
+	 * relationships are followed from the nodes matching the original query.
+	 */
+	private record Branch(NodeDescription<?> source, RelationshipDescription relationshipDescription,
+			PropertyPathWalkStep pathStep, @Nullable Collection<String> nodeIds) {
+	}
+
+	/**
+	 * A statement and the parameters needed to expand one level.
+	 */
+	record Level(Statement statement, Map<String, Object> parameters) {
+	}
+
+	BreadthFirstExpansion(Neo4jPersistentEntity<?> rootEntity, QueryFragments queryFragments, Class<?> rootType,
+			CypherGenerator cypherGenerator, Function<Named, FunctionInvocation> elementIdOrIdFunction) {
+
+		this.cypherGenerator = cypherGenerator;
+		this.elementIdOrIdFunction = elementIdOrIdFunction;
+		this.queryFragments = queryFragments;
+		this.rootType = rootType;
+
+		this.frontier = new ArrayList<>();
+		for (RelationshipDescription relationshipDescription : rootEntity.getRelationshipsInHierarchy(queryFragments::includeField)) {
+			this.frontier.add(new Branch(rootEntity, relationshipDescription, PropertyPathWalkStep.empty(), null));
+		}
+	}
+
+	boolean hasNextLevel() {
+		return !frontier.isEmpty();
+	}
+
+	/**
+	 * @param queryParameters The parameters of the original query, required for the first level
+	 * @return The statement and parameters required to expand the current frontier
+	 */
+	Level nextLevel(Map<String, Object> queryParameters) {
+
+		Map<String, Object> parameters = new HashMap<>();
+		if (firstLevel) {
+			parameters.putAll(queryParameters);
+		}
+
+		List<Statement> statements = new ArrayList<>(frontier.size());
+		for (int i = 0; i < frontier.size(); ++i) {
+			Branch branch = frontier.get(i);
+			NodeDescription<?> source = branch.source();
+
+			List<PatternElement> initialMatchOn;
+			Condition condition;
+			if (branch.nodeIds() == null) {
+				initialMatchOn = queryFragments.getMatchOn();
+				condition = queryFragments.getCondition();
+			} else {
+				String nameOfIds = Constants.NAME_OF_IDS + i;
+				Node node = Cypher.anyNode(Constants.NAME_OF_TYPED_ROOT_NODE.apply(source));
+				initialMatchOn = null;
+				condition = elementIdOrIdFunction.apply(node).in(Cypher.parameter(nameOfIds));
+				parameters.put(nameOfIds, TemplateSupport.convertToLongIdOrStringElementId(branch.nodeIds()));
+			}
+
+			Statement statement = cypherGenerator.prepareMatchOf(source, branch.relationshipDescription(), initialMatchOn, condition)
+					.returning(
+							Cypher.literalOf(i).as(NAME_OF_BRANCH),
+							Cypher.name(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE),
+							Cypher.name(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES),
+							Cypher.name(Constants.NAME_OF_SYNTHESIZED_RELATIONS))
+					.build();
+			parameters.putAll(statement.getCatalog().getParameters());
+			statements.add(statement);
+		}
+
+		Statement statement = statements.size() == 1 ? statements.get(0) : Cypher.unionAll(statements.toArray(Statement[]::new));
+		return new Level(statement, parameters);
+	}
+
+	/**
+	 * Processes the records returned by the statement of the current level and computes the next frontier.
+	 *
+	 * @param records All records of the current level
+	 */
+	void processLevel(Collection<? extends MapAccessor> records) {
+
+		List<Branch> nextFrontier = new ArrayList<>();
+		for (MapAccessor record : records) {
+			Branch branch = frontier.get(record.get(NAME_OF_BRANCH).asInt());
+
+			if (firstLevel) {
+				List<String> newRootNodeIds = record.get(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE).asList(TemplateSupport::convertIdOrElementIdToString);
+				rootNodeIds.addAll(newRootNodeIds);
+				expandedNodeIds.computeIfAbsent(branch.relationshipDescription(), k -> new HashSet<>()).addAll(newRootNodeIds);
+			}
+			relationshipIds.addAll(record.get(Constants.NAME_OF_SYNTHESIZED_RELATIONS).asList(TemplateSupport::convertIdOrElementIdToString));
+			Set<String> newRelatedNodeIds = new LinkedHashSet<>(record.get(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES).asList(TemplateSupport::convertIdOrElementIdToString));
+			relatedNodeIds.addAll(newRelatedNodeIds);
+
+			if (!newRelatedNodeIds.isEmpty()) {
+				expand(branch, newRelatedNodeIds, nextFrontier);
+			}
+		}
+
+		this.frontier = nextFrontier;
+		this.firstLevel = false;
+	}
+
+	private void expand(Branch branch, Set<String> newRelatedNodeIds, List<Branch> nextFrontier) {
+
+		RelationshipDescription sourceRelationshipDescription = branch.relationshipDescription();
+		NodeDescription<?> target = sourceRelationshipDescription.getTarget();
+
+		@SuppressWarnings("unchecked")
+		String fieldName = ((Association<Neo4jPersistentProperty>) sourceRelationshipDescription).getInverse().getFieldName();
+		PropertyPathWalkStep nextPathStep = branch.pathStep().with((sourceRelationshipDescription.hasRelationshipProperties() ?
+				fieldName + "." + ((Neo4jPersistentEntity<?>) sourceRelationshipDescription.getRelationshipPropertiesEntity())
+						.getPersistentProperty(TargetNode.class).getFieldName() : fieldName));
+
+		Collection<RelationshipDescription> relationships = target.getRelationshipsInHierarchy(relaxedPropertyPath -> {
+			PropertyFilter.RelaxedPropertyPath prepend = relaxedPropertyPath.prepend(nextPathStep.path);
+			prepend = PropertyFilter.RelaxedPropertyPath.withRootType(rootType).append(prepend.toDotPath());
+			return queryFragments.includeField(prepend);
+		});
+
+		for (RelationshipDescription relationshipDescription : relationships) {
+			Set<String> expanded = expandedNodeIds.computeIfAbsent(relationshipDescription, k -> new HashSet<>());
+			List<String> nodeIds = newRelatedNodeIds.stream().filter(expanded::add).toList();
+			if (!nodeIds.isEmpty()) {
+				nextFrontier.add(new Branch(target, relationshipDescription, nextPathStep, nodeIds));
+			}
+		}
+	}
+
+	Collection<String> getRootNodeIds() {
+		return rootNodeIds;
+	}
+
+	/**
+	 * @param rootNodeIds The ids of the root nodes
+	 * @return A provider for fetching all nodes and relationships discovered by this expansion
+	 */
+	TemplateSupport.NodesAndRelationshipsByIdStatementProvider toStatementProvider(Collection<String> rootNodeIds) {
+		return new TemplateSupport.NodesAndRelationshipsByIdStatementProvider(rootNodeIds, relationshipIds, relatedNodeIds,
+				queryFragments, elementIdOrIdFunction);
+	}
+}
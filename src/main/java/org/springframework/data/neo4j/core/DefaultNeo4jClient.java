@@ -19,12 +19,17 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.Query;
@@ -67,6 +72,8 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 	private @Nullable final UserSelectionProvider userSelectionProvider;
 	private final ConversionService conversionService;
 	private final Neo4jPersistenceExceptionTranslator persistenceExceptionTranslator = new Neo4jPersistenceExceptionTranslator();
+	private final ObservationRegistry observationRegistry;
+	private @Nullable final Neo4jObservationConvention observationConvention;
 
 	// Local bookmark manager when using outside managed transactions
 	private final BookmarkManagerReference bookmarkManager;
@@ -77,6 +84,8 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 		this.databaseSelectionProvider = builder.databaseSelectionProvider;
 		this.userSelectionProvider = builder.userSelectionProvider;
 		this.bookmarkManager =  new BookmarkManagerReference(Neo4jBookmarkManager::create, builder.bookmarkManager);
+		this.observationRegistry = builder.observationRegistry;
+		this.observationConvention = builder.observationConvention;
 
 		this.conversionService = new DefaultConversionService();
 		Optional.ofNullable(builder.neo4jConversions).orElseGet(Neo4jConversions::new).registerConvertersIn((ConverterRegistry) conversionService);
@@ -193,6 +202,25 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 
 		private final NamedParameters parameters;
 
+		/**
+		 * Runs the statement and waits for its first record when the observation is not a no-op, so that the round
+		 * trip to the server can be timed.
+		 *
+		 * @param statementRunner The runner to use
+		 * @param observation     The observation of this statement
+		 * @return The result of the statement
+		 */
+		protected final Result runWith(QueryRunner statementRunner, StatementObservation observation) {
+
+			observation.startRoundTrip();
+			Result result = runWith(statementRunner);
+			if (observation.isObserved()) {
+				result.hasNext();
+				observation.endRoundTrip();
+			}
+			return result;
+		}
+
 		protected final Result runWith(QueryRunner statementRunner) {
 			String statementTemplate = cypherSupplier.get();
 
@@ -222,6 +250,58 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 		return resolved == null ? ex : resolved;
 	}
 
+	/**
+	 * Starts the observation of a single statement.
+	 *
+	 * @param operation         The kind of operation
+	 * @param databaseSelection The database the statement runs against
+	 * @param runnableStatement The statement
+	 * @param domainType        The type the records are mapped to, if any
+	 * @return A started observation
+	 */
+	private StatementObservation startObservation(String operation, DatabaseSelection databaseSelection,
+			RunnableStatement runnableStatement, @Nullable Class<?> domainType) {
+
+		Neo4jObservationContext context = new Neo4jObservationContext(operation, runnableStatement.cypherSupplier,
+				domainType, observationRegistry.isNoop() ? null : Neo4jObservationContext.currentRepositoryMethod());
+		context.setDatabaseName(databaseSelection.getValue());
+		return StatementObservation.start(observationRegistry, observationConvention, context, null,
+				OperationAccount.current());
+	}
+
+	/**
+	 * Consumes the result and processes its summary.
+	 *
+	 * @param result      The result to consume
+	 * @param observation The observation of the statement
+	 * @return The processed summary
+	 */
+	private static ResultSummary consume(Result result, StatementObservation observation) {
+
+		observation.startConsumption();
+		try {
+			ResultSummary summary = ResultSummaries.process(result.consume());
+			observation.summaryReceived(summary);
+			return summary;
+		} finally {
+			observation.endConsumption();
+		}
+	}
+
+	/**
+	 * Translates the exception if possible and records the result as error of the observation.
+	 *
+	 * @param ex          The exception to translate
+	 * @param observation The observation of the failed statement
+	 * @return Any translated exception
+	 */
+	private RuntimeException potentiallyConvertRuntimeException(RuntimeException ex, StatementObservation observation) {
+
+		RuntimeException translated = potentiallyConvertRuntimeException(ex, persistenceExceptionTranslator);
+		observation.error(translated);
+		return translated;
+	}
+
 	private DatabaseSelection resolveTargetDatabaseName(@Nullable String parameterTargetDatabase) {
 
 		String value = Neo4jClient.verifyDatabaseName(parameterTargetDatabase);
@@ -288,26 +368,30 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 		@Override
 		public <T> MappingSpec<T> fetchAs(Class<T> targetClass) {
 
-			return new DefaultRecordFetchSpec<>(databaseSelection, userSelection, runnableStatement,
+			return new DefaultRecordFetchSpec<>(databaseSelection, userSelection, runnableStatement, targetClass,
 					new SingleValueMappingFunction<>(conversionService, targetClass));
 		}
 
 		@Override
 		public RecordFetchSpec<Map<String, Object>> fetch() {
 
-			return new DefaultRecordFetchSpec<>(databaseSelection, userSelection, runnableStatement, (t, r) -> r.asMap());
+			return new DefaultRecordFetchSpec<>(databaseSelection, userSelection, runnableStatement, null, (t, r) -> r.asMap());
 		}
 
 		@Override
 		public ResultSummary run() {
 
+			StatementObservation observation = startObservation("run", databaseSelection, runnableStatement, null);
 			try (QueryRunner statementRunner = getQueryRunner(databaseSelection, userSelection)) {
-				Result result = runnableStatement.runWith(statementRunner);
-				return ResultSummaries.process(result.consume());
+				Result result = runnableStatement.runWith(statementRunner, observation);
+				return consume(result, observation);
 			} catch (RuntimeException e) {
-				throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+				throw potentiallyConvertRuntimeException(e, observation);
 			} catch (Exception e) {
+				observation.error(e);
 				throw new RuntimeException(e);
+			} finally {
+				observation.stop();
 			}
 		}
 
@@ -414,16 +498,21 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 
 		private final RunnableStatement runnableStatement;
 
+		@Nullable
+		private final Class<T> domainType;
+
 		private BiFunction<TypeSystem, Record, T> mappingFunction;
 
 		DefaultRecordFetchSpec(DatabaseSelection databaseSelection,
 				@Nullable UserSelection impersonatedUser,
 				RunnableStatement runnableStatement,
+				@Nullable Class<T> domainType,
 				BiFunction<TypeSystem, Record, T> mappingFunction) {
 
 			this.databaseSelection = databaseSelection;
 			this.impersonatedUser = impersonatedUser;
 			this.runnableStatement = runnableStatement;
+			this.domainType = domainType;
 			this.mappingFunction = mappingFunction;
 		}
 
@@ -438,56 +527,163 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 		@Override
 		public Optional<T> one() {
 
+			StatementObservation observation = startObservation("one", databaseSelection, runnableStatement, domainType);
 			try (QueryRunner statementRunner = getQueryRunner(this.databaseSelection, this.impersonatedUser)) {
-				Result result = runnableStatement.runWith(statementRunner);
+				Result result = runnableStatement.runWith(statementRunner, observation);
 				Optional<T> optionalValue = result.hasNext() ?
-						Optional.ofNullable(mappingFunction.apply(TypeSystem.getDefault(), result.single())) :
+						Optional.ofNullable(observation.instrument(mappingFunction).apply(TypeSystem.getDefault(), result.single())) :
 						Optional.empty();
-				ResultSummaries.process(result.consume());
+				consume(result, observation);
 				return optionalValue;
 			} catch (RuntimeException e) {
-				throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+				throw potentiallyConvertRuntimeException(e, observation);
 			} catch (Exception e) {
+				observation.error(e);
 				throw new RuntimeException(e);
+			} finally {
+				observation.stop();
 			}
 		}
 
 		@Override
 		public Optional<T> first() {
 
+			StatementObservation observation = startObservation("first", databaseSelection, runnableStatement, domainType);
 			try (QueryRunner statementRunner = getQueryRunner(this.databaseSelection, this.impersonatedUser)) {
-				Result result = runnableStatement.runWith(statementRunner);
-				Optional<T> optionalValue = result.stream().map(partialMappingFunction(TypeSystem.getDefault())).filter(Objects::nonNull).findFirst();
-				ResultSummaries.process(result.consume());
+				Result result = runnableStatement.runWith(statementRunner, observation);
+				Optional<T> optionalValue = result.stream().map(partialMappingFunction(TypeSystem.getDefault(), observation)).filter(Objects::nonNull).findFirst();
+				consume(result, observation);
 				return optionalValue;
 			} catch (RuntimeException e) {
-				throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+				throw potentiallyConvertRuntimeException(e, observation);
 			} catch (Exception e) {
+				observation.error(e);
 				throw new RuntimeException(e);
+			} finally {
+				observation.stop();
 			}
 		}
 
 		@Override
 		public Collection<T> all() {
 
+			StatementObservation observation = startObservation("all", databaseSelection, runnableStatement, domainType);
 			try (QueryRunner statementRunner = getQueryRunner(this.databaseSelection, this.impersonatedUser)) {
-				Result result = runnableStatement.runWith(statementRunner);
-				Collection<T> values = result.stream().map(partialMappingFunction(TypeSystem.getDefault())).filter(Objects::nonNull).collect(Collectors.toList());
-				ResultSummaries.process(result.consume());
+				Result result = runnableStatement.runWith(statementRunner, observation);
+				Collection<T> values = result.stream().map(partialMappingFunction(TypeSystem.getDefault(), observation)).filter(Objects::nonNull).collect(Collectors.toList());
+				consume(result, observation);
 				return values;
 			} catch (RuntimeException e) {
-				throw potentiallyConvertRuntimeException(e, persistenceExceptionTranslator);
+				throw potentiallyConvertRuntimeException(e, observation);
 			} catch (Exception e) {
+				observation.error(e);
 				throw new RuntimeException(e);
+			} finally {
+				observation.stop();
+			}
+		}
+
+		@Override
+		public Stream<T> stream() {
+
+			StatementObservation observation = startObservation("stream", databaseSelection, runnableStatement, domainType);
+			QueryRunner statementRunner = null;
+			try {
+				statementRunner = getQueryRunner(this.databaseSelection, this.impersonatedUser);
+				Result result = runnableStatement.runWith(statementRunner, observation);
+				Stream<T> values = result.stream().map(partialMappingFunction(TypeSystem.getDefault(), observation)).filter(Objects::nonNull);
+
+				QueryRunner openStatementRunner = statementRunner;
+				return StreamSupport
+						.stream(new TranslatingSpliterator<>(values.spliterator(), persistenceExceptionTranslator), false)
+						.onClose(() -> consumeAndClose(result, openStatementRunner, observation));
+			} catch (RuntimeException e) {
+				if (statementRunner != null) {
+					try {
+						statementRunner.close();
+					} catch (Exception closeException) {
+						e.addSuppressed(closeException);
+					}
+				}
+				RuntimeException translated = potentiallyConvertRuntimeException(e, observation);
+				observation.stop();
+				throw translated;
+			}
+		}
+
+		/**
+		 * Consumes the remainder of a streamed result, processes its summary and closes the runner it was created with.
+		 * Stops the observation of the statement afterwards.
+		 *
+		 * @param result          The result that has been streamed
+		 * @param statementRunner The runner that has been kept open for the stream
+		 * @param observation     The observation of the statement
+		 */
+		private void consumeAndClose(Result result, QueryRunner statementRunner, StatementObservation observation) {
+
+			try (statementRunner) {
+				consume(result, observation);
+			} catch (RuntimeException e) {
+				throw potentiallyConvertRuntimeException(e, observation);
+			} catch (Exception e) {
+				observation.error(e);
+				throw new RuntimeException(e);
+			} finally {
+				observation.stop();
 			}
 		}
 
 		/**
-		 * @param typeSystem The actual type system
+		 * @param typeSystem  The actual type system
+		 * @param observation The observation of the statement
 		 * @return The partially evaluated mapping function
 		 */
-		private Function<Record, T> partialMappingFunction(TypeSystem typeSystem) {
-			return r -> mappingFunction.apply(typeSystem, r);
+		private Function<Record, T> partialMappingFunction(TypeSystem typeSystem, StatementObservation observation) {
+			BiFunction<TypeSystem, Record, T> observedMappingFunction = observation.instrument(mappingFunction);
+			return r -> observedMappingFunction.apply(typeSystem, r);
+		}
+	}
+
+	/**
+	 * A spliterator that translates exceptions thrown while pulling records from an open result the same way the
+	 * eager variants of {@link RecordFetchSpec} do.
+	 *
+	 * @param <T> The type of the mapped records
+	 */
+	private static final class TranslatingSpliterator<T> implements Spliterator<T> {
+
+		private final Spliterator<T> delegate;
+
+		private final PersistenceExceptionTranslator exceptionTranslator;
+
+		TranslatingSpliterator(Spliterator<T> delegate, PersistenceExceptionTranslator exceptionTranslator) {
+			this.delegate = delegate;
+			this.exceptionTranslator = exceptionTranslator;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			try {
+				return delegate.tryAdvance(action);
+			} catch (RuntimeException e) {
+				throw potentiallyConvertRuntimeException(e, exceptionTranslator);
+			}
+		}
+
+		@Override
+		@Nullable
+		public Spliterator<T> trySplit() {
+			return null;
+		}
+
+		@Override
+		public long estimateSize() {
+			return delegate.estimateSize();
+		}
+
+		@Override
+		public int characteristics() {
+			return delegate.characteristics();
 		}
 	}
 
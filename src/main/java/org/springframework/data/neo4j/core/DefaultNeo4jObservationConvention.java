@@ -0,0 +1,74 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.apiguardian.api.API;
+import org.springframework.data.neo4j.core.Neo4jObservation.HighCardinalityKeyNames;
+import org.springframework.data.neo4j.core.Neo4jObservation.LowCardinalityKeyNames;
+import org.springframework.lang.Nullable;
+
+/**
+ * Default {@link Neo4jObservationConvention}, naming all statement observations {@literal spring.data.neo4j.statement}.
+ *
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public class DefaultNeo4jObservationConvention implements Neo4jObservationConvention {
+
+	/**
+	 * Shared instance of the default convention.
+	 */
+	public static final Neo4jObservationConvention INSTANCE = new DefaultNeo4jObservationConvention();
+
+	@Override
+	public String getName() {
+		return "spring.data.neo4j.statement";
+	}
+
+	@Override
+	public String getContextualName(Neo4jObservationContext context) {
+		return "neo4j " + context.getOperation();
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(Neo4jObservationContext context) {
+
+		Class<?> domainType = context.getDomainType();
+		return KeyValues.of(
+				LowCardinalityKeyNames.DB_SYSTEM.withValue("neo4j"),
+				LowCardinalityKeyNames.OPERATION.withValue(context.getOperation()),
+				LowCardinalityKeyNames.DATABASE.withValue(valueOrNone(context.getDatabaseName())),
+				LowCardinalityKeyNames.REPOSITORY_METHOD.withValue(valueOrNone(context.getRepositoryMethod())),
+				LowCardinalityKeyNames.DOMAIN_TYPE.withValue(valueOrNone(domainType == null ? null : domainType.getName())));
+	}
+
+	@Override
+	public KeyValues getHighCardinalityKeyValues(Neo4jObservationContext context) {
+
+		return KeyValues.of(
+				HighCardinalityKeyNames.STATEMENT.withValue(context.getCypher()),
+				HighCardinalityKeyNames.RECORDS.withValue(Long.toString(context.getRecords())),
+				HighCardinalityKeyNames.ROUND_TRIP_TIME.withValue(Long.toString(context.getRoundTripTime().toNanos())),
+				HighCardinalityKeyNames.MAPPING_TIME.withValue(Long.toString(context.getMappingTime().toNanos())),
+				HighCardinalityKeyNames.CONSUMPTION_TIME.withValue(Long.toString(context.getConsumptionTime().toNanos())));
+	}
+
+	private static String valueOrNone(@Nullable String value) {
+		return value == null ? KeyValue.NONE_VALUE : value;
+	}
+}
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.neo4j.core;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.Query;
@@ -70,6 +72,8 @@ final class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient, Applicati
 	private @Nullable final ReactiveUserSelectionProvider userSelectionProvider;
 	private final ConversionService conversionService;
 	private final Neo4jPersistenceExceptionTranslator persistenceExceptionTranslator = new Neo4jPersistenceExceptionTranslator();
+	private final ObservationRegistry observationRegistry;
+	private @Nullable final Neo4jObservationConvention observationConvention;
 
 	// Local bookmark manager when using outside managed transactions
 	private final BookmarkManagerReference bookmarkManager;
@@ -83,6 +87,8 @@ final class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient, Applicati
 		this.conversionService = new DefaultConversionService();
 		Optional.ofNullable(builder.neo4jConversions).orElseGet(Neo4jConversions::new).registerConvertersIn((ConverterRegistry) conversionService);
 		this.bookmarkManager = new BookmarkManagerReference(Neo4jBookmarkManager::createReactive, builder.bookmarkManager);
+		this.observationRegistry = builder.observationRegistry;
+		this.observationConvention = builder.observationConvention;
 	}
 
 	@Override
@@ -254,20 +260,20 @@ final class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient, Applicati
 		@Override
 		public <R> MappingSpec<R> fetchAs(Class<R> targetClass) {
 
-			return new DefaultRecordFetchSpec<>(databaseSelection, userSelection, cypherSupplier, parameters,
+			return new DefaultRecordFetchSpec<>(databaseSelection, userSelection, cypherSupplier, parameters, targetClass,
 					new SingleValueMappingFunction<>(conversionService, targetClass));
 		}
 
 		@Override
 		public RecordFetchSpec<Map<String, Object>> fetch() {
 
-			return new DefaultRecordFetchSpec<>(databaseSelection, userSelection, cypherSupplier, parameters, (t, r) -> r.asMap());
+			return new DefaultRecordFetchSpec<>(databaseSelection, userSelection, cypherSupplier, parameters, null, (t, r) -> r.asMap());
 		}
 
 		@Override
 		public Mono<ResultSummary> run() {
 
-			return new DefaultRecordFetchSpec<>(databaseSelection, userSelection, cypherSupplier, this.parameters, null).run();
+			return new DefaultRecordFetchSpec<>(databaseSelection, userSelection, cypherSupplier, this.parameters, null, null).run();
 		}
 
 		class DefaultOngoingBindSpec<T> implements Neo4jClient.OngoingBindSpec<T, RunnableSpec> {
@@ -374,15 +380,26 @@ final class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient, Applicati
 
 		private final NamedParameters parameters;
 
+		@Nullable
+		private final Class<T> domainType;
+
+		/**
+		 * Captured while assembling, as the repository method is not known on the thread subscribing to the result.
+		 */
+		@Nullable
+		private final String repositoryMethod;
+
 		private BiFunction<TypeSystem, Record, T> mappingFunction;
 
 		DefaultRecordFetchSpec(Mono<DatabaseSelection> databaseSelection, Mono<UserSelection> userSelection, Supplier<String> cypherSupplier, NamedParameters parameters,
-				@Nullable BiFunction<TypeSystem, Record, T> mappingFunction) {
+				@Nullable Class<T> domainType, @Nullable BiFunction<TypeSystem, Record, T> mappingFunction) {
 
 			this.databaseSelection = databaseSelection;
 			this.userSelection = userSelection;
 			this.cypherSupplier = cypherSupplier;
 			this.parameters = parameters;
+			this.domainType = domainType;
+			this.repositoryMethod = observationRegistry.isNoop() ? null : Neo4jObservationContext.currentRepositoryMethod();
 			this.mappingFunction = mappingFunction;
 		}
 
@@ -405,43 +422,127 @@ final class DefaultReactiveNeo4jClient implements ReactiveNeo4jClient, Applicati
 			return Mono.fromSupplier(cypherSupplier).zipWith(Mono.just(parameters.get()));
 		}
 
-		Flux<T> executeWith(Tuple2<String, Map<String, Object>> t, ReactiveQueryRunner runner) {
+		Flux<T> executeWith(Tuple2<String, Map<String, Object>> t, ReactiveQueryRunner runner, StatementObservation observation) {
 
-			return Flux.usingWhen(Flux.from(runner.run(t.getT1(), t.getT2())),
-					result -> Flux.from(result.records()).mapNotNull(r -> mappingFunction.apply(TypeSystem.getDefault(), r)),
-					result -> Flux.from(result.consume()).doOnNext(ResultSummaries::process));
+			BiFunction<TypeSystem, Record, T> observedMappingFunction = observation.instrument(mappingFunction);
+			return Flux.usingWhen(observe(runner.run(t.getT1(), t.getT2()), observation),
+					result -> observeRecords(result.records(), observation).mapNotNull(r -> observedMappingFunction.apply(TypeSystem.getDefault(), r)),
+					result -> consume(result, observation));
 		}
 
 		@Override
 		public Mono<T> one() {
 
-			return doInQueryRunnerForMono(databaseSelection, userSelection,
-					(runner) -> prepareStatement().flatMapMany(t -> executeWith(t, runner)).singleOrEmpty()
-					.onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException));
+			return observe("one", observation -> doInQueryRunnerForMono(observe(databaseSelection, observation), userSelection,
+					(runner) -> prepareStatement().flatMapMany(t -> executeWith(t, runner, observation)).singleOrEmpty()
+					.onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException)));
 		}
 
 		@Override
 		public Mono<T> first() {
 
-			return doInQueryRunnerForMono(databaseSelection, userSelection,
-					runner -> prepareStatement().flatMapMany(t -> executeWith(t, runner)).next())
-					.onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException);
+			return observe("first", observation -> doInQueryRunnerForMono(observe(databaseSelection, observation), userSelection,
+					runner -> prepareStatement().flatMapMany(t -> executeWith(t, runner, observation)).next())
+					.onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException));
 		}
 
 		@Override
 		public Flux<T> all() {
 
-			return doInStatementRunnerForFlux(databaseSelection, userSelection,
-					runner -> prepareStatement().flatMapMany(t -> executeWith(t, runner)))
-					.onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException);
+			return observeMany("all", observation -> doInStatementRunnerForFlux(observe(databaseSelection, observation), userSelection,
+					runner -> prepareStatement().flatMapMany(t -> executeWith(t, runner, observation)))
+					.onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException));
 		}
 
 		Mono<ResultSummary> run() {
 
-			return doInQueryRunnerForMono(databaseSelection, userSelection, runner -> prepareStatement()
-					.flatMap(t -> Flux.from(runner.run(t.getT1(), t.getT2())).single())
-					.flatMap(rxResult -> Flux.from(rxResult.consume()).single().map(ResultSummaries::process)))
-					.onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException);
+			return observe("run", observation -> doInQueryRunnerForMono(observe(databaseSelection, observation), userSelection, runner -> prepareStatement()
+					.flatMap(t -> observe(runner.run(t.getT1(), t.getT2()), observation).single())
+					.doOnNext(rxResult -> observation.endRoundTrip())
+					.flatMap(rxResult -> consume(rxResult, observation).single()))
+					.onErrorMap(RuntimeException.class, DefaultReactiveNeo4jClient.this::potentiallyConvertRuntimeException));
+		}
+
+		/*
+		 * The following helpers only add operators when the statement is actually observed, leaving the pipeline
+		 * untouched otherwise.
+		 */
+
+		private Flux<ResultSummary> consume(ReactiveResult result, StatementObservation observation) {
+
+			if (observation.isNoop()) {
+				return Flux.from(result.consume()).doOnNext(ResultSummaries::process);
+			}
+			return Flux.from(result.consume())
+					.doOnSubscribe(s -> observation.startConsumption())
+					.doOnNext(ResultSummaries::process)
+					.doOnNext(summary -> {
+						observation.endConsumption();
+						observation.summaryReceived(summary);
+					});
+		}
+
+		private static Flux<ReactiveResult> observe(Publisher<ReactiveResult> result, StatementObservation observation) {
+
+			Flux<ReactiveResult> flux = Flux.from(result);
+			return observation.isObserved() ? flux.doOnSubscribe(s -> observation.startRoundTrip()) : flux;
+		}
+
+		private static Flux<Record> observeRecords(Publisher<Record> records, StatementObservation observation) {
+
+			Flux<Record> flux = Flux.from(records);
+			return observation.isObserved() ? flux.doOnComplete(observation::endRoundTrip) : flux;
+		}
+
+		private static Mono<DatabaseSelection> observe(Mono<DatabaseSelection> databaseSelection, StatementObservation observation) {
+			return observation.isObserved() ? databaseSelection.doOnNext(observation::setDatabase) : databaseSelection;
+		}
+
+		/**
+		 * Starts a new observation for each subscription to the given pipeline and stops it on termination or
+		 * cancellation. A current observation in the subscriber context becomes the parent of the new one.
+		 *
+		 * @param operation The kind of operation
+		 * @param pipeline  The pipeline to observe
+		 * @param <R>       The type of the result
+		 * @return The observed pipeline
+		 */
+		private <R> Mono<R> observe(String operation, Function<StatementObservation, Mono<R>> pipeline) {
+
+			return Mono.deferContextual(reactorContext -> {
+				StatementObservation observation = startObservation(operation, reactorContext.getOrDefault(StatementObservation.REACTOR_CONTEXT_KEY, null),
+						reactorContext.getOrDefault(OperationAccount.REACTOR_CONTEXT_KEY, null));
+				return pipeline.apply(observation)
+						.doOnError(observation::error)
+						.doFinally(signal -> observation.stop())
+						.contextWrite(context -> observation.isObserved() ? context.put(StatementObservation.REACTOR_CONTEXT_KEY, observation.getObservation()) : context);
+			});
+		}
+
+		/**
+		 * Same as {@link #observe(String, Function)} for pipelines with many results.
+		 *
+		 * @param operation The kind of operation
+		 * @param pipeline  The pipeline to observe
+		 * @param <R>       The type of the results
+		 * @return The observed pipeline
+		 */
+		private <R> Flux<R> observeMany(String operation, Function<StatementObservation, Flux<R>> pipeline) {
+
+			return Flux.deferContextual(reactorContext -> {
+				StatementObservation observation = startObservation(operation, reactorContext.getOrDefault(StatementObservation.REACTOR_CONTEXT_KEY, null),
+						reactorContext.getOrDefault(OperationAccount.REACTOR_CONTEXT_KEY, null));
+				return pipeline.apply(observation)
+						.doOnError(observation::error)
+						.doFinally(signal -> observation.stop())
+						.contextWrite(context -> observation.isObserved() ? context.put(StatementObservation.REACTOR_CONTEXT_KEY, observation.getObservation()) : context);
+			});
+		}
+
+		private StatementObservation startObservation(String operation, @Nullable Observation parent, @Nullable OperationAccount account) {
+
+			Neo4jObservationContext context = new Neo4jObservationContext(operation, cypherSupplier, domainType, repositoryMethod);
+			return StatementObservation.start(observationRegistry, observationConvention, context, parent, account);
 		}
 	}
 
@@ -18,7 +18,9 @@ package org.springframework.data.neo4j.core;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.UnaryOperator;
 
 import org.neo4j.cypherdsl.core.Cypher;
@@ -60,4 +62,23 @@ final class DynamicLabels implements UnaryOperator<OngoingMatchAndUpdate> {
 		}
 		return decoratedMatchAndUpdate;
 	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		DynamicLabels that = (DynamicLabels) o;
+		return rootNode.getRequiredSymbolicName().equals(that.rootNode.getRequiredSymbolicName())
+				&& new HashSet<>(oldLabels).equals(new HashSet<>(that.oldLabels))
+				&& new HashSet<>(newLabels).equals(new HashSet<>(that.newLabels));
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(rootNode.getRequiredSymbolicName(), new HashSet<>(oldLabels), new HashSet<>(newLabels));
+	}
 }
@@ -0,0 +1,552 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.types.MapAccessor;
+import org.neo4j.driver.types.Node;
+import org.neo4j.driver.types.TypeSystem;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.neo4j.core.mapping.AssociationHandlerSupport;
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.MappingSupport;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Snapshots of the persisted state of entities, used by the {@link Neo4jTemplate} to write only the properties and
+ * relationships that changed since an entity has been loaded or saved. A snapshot contains the internal id of the node,
+ * the properties as written by the binder function and, per relationship, the internal ids of the related nodes and the
+ * properties of relationships with properties.
+ * <p>
+ * Snapshots are keyed by the type and id of an entity and softly referenced. Snapshots taken inside a transaction are
+ * only visible to that transaction until it commits and are discarded on rollback. Only relationships that are neither
+ * dynamic nor mapped from both sides and that have been loaded are tracked, all others are written as without tracking.
+ *
+ * @since 7.4
+ */
+@API(status = API.Status.INTERNAL, since = "7.4")
+final class EntitySnapshots {
+
+	private final Neo4jMappingContext mappingContext;
+
+	private final Map<Key, EntitySnapshot> snapshots = new ConcurrentReferenceHashMap<>(64,
+			ConcurrentReferenceHashMap.ReferenceType.SOFT);
+
+	EntitySnapshots(Neo4jMappingContext mappingContext) {
+		this.mappingContext = mappingContext;
+	}
+
+	/**
+	 * @param entity The entity to check
+	 * @return True if changes of instances of the given entity can be tracked
+	 */
+	static boolean supports(Neo4jPersistentEntity<?> entity) {
+
+		Neo4jPersistentProperty idProperty = entity.getIdProperty();
+		return !entity.isRelationshipPropertiesEntity() && idProperty != null && !idProperty.isComposite()
+				&& entity.getDynamicLabelsProperty().isEmpty();
+	}
+
+	/**
+	 * @param entity The entity of the instance
+	 * @param bean   The instance about to be saved
+	 * @return The snapshot of the instance, if any
+	 */
+	@Nullable
+	EntitySnapshot get(Neo4jPersistentEntity<?> entity, Object bean) {
+
+		Key key = supports(entity) ? keyOf(entity, bean) : null;
+		if (key == null) {
+			return null;
+		}
+		PendingChanges pendingChanges = pendingChanges(false);
+		if (pendingChanges != null && pendingChanges.contains(key)) {
+			return pendingChanges.get(key);
+		}
+		return pendingChanges != null && pendingChanges.cleared ? null : snapshots.get(key);
+	}
+
+	/**
+	 * @return A new collector for the nodes of a single result
+	 */
+	LoadedNodes newLoadedNodes() {
+		return new LoadedNodes();
+	}
+
+	/**
+	 * Takes snapshots of saved entities and all entities reachable from them.
+	 *
+	 * @param results         The saved entities
+	 * @param internalIds     A function returning the internal id of a saved instance, or {@literal null} if the
+	 *                        instance has not been saved with its current state
+	 * @param canUseElementId True if relationships are written using element ids
+	 */
+	void registerSaved(Collection<?> results, Function<Object, Object> internalIds, boolean canUseElementId) {
+		register(results, bean -> {
+			Object internalId = internalIds.apply(bean);
+			return internalId == null ? null
+					: normalizeInternalId(mappingContext.getRequiredPersistentEntity(bean.getClass()), internalId, canUseElementId);
+		});
+	}
+
+	/**
+	 * Brings an internal id into the form used in snapshots, as the template passes legacy ids both as numbers and as
+	 * strings.
+	 *
+	 * @param entity          The entity the id belongs to
+	 * @param internalId      The internal id of a node
+	 * @param canUseElementId True if relationships are written using element ids
+	 * @return The normalized id, {@literal null} if the id cannot be normalized
+	 */
+	@Nullable
+	static Object normalizeInternalId(Neo4jPersistentEntity<?> entity, Object internalId, boolean canUseElementId) {
+
+		if (!entity.isUsingDeprecatedInternalId() && canUseElementId) {
+			return TemplateSupport.convertIdOrElementIdToString(internalId);
+		}
+		if (internalId instanceof Number number) {
+			return number.longValue();
+		}
+		try {
+			return Long.parseLong(TemplateSupport.convertIdOrElementIdToString(internalId));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Removes the snapshots of the given entities and all entities reachable from them, for example after they have been
+	 * saved only partially.
+	 *
+	 * @param results The saved entities
+	 */
+	void evict(Collection<?> results) {
+		register(results, bean -> null);
+	}
+
+	/**
+	 * Removes all snapshots, for example after nodes have been deleted.
+	 */
+	void evictAll() {
+
+		PendingChanges pendingChanges = pendingChanges(true);
+		if (pendingChanges == null) {
+			snapshots.clear();
+		} else {
+			pendingChanges.clear();
+		}
+	}
+
+	private void register(Collection<?> results, Function<Object, Object> internalIds) {
+
+		PendingChanges pendingChanges = pendingChanges(true);
+		Map<Object, Boolean> visited = new IdentityHashMap<>();
+		Deque<Object> queue = new ArrayDeque<>(results);
+		while (!queue.isEmpty()) {
+			Object bean = queue.poll();
+			if (bean == null || visited.put(bean, Boolean.TRUE) != null || !mappingContext.hasPersistentEntityFor(bean.getClass())) {
+				continue;
+			}
+			Neo4jPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(bean.getClass());
+			if (entity.isRelationshipPropertiesEntity()) {
+				continue;
+			}
+
+			PersistentPropertyAccessor<?> propertyAccessor = entity.getPropertyAccessor(bean);
+			AssociationHandlerSupport.of(entity).doWithAssociations(association -> {
+				Neo4jPersistentProperty property = association.getInverse();
+				for (Object value : MappingSupport.unifyRelationshipValue(property, propertyAccessor.getProperty(property))) {
+					queue.add(relatedEntity(value));
+				}
+			});
+
+			Key key = supports(entity) ? keyOf(entity, bean) : null;
+			if (key == null) {
+				continue;
+			}
+			Object internalId = internalIds.apply(bean);
+			EntitySnapshot snapshot = internalId == null ? null : snapshot(entity, propertyAccessor, internalId, internalIds);
+			if (pendingChanges != null) {
+				pendingChanges.put(key, snapshot);
+			} else if (snapshot == null) {
+				snapshots.remove(key);
+			} else {
+				snapshots.put(key, snapshot);
+			}
+		}
+	}
+
+	private EntitySnapshot snapshot(Neo4jPersistentEntity<?> entity, PersistentPropertyAccessor<?> propertyAccessor,
+			Object internalId, Function<Object, Object> internalIds) {
+
+		Map<String, RelationshipSnapshot> relationships = new HashMap<>();
+		AssociationHandlerSupport.of(entity).doWithAssociations(association -> {
+
+			Neo4jPersistentProperty property = association.getInverse();
+			RelationshipDescription relationshipDescription = (RelationshipDescription) association;
+			Object rawValue = propertyAccessor.getProperty(property);
+			if (rawValue == null || property.isReadOnly() || relationshipDescription.isDynamic()
+					|| relationshipDescription.hasRelationshipObverse()) {
+				return;
+			}
+
+			RelationshipSnapshot relationship = relationshipSnapshot(relationshipDescription,
+					MappingSupport.unifyRelationshipValue(property, rawValue), internalIds);
+			if (relationship != null) {
+				relationships.put(relationshipDescription.getFieldName(), relationship);
+			}
+		});
+
+		return new EntitySnapshot(internalId, propertiesOf(write(propertyAccessor.getBean())), relationships);
+	}
+
+	@Nullable
+	private RelationshipSnapshot relationshipSnapshot(RelationshipDescription relationshipDescription,
+			Collection<?> values, Function<Object, Object> internalIds) {
+
+		Set<Object> targets = new HashSet<>();
+		Map<Object, RelationshipWithProperties> relationshipsWithProperties = new HashMap<>();
+		for (Object value : values) {
+			Object target = internalIds.apply(relatedEntity(value));
+			if (target == null) {
+				return null;
+			}
+			targets.add(target);
+			if (!relationshipDescription.hasRelationshipProperties()) {
+				continue;
+			}
+
+			Object relationshipProperties = ((MappingSupport.RelationshipPropertiesWithEntityHolder) value).getRelationshipProperties();
+			Neo4jPersistentEntity<?> relationshipPropertiesEntity = mappingContext.getRequiredPersistentEntity(relationshipProperties.getClass());
+			Object relationshipId = relationshipPropertiesEntity.getIdProperty() == null ? null
+					: relationshipPropertiesEntity.getPropertyAccessor(relationshipProperties).getProperty(relationshipPropertiesEntity.getIdProperty());
+			if (relationshipId == null) {
+				return null;
+			}
+			relationshipsWithProperties.put(relationshipId,
+					new RelationshipWithProperties(target, write(relationshipProperties)));
+		}
+		return new RelationshipSnapshot(targets, relationshipsWithProperties);
+	}
+
+	/**
+	 * @param instance An instance of a node or relationship properties entity
+	 * @return The parameters written by the entity converter for the given instance
+	 */
+	Map<String, Object> write(Object instance) {
+
+		Map<String, Object> parameters = new HashMap<>();
+		mappingContext.getEntityConverter().write(instance, parameters);
+		return parameters;
+	}
+
+	@Nullable
+	private Key keyOf(Neo4jPersistentEntity<?> entity, Object bean) {
+
+		Neo4jPersistentProperty idProperty = entity.getIdProperty();
+		Object id = idProperty == null ? null : entity.getPropertyAccessor(bean).getProperty(idProperty);
+		return id == null ? null : new Key(entity.getType(), id);
+	}
+
+	private static Object relatedEntity(Object value) {
+
+		Object relatedValue = value instanceof Map.Entry<?, ?> entry ? entry.getValue() : value;
+		return relatedValue instanceof MappingSupport.RelationshipPropertiesWithEntityHolder holder
+				? holder.getRelatedEntity()
+				: relatedValue;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> propertiesOf(Map<String, Object> parameters) {
+		return (Map<String, Object>) parameters.getOrDefault(Constants.NAME_OF_PROPERTIES_PARAM, Collections.emptyMap());
+	}
+
+	@Nullable
+	private PendingChanges pendingChanges(boolean create) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+		PendingChanges pendingChanges = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+		if (pendingChanges == null && create) {
+			pendingChanges = new PendingChanges();
+			TransactionSynchronizationManager.bindResource(this, pendingChanges);
+			TransactionSynchronizationManager.registerSynchronization(new PendingChangesSynchronization(pendingChanges));
+		}
+		return pendingChanges;
+	}
+
+	/**
+	 * The persisted state of a single entity.
+	 *
+	 * @param internalId    The internal id of the node as used for writing relationships
+	 * @param properties    The properties of the node
+	 * @param relationships The tracked relationships, keyed by field name
+	 */
+	record EntitySnapshot(Object internalId, Map<String, Object> properties,
+			Map<String, RelationshipSnapshot> relationships) {
+
+		/**
+		 * Removes all properties from the parameters created by a binder function that did not change.
+		 *
+		 * @param parameters The parameters of a node
+		 * @return True if any property changed
+		 */
+		boolean retainChangedProperties(Map<String, Object> parameters) {
+
+			Map<String, Object> current = propertiesOf(parameters);
+			current.entrySet().removeIf(e -> properties.containsKey(e.getKey())
+					&& Objects.equals(properties.get(e.getKey()), e.getValue()));
+			return !current.isEmpty();
+		}
+
+		/**
+		 * @param relationshipDescription A relationship of the entity
+		 * @return The persisted state of the relationship, {@literal null} if the relationship is not tracked
+		 */
+		@Nullable
+		RelationshipSnapshot getRelationship(RelationshipDescription relationshipDescription) {
+			return relationships.get(relationshipDescription.getFieldName());
+		}
+	}
+
+	/**
+	 * The persisted state of a relationship of an entity.
+	 *
+	 * @param targets                     The internal ids of all related nodes
+	 * @param relationshipsWithProperties The properties and related node of relationships with properties, keyed by
+	 *                                    relationship id
+	 */
+	record RelationshipSnapshot(Set<Object> targets, Map<Object, RelationshipWithProperties> relationshipsWithProperties) {
+
+		/**
+		 * @param relationshipId         The id of a relationship with properties
+		 * @param target                 The internal id of the related node
+		 * @param relationshipProperties The parameters as written by {@link EntitySnapshots#write(Object)}
+		 * @return True if the relationship exists with the same related node and properties
+		 */
+		boolean isUnchanged(Object relationshipId, Object target, Map<String, Object> relationshipProperties) {
+			return new RelationshipWithProperties(target, relationshipProperties)
+					.equals(relationshipsWithProperties.get(relationshipId));
+		}
+	}
+
+	record RelationshipWithProperties(Object target, Map<String, Object> properties) {
+	}
+
+	private record Key(Class<?> type, Object id) {
+	}
+
+	/**
+	 * Collects the nodes of all records of a result, so that the internal ids of the mapped entities can be determined.
+	 * Not thread safe, to be used for mapping a single result only.
+	 */
+	final class LoadedNodes {
+
+		private final Map<String, Node> nodesByElementId = new HashMap<>();
+
+		private final Map<Neo4jPersistentEntity<?>, Map<Value, Node>> nodesById = new HashMap<>();
+
+		@Nullable
+		private Map<Long, Node> nodesByLegacyId;
+
+		/**
+		 * @param mapAccessor A record or a single value
+		 */
+		void collect(MapAccessor mapAccessor) {
+
+			if (mapAccessor instanceof Value value) {
+				collect(value);
+			} else {
+				mapAccessor.values().forEach(this::collect);
+			}
+		}
+
+		private void collect(Value value) {
+
+			TypeSystem typeSystem = TypeSystem.getDefault();
+			if (value.hasType(typeSystem.NODE())) {
+				Node node = value.asNode();
+				nodesByElementId.put(node.elementId(), node);
+			} else if (value.hasType(typeSystem.PATH())) {
+				for (Node node : value.asPath().nodes()) {
+					nodesByElementId.put(node.elementId(), node);
+				}
+			} else if (value.hasType(typeSystem.LIST()) || value.hasType(typeSystem.MAP())) {
+				value.values().forEach(this::collect);
+			}
+		}
+
+		/**
+		 * Forgets all nodes collected so far, so that a collector can be reused for the next record of a streamed result.
+		 */
+		void clear() {
+
+			nodesByElementId.clear();
+			nodesById.clear();
+			nodesByLegacyId = null;
+		}
+
+		/**
+		 * Takes snapshots of the loaded entities and all entities reachable from them.
+		 *
+		 * @param results         The mapped results, may contain other objects than entities
+		 * @param canUseElementId True if relationships are written using element ids
+		 */
+		void register(Collection<?> results, boolean canUseElementId) {
+			EntitySnapshots.this.register(results, bean -> getInternalId(bean, canUseElementId));
+		}
+
+		@Nullable
+		@SuppressWarnings("deprecation")
+		private Object getInternalId(Object bean, boolean canUseElementId) {
+
+			Neo4jPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(bean.getClass());
+			Neo4jPersistentProperty idProperty = entity.getRequiredIdProperty();
+			Object id = entity.getPropertyAccessor(bean).getProperty(idProperty);
+			if (id == null) {
+				return null;
+			}
+
+			Node node;
+			if (entity.isUsingInternalIds()) {
+				node = id instanceof String elementId ? nodesByElementId.get(elementId) : nodesByLegacyId().get(id);
+			} else {
+				Value idValue = mappingContext.getConversionService().writeValue(id, TypeInformation.of(id.getClass()),
+						idProperty.getOptionalConverter());
+				node = nodesById.computeIfAbsent(entity, this::indexById).get(idValue);
+			}
+
+			if (node == null) {
+				return null;
+			}
+			return !entity.isUsingDeprecatedInternalId() && canUseElementId ? node.elementId() : node.id();
+		}
+
+		@SuppressWarnings("deprecation")
+		private Map<Long, Node> nodesByLegacyId() {
+
+			if (nodesByLegacyId == null) {
+				nodesByLegacyId = new HashMap<>();
+				nodesByElementId.values().forEach(node -> nodesByLegacyId.put(node.id(), node));
+			}
+			return nodesByLegacyId;
+		}
+
+		private Map<Value, Node> indexById(Neo4jPersistentEntity<?> entity) {
+
+			String idPropertyName = entity.getRequiredIdProperty().getPropertyName();
+			Map<Value, Node> index = new HashMap<>();
+			for (Node node : nodesByElementId.values()) {
+				if (node.hasLabel(entity.getPrimaryLabel()) && node.containsKey(idPropertyName)) {
+					index.put(node.get(idPropertyName), node);
+				}
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * Snapshots taken or removed in the current transaction.
+	 */
+	private static final class PendingChanges {
+
+		private final Map<Key, EntitySnapshot> changes = new HashMap<>();
+
+		private boolean cleared;
+
+		boolean contains(Key key) {
+			return changes.containsKey(key);
+		}
+
+		@Nullable
+		EntitySnapshot get(Key key) {
+			return changes.get(key);
+		}
+
+		void put(Key key, @Nullable EntitySnapshot snapshot) {
+			changes.put(key, snapshot);
+		}
+
+		void clear() {
+			changes.clear();
+			cleared = true;
+		}
+
+		void applyTo(Map<Key, EntitySnapshot> snapshots) {
+
+			if (cleared) {
+				snapshots.clear();
+			}
+			changes.forEach((key, snapshot) -> {
+				if (snapshot == null) {
+					snapshots.remove(key);
+				} else {
+					snapshots.put(key, snapshot);
+				}
+			});
+		}
+	}
+
+	private final class PendingChangesSynchronization implements TransactionSynchronization {
+
+		private final PendingChanges pendingChanges;
+
+		PendingChangesSynchronization(PendingChanges pendingChanges) {
+			this.pendingChanges = pendingChanges;
+		}
+
+		@Override
+		public void suspend() {
+			TransactionSynchronizationManager.unbindResourceIfPossible(EntitySnapshots.this);
+		}
+
+		@Override
+		public void resume() {
+			TransactionSynchronizationManager.bindResource(EntitySnapshots.this, pendingChanges);
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+
+			TransactionSynchronizationManager.unbindResourceIfPossible(EntitySnapshots.this);
+			if (status == STATUS_COMMITTED) {
+				pendingChanges.applyTo(snapshots);
+			}
+		}
+	}
+}
@@ -21,7 +21,9 @@ import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.LogFactory;
 import org.apiguardian.api.API;
 import org.neo4j.driver.Driver;
@@ -33,6 +35,7 @@ import org.springframework.core.log.LogAccessor;
 import org.springframework.data.neo4j.core.convert.Neo4jConversions;
 import org.springframework.data.neo4j.core.transaction.Neo4jBookmarkManager;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Definition of a modern Neo4j client.
@@ -83,6 +86,11 @@ public interface Neo4jClient {
 		@Nullable
 		Neo4jBookmarkManager bookmarkManager;
 
+		ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+		@Nullable
+		Neo4jObservationConvention observationConvention;
+
 		private Builder(Driver driver) {
 			this.driver = driver;
 		}
@@ -139,6 +147,34 @@ public interface Neo4jClient {
 			return this;
 		}
 
+		/**
+		 * Configures the {@link ObservationRegistry} used to observe every statement run through the client, see
+		 * {@link Neo4jObservation#STATEMENT}. Statements are not observed by default.
+		 *
+		 * @param observationRegistry The registry to use
+		 * @return The builder
+		 * @since 7.4
+		 */
+		public Builder withObservationRegistry(ObservationRegistry observationRegistry) {
+
+			Assert.notNull(observationRegistry, "The observation registry must not be null");
+			this.observationRegistry = observationRegistry;
+			return this;
+		}
+
+		/**
+		 * Configures a custom {@link Neo4jObservationConvention} to name and tag the statement observations.
+		 *
+		 * @param observationConvention The convention to use, can be {@literal null}, in this case the
+		 *                              {@link DefaultNeo4jObservationConvention} is used.
+		 * @return The builder
+		 * @since 7.4
+		 */
+		public Builder withObservationConvention(@Nullable Neo4jObservationConvention observationConvention) {
+			this.observationConvention = observationConvention;
+			return this;
+		}
+
 		public Neo4jClient build() {
 			return new DefaultNeo4jClient(this);
 		}
@@ -385,6 +421,19 @@ public interface Neo4jClient {
 		 * @return All records.
 		 */
 		Collection<T> all();
+
+		/**
+		 * Fetches all records lazily. Records are mapped one at a time while the stream is consumed, so that
+		 * arbitrary large results can be processed in constant memory. The underlying query runner is kept open
+		 * until the stream is closed, so the stream must be closed after use, preferably in a try-with-resources
+		 * block. The default implementation streams over {@link #all()} and is therefore not lazy.
+		 *
+		 * @return A stream of all records that must be closed after use.
+		 * @since 7.4
+		 */
+		default Stream<T> stream() {
+			return all().stream();
+		}
 	}
 
 	/**
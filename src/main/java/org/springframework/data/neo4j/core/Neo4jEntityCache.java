@@ -0,0 +1,552 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.LogFactory;
+import org.apiguardian.api.API;
+import org.neo4j.driver.Bookmark;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.core.mapping.NodeDescription;
+import org.springframework.data.neo4j.core.schema.Cached;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * An optional read-through cache for lookups by id through the {@link Neo4jTemplate}, meant for reference data that is
+ * read often and changes rarely. Only {@link Neo4jTemplate#findById(Object, Class)} and
+ * {@link Neo4jTemplate#findAllById(Iterable, Class)} of entities that are either annotated with {@link Cached @Cached}
+ * or registered with {@link Builder#withCache(Class, String, Duration, long)} are cached. The entity cache is used by
+ * a template when passed to {@link Neo4jTemplate#setEntityCache(Neo4jEntityCache)} or when it is the only bean of its
+ * type.
+ * <p>
+ * Caches are local, evicting entries by time to live and size, unless a {@link CacheManager} is configured, for example
+ * one providing Caffeine caches. Cached entities are shared between all callers and must be treated as read-only.
+ * <p>
+ * Saving or deleting entities through the template invalidates the caches:
+ * <ul>
+ * <li>Entities of a cached type without relationships are evicted by id.</li>
+ * <li>Caches of entities whose graph may contain a node of the saved or deleted type are cleared.</li>
+ * <li>Within a transaction that saved or deleted anything, the caches are bypassed. All invalidations are repeated
+ * after the transaction completed, so that entities loaded concurrently in the meantime are not kept.</li>
+ * </ul>
+ * Changes done through custom queries or by other applications are only noticed in the cluster-safe mode, enabled by
+ * {@link Builder#withBookmarks(Supplier)}: Each entry remembers the bookmarks known when it was loaded and is skipped
+ * as soon as the known bookmarks changed.
+ *
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public final class Neo4jEntityCache {
+
+	private static final LogAccessor log = new LogAccessor(LogFactory.getLog(Neo4jEntityCache.class));
+
+	@Nullable
+	private final CacheManager cacheManager;
+
+	private final Map<Class<?>, Settings> configuredTypes;
+
+	@Nullable
+	private final Supplier<? extends Collection<Bookmark>> bookmarks;
+
+	private final Map<Class<?>, Optional<Cache>> caches = new ConcurrentHashMap<>();
+
+	private final Map<Class<?>, Set<Class<?>>> reachableTypes = new ConcurrentHashMap<>();
+
+	/**
+	 * @return A builder for an entity cache
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	private Neo4jEntityCache(Builder builder) {
+		this.cacheManager = builder.cacheManager;
+		this.configuredTypes = Map.copyOf(builder.configuredTypes);
+		this.bookmarks = builder.bookmarks;
+	}
+
+	/**
+	 * Removes all entities from all caches.
+	 */
+	public void evictAll() {
+		caches.values().forEach(cache -> cache.ifPresent(Cache::clear));
+	}
+
+	/**
+	 * @param mappingContext The mapping context used to convert the id
+	 * @param entity         The requested entity
+	 * @param id             The id of the requested entity
+	 * @param loader         Loads the entity from the database
+	 * @param <T>            The type of the entity
+	 * @return The cached or loaded entity
+	 */
+	@SuppressWarnings("unchecked")
+	<T> Optional<T> findById(Neo4jMappingContext mappingContext, Neo4jPersistentEntity<?> entity, Object id, Supplier<Optional<T>> loader) {
+
+		Cache cache = isBypassed() ? null : getCache(entity);
+		if (cache == null) {
+			return loader.get();
+		}
+
+		CacheKey key = keyOf(mappingContext, entity, id);
+		Object cachedEntity = lookup(cache, key);
+		if (cachedEntity != null) {
+			return Optional.of((T) cachedEntity);
+		}
+		Set<Bookmark> bookmarksBeforeLoading = currentBookmarks();
+		Optional<T> result = loader.get();
+		result.ifPresent(value -> cache.put(key, new CachedEntity(value, bookmarksBeforeLoading)));
+		return result;
+	}
+
+	/**
+	 * @param mappingContext The mapping context used to convert the ids
+	 * @param entity         The requested entity
+	 * @param ids            The ids of the requested entities
+	 * @param loader         Loads the entities with the given ids from the database
+	 * @param <T>            The type of the entities
+	 * @return The cached and loaded entities
+	 */
+	@SuppressWarnings("unchecked")
+	<T> List<T> findAllById(Neo4jMappingContext mappingContext, Neo4jPersistentEntity<?> entity, Iterable<?> ids, Function<List<Object>, List<T>> loader) {
+
+		Cache cache = isBypassed() ? null : getCache(entity);
+		List<Object> missingIds = new ArrayList<>();
+		ids.forEach(missingIds::add);
+		if (cache == null) {
+			return loader.apply(missingIds);
+		}
+
+		List<T> result = new ArrayList<>();
+		Map<CacheKey, Object> missingIdsByKey = new LinkedHashMap<>();
+		missingIds.forEach(id -> missingIdsByKey.putIfAbsent(keyOf(mappingContext, entity, id), id));
+		missingIdsByKey.keySet().removeIf(key -> {
+			Object cachedEntity = lookup(cache, key);
+			if (cachedEntity != null) {
+				result.add((T) cachedEntity);
+			}
+			return cachedEntity != null;
+		});
+		if (!missingIdsByKey.isEmpty()) {
+			Set<Bookmark> bookmarksBeforeLoading = currentBookmarks();
+			for (T value : loader.apply(new ArrayList<>(missingIdsByKey.values()))) {
+				Object id = entity.getPropertyAccessor(value).getProperty(entity.getRequiredIdProperty());
+				cache.put(keyOf(mappingContext, entity, id), new CachedEntity(value, bookmarksBeforeLoading));
+				result.add(value);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Invalidates all caches affected by saving or deleting entities of the given type.
+	 *
+	 * @param mappingContext The mapping context containing all entities that might be cached
+	 * @param entity         The saved or deleted entity
+	 * @param ids            The ids of the saved or deleted entities, {@literal null} if all entities of the given type
+	 *                       are affected
+	 */
+	void invalidate(Neo4jMappingContext mappingContext, Neo4jPersistentEntity<?> entity, @Nullable Collection<?> ids) {
+
+		Runnable invalidation = () -> {
+			Set<Class<?>> writtenTypes = getReachableTypes(entity);
+			for (Neo4jPersistentEntity<?> candidate : mappingContext.getPersistentEntities()) {
+				Cache cache = candidate.isRelationshipPropertiesEntity() ? null : getCache(candidate);
+				if (cache == null) {
+					continue;
+				}
+				boolean sameType = candidate.getType().equals(entity.getType());
+				if (sameType && ids != null && getReachableTypes(candidate).size() == 1) {
+					ids.forEach(id -> cache.evict(keyOf(mappingContext, candidate, id)));
+				} else if (sameType || !Collections.disjoint(getReachableTypes(candidate), writtenTypes)) {
+					cache.clear();
+				}
+			}
+		};
+		invalidation.run();
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			PendingInvalidations pendingInvalidations = (PendingInvalidations) TransactionSynchronizationManager.getResource(this);
+			if (pendingInvalidations == null) {
+				pendingInvalidations = new PendingInvalidations();
+				TransactionSynchronizationManager.bindResource(this, pendingInvalidations);
+				TransactionSynchronizationManager.registerSynchronization(new PendingInvalidationsSynchronization(pendingInvalidations));
+			}
+			pendingInvalidations.add(invalidation);
+		}
+	}
+
+	/**
+	 * Creates the key of an entity from its id converted into a driver value, so that ids passed as another type than
+	 * the one of the id property, for example an {@link Integer} instead of a {@link Long}, hit the same entries.
+	 */
+	private static CacheKey keyOf(Neo4jMappingContext mappingContext, Neo4jPersistentEntity<?> entity, Object id) {
+
+		Neo4jPersistentProperty idProperty = entity.getRequiredIdProperty();
+		return new CacheKey(entity.getType(), mappingContext.getConversionService()
+				.writeValue(id, TypeInformation.of(id.getClass()), idProperty.getOptionalConverter()));
+	}
+
+	private boolean isBypassed() {
+		return TransactionSynchronizationManager.isSynchronizationActive() && TransactionSynchronizationManager.hasResource(this);
+	}
+
+	@Nullable
+	private Object lookup(Cache cache, CacheKey key) {
+
+		CachedEntity cachedEntity = cache.get(key, CachedEntity.class);
+		if (cachedEntity == null) {
+			return null;
+		}
+		if (bookmarks != null && !cachedEntity.bookmarks().equals(currentBookmarks())) {
+			cache.evict(key);
+			return null;
+		}
+		return cachedEntity.value();
+	}
+
+	private Set<Bookmark> currentBookmarks() {
+		return bookmarks == null ? Set.of() : Set.copyOf(bookmarks.get());
+	}
+
+	@Nullable
+	private Cache getCache(Neo4jPersistentEntity<?> entity) {
+		return caches.computeIfAbsent(entity.getType(), type -> Optional.ofNullable(createCache(entity))).orElse(null);
+	}
+
+	@Nullable
+	private Cache createCache(Neo4jPersistentEntity<?> entity) {
+
+		Settings settings = configuredTypes.get(entity.getType());
+		if (settings == null) {
+			Cached cached = entity.findAnnotation(Cached.class);
+			if (cached == null) {
+				return null;
+			}
+			settings = new Settings(cached.value().isEmpty() ? entity.getType().getName() : cached.value(),
+					Duration.ofSeconds(cached.timeToLiveSeconds()), cached.maximumSize());
+		}
+
+		if (cacheManager == null) {
+			return new LocalCache(settings);
+		}
+		String name = settings.name();
+		Cache cache = cacheManager.getCache(name);
+		if (cache == null) {
+			log.warn(() -> String.format("No cache named %s is available, entities of type %s are not cached", name, entity.getType().getName()));
+		}
+		return cache;
+	}
+
+	/**
+	 * @return The types of all nodes that may be part of the graph of the given entity, including the entity itself
+	 */
+	private Set<Class<?>> getReachableTypes(NodeDescription<?> entity) {
+
+		return reachableTypes.computeIfAbsent(entity.getUnderlyingClass(), type -> {
+			Set<Class<?>> result = new HashSet<>();
+			Deque<NodeDescription<?>> nodeDescriptions = new ArrayDeque<>();
+			nodeDescriptions.add(entity);
+			while (!nodeDescriptions.isEmpty()) {
+				NodeDescription<?> nodeDescription = nodeDescriptions.poll();
+				if (!result.add(nodeDescription.getUnderlyingClass())) {
+					continue;
+				}
+				nodeDescriptions.addAll(nodeDescription.getChildNodeDescriptionsInHierarchy());
+				nodeDescription.getRelationshipsInHierarchy(path -> true)
+						.forEach(relationship -> nodeDescriptions.add(relationship.getTarget()));
+			}
+			return Set.copyOf(result);
+		});
+	}
+
+	/**
+	 * Builder for an entity cache.
+	 */
+	public static final class Builder {
+
+		@Nullable
+		private CacheManager cacheManager;
+
+		private final Map<Class<?>, Settings> configuredTypes = new HashMap<>();
+
+		@Nullable
+		private Supplier<? extends Collection<Bookmark>> bookmarks;
+
+		private Builder() {
+		}
+
+		/**
+		 * Uses the caches of the given cache manager instead of local ones. Entities are cached only if the cache manager
+		 * provides a cache of the configured name.
+		 *
+		 * @param cacheManager The cache manager to use
+		 * @return This builder
+		 */
+		public Builder withCacheManager(CacheManager cacheManager) {
+
+			Assert.notNull(cacheManager, "The cache manager must not be null");
+			this.cacheManager = cacheManager;
+			return this;
+		}
+
+		/**
+		 * Caches the given entity without expiration and size limit, overriding a {@link Cached @Cached} annotation.
+		 *
+		 * @param type The type of the entity
+		 * @return This builder
+		 */
+		public Builder withCache(Class<?> type) {
+			return withCache(type, type.getName(), Duration.ZERO, 0);
+		}
+
+		/**
+		 * Caches the given entity, overriding a {@link Cached @Cached} annotation.
+		 *
+		 * @param type        The type of the entity
+		 * @param name        The name of the cache
+		 * @param timeToLive  The time after which a cached entity expires, {@link Duration#ZERO} to keep entities until
+		 *                    they are evicted
+		 * @param maximumSize The maximum number of cached entities, {@literal 0} for no limit
+		 * @return This builder
+		 */
+		public Builder withCache(Class<?> type, String name, Duration timeToLive, long maximumSize) {
+
+			Assert.notNull(type, "The type must not be null");
+			Assert.hasText(name, "The name of a cache must not be empty");
+			Assert.isTrue(!(timeToLive.isNegative() || maximumSize < 0), "The time to live and the maximum size must not be negative");
+			this.configuredTypes.put(type, new Settings(name, timeToLive, maximumSize));
+			return this;
+		}
+
+		/**
+		 * Enables the cluster-safe mode, in which cached entities are only used as long as the known bookmarks did not
+		 * change since they have been loaded. Pass the bookmarks of the {@link
+		 * org.springframework.data.neo4j.core.transaction.Neo4jBookmarkManager bookmark manager} used by the
+		 * transaction manager, seeded with the bookmarks of other instances if needed.
+		 *
+		 * @param bookmarks A supplier of the currently known bookmarks
+		 * @return This builder
+		 */
+		public Builder withBookmarks(Supplier<? extends Collection<Bookmark>> bookmarks) {
+
+			Assert.notNull(bookmarks, "The supplier of bookmarks must not be null");
+			this.bookmarks = bookmarks;
+			return this;
+		}
+
+		/**
+		 * @return A new entity cache
+		 */
+		public Neo4jEntityCache build() {
+			return new Neo4jEntityCache(this);
+		}
+	}
+
+	private record Settings(String name, Duration timeToLive, long maximumSize) {
+	}
+
+	private record CacheKey(Class<?> type, Object id) {
+	}
+
+	private record CachedEntity(Object value, Set<Bookmark> bookmarks) {
+	}
+
+	/**
+	 * A local cache, evicting the least recently used entries when reaching its maximum size and expiring entries after
+	 * their time to live. It is guarded by a lock instead of a monitor, so that virtual threads loading values don't pin
+	 * their carrier.
+	 */
+	private static final class LocalCache extends AbstractValueAdaptingCache {
+
+		private final Lock lock = new ReentrantLock();
+
+		private final String name;
+
+		private final long timeToLiveNanos;
+
+		private final Map<Object, Entry> entries;
+
+		LocalCache(Settings settings) {
+			super(false);
+			this.name = settings.name();
+			this.timeToLiveNanos = settings.timeToLive().toNanos();
+			this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+					return settings.maximumSize() > 0 && size() > settings.maximumSize();
+				}
+			};
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public Object getNativeCache() {
+			return entries;
+		}
+
+		@Override
+		@Nullable
+		protected Object lookup(Object key) {
+
+			try {
+				lock.lock();
+				Entry entry = entries.get(key);
+				if (entry == null) {
+					return null;
+				}
+				if (entry.expiresAt() != 0 && entry.expiresAt() - System.nanoTime() <= 0) {
+					entries.remove(key);
+					return null;
+				}
+				return entry.value();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T get(Object key, Callable<T> valueLoader) {
+
+			try {
+				lock.lock();
+				Object value = lookup(key);
+				if (value != null) {
+					return (T) fromStoreValue(value);
+				}
+				T newValue = valueLoader.call();
+				put(key, newValue);
+				return newValue;
+			} catch (Exception e) {
+				throw new ValueRetrievalException(key, valueLoader, e);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public void put(Object key, @Nullable Object value) {
+
+			try {
+				lock.lock();
+				entries.put(key, new Entry(toStoreValue(value), timeToLiveNanos == 0 ? 0 : System.nanoTime() + timeToLiveNanos));
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public void evict(Object key) {
+
+			try {
+				lock.lock();
+				entries.remove(key);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public void clear() {
+
+			try {
+				lock.lock();
+				entries.clear();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private record Entry(Object value, long expiresAt) {
+		}
+	}
+
+	/**
+	 * Invalidations done in the current transaction.
+	 */
+	private static final class PendingInvalidations {
+
+		private final List<Runnable> invalidations = new ArrayList<>();
+
+		void add(Runnable invalidation) {
+			invalidations.add(invalidation);
+		}
+
+		void runAll() {
+			invalidations.forEach(Runnable::run);
+		}
+	}
+
+	private final class PendingInvalidationsSynchronization implements TransactionSynchronization {
+
+		private final PendingInvalidations pendingInvalidations;
+
+		PendingInvalidationsSynchronization(PendingInvalidations pendingInvalidations) {
+			this.pendingInvalidations = pendingInvalidations;
+		}
+
+		@Override
+		public void suspend() {
+			TransactionSynchronizationManager.unbindResourceIfPossible(Neo4jEntityCache.this);
+		}
+
+		@Override
+		public void resume() {
+			TransactionSynchronizationManager.bindResource(Neo4jEntityCache.this, pendingInvalidations);
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+
+			TransactionSynchronizationManager.unbindResourceIfPossible(Neo4jEntityCache.this);
+			pendingInvalidations.runAll();
+		}
+	}
+}
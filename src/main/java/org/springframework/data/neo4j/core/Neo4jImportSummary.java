@@ -0,0 +1,43 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.time.Duration;
+
+import org.apiguardian.api.API;
+
+/**
+ * Summary of a bulk import via {@link Neo4jOperations#importAll(Iterable, int)} or
+ * {@link ReactiveNeo4jOperations#importAll(org.reactivestreams.Publisher, int)}.
+ *
+ * @param entities             Number of entities imported
+ * @param chunks               Number of chunks, each of them committed in its own transaction
+ * @param statements           Number of statements sent to the server
+ * @param nodesCreated         Number of nodes created
+ * @param relationshipsCreated Number of relationships created
+ * @param propertiesSet        Number of properties set
+ * @param duration             Time spent in the import
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public record Neo4jImportSummary(long entities, long chunks, long statements, long nodesCreated,
+		long relationshipsCreated, long propertiesSet, Duration duration) {
+
+	static Neo4jImportSummary of(long entities, long chunks, Neo4jOperationStatistics statistics) {
+		return new Neo4jImportSummary(entities, chunks, statistics.statements(), statistics.nodesCreated(),
+				statistics.relationshipsCreated(), statistics.propertiesSet(), statistics.duration());
+	}
+}
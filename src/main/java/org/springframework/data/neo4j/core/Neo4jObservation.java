@@ -0,0 +1,237 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.docs.ObservationDocumentation;
+import org.apiguardian.api.API;
+
+/**
+ * Documentation of the observations created by the {@link Neo4jClient}, the {@link ReactiveNeo4jClient} and the
+ * {@link Neo4jOperationAccounting}.
+ *
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public enum Neo4jObservation implements ObservationDocumentation {
+
+	/**
+	 * Observation of a single statement, from sending it to the server until its result has been consumed.
+	 */
+	STATEMENT {
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultNeo4jObservationConvention.class;
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return LowCardinalityKeyNames.values();
+		}
+
+		@Override
+		public KeyName[] getHighCardinalityKeyNames() {
+			return HighCardinalityKeyNames.values();
+		}
+	},
+
+	/**
+	 * Observation of a top-level operation accounted by a {@link Neo4jOperationAccounting}, the parent of the statement
+	 * observations of that operation.
+	 */
+	OPERATION {
+		@Override
+		public String getName() {
+			return "spring.data.neo4j.operation";
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return OperationLowCardinalityKeyNames.values();
+		}
+
+		@Override
+		public KeyName[] getHighCardinalityKeyNames() {
+			return OperationHighCardinalityKeyNames.values();
+		}
+	};
+
+	/**
+	 * Keys with a bounded number of values, suitable as tags of metrics.
+	 */
+	public enum LowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * Always {@literal neo4j}.
+		 */
+		DB_SYSTEM {
+			@Override
+			public String asString() {
+				return "db.system";
+			}
+		},
+
+		/**
+		 * The kind of operation of the client, for example {@literal all} or {@literal run}.
+		 */
+		OPERATION {
+			@Override
+			public String asString() {
+				return "db.operation";
+			}
+		},
+
+		/**
+		 * The name of the database the statement ran against, {@literal none} for the default database.
+		 */
+		DATABASE {
+			@Override
+			public String asString() {
+				return "db.name";
+			}
+		},
+
+		/**
+		 * The repository method that issued the statement, if the repository exposes its invocation metadata.
+		 */
+		REPOSITORY_METHOD {
+			@Override
+			public String asString() {
+				return "spring.data.repository.method";
+			}
+		},
+
+		/**
+		 * The type the records are mapped to, if any.
+		 */
+		DOMAIN_TYPE {
+			@Override
+			public String asString() {
+				return "spring.data.neo4j.domain.type";
+			}
+		}
+	}
+
+	/**
+	 * Keys with a potentially unbounded number of values, only suitable for spans.
+	 */
+	public enum HighCardinalityKeyNames implements KeyName {
+
+		/**
+		 * The Cypher statement, without parameters.
+		 */
+		STATEMENT {
+			@Override
+			public String asString() {
+				return "db.statement";
+			}
+		},
+
+		/**
+		 * The number of records streamed from the server.
+		 */
+		RECORDS {
+			@Override
+			public String asString() {
+				return "spring.data.neo4j.records";
+			}
+		},
+
+		/**
+		 * Nanoseconds from sending the statement until the first record or the end of the result arrived.
+		 */
+		ROUND_TRIP_TIME {
+			@Override
+			public String asString() {
+				return "spring.data.neo4j.round-trip.nanos";
+			}
+		},
+
+		/**
+		 * Nanoseconds spent mapping records.
+		 */
+		MAPPING_TIME {
+			@Override
+			public String asString() {
+				return "spring.data.neo4j.mapping.nanos";
+			}
+		},
+
+		/**
+		 * Nanoseconds spent consuming the result and processing its summary.
+		 */
+		CONSUMPTION_TIME {
+			@Override
+			public String asString() {
+				return "spring.data.neo4j.consumption.nanos";
+			}
+		}
+	}
+
+	/**
+	 * Keys of {@link #OPERATION} with a bounded number of values.
+	 */
+	public enum OperationLowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * The name of the operation.
+		 */
+		OPERATION {
+			@Override
+			public String asString() {
+				return "spring.data.neo4j.operation.name";
+			}
+		}
+	}
+
+	/**
+	 * Keys of {@link #OPERATION} with a potentially unbounded number of values.
+	 */
+	public enum OperationHighCardinalityKeyNames implements KeyName {
+
+		/**
+		 * The number of statements sent by the operation.
+		 */
+		STATEMENTS {
+			@Override
+			public String asString() {
+				return "spring.data.neo4j.statements";
+			}
+		},
+
+		/**
+		 * The number of records returned to the operation.
+		 */
+		RECORDS {
+			@Override
+			public String asString() {
+				return "spring.data.neo4j.records";
+			}
+		},
+
+		/**
+		 * The number of nodes and relationships created or deleted by the operation.
+		 */
+		ROWS_WRITTEN {
+			@Override
+			public String asString() {
+				return "spring.data.neo4j.rows-written";
+			}
+		}
+	}
+}
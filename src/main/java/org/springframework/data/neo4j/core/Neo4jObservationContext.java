@@ -0,0 +1,174 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import io.micrometer.observation.Observation;
+import org.apiguardian.api.API;
+import org.springframework.data.repository.core.RepositoryMethodContext;
+import org.springframework.data.repository.core.RepositoryMethodContextHolder;
+import org.springframework.lang.Nullable;
+
+/**
+ * Context of a {@link Neo4jObservation#STATEMENT statement observation}. Besides the data used by the
+ * {@link DefaultNeo4jObservationConvention}, it exposes the number of records and the timings of the individual phases
+ * of a statement, so that custom {@link io.micrometer.observation.ObservationHandler observation handlers} can
+ * record them as dedicated meters. Record count and timings are complete when the observation is stopped.
+ *
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public final class Neo4jObservationContext extends Observation.Context {
+
+	private final String operation;
+
+	private final Supplier<String> cypherSupplier;
+
+	@Nullable
+	private final Class<?> domainType;
+
+	@Nullable
+	private final String repositoryMethod;
+
+	@Nullable
+	private String cypher;
+
+	@Nullable
+	private String databaseName;
+
+	private long records;
+
+	private long roundTripNanos;
+
+	private long mappingNanos;
+
+	private long consumptionNanos;
+
+	Neo4jObservationContext(String operation, Supplier<String> cypherSupplier, @Nullable Class<?> domainType,
+			@Nullable String repositoryMethod) {
+		this.operation = operation;
+		this.cypherSupplier = cypherSupplier;
+		this.domainType = domainType;
+		this.repositoryMethod = repositoryMethod;
+	}
+
+	/**
+	 * @return A description of the repository method currently being invoked on this thread, if the repository exposes
+	 * its invocation metadata
+	 */
+	@Nullable
+	static String currentRepositoryMethod() {
+
+		// The holder throws when asked for a missing context, but returns the previous one when changing it
+		RepositoryMethodContext context = RepositoryMethodContextHolder.setContext(null);
+		if (context == null) {
+			return null;
+		}
+		RepositoryMethodContextHolder.setContext(context);
+		return context.getMetadata().getRepositoryInterface().getSimpleName() + "." + context.getMethod().getName();
+	}
+
+	/**
+	 * @return The kind of operation of the client, for example {@literal all} or {@literal run}
+	 */
+	public String getOperation() {
+		return operation;
+	}
+
+	/**
+	 * @return The Cypher statement, without parameters
+	 */
+	public String getCypher() {
+
+		String value = this.cypher;
+		if (value == null) {
+			value = cypherSupplier.get();
+			this.cypher = value;
+		}
+		return value;
+	}
+
+	/**
+	 * @return The type the records are mapped to, if any
+	 */
+	@Nullable
+	public Class<?> getDomainType() {
+		return domainType;
+	}
+
+	/**
+	 * @return The repository method that issued the statement, if known
+	 */
+	@Nullable
+	public String getRepositoryMethod() {
+		return repositoryMethod;
+	}
+
+	/**
+	 * @return The name of the database the statement ran against, {@literal null} for the default database
+	 */
+	@Nullable
+	public String getDatabaseName() {
+		return databaseName;
+	}
+
+	void setDatabaseName(@Nullable String databaseName) {
+		this.databaseName = databaseName;
+	}
+
+	/**
+	 * @return The number of records streamed from the server
+	 */
+	public long getRecords() {
+		return records;
+	}
+
+	/**
+	 * @return The time from sending the statement until the first record or the end of the result arrived
+	 */
+	public Duration getRoundTripTime() {
+		return Duration.ofNanos(roundTripNanos);
+	}
+
+	/**
+	 * @return The time spent mapping records
+	 */
+	public Duration getMappingTime() {
+		return Duration.ofNanos(mappingNanos);
+	}
+
+	/**
+	 * @return The time spent consuming the result and processing its summary
+	 */
+	public Duration getConsumptionTime() {
+		return Duration.ofNanos(consumptionNanos);
+	}
+
+	void recordRoundTrip(long nanos) {
+		this.roundTripNanos += nanos;
+	}
+
+	void recordMappedRecord(long nanos) {
+		++this.records;
+		this.mappingNanos += nanos;
+	}
+
+	void recordConsumption(long nanos) {
+		this.consumptionNanos += nanos;
+	}
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import org.apiguardian.api.API;
+
+/**
+ * {@link ObservationConvention} for {@link Neo4jObservation#STATEMENT statement observations}.
+ *
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public interface Neo4jObservationConvention extends ObservationConvention<Neo4jObservationContext> {
+
+	@Override
+	default boolean supportsContext(Observation.Context context) {
+		return context instanceof Neo4jObservationContext;
+	}
+}
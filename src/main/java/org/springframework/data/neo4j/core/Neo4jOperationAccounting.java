@@ -0,0 +1,265 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.commons.logging.LogFactory;
+import org.apiguardian.api.API;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.data.neo4j.core.Neo4jObservation.OperationHighCardinalityKeyNames;
+import org.springframework.data.neo4j.core.Neo4jObservation.OperationLowCardinalityKeyNames;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Opt-in accounting of the statements that top-level operations send to the database. An operation is any call wrapped
+ * in {@link #open(String)} or {@link #account(String, Supplier)}, reactive calls are accounted through a
+ * {@link ReactiveNeo4jOperationAccounting}. Repository methods are accounted automatically as
+ * operations named after the repository and the method, when exactly one accounting is registered as a bean.
+ * <p>
+ * All statements that run through a {@link Neo4jClient} or a {@link ReactiveNeo4jClient} while an operation is active
+ * are added to it, including the ones the templates send for related nodes and relationships. Operations started while
+ * another one is active join the outer one, so that only top-level calls are accounted.
+ * <p>
+ * Each finished operation is
+ * <ul>
+ * <li>handed to all registered {@link #addListener(Consumer) listeners},</li>
+ * <li>added to a {@link #getSummaries() summary per operation} and</li>
+ * <li>observed as {@link Neo4jObservation#OPERATION}, if an {@link ObservationRegistry} is configured. The statement
+ * observations of the clients become children of that observation.</li>
+ * </ul>
+ * Lazily consumed results, such as streams, are only accounted as far as they have been consumed when the operation
+ * finishes.
+ *
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public final class Neo4jOperationAccounting {
+
+	private static final LogAccessor log = new LogAccessor(LogFactory.getLog(Neo4jOperationAccounting.class));
+
+	private final ObservationRegistry observationRegistry;
+
+	private final List<Consumer<Neo4jOperationStatistics>> listeners = new CopyOnWriteArrayList<>();
+
+	private final Map<String, Neo4jOperationStatistics.Summary> summaries = new ConcurrentHashMap<>();
+
+	/**
+	 * @return An accounting without observations
+	 */
+	public static Neo4jOperationAccounting create() {
+		return new Neo4jOperationAccounting(ObservationRegistry.NOOP);
+	}
+
+	/**
+	 * @param observationRegistry The registry to observe operations with
+	 * @return An accounting observing each operation
+	 */
+	public static Neo4jOperationAccounting create(ObservationRegistry observationRegistry) {
+
+		Assert.notNull(observationRegistry, "The observation registry must not be null");
+		return new Neo4jOperationAccounting(observationRegistry);
+	}
+
+	private Neo4jOperationAccounting(ObservationRegistry observationRegistry) {
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Adds a listener receiving the statistics of each finished operation, for example to compare them to a budget.
+	 * Listeners are called on the thread finishing the operation and must not block.
+	 *
+	 * @param listener The listener to add
+	 * @return This accounting
+	 */
+	public Neo4jOperationAccounting addListener(Consumer<Neo4jOperationStatistics> listener) {
+
+		Assert.notNull(listener, "The listener must not be null");
+		this.listeners.add(listener);
+		return this;
+	}
+
+	/**
+	 * Opens an operation on the current thread, which must be closed on the same thread. Joins the operation that is
+	 * already active on the current thread, if any.
+	 *
+	 * @param operation The name of the operation
+	 * @return The scope of the operation
+	 */
+	public Scope open(String operation) {
+
+		Assert.hasText(operation, "The name of an operation must not be empty");
+
+		OperationAccount current = OperationAccount.current();
+		if (current != null) {
+			return new JoinedScope(current);
+		}
+		OperationAccount account = new OperationAccount(operation);
+		Observation observation = startObservation(operation, null);
+		Observation.Scope observationScope = observation.isNoop() ? null : observation.openScope();
+		OperationAccount.bind(account);
+		return new TopLevelScope(account, observation, observationScope);
+	}
+
+	/**
+	 * Runs the given call as an operation on the current thread.
+	 *
+	 * @param operation The name of the operation
+	 * @param call      The call to account
+	 * @param <T>       The type of the result
+	 * @return The result of the call
+	 */
+	@Nullable
+	public <T> T account(String operation, Supplier<T> call) {
+
+		Scope scope = open(operation);
+		try {
+			return call.get();
+		} finally {
+			scope.close();
+		}
+	}
+
+	/**
+	 * @return An immutable snapshot of the summaries of all operations finished so far, keyed by operation
+	 */
+	public Map<String, Neo4jOperationStatistics.Summary> getSummaries() {
+		return Map.copyOf(summaries);
+	}
+
+	/**
+	 * @param operation The name of an operation
+	 * @return The summary of all finished calls of the given operation
+	 */
+	public Optional<Neo4jOperationStatistics.Summary> getSummary(String operation) {
+		return Optional.ofNullable(summaries.get(operation));
+	}
+
+	/**
+	 * Clears all summaries.
+	 */
+	public void reset() {
+		summaries.clear();
+	}
+
+	Observation startObservation(String operation, @Nullable Observation parent) {
+
+		Observation observation = Neo4jObservation.OPERATION.observation(observationRegistry)
+				.contextualName(operation)
+				.lowCardinalityKeyValue(OperationLowCardinalityKeyNames.OPERATION.withValue(operation));
+		if (parent != null) {
+			observation.parentObservation(parent);
+		}
+		return observation.start();
+	}
+
+	void finish(OperationAccount account, Observation observation) {
+
+		Neo4jOperationStatistics statistics = account.snapshot();
+		if (!observation.isNoop()) {
+			observation
+					.highCardinalityKeyValue(OperationHighCardinalityKeyNames.STATEMENTS.withValue(Long.toString(statistics.statements())))
+					.highCardinalityKeyValue(OperationHighCardinalityKeyNames.RECORDS.withValue(Long.toString(statistics.recordsReturned())))
+					.highCardinalityKeyValue(OperationHighCardinalityKeyNames.ROWS_WRITTEN.withValue(Long.toString(statistics.rowsWritten())));
+			observation.stop();
+		}
+
+		summaries.merge(statistics.operation(), Neo4jOperationStatistics.Summary.of(statistics),
+				Neo4jOperationStatistics.Summary::add);
+		for (Consumer<Neo4jOperationStatistics> listener : listeners) {
+			try {
+				listener.accept(statistics);
+			} catch (RuntimeException e) {
+				log.warn(e, () -> "Listener failed to process the statistics of " + statistics.operation());
+			}
+		}
+	}
+
+	/**
+	 * The scope of an operation opened on the current thread.
+	 */
+	public interface Scope extends AutoCloseable {
+
+		/**
+		 * @return The statistics of the operation collected so far, including joined operations
+		 */
+		Neo4jOperationStatistics getStatistics();
+
+		/**
+		 * Finishes the operation, unless it joined an outer one.
+		 */
+		@Override
+		void close();
+	}
+
+	private final class TopLevelScope implements Scope {
+
+		private final OperationAccount account;
+
+		private final Observation observation;
+
+		@Nullable
+		private final Observation.Scope observationScope;
+
+		private boolean closed;
+
+		TopLevelScope(OperationAccount account, Observation observation, @Nullable Observation.Scope observationScope) {
+			this.account = account;
+			this.observation = observation;
+			this.observationScope = observationScope;
+		}
+
+		@Override
+		public Neo4jOperationStatistics getStatistics() {
+			return account.snapshot();
+		}
+
+		@Override
+		public void close() {
+
+			if (closed) {
+				return;
+			}
+			closed = true;
+			OperationAccount.bind(null);
+			if (observationScope != null) {
+				observationScope.close();
+			}
+			finish(account, observation);
+		}
+	}
+
+	private record JoinedScope(OperationAccount account) implements Scope {
+
+		@Override
+		public Neo4jOperationStatistics getStatistics() {
+			return account.snapshot();
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
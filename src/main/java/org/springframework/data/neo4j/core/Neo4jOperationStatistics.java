@@ -0,0 +1,81 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.time.Duration;
+
+import org.apiguardian.api.API;
+
+/**
+ * Statistics of a single top-level operation accounted by {@link Neo4jOperationAccounting}.
+ *
+ * @param operation            The name of the operation
+ * @param statements           Number of statements sent to the server, each being at least one round trip
+ * @param recordsReturned      Number of records returned by all statements
+ * @param nodesCreated         Number of nodes created
+ * @param nodesDeleted         Number of nodes deleted
+ * @param relationshipsCreated Number of relationships created
+ * @param relationshipsDeleted Number of relationships deleted
+ * @param propertiesSet        Number of properties set
+ * @param duration             Time spent in the operation
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public record Neo4jOperationStatistics(String operation, long statements, long recordsReturned, long nodesCreated,
+		long nodesDeleted, long relationshipsCreated, long relationshipsDeleted, long propertiesSet, Duration duration) {
+
+	/**
+	 * @return The number of nodes and relationships created or deleted
+	 */
+	public long rowsWritten() {
+		return nodesCreated + nodesDeleted + relationshipsCreated + relationshipsDeleted;
+	}
+
+	/**
+	 * Aggregated statistics of all calls of one operation.
+	 *
+	 * @param operation       The name of the operation
+	 * @param calls           Number of calls
+	 * @param statements      Number of statements sent by all calls
+	 * @param maxStatements   Highest number of statements sent by a single call
+	 * @param recordsReturned Number of records returned to all calls
+	 * @param rowsWritten     Number of nodes and relationships created or deleted by all calls
+	 * @param duration        Time spent in all calls
+	 * @param maxDuration     Longest time spent in a single call
+	 */
+	public record Summary(String operation, long calls, long statements, long maxStatements, long recordsReturned,
+			long rowsWritten, Duration duration, Duration maxDuration) {
+
+		static Summary of(Neo4jOperationStatistics statistics) {
+			return new Summary(statistics.operation(), 1, statistics.statements(), statistics.statements(),
+					statistics.recordsReturned(), statistics.rowsWritten(), statistics.duration(), statistics.duration());
+		}
+
+		Summary add(Summary other) {
+			return new Summary(operation, calls + other.calls, statements + other.statements,
+					Math.max(maxStatements, other.maxStatements), recordsReturned + other.recordsReturned,
+					rowsWritten + other.rowsWritten, duration.plus(other.duration),
+					maxDuration.compareTo(other.maxDuration) >= 0 ? maxDuration : other.maxDuration);
+		}
+
+		/**
+		 * @return The average number of statements sent per call
+		 */
+		public double averageStatements() {
+			return calls == 0 ? 0.0 : statements / (double) calls;
+		}
+	}
+}
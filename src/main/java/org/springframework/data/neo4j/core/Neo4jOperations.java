@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiPredicate;
+import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
 import org.neo4j.cypherdsl.core.Statement;
@@ -264,6 +265,42 @@ public interface Neo4jOperations {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Imports a potentially large number of entities. The instances are saved in chunks of {@code chunkSize}, each chunk
+	 * like {@link #saveAll(Iterable)} and in a new transaction that is committed before the next chunk is read, so that
+	 * only one chunk is held in memory. Entities with assigned ids are written with one {@code UNWIND} statement per
+	 * chunk and type. The saved instances are not returned, no snapshots are taken of them and each chunk drops all
+	 * snapshots and cached entities of the imported types.
+	 * <p>
+	 * A failing chunk is rolled back and ends the import, all chunks before it stay committed. An ongoing transaction is
+	 * suspended during the import.
+	 *
+	 * @param instances the instances to be imported. Must not be {@code null}.
+	 * @param chunkSize the number of instances per chunk and transaction, must be greater than zero
+	 * @param <T> the type of the entity.
+	 * @return a summary of the import
+	 * @since 7.4
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+	default <T> Neo4jImportSummary importAll(Iterable<T> instances, int chunkSize) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Imports the instances of a stream as described in {@link #importAll(Iterable, int)}. The stream is consumed lazily
+	 * but not closed.
+	 *
+	 * @param instances the instances to be imported. Must not be {@code null}.
+	 * @param chunkSize the number of instances per chunk and transaction, must be greater than zero
+	 * @param <T> the type of the entity.
+	 * @return a summary of the import
+	 * @since 7.4
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+	default <T> Neo4jImportSummary importAll(Stream<T> instances, int chunkSize) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * Deletes a single entity including all entities related to that entity.
 	 *
@@ -336,5 +373,23 @@ public interface Neo4jOperations {
 		 * @throws NoResultException when there is no result
 		 */
 		T getRequiredSingleResult();
+
+		/**
+		 * Executes the query and maps the results lazily while the returned stream is consumed. The stream must be
+		 * closed after use. It participates in an ongoing transaction and must be consumed before that transaction
+		 * ends. Otherwise it opens a transaction bound to the calling thread, which is committed when the stream is
+		 * closed.
+		 * <p>
+		 * Results that are aggregated from lists or paths returned by a custom query are deduplicated like the ones of
+		 * {@link #getResults()}, so all of them are kept until the stream is closed. Other results are mapped and
+		 * released one record at a time. The default implementation streams over {@link #getResults()} and is
+		 * therefore not lazy.
+		 *
+		 * @return A stream of results that must be closed after use
+		 * @since 7.4
+		 */
+		default Stream<T> stream() {
+			return getResults().stream();
+		}
 	}
 }
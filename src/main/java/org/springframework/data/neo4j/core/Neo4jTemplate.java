@@ -15,16 +15,16 @@
  */
 package org.springframework.data.neo4j.core;
 
-import static org.neo4j.cypherdsl.core.Cypher.anyNode;
 import static org.neo4j.cypherdsl.core.Cypher.asterisk;
 import static org.neo4j.cypherdsl.core.Cypher.parameter;
 
-import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -33,10 +33,10 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
-import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.logging.LogFactory;
 import org.apiguardian.api.API;
@@ -44,10 +44,10 @@ import org.neo4j.cypherdsl.core.Condition;
 import org.neo4j.cypherdsl.core.Cypher;
 import org.neo4j.cypherdsl.core.FunctionInvocation;
 import org.neo4j.cypherdsl.core.Named;
-import org.neo4j.cypherdsl.core.Node;
 import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.cypherdsl.core.renderer.Configuration;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.neo4j.driver.Record;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
@@ -62,7 +62,6 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.core.log.LogAccessor;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.mapping.callback.EntityCallbacks;
@@ -88,7 +87,6 @@ import org.springframework.data.neo4j.core.mapping.PropertyFilter;
 import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
 import org.springframework.data.neo4j.core.mapping.SpringDataCypherDsl;
 import org.springframework.data.neo4j.core.mapping.callback.EventSupport;
-import org.springframework.data.neo4j.core.schema.TargetNode;
 import org.springframework.data.neo4j.core.transaction.Neo4jTransactionManager;
 import org.springframework.data.neo4j.repository.NoResultException;
 import org.springframework.data.neo4j.repository.query.QueryFragments;
@@ -97,10 +95,10 @@ import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.ProjectionInformation;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.util.TypeInformation;
-import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 
@@ -129,6 +127,13 @@ public final class Neo4jTemplate implements
 		}
 	};
 
+	private static final TransactionDefinition newTransactionDefinition = new TransactionDefinition() {
+		@Override
+		public int getPropagationBehavior() {
+			return PROPAGATION_REQUIRES_NEW;
+		}
+	};
+
 	private final Neo4jClient neo4jClient;
 
 	private final Neo4jMappingContext neo4jMappingContext;
@@ -143,12 +148,22 @@ public final class Neo4jTemplate implements
 
 	private Renderer renderer;
 
+	private RenderedStatementCache renderedStatementCache;
+
 	private Function<Named, FunctionInvocation> elementIdOrIdFunction;
 
 	private TransactionTemplate transactionTemplate;
 
 	private TransactionTemplate transactionTemplateReadOnly;
 
+	private TransactionTemplate transactionTemplateNew;
+
+	@Nullable
+	private EntitySnapshots entitySnapshots;
+
+	@Nullable
+	private Neo4jEntityCache entityCache;
+
 	public Neo4jTemplate(Neo4jClient neo4jClient) {
 		this(neo4jClient, new Neo4jMappingContext());
 	}
@@ -177,6 +192,7 @@ public final class Neo4jTemplate implements
 		this.cypherGenerator = CypherGenerator.INSTANCE;
 		this.eventSupport = EventSupport.useExistingCallbacks(neo4jMappingContext, entityCallbacks);
 		this.renderer = Renderer.getDefaultRenderer();
+		this.renderedStatementCache = new RenderedStatementCache(this.renderer, this.cypherGenerator);
 		this.elementIdOrIdFunction = SpringDataCypherDsl.elementIdOrIdFunction.apply(null);
 		setTransactionManager(platformTransactionManager);
 	}
@@ -335,6 +351,15 @@ public final class Neo4jTemplate implements
 
 	@Override
 	public <T> Optional<T> findById(Object id, Class<T> domainType) {
+
+		Neo4jEntityCache cache = entityCache;
+		if (cache != null) {
+			return cache.findById(neo4jMappingContext, neo4jMappingContext.getRequiredPersistentEntity(domainType), id, () -> findByIdImpl(id, domainType));
+		}
+		return findByIdImpl(id, domainType);
+	}
+
+	private <T> Optional<T> findByIdImpl(Object id, Class<T> domainType) {
 		return transactionTemplateReadOnly
 				.execute(tx -> {
 					Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainType);
@@ -348,6 +373,15 @@ public final class Neo4jTemplate implements
 
 	@Override
 	public <T> List<T> findAllById(Iterable<?> ids, Class<T> domainType) {
+
+		Neo4jEntityCache cache = entityCache;
+		if (cache != null) {
+			return cache.findAllById(neo4jMappingContext, neo4jMappingContext.getRequiredPersistentEntity(domainType), ids, missingIds -> findAllByIdImpl(missingIds, domainType));
+		}
+		return findAllByIdImpl(ids, domainType);
+	}
+
+	private <T> List<T> findAllByIdImpl(Iterable<?> ids, Class<T> domainType) {
 		return transactionTemplateReadOnly
 				.execute(tx -> {
 					Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainType);
@@ -379,7 +413,7 @@ public final class Neo4jTemplate implements
 	public <T> T save(T instance) {
 
 		return transactionTemplate
-				.execute(tx -> saveImpl(instance, Collections.emptySet(), null));
+				.execute(tx -> saveImpl(instance, Collections.emptySet(), null, null));
 
 	}
 
@@ -390,7 +424,7 @@ public final class Neo4jTemplate implements
 			return null;
 		}
 		return transactionTemplate
-				.execute(tx -> saveImpl(instance, TemplateSupport.computeIncludedPropertiesFromPredicate(this.neo4jMappingContext, instance.getClass(), includeProperty), null));
+				.execute(tx -> saveImpl(instance, TemplateSupport.computeIncludedPropertiesFromPredicate(this.neo4jMappingContext, instance.getClass(), includeProperty), null, null));
 	}
 
 	@Override
@@ -413,7 +447,7 @@ public final class Neo4jTemplate implements
 					Collection<PropertyFilter.ProjectedPath> pps = PropertyFilterSupport.addPropertiesFrom(instance.getClass(), resultType,
 							localProjectionFactory, neo4jMappingContext);
 
-					T savedInstance = saveImpl(instance, pps, null);
+					T savedInstance = saveImpl(instance, pps, null, null);
 					if (!resultType.isInterface()) {
 						@SuppressWarnings("unchecked") R result = (R) new DtoInstantiatingConverter(resultType, neo4jMappingContext).convertDirectly(savedInstance);
 						return result;
@@ -430,7 +464,7 @@ public final class Neo4jTemplate implements
 				});
 	}
 
-	private <T> T saveImpl(T instance, @Nullable Collection<PropertyFilter.ProjectedPath> includedProperties, @Nullable NestedRelationshipProcessingStateMachine stateMachine) {
+	private <T> T saveImpl(T instance, @Nullable Collection<PropertyFilter.ProjectedPath> includedProperties, @Nullable NestedRelationshipProcessingStateMachine stateMachine, @Nullable RelationshipBatch relationshipBatch) {
 
 		if (stateMachine != null && stateMachine.hasProcessedValue(instance)) {
 			return instance;
@@ -448,44 +482,120 @@ public final class Neo4jTemplate implements
 				includedProperties, entityMetaData,
 				neo4jMappingContext.getRequiredBinderFunctionFor((Class<T>) entityToBeSaved.getClass())
 		);
-		Optional<Entity> newOrUpdatedNode = neo4jClient
-				.query(() -> renderer.render(cypherGenerator.prepareSaveOf(entityMetaData, dynamicLabels, TemplateSupport.rendererRendersElementId(renderer))))
-				.bind(entityToBeSaved)
-				.with(binderFunction)
-				.fetchAs(Entity.class)
-				.one();
-
-		if (newOrUpdatedNode.isEmpty()) {
-			if (entityMetaData.hasVersionProperty()) {
-				throw new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE);
+		EntitySnapshots.EntitySnapshot snapshot = isEntityNew ? null : getSnapshot(entityMetaData, entityToBeSaved);
+		Map<String, Object> parameters = snapshot == null ? null : binderFunction.apply(entityToBeSaved);
+		PersistentPropertyAccessor<T> propertyAccessor = entityMetaData.getPropertyAccessor(entityToBeSaved);
+		Object elementId;
+		if (parameters != null && !snapshot.retainChangedProperties(parameters) && !entityMetaData.hasVersionProperty()) {
+			// Nothing to write, the node itself is known from the snapshot
+			elementId = snapshot.internalId();
+		} else {
+			Neo4jClient.RunnableSpec saveQuery = neo4jClient
+					.query(() -> renderedStatementCache.get(RenderedStatementCache.Kind.SAVE, entityMetaData, dynamicLabels));
+			Optional<Entity> newOrUpdatedNode = (parameters == null ? saveQuery.bind(entityToBeSaved).with(binderFunction) : saveQuery.bindAll(parameters))
+					.fetchAs(Entity.class)
+					.one();
+
+			if (newOrUpdatedNode.isEmpty()) {
+				if (entityMetaData.hasVersionProperty()) {
+					throw new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE);
+				}
+				// defensive exception throwing
+				throw new IllegalStateException("Could not retrieve an internal id while saving");
 			}
-			// defensive exception throwing
-			throw new IllegalStateException("Could not retrieve an internal id while saving");
-		}
 
-		Object elementId = newOrUpdatedNode.map(node -> {
-			if (!entityMetaData.isUsingDeprecatedInternalId() && TemplateSupport.rendererRendersElementId(renderer)) {
-				return IdentitySupport.getElementId(node);
-			}
-			return node.id();
-		}).get();
+			elementId = newOrUpdatedNode.map(node -> {
+				if (!entityMetaData.isUsingDeprecatedInternalId() && renderedStatementCache.canUseElementId()) {
+					return IdentitySupport.getElementId(node);
+				}
+				return node.id();
+			}).get();
 
-		PersistentPropertyAccessor<T> propertyAccessor = entityMetaData.getPropertyAccessor(entityToBeSaved);
-		TemplateSupport.setGeneratedIdIfNecessary(entityMetaData, propertyAccessor, elementId, newOrUpdatedNode);
-		TemplateSupport.updateVersionPropertyIfPossible(entityMetaData, propertyAccessor, newOrUpdatedNode.get());
+			TemplateSupport.setGeneratedIdIfNecessary(entityMetaData, propertyAccessor, elementId, newOrUpdatedNode);
+			TemplateSupport.updateVersionPropertyIfPossible(entityMetaData, propertyAccessor, newOrUpdatedNode.get());
+		}
 
 		if (stateMachine == null) {
 			stateMachine = new NestedRelationshipProcessingStateMachine(neo4jMappingContext, instance, elementId);
 		}
 
 		stateMachine.markEntityAsProcessed(instance, elementId);
-		processRelations(entityMetaData, propertyAccessor, isEntityNew, stateMachine, binderFunction.filter);
+		if (relationshipBatch == null) {
+			// Relationship writes that don't return anything needed are deferred until the whole graph has been saved
+			RelationshipBatch batchOfThisSave = new RelationshipBatch();
+			processRelations(entityMetaData, propertyAccessor, isEntityNew, stateMachine, binderFunction.filter, batchOfThisSave);
+			batchOfThisSave.flush(neo4jClient, renderedStatementCache);
+		} else {
+			processRelations(entityMetaData, propertyAccessor, isEntityNew, stateMachine, binderFunction.filter, relationshipBatch);
+		}
 
 		T bean = propertyAccessor.getBean();
 		stateMachine.markAsAliased(instance, bean);
+		if (relationshipBatch == null) {
+			takeSnapshotsOfSavedEntities(List.of(bean), stateMachine, binderFunction.filter);
+			invalidateCachedEntities(List.of(bean));
+		}
 		return bean;
 	}
 
+	private void evictAllSnapshots() {
+		EntitySnapshots snapshots = entitySnapshots;
+		if (snapshots != null) {
+			snapshots.evictAll();
+		}
+	}
+
+	@Nullable
+	private EntitySnapshots.EntitySnapshot getSnapshot(Neo4jPersistentEntity<?> entityMetaData, Object entity) {
+		EntitySnapshots snapshots = entitySnapshots;
+		return snapshots == null ? null : snapshots.get(entityMetaData, entity);
+	}
+
+	/**
+	 * Takes snapshots of the saved entities after all their relationships have been written, or removes them after a
+	 * save that has been restricted to some properties only.
+	 */
+	private void takeSnapshotsOfSavedEntities(List<?> savedEntities, NestedRelationshipProcessingStateMachine stateMachine, PropertyFilter includeProperty) {
+
+		EntitySnapshots snapshots = entitySnapshots;
+		if (snapshots == null) {
+			return;
+		}
+		if (!includeProperty.isNotFiltering()) {
+			snapshots.evict(savedEntities);
+			return;
+		}
+		snapshots.registerSaved(savedEntities, bean -> {
+			Neo4jPersistentEntity<?> entity = neo4jMappingContext.getRequiredPersistentEntity(bean.getClass());
+			return entity.isUsingInternalIds()
+					? entity.getPropertyAccessor(bean).getProperty(entity.getRequiredIdProperty())
+					: stateMachine.getObjectId(bean);
+		}, renderedStatementCache.canUseElementId());
+	}
+
+	private void invalidateCachedEntities(List<?> savedEntities) {
+
+		Neo4jEntityCache cache = entityCache;
+		if (cache == null) {
+			return;
+		}
+		Map<Class<?>, List<Object>> idsByType = new LinkedHashMap<>();
+		for (Object bean : savedEntities) {
+			Neo4jPersistentEntity<?> entity = neo4jMappingContext.getRequiredPersistentEntity(bean.getClass());
+			idsByType.computeIfAbsent(bean.getClass(), type -> new ArrayList<>())
+					.add(entity.getPropertyAccessor(bean).getProperty(entity.getRequiredIdProperty()));
+		}
+		idsByType.forEach((type, ids) -> cache.invalidate(neo4jMappingContext, neo4jMappingContext.getRequiredPersistentEntity(type), ids));
+	}
+
+	private void invalidateCachedEntities(Neo4jPersistentEntity<?> entityMetaData, @Nullable Collection<?> ids) {
+
+		Neo4jEntityCache cache = entityCache;
+		if (cache != null) {
+			cache.invalidate(neo4jMappingContext, entityMetaData, ids);
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> DynamicLabels determineDynamicLabels(T entityToBeSaved, Neo4jPersistentEntity<?> entityMetaData) {
 		return entityMetaData.getDynamicLabelsProperty().map(p -> {
@@ -493,7 +603,7 @@ public final class Neo4jTemplate implements
 			PersistentPropertyAccessor<T> propertyAccessor = entityMetaData.getPropertyAccessor(entityToBeSaved);
 			Neo4jPersistentProperty idProperty = entityMetaData.getRequiredIdProperty();
 			Neo4jClient.RunnableSpec runnableQuery = neo4jClient
-					.query(() -> renderer.render(cypherGenerator.createStatementReturningDynamicLabels(entityMetaData)))
+					.query(() -> renderedStatementCache.get(RenderedStatementCache.Kind.DYNAMIC_LABELS, entityMetaData))
 					.bind(convertIdValues(idProperty, propertyAccessor.getProperty(idProperty)))
 					.to(Constants.NAME_OF_ID).bind(entityMetaData.getStaticLabels())
 					.to(Constants.NAME_OF_STATIC_LABELS_PARAM);
@@ -516,14 +626,120 @@ public final class Neo4jTemplate implements
 				.execute(tx -> saveAllImpl(instances, Collections.emptySet(), null));
 	}
 
-	private boolean requiresSingleStatements(boolean heterogeneousCollection, Neo4jPersistentEntity<?> entityMetaData) {
-		return heterogeneousCollection
-				|| entityMetaData.isUsingInternalIds()
-				|| entityMetaData.hasVersionProperty()
-				|| entityMetaData.getDynamicLabelsProperty().isPresent();
+	@Override
+	public <T> Neo4jImportSummary importAll(Iterable<T> instances, int chunkSize) {
+		return importAll(instances.iterator(), chunkSize);
+	}
+
+	@Override
+	public <T> Neo4jImportSummary importAll(Stream<T> instances, int chunkSize) {
+		return importAll(instances.iterator(), chunkSize);
+	}
+
+	private <T> Neo4jImportSummary importAll(Iterator<T> instances, int chunkSize) {
+
+		Assert.isTrue(chunkSize > 0, "The chunk size must be greater than zero");
+
+		// The chunks are accounted on their own and added to an enclosing operation afterwards
+		OperationAccount account = new OperationAccount("importAll");
+		OperationAccount previousAccount = OperationAccount.bind(account);
+		long entities = 0;
+		long chunks = 0;
+		try {
+			List<T> chunk = new ArrayList<>(chunkSize);
+			while (instances.hasNext()) {
+				chunk.add(instances.next());
+				if (chunk.size() == chunkSize || !instances.hasNext()) {
+					List<T> instancesInChunk = chunk;
+					transactionTemplateNew.executeWithoutResult(tx -> saveAllImpl(instancesInChunk, Collections.emptySet(), null, false));
+					entities += chunk.size();
+					++chunks;
+					chunk = new ArrayList<>(chunkSize);
+				}
+			}
+		} finally {
+			OperationAccount.bind(previousAccount);
+			if (previousAccount != null) {
+				previousAccount.add(account.snapshot());
+			}
+		}
+		return Neo4jImportSummary.of(entities, chunks, account.snapshot());
+	}
+
+	private boolean requiresSingleStatements(boolean heterogeneousCollection, Neo4jPersistentEntity<?> entityMetaData, List<?> entities) {
+
+		if (heterogeneousCollection || entityMetaData.isUsingInternalIds()) {
+			return true;
+		}
+
+		// The multi-instance save matches rows by a single id property
+		Neo4jPersistentProperty idProperty = entityMetaData.getRequiredIdProperty();
+		if (idProperty.isComposite()) {
+			return true;
+		}
+
+		// Optimistic locking of a batch is checked by comparing the returned ids with the ones passed, which requires
+		// unique, unconverted ids. Otherwise, the entities are saved one after another as before.
+		if (entityMetaData.hasVersionProperty()) {
+			if (idProperty.getOptionalConverter() != null) {
+				return true;
+			}
+			Set<Object> ids = new HashSet<>();
+			// Missing ids are generated before binding and therefore unique
+			return !entities.stream().map(e -> entityMetaData.getPropertyAccessor(e).getProperty(idProperty))
+					.filter(Objects::nonNull).allMatch(ids::add);
+		}
+		return false;
+	}
+
+	/**
+	 * Determines the dynamic labels of many entities at once, instead of one query per entity.
+	 *
+	 * @param entities       The entities to save
+	 * @param entityMetaData The shared meta data of all entities
+	 * @return The dynamic labels of each entity, in the same order as the entities
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> List<DynamicLabels> determineDynamicLabelsOfMultipleInstances(List<T> entities, Neo4jPersistentEntity<?> entityMetaData) {
+
+		Optional<Neo4jPersistentProperty> dynamicLabelsProperty = entityMetaData.getDynamicLabelsProperty();
+		if (dynamicLabelsProperty.isEmpty()) {
+			return Collections.nCopies(entities.size(), DynamicLabels.EMPTY);
+		}
+
+		Neo4jPersistentProperty idProperty = entityMetaData.getRequiredIdProperty();
+		List<Object> ids = entities.stream()
+				.map(entity -> convertIdValues(idProperty, entityMetaData.getPropertyAccessor(entity).getProperty(idProperty)))
+				.collect(Collectors.toList());
+
+		Map<Value, Collection<String>> existingLabels = new HashMap<>();
+		neo4jClient
+				.query(() -> renderedStatementCache.get(RenderedStatementCache.Kind.DYNAMIC_LABELS_ALL, entityMetaData))
+				.bind(ids).to(Constants.NAME_OF_IDS)
+				.bind(entityMetaData.getStaticLabels()).to(Constants.NAME_OF_STATIC_LABELS_PARAM)
+				.fetchAs(MapAccessor.class)
+				.mappedBy((t, r) -> r)
+				.all()
+				.forEach(r -> existingLabels.put(r.get(Constants.NAME_OF_ID), r.get(Constants.NAME_OF_LABELS).asList(Value::asString)));
+
+		List<DynamicLabels> result = new ArrayList<>(entities.size());
+		for (int i = 0; i < entities.size(); ++i) {
+			Collection<String> newLabels = (Collection<String>) entityMetaData.getPropertyAccessor(entities.get(i)).getProperty(dynamicLabelsProperty.get());
+			result.add(new DynamicLabels(entityMetaData, existingLabels.getOrDefault(ids.get(i), Collections.emptyList()), newLabels));
+		}
+		return result;
 	}
 
 	private <T> List<T> saveAllImpl(Iterable<T> instances, @Nullable Collection<PropertyFilter.ProjectedPath> includedProperties, @Nullable BiPredicate<PropertyPath, Neo4jPersistentProperty> includeProperty) {
+		return saveAllImpl(instances, includedProperties, includeProperty, true);
+	}
+
+	/**
+	 * @param trackSavedEntities {@literal false} if the saved entities are not used afterwards, as during an import. No
+	 *                           snapshots are taken of them and all snapshots and cached entities of the saved type are
+	 *                           dropped instead of being updated entity by entity.
+	 */
+	private <T> List<T> saveAllImpl(Iterable<T> instances, @Nullable Collection<PropertyFilter.ProjectedPath> includedProperties, @Nullable BiPredicate<PropertyPath, Neo4jPersistentProperty> includeProperty, boolean trackSavedEntities) {
 
 		Set<Class<?>> types = new HashSet<>();
 		List<T> entities = new ArrayList<>();
@@ -546,11 +762,15 @@ public final class Neo4jTemplate implements
 
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainClass);
 
-		if (requiresSingleStatements(heterogeneousCollection, entityMetaData)) {
+		if (requiresSingleStatements(heterogeneousCollection, entityMetaData, entities)) {
 			log.debug("Saving entities using single statements.");
 
 			NestedRelationshipProcessingStateMachine stateMachine = new NestedRelationshipProcessingStateMachine(neo4jMappingContext);
-			return entities.stream().map(e -> saveImpl(e, pps, stateMachine)).collect(Collectors.toList());
+			RelationshipBatch relationshipBatch = new RelationshipBatch();
+			List<T> savedEntities = entities.stream().map(e -> saveImpl(e, pps, stateMachine, relationshipBatch)).collect(Collectors.toList());
+			relationshipBatch.flush(neo4jClient, renderedStatementCache);
+			afterSaveAll(savedEntities, stateMachine, TemplateSupport.computeIncludePropertyPredicate(pps, entityMetaData), trackSavedEntities);
+			return savedEntities;
 		}
 
 		class Tuple3<T> {
@@ -569,31 +789,65 @@ public final class Neo4jTemplate implements
 				.map(e -> new Tuple3<>(e, entityMetaData.isNew(e), eventSupport.maybeCallBeforeBind(e)))
 				.collect(Collectors.toList());
 
-		// Save roots
+		// Save roots, grouped by their dynamic labels, as labels cannot be parameterized per row
 		@SuppressWarnings("unchecked") // We can safely assume here that we have a humongous collection with only one single type being either T or extending it
 		Function<T, Map<String, Object>> binderFunction = neo4jMappingContext.getRequiredBinderFunctionFor((Class<T>) domainClass);
 		binderFunction = TemplateSupport.createAndApplyPropertyFilter(pps, entityMetaData, binderFunction);
-		List<Map<String, Object>> entityList = entitiesToBeSaved.stream().map(h -> h.modifiedInstance).map(binderFunction)
-				.collect(Collectors.toList());
-		Map<Value, String> idToInternalIdMapping = neo4jClient
-				.query(() -> renderer.render(cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData)))
+		List<T> modifiedInstances = entitiesToBeSaved.stream().map(h -> h.modifiedInstance).collect(Collectors.toList());
+		List<DynamicLabels> dynamicLabels = determineDynamicLabelsOfMultipleInstances(modifiedInstances, entityMetaData);
+		Map<DynamicLabels, List<Map<String, Object>>> entityListsByDynamicLabels = new LinkedHashMap<>();
+		for (int i = 0; i < modifiedInstances.size(); ++i) {
+			entityListsByDynamicLabels.computeIfAbsent(dynamicLabels.get(i), k -> new ArrayList<>())
+					.add(binderFunction.apply(modifiedInstances.get(i)));
+		}
+
+		Map<Value, MapAccessor> savedRows = new HashMap<>();
+		entityListsByDynamicLabels.forEach((labels, entityList) -> neo4jClient
+				.query(() -> renderedStatementCache.get(RenderedStatementCache.Kind.SAVE_ALL, entityMetaData, labels))
 				.bind(entityList).to(Constants.NAME_OF_ENTITY_LIST_PARAM)
-				.fetchAs(Map.Entry.class)
-				.mappedBy((t, r) -> new AbstractMap.SimpleEntry<>(r.get(Constants.NAME_OF_ID), TemplateSupport.convertIdOrElementIdToString(r.get(Constants.NAME_OF_ELEMENT_ID))))
+				.fetchAs(MapAccessor.class)
+				.mappedBy((t, r) -> r)
 				.all()
-				.stream()
-				.collect(Collectors.toMap(m -> (Value) m.getKey(), m -> (String) m.getValue()));
+				.forEach(r -> savedRows.put(r.get(Constants.NAME_OF_ID), r)));
+
+		Neo4jPersistentProperty idProperty = entityMetaData.getRequiredIdProperty();
+		if (entityMetaData.hasVersionProperty() && savedRows.size() < entitiesToBeSaved.size()) {
+			List<Object> idsOfFailedRows = modifiedInstances.stream()
+					.map(e -> entityMetaData.getPropertyAccessor(e).getProperty(idProperty))
+					.filter(id -> !savedRows.containsKey(convertIdValues(idProperty, id)))
+					.collect(Collectors.toList());
+			throw new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE + " Failed ids: " + idsOfFailedRows);
+		}
 
-		// Save related
+		// Save related, simple relationships of all roots are collected and written in batches per relationship afterwards
 		var stateMachine = new NestedRelationshipProcessingStateMachine(neo4jMappingContext, null, null);
-		return entitiesToBeSaved.stream().map(t -> {
+		var relationshipBatch = new RelationshipBatch();
+		List<T> savedEntities = entitiesToBeSaved.stream().map(t -> {
 			PersistentPropertyAccessor<T> propertyAccessor = entityMetaData.getPropertyAccessor(t.modifiedInstance);
-			Neo4jPersistentProperty idProperty = entityMetaData.getRequiredIdProperty();
-			Object id = convertIdValues(idProperty, propertyAccessor.getProperty(idProperty));
-			String internalId = idToInternalIdMapping.get(id);
+			MapAccessor savedRow = savedRows.get(convertIdValues(idProperty, propertyAccessor.getProperty(idProperty)));
+			if (entityMetaData.hasVersionProperty()) {
+				propertyAccessor.setProperty(entityMetaData.getRequiredVersionProperty(), savedRow.get(Constants.NAME_OF_VERSION_PARAM).asLong());
+			}
+			String internalId = TemplateSupport.convertIdOrElementIdToString(savedRow.get(Constants.NAME_OF_ELEMENT_ID));
 			stateMachine.registerInitialObject(t.originalInstance, internalId);
-			return this.<T>processRelations(entityMetaData, propertyAccessor, t.wasNew, stateMachine, TemplateSupport.computeIncludePropertyPredicate(pps, entityMetaData));
+			return this.<T>processRelations(entityMetaData, propertyAccessor, t.wasNew, stateMachine, TemplateSupport.computeIncludePropertyPredicate(pps, entityMetaData), relationshipBatch);
 		}).collect(Collectors.toList());
+		relationshipBatch.flush(neo4jClient, renderedStatementCache);
+		afterSaveAll(savedEntities, stateMachine, TemplateSupport.computeIncludePropertyPredicate(pps, entityMetaData), trackSavedEntities);
+		return savedEntities;
+	}
+
+	private void afterSaveAll(List<?> savedEntities, NestedRelationshipProcessingStateMachine stateMachine, PropertyFilter includeProperty, boolean trackSavedEntities) {
+
+		if (trackSavedEntities) {
+			takeSnapshotsOfSavedEntities(savedEntities, stateMachine, includeProperty);
+			invalidateCachedEntities(savedEntities);
+			return;
+		}
+
+		evictAllSnapshots();
+		savedEntities.stream().map(Object::getClass).distinct()
+				.forEach(type -> invalidateCachedEntities(neo4jMappingContext.getRequiredPersistentEntity(type), null));
 	}
 
 	@Override
@@ -661,18 +915,16 @@ public final class Neo4jTemplate implements
 				.executeWithoutResult(tx -> {
 
 					Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainType);
-					String nameOfParameter = "id";
-					Condition condition = entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter));
-
 					log.debug(() -> String.format("Deleting entity with id %s ", id));
 
-					Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
-					ResultSummary summary = this.neo4jClient.query(renderer.render(statement))
+					ResultSummary summary = this.neo4jClient.query(renderedStatementCache.get(RenderedStatementCache.Kind.DELETE_BY_ID, entityMetaData))
 							.bind(convertIdValues(entityMetaData.getRequiredIdProperty(), id))
-							.to(nameOfParameter).run();
+							.to(RenderedStatementCache.NAME_OF_ID_PARAM).run();
 
 					log.debug(() -> String.format("Deleted %d nodes and %d relationships.", summary.counters().nodesDeleted(),
 							summary.counters().relationshipsDeleted()));
+					evictAllSnapshots();
+					invalidateCachedEntities(entityMetaData, List.of(id));
 				});
 	}
 
@@ -712,18 +964,18 @@ public final class Neo4jTemplate implements
 				.executeWithoutResult(tx -> {
 
 					Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainType);
-					String nameOfParameter = "ids";
-					Condition condition = entityMetaData.getIdExpression().in(parameter(nameOfParameter));
-
 					log.debug(() -> String.format("Deleting all entities with the following ids: %s ", ids));
 
-					Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
-					ResultSummary summary = this.neo4jClient.query(renderer.render(statement))
+					ResultSummary summary = this.neo4jClient.query(renderedStatementCache.get(RenderedStatementCache.Kind.DELETE_ALL_BY_ID, entityMetaData))
 							.bind(convertIdValues(entityMetaData.getRequiredIdProperty(), ids))
-							.to(nameOfParameter).run();
+							.to(RenderedStatementCache.NAME_OF_IDS_PARAM).run();
 
 					log.debug(() -> String.format("Deleted %d nodes and %d relationships.", summary.counters().nodesDeleted(),
 							summary.counters().relationshipsDeleted()));
+					evictAllSnapshots();
+					List<Object> deletedIds = new ArrayList<>();
+					ids.forEach(deletedIds::add);
+					invalidateCachedEntities(entityMetaData, deletedIds);
 				});
 	}
 
@@ -736,11 +988,12 @@ public final class Neo4jTemplate implements
 					Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainType);
 					log.debug(() -> String.format("Deleting all nodes with primary label %s", entityMetaData.getPrimaryLabel()));
 
-					Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData);
-					ResultSummary summary = this.neo4jClient.query(renderer.render(statement)).run();
+					ResultSummary summary = this.neo4jClient.query(renderedStatementCache.get(RenderedStatementCache.Kind.DELETE_ALL, entityMetaData)).run();
 
 					log.debug(() -> String.format("Deleted %d nodes and %d relationships.", summary.counters().nodesDeleted(),
 							summary.counters().relationshipsDeleted()));
+					evictAllSnapshots();
+					invalidateCachedEntities(entityMetaData, null);
 				});
 	}
 
@@ -779,6 +1032,7 @@ public final class Neo4jTemplate implements
 	 * @param isParentObjectNew      A flag if the parent was new
 	 * @param stateMachine           Initial state of entity processing
 	 * @param includeProperty        A predicate telling to include a relationship property or not
+	 * @param relationshipBatch      An optional batch collecting simple relationships to be written later on
 	 * @param <T>                    The type of the object being initially processed
 	 * @return The owner of the relations being processed
 	 */
@@ -787,12 +1041,13 @@ public final class Neo4jTemplate implements
 			PersistentPropertyAccessor<?> parentPropertyAccessor,
 			boolean isParentObjectNew,
 			NestedRelationshipProcessingStateMachine stateMachine,
-			PropertyFilter includeProperty
+			PropertyFilter includeProperty,
+			@Nullable RelationshipBatch relationshipBatch
 	) {
 
 		PropertyFilter.RelaxedPropertyPath startingPropertyPath = PropertyFilter.RelaxedPropertyPath.withRootType(neo4jPersistentEntity.getUnderlyingClass());
 		return processNestedRelations(neo4jPersistentEntity, parentPropertyAccessor, isParentObjectNew,
-				stateMachine, includeProperty, startingPropertyPath);
+				stateMachine, includeProperty, startingPropertyPath, relationshipBatch);
 	}
 
 	private <T> T processNestedRelations(
@@ -801,10 +1056,12 @@ public final class Neo4jTemplate implements
 			boolean isParentObjectNew,
 			NestedRelationshipProcessingStateMachine stateMachine,
 			PropertyFilter includeProperty,
-			PropertyFilter.RelaxedPropertyPath previousPath
+			PropertyFilter.RelaxedPropertyPath previousPath,
+			@Nullable RelationshipBatch relationshipBatch
 	) {
 
 		Object fromId = propertyAccessor.getProperty(sourceEntity.getRequiredIdProperty());
+		EntitySnapshots.EntitySnapshot sourceSnapshot = isParentObjectNew ? null : getSnapshot(sourceEntity, propertyAccessor.getBean());
 
 		AssociationHandlerSupport.of(sourceEntity).doWithAssociations(association -> {
 
@@ -839,11 +1096,15 @@ public final class Neo4jTemplate implements
 				return;
 			}
 
+			// Tracked relationships are only changed as far as they differ from their snapshot
+			EntitySnapshots.RelationshipSnapshot relationshipSnapshot = sourceSnapshot == null ? null : sourceSnapshot.getRelationship(relationshipDescription);
+
 			// Remove all relationships before creating all new if the entity is not new and the relationship
 			// has not been processed before.
 			// This avoids the usage of cache but might have significant impact on overall performance
-			boolean canUseElementId = TemplateSupport.rendererRendersElementId(renderer);
-			if (!isParentObjectNew && !stateMachine.hasProcessedRelationship(fromId, relationshipDescription)) {
+			boolean canUseElementId = renderedStatementCache.canUseElementId();
+			boolean removeRelationships = !isParentObjectNew && !stateMachine.hasProcessedRelationship(fromId, relationshipDescription);
+			if (removeRelationships) {
 
 				List<Object> knownRelationshipsIds = new ArrayList<>();
 				if (idProperty != null) {
@@ -859,18 +1120,30 @@ public final class Neo4jTemplate implements
 					}
 				}
 
-				Statement relationshipRemoveQuery = cypherGenerator.prepareDeleteOf(sourceEntity, relationshipDescription, canUseElementId);
-
-				neo4jClient.query(renderer.render(relationshipRemoveQuery))
-						.bind(convertIdValues(sourceEntity.getIdProperty(), fromId)) //
-							.to(Constants.FROM_ID_PARAMETER_NAME) //
-						.bind(knownRelationshipsIds) //
-							.to(Constants.NAME_OF_KNOWN_RELATIONSHIPS_PARAM) //
-						.run();
+				// With a snapshot, removed targets of relationships without properties are known only after all related
+				// nodes have been processed, and relationships with properties only need to be removed if a known one is gone
+				boolean removalsPossible = relationshipSnapshot == null
+						|| (relationshipDescription.hasRelationshipProperties()
+							&& !knownRelationshipsIds.containsAll(relationshipSnapshot.relationshipsWithProperties().keySet()));
+				if (removalsPossible) {
+					if (relationshipBatch != null && RelationshipBatch.supports(relationshipDescription)) {
+						relationshipBatch.addRemoval(sourceEntity, relationshipDescription, convertIdValues(sourceEntity.getIdProperty(), fromId));
+					} else {
+						neo4jClient.query(renderedStatementCache.get(RenderedStatementCache.Kind.DELETE_RELATIONSHIPS, sourceEntity, relationshipDescription))
+								.bind(convertIdValues(sourceEntity.getIdProperty(), fromId)) //
+									.to(Constants.FROM_ID_PARAMETER_NAME) //
+								.bind(knownRelationshipsIds) //
+									.to(Constants.NAME_OF_KNOWN_RELATIONSHIPS_PARAM) //
+								.run();
+					}
+				}
 			}
 
 			// nothing to do because there is nothing to map
 			if (relationshipContext.inverseValueIsEmpty()) {
+				if (removeRelationships && relationshipSnapshot != null && !relationshipDescription.hasRelationshipProperties()) {
+					removeRelationshipsBetween(sourceEntity, relationshipDescription, fromId, relationshipSnapshot.targets(), relationshipBatch);
+				}
 				return;
 			}
 
@@ -884,6 +1157,7 @@ public final class Neo4jTemplate implements
 			List<Map<String, Object>> newRelationshipPropertiesRows = new ArrayList<>();
 			List<Object> updateRelatedValuesToStore = new ArrayList<>();
 			List<Object> newRelatedValuesToStore = new ArrayList<>();
+			Set<Object> currentTargets = new HashSet<>();
 
 			for (Object relatedValueToStore : relatedValuesToStore) {
 
@@ -902,14 +1176,19 @@ public final class Neo4jTemplate implements
 				if (stateMachine.hasProcessedValue(relatedValueToStore)) {
 					relatedInternalId = stateMachine.getObjectId(relatedValueToStore);
 				} else {
+					EntitySnapshots.EntitySnapshot targetSnapshot = isNewEntity ? null : getSnapshot(targetEntity, newRelatedObject);
 					if (isNewEntity || relationshipDescription.cascadeUpdates()) {
-						savedEntity = saveRelatedNode(newRelatedObject, targetEntity, includeProperty, currentPropertyPath);
-					} else {
+						savedEntity = saveRelatedNode(newRelatedObject, targetEntity, includeProperty, currentPropertyPath, targetSnapshot);
+					} else if (targetSnapshot == null) {
 						var targetPropertyAccessor = targetEntity.getPropertyAccessor(newRelatedObject);
 						var requiredIdProperty = targetEntity.getRequiredIdProperty();
 						savedEntity = loadRelatedNode(targetEntity, targetPropertyAccessor.getProperty(requiredIdProperty));
 					}
-					relatedInternalId = TemplateSupport.rendererCanUseElementIdIfPresent(renderer, targetEntity) ? savedEntity.elementId() : savedEntity.id();
+					if (savedEntity == null) {
+						relatedInternalId = targetSnapshot.internalId();
+					} else {
+						relatedInternalId = TemplateSupport.rendererCanUseElementIdIfPresent(renderer, targetEntity) ? savedEntity.elementId() : savedEntity.id();
+					}
 					stateMachine.markEntityAsProcessed(relatedValueToStore, relatedInternalId);
 					if (relatedValueToStore instanceof MappingSupport.RelationshipPropertiesWithEntityHolder) {
 						Object entity = ((MappingSupport.RelationshipPropertiesWithEntityHolder) relatedValueToStore).getRelatedEntity();
@@ -927,6 +1206,10 @@ public final class Neo4jTemplate implements
 				stateMachine.markAsAliased(relatedObjectBeforeCallbacksApplied, targetPropertyAccessor.getBean());
 				stateMachine.markRelationshipAsProcessed(possibleInternalLongId == null ? relatedInternalId : possibleInternalLongId,
 						relationshipDescription.getRelationshipObverse());
+				Object target = relationshipSnapshot == null ? null : EntitySnapshots.normalizeInternalId(targetEntity, relatedInternalId, canUseElementId);
+				if (target != null) {
+					currentTargets.add(target);
+				}
 
 				Object idValue = idProperty != null
 						? relationshipContext
@@ -981,18 +1264,22 @@ public final class Neo4jTemplate implements
 					newRelationshipPropertiesRows.add(properties);
 					newRelatedValuesToStore.add(relatedValueToStore);
 				} else if (relationshipDescription.hasRelationshipProperties()) {
+					Map<String, Object> writtenProperties = new HashMap<>();
 					neo4jMappingContext.getEntityConverter().write(
 							((MappingSupport.RelationshipPropertiesWithEntityHolder) relatedValueToStore).getRelationshipProperties(),
-							properties);
+							writtenProperties);
+					properties.putAll(writtenProperties);
 
-					relationshipPropertiesRows.add(properties);
-				} else {
+					if (relationshipSnapshot == null || !relationshipSnapshot.isUnchanged(idValue, target, writtenProperties)) {
+						relationshipPropertiesRows.add(properties);
+					}
+				} else if (relationshipSnapshot == null || !relationshipSnapshot.targets().contains(target)) {
 					// non-dynamic relationship or relationship with properties
 					plainRelationshipRows.add(properties);
 				}
 
 				if (processState != ProcessState.PROCESSED_ALL_VALUES) {
-					processNestedRelations(targetEntity, targetPropertyAccessor, isNewEntity, stateMachine, includeProperty, currentPropertyPath);
+					processNestedRelations(targetEntity, targetPropertyAccessor, isNewEntity, stateMachine, includeProperty, currentPropertyPath, relationshipBatch);
 				}
 
 				Object potentiallyRecreatedNewRelatedObject = MappingSupport.getRelationshipOrRelationshipPropertiesObject(neo4jMappingContext,
@@ -1002,16 +1289,23 @@ public final class Neo4jTemplate implements
 								targetPropertyAccessor);
 				relationshipHandler.handle(relatedValueToStore, relatedObjectBeforeCallbacksApplied, potentiallyRecreatedNewRelatedObject);
 			}
+			if (removeRelationships && relationshipSnapshot != null && !relationshipDescription.hasRelationshipProperties()) {
+				List<Object> removedTargets = relationshipSnapshot.targets().stream().filter(t -> !currentTargets.contains(t)).toList();
+				removeRelationshipsBetween(sourceEntity, relationshipDescription, fromId, removedTargets, relationshipBatch);
+			}
 			// batch operations
 			if (!(relationshipDescription.hasRelationshipProperties() || relationshipDescription.isDynamic() || plainRelationshipRows.isEmpty())) {
-				CreateRelationshipStatementHolder statementHolder = neo4jMappingContext.createStatementForImperativeSimpleRelationshipBatch(
-						sourceEntity, relationshipDescription, plainRelationshipRows, canUseElementId);
-				statementHolder = statementHolder.addProperty(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM, plainRelationshipRows);
-				neo4jClient.query(renderer.render(statementHolder.getStatement()))
-						.bindAll(statementHolder.getProperties())
-						.run();
+				if (relationshipBatch != null) {
+					relationshipBatch.addCreation(sourceEntity, relationshipDescription, plainRelationshipRows);
+				} else {
+					neo4jClient.query(renderedStatementCache.get(RenderedStatementCache.Kind.SAVE_RELATIONSHIPS, sourceEntity, relationshipDescription))
+							.bind(plainRelationshipRows).to(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM)
+							.run();
+				}
 			} else if (relationshipDescription.hasRelationshipProperties()) {
-				if (!relationshipPropertiesRows.isEmpty()) {
+				if (!relationshipPropertiesRows.isEmpty() && relationshipBatch != null) {
+					relationshipBatch.addUpdate(sourceEntity, relationshipDescription, relationshipPropertiesRows);
+				} else if (!relationshipPropertiesRows.isEmpty()) {
 					CreateRelationshipStatementHolder statementHolder = neo4jMappingContext.createStatementForImperativeRelationshipsWithPropertiesBatch(false,
 							sourceEntity, relationshipDescription, updateRelatedValuesToStore, relationshipPropertiesRows, canUseElementId);
 					statementHolder = statementHolder.addProperty(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM, relationshipPropertiesRows);
@@ -1044,7 +1338,33 @@ public final class Neo4jTemplate implements
 		return finalSubgraphRoot;
 	}
 
-	// The pendant to {@link #saveRelatedNode(Object, NodeDescription, PropertyFilter, PropertyFilter.RelaxedPropertyPath)}
+	/**
+	 * Removes the relationships from a source node to the given targets only, used for tracked relationships.
+	 */
+	private void removeRelationshipsBetween(Neo4jPersistentEntity<?> sourceEntity, RelationshipDescription relationshipDescription,
+			Object fromId, Collection<Object> targets, @Nullable RelationshipBatch relationshipBatch) {
+
+		if (targets.isEmpty()) {
+			return;
+		}
+		Object convertedFromId = convertIdValues(sourceEntity.getRequiredIdProperty(), fromId);
+		List<Object> rows = new ArrayList<>(targets.size());
+		for (Object target : targets) {
+			Map<String, Object> row = new HashMap<>();
+			row.put(Constants.FROM_ID_PARAMETER_NAME, convertedFromId);
+			row.put(Constants.TO_ID_PARAMETER_NAME, target);
+			rows.add(row);
+		}
+		if (relationshipBatch != null) {
+			relationshipBatch.addRemovalBetween(sourceEntity, relationshipDescription, rows);
+		} else {
+			neo4jClient.query(renderedStatementCache.get(RenderedStatementCache.Kind.DELETE_RELATIONSHIPS_BETWEEN, sourceEntity, relationshipDescription))
+					.bind(rows).to(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM)
+					.run();
+		}
+	}
+
+	// The pendant to {@link #saveRelatedNode(Object, NodeDescription, PropertyFilter, PropertyFilter.RelaxedPropertyPath, EntitySnapshots.EntitySnapshot)}
 	// We can't do without a query, as we need to refresh the internal id
 	private Entity loadRelatedNode(NodeDescription<?> targetNodeDescription, Object relatedInternalId) {
 
@@ -1072,7 +1392,12 @@ public final class Neo4jTemplate implements
 				.setProperty(idProperty, relationshipInternalId);
 	}
 
-	private Entity saveRelatedNode(Object entity, NodeDescription<?> targetNodeDescription, PropertyFilter includeProperty, PropertyFilter.RelaxedPropertyPath currentPropertyPath) {
+	/**
+	 * @return The saved node or {@literal null} if the node did not change since its snapshot has been taken
+	 */
+	@Nullable
+	private Entity saveRelatedNode(Object entity, NodeDescription<?> targetNodeDescription, PropertyFilter includeProperty,
+			PropertyFilter.RelaxedPropertyPath currentPropertyPath, @Nullable EntitySnapshots.EntitySnapshot snapshot) {
 
 		Neo4jPersistentEntity<?> targetPersistentEntity = (Neo4jPersistentEntity<?>) targetNodeDescription;
 		DynamicLabels dynamicLabels = determineDynamicLabels(entity, targetPersistentEntity);
@@ -1096,9 +1421,13 @@ public final class Neo4jTemplate implements
 			}
 			return tree;
 		});
+		Map<String, Object> parameters = binderFunction.apply(entity);
+		if (snapshot != null && !snapshot.retainChangedProperties(parameters) && !targetPersistentEntity.hasVersionProperty()) {
+			return null;
+		}
 		Optional<Entity> optionalSavedNode = neo4jClient
-				.query(() -> renderer.render(cypherGenerator.prepareSaveOf(targetNodeDescription, dynamicLabels, TemplateSupport.rendererRendersElementId(renderer))))
-				.bind(entity).with(binderFunction)
+				.query(() -> renderedStatementCache.get(RenderedStatementCache.Kind.SAVE, targetNodeDescription, dynamicLabels))
+				.bindAll(parameters)
 				.fetchAs(Entity.class)
 				.one();
 
@@ -1120,6 +1449,9 @@ public final class Neo4jTemplate implements
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 
 		this.eventSupport = EventSupport.discoverCallbacks(neo4jMappingContext, beanFactory);
+		if (this.entityCache == null) {
+			this.entityCache = beanFactory.getBeanProvider(Neo4jEntityCache.class).getIfUnique();
+		}
 
 		SpelAwareProxyProjectionFactory spelAwareProxyProjectionFactory = new SpelAwareProxyProjectionFactory();
 		spelAwareProxyProjectionFactory.setBeanClassLoader(beanClassLoader);
@@ -1132,6 +1464,7 @@ public final class Neo4jTemplate implements
 		this.renderer = Renderer.getRenderer(cypherDslConfiguration);
 		this.elementIdOrIdFunction = SpringDataCypherDsl.elementIdOrIdFunction.apply(cypherDslConfiguration.getDialect());
 		this.cypherGenerator.setElementIdOrIdFunction(elementIdOrIdFunction);
+		this.renderedStatementCache = new RenderedStatementCache(this.renderer, this.cypherGenerator);
 
 		if (this.transactionTemplate != null && this.transactionTemplateReadOnly != null) {
 			return;
@@ -1154,6 +1487,7 @@ public final class Neo4jTemplate implements
 	// only used for the CDI configuration
 	public void setCypherRenderer(Renderer rendererFromCdiConfiguration) {
 		this.renderer = rendererFromCdiConfiguration;
+		this.renderedStatementCache = new RenderedStatementCache(this.renderer, this.cypherGenerator);
 	}
 
 	public void setTransactionManager(@Nullable PlatformTransactionManager transactionManager) {
@@ -1162,6 +1496,37 @@ public final class Neo4jTemplate implements
 		}
 		this.transactionTemplate = new TransactionTemplate(transactionManager);
 		this.transactionTemplateReadOnly = new TransactionTemplate(transactionManager, readOnlyTransactionDefinition);
+		this.transactionTemplateNew = new TransactionTemplate(transactionManager, newTransactionDefinition);
+	}
+
+	/**
+	 * Enables or disables change tracking. With change tracking enabled, the template takes a snapshot of all entities it
+	 * loads or saves. Saving an entity that has a snapshot writes only its changed properties and the added and removed
+	 * relationships instead of rewriting all properties and recreating all relationships. Related nodes that did not
+	 * change are not written at all.
+	 * <p>
+	 * Snapshots are only correct as long as the tracked nodes are modified solely through this template, hence change
+	 * tracking should only be enabled for applications that are the only writer of the loaded aggregates. Relationships
+	 * that exist in the database but have not been loaded are retained. Entities with a version property are always
+	 * written, so that optimistic locking still applies. Disabling change tracking drops all snapshots.
+	 *
+	 * @param changeTracking {@literal true} to enable change tracking
+	 * @since 7.4
+	 */
+	public void setChangeTracking(boolean changeTracking) {
+		this.entitySnapshots = changeTracking ? new EntitySnapshots(neo4jMappingContext) : null;
+	}
+
+	/**
+	 * Answers lookups by id of cacheable entities from the given entity cache and invalidates it on every save and
+	 * delete through this template. If no entity cache has been set, a unique {@link Neo4jEntityCache} bean is used.
+	 *
+	 * @param entityCache The entity cache to use, {@literal null} to disable caching
+	 * @since 7.4
+	 * @see Neo4jEntityCache
+	 */
+	public void setEntityCache(@Nullable Neo4jEntityCache entityCache) {
+		this.entityCache = entityCache;
 	}
 
 	@Override
@@ -1210,17 +1575,24 @@ public final class Neo4jTemplate implements
 							getProjectionFactory(), neo4jMappingContext);
 
 					NestedRelationshipProcessingStateMachine stateMachine = new NestedRelationshipProcessingStateMachine(neo4jMappingContext);
+					RelationshipBatch relationshipBatch = new RelationshipBatch();
 					List<R> results = new ArrayList<>();
+					List<T> savedEntities = new ArrayList<>();
 					EntityFromDtoInstantiatingConverter<T> converter = new EntityFromDtoInstantiatingConverter<>(domainType, neo4jMappingContext);
 					for (R instance : instances) {
 						T domainObject = converter.convert(instance);
 
-						T savedEntity = saveImpl(domainObject, pps, stateMachine);
+						T savedEntity = saveImpl(domainObject, pps, stateMachine, relationshipBatch);
+						savedEntities.add(savedEntity);
 
 						@SuppressWarnings("unchecked")
 						R convertedBack = (R) new DtoInstantiatingConverter(resultType, neo4jMappingContext).convertDirectly(savedEntity);
 						results.add(convertedBack);
 					}
+					relationshipBatch.flush(neo4jClient, renderedStatementCache);
+					takeSnapshotsOfSavedEntities(savedEntities, stateMachine,
+							TemplateSupport.computeIncludePropertyPredicate(pps, neo4jMappingContext.getRequiredPersistentEntity(domainType)));
+					invalidateCachedEntities(savedEntities);
 					return results;
 				});
 	}
@@ -1237,11 +1609,12 @@ public final class Neo4jTemplate implements
 		public List<T> getResults() {
 			return transactionTemplate
 					.execute(tx -> {
-						Collection<T> all = createFetchSpec().map(Neo4jClient.RecordFetchSpec::all).orElse(Collections.emptyList());
+						EntitySnapshots.LoadedNodes loadedNodes = newLoadedNodes();
+						Collection<T> all = createFetchSpec(loadedNodes).map(Neo4jClient.RecordFetchSpec::all).orElse(Collections.emptyList());
 						if (preparedQuery.resultsHaveBeenAggregated()) {
-							return all.stream().flatMap(nested -> ((Collection<T>) nested).stream()).distinct().collect(Collectors.toList());
+							return register(all.stream().flatMap(nested -> ((Collection<T>) nested).stream()).distinct().collect(Collectors.toList()), loadedNodes);
 						}
-						return all.stream().collect(Collectors.toList());
+						return register(all.stream().collect(Collectors.toList()), loadedNodes);
 					});
 		}
 
@@ -1249,10 +1622,12 @@ public final class Neo4jTemplate implements
 		public Optional<T> getSingleResult() {
 			return transactionTemplate.execute(tx -> {
 				try {
-					Optional<T> one = createFetchSpec().flatMap(Neo4jClient.RecordFetchSpec::one);
+					EntitySnapshots.LoadedNodes loadedNodes = newLoadedNodes();
+					Optional<T> one = createFetchSpec(loadedNodes).flatMap(Neo4jClient.RecordFetchSpec::one);
 					if (preparedQuery.resultsHaveBeenAggregated()) {
-						return one.map(aggregatedResults -> ((LinkedHashSet<T>) aggregatedResults).iterator().next());
+						one = one.map(aggregatedResults -> ((LinkedHashSet<T>) aggregatedResults).iterator().next());
 					}
+					one.ifPresent(result -> register(List.of(result), loadedNodes));
 					return one;
 				} catch (NoSuchRecordException e) {
 					// This exception is thrown by the driver in both cases when there are 0 or 1+n records
@@ -1265,15 +1640,66 @@ public final class Neo4jTemplate implements
 		@SuppressWarnings("unchecked")
 		public T getRequiredSingleResult() {
 			return transactionTemplate.execute(tx -> {
-				Optional<T> one = createFetchSpec().flatMap(Neo4jClient.RecordFetchSpec::one);
+				EntitySnapshots.LoadedNodes loadedNodes = newLoadedNodes();
+				Optional<T> one = createFetchSpec(loadedNodes).flatMap(Neo4jClient.RecordFetchSpec::one);
 				if (preparedQuery.resultsHaveBeenAggregated()) {
 					one = one.map(aggregatedResults -> ((LinkedHashSet<T>) aggregatedResults).iterator().next());
 				}
-				return one.orElseThrow(() -> new NoResultException(1, preparedQuery.getQueryFragmentsAndParameters().getCypherQuery()));
+				T result = one.orElseThrow(() -> new NoResultException(1, preparedQuery.getQueryFragmentsAndParameters().getCypherQuery()));
+				register(List.of(result), loadedNodes);
+				return result;
 			});
 		}
 
-		private Optional<Neo4jClient.RecordFetchSpec<T>> createFetchSpec() {
+		@Override
+		@SuppressWarnings("unchecked")
+		public Stream<T> stream() {
+
+			// The transaction spans the consumption of the stream and is completed when the stream is closed
+			PlatformTransactionManager transactionManager = transactionTemplate.getTransactionManager();
+			TransactionStatus transaction = transactionManager.getTransaction(transactionTemplate);
+			try {
+				EntitySnapshots.LoadedNodes loadedNodes = newLoadedNodes();
+				Stream<T> all = createFetchSpec(loadedNodes).map(Neo4jClient.RecordFetchSpec::stream).orElseGet(Stream::empty);
+				// Whether the results are aggregated is only known after the first record has been mapped.
+				Set<T> aggregatedResults = new HashSet<>();
+				return all
+						.flatMap(value -> {
+							List<T> results = preparedQuery.resultsHaveBeenAggregated()
+									? ((Collection<T>) value).stream().filter(aggregatedResults::add).toList()
+									: Collections.singletonList(value);
+							if (loadedNodes != null) {
+								// Snapshots are taken per record, so that the nodes of earlier records can be released
+								register(results, loadedNodes);
+								loadedNodes.clear();
+							}
+							return results.stream();
+						})
+						.onClose(() -> transactionManager.commit(transaction));
+			} catch (RuntimeException | Error e) {
+				transactionManager.rollback(transaction);
+				throw e;
+			}
+		}
+
+		@Nullable
+		private EntitySnapshots.LoadedNodes newLoadedNodes() {
+			EntitySnapshots snapshots = entitySnapshots;
+			return snapshots == null ? null : snapshots.newLoadedNodes();
+		}
+
+		private <R extends Collection<?>> R register(R results, @Nullable EntitySnapshots.LoadedNodes loadedNodes) {
+			if (loadedNodes != null) {
+				loadedNodes.register(results, renderedStatementCache.canUseElementId());
+			}
+			return results;
+		}
+
+		/**
+		 * @param loadedNodes An optional collector for the nodes of all records, used for change tracking
+		 * @return A fetch spec for the prepared query or an empty optional if there is nothing to fetch
+		 */
+		private Optional<Neo4jClient.RecordFetchSpec<T>> createFetchSpec(@Nullable EntitySnapshots.LoadedNodes loadedNodes) {
 			QueryFragmentsAndParameters queryFragmentsAndParameters = preparedQuery.getQueryFragmentsAndParameters();
 			String cypherQuery = queryFragmentsAndParameters.getCypherQuery();
 			Map<String, Object> finalParameters = queryFragmentsAndParameters.getParameters();
@@ -1303,12 +1729,22 @@ public final class Neo4jTemplate implements
 			Neo4jClient.MappingSpec<T> newMappingSpec = neo4jClient.query(cypherQuery)
 					.bindAll(finalParameters).fetchAs(preparedQuery.getResultType());
 			return Optional.of(preparedQuery.getOptionalMappingFunction()
+					.map(mappingFunction -> loadedNodes == null ? mappingFunction : (BiFunction<TypeSystem, Record, T>) (typeSystem, record) -> {
+						loadedNodes.collect(record);
+						return mappingFunction.apply(typeSystem, record);
+					})
 					.map(newMappingSpec::mappedBy).orElse(newMappingSpec));
 		}
 
 		private NodesAndRelationshipsByIdStatementProvider createNodesAndRelationshipsByIdStatementProvider(Neo4jPersistentEntity<?> entityMetaData,
 						   QueryFragments queryFragments, Map<String, Object> parameters) {
 
+			Optional<Collection<RelationshipDescription>> reachableRelationships =
+					TemplateSupport.getRelationshipsForSingleQuerySubgraphLoading(entityMetaData, queryFragments);
+			if (reachableRelationships.isPresent()) {
+				return createNodesAndRelationshipsByIdStatementProviderWithSingleQuery(entityMetaData, reachableRelationships.get(), queryFragments, parameters);
+			}
+
 			// first check if the root node(s) exist(s) at all
 			Statement rootNodesStatement = cypherGenerator
 					.prepareMatchOf(entityMetaData, queryFragments.getMatchOn(), queryFragments.getCondition())
@@ -1329,100 +1765,38 @@ public final class Neo4jTemplate implements
 				// fast return if no matching root node(s) are found
 				return NodesAndRelationshipsByIdStatementProvider.EMPTY;
 			}
-			// load first level relationships
-			final Map<String, Set<String>> relationshipsToRelatedNodeIds = new HashMap<>();
-
-			for (RelationshipDescription relationshipDescription : entityMetaData.getRelationshipsInHierarchy(queryFragments::includeField)) {
-
-				Statement statement = cypherGenerator
-						.prepareMatchOf(entityMetaData, relationshipDescription, queryFragments.getMatchOn(), queryFragments.getCondition())
-						.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData)).build();
-
-				usedParameters = new HashMap<>(parameters);
-				usedParameters.putAll(statement.getCatalog().getParameters());
-				neo4jClient.query(renderer.render(statement))
-						.bindAll(usedParameters)
-						.fetch()
-						.one()
-						.ifPresent(iterateAndMapNextLevel(relationshipsToRelatedNodeIds, relationshipDescription, PropertyPathWalkStep.empty()));
+
+			// load all related nodes and relationships level by level
+			BreadthFirstExpansion expansion = new BreadthFirstExpansion(entityMetaData, queryFragments,
+					preparedQuery.getResultType(), cypherGenerator, elementIdOrIdFunction);
+			while (expansion.hasNextLevel()) {
+				BreadthFirstExpansion.Level level = expansion.nextLevel(parameters);
+				expansion.processLevel(neo4jClient.query(renderer.render(level.statement()))
+						.bindAll(level.parameters())
+						.fetchAs(MapAccessor.class)
+						.mappedBy((t, r) -> r)
+						.all());
 			}
 
-			return new NodesAndRelationshipsByIdStatementProvider(rootNodeIds, relationshipsToRelatedNodeIds.keySet(), relationshipsToRelatedNodeIds.values().stream().flatMap(Collection::stream).toList(), queryFragments, elementIdOrIdFunction);
+			return expansion.toStatementProvider(rootNodeIds);
 		}
 
-		private void iterateNextLevel(Collection<String> nodeIds, RelationshipDescription sourceRelationshipDescription,
-									  Map<String, Set<String>> relationshipsToRelatedNodes, PropertyPathWalkStep currentPathStep) {
-
-			Neo4jPersistentEntity<?> target = (Neo4jPersistentEntity<?>) sourceRelationshipDescription.getTarget();
-
-			@SuppressWarnings("unchecked")
-			String fieldName = ((Association<Neo4jPersistentProperty>) sourceRelationshipDescription).getInverse().getFieldName();
-			PropertyPathWalkStep nextPathStep = currentPathStep.with((sourceRelationshipDescription.hasRelationshipProperties() ?
-					fieldName + "." + ((Neo4jPersistentEntity<?>) sourceRelationshipDescription.getRelationshipPropertiesEntity())
-							.getPersistentProperty(TargetNode.class).getFieldName() : fieldName));
-
-
-			Collection<RelationshipDescription> relationships = target
-					.getRelationshipsInHierarchy(
-							relaxedPropertyPath -> {
-
-								PropertyFilter.RelaxedPropertyPath prepend = relaxedPropertyPath.prepend(nextPathStep.path);
-								prepend = PropertyFilter.RelaxedPropertyPath.withRootType(preparedQuery.getResultType()).append(prepend.toDotPath());
-								return preparedQuery.getQueryFragmentsAndParameters().getQueryFragments().includeField(prepend);
-							}
-					);
+		private NodesAndRelationshipsByIdStatementProvider createNodesAndRelationshipsByIdStatementProviderWithSingleQuery(
+				Neo4jPersistentEntity<?> entityMetaData, Collection<RelationshipDescription> reachableRelationships,
+				QueryFragments queryFragments, Map<String, Object> parameters) {
 
-			for (RelationshipDescription relationshipDescription : relationships) {
+			Statement statement = cypherGenerator.prepareMatchOfReachableSubgraph(entityMetaData, reachableRelationships,
+					queryFragments.getMatchOn(), queryFragments.getCondition());
 
-				Node node = anyNode(Constants.NAME_OF_TYPED_ROOT_NODE.apply(target));
-
-				Statement statement = cypherGenerator
-						.prepareMatchOf(target, relationshipDescription, null,
-								elementIdOrIdFunction.apply(node).in(Cypher.parameter(Constants.NAME_OF_IDS)))
-						.returning(cypherGenerator.createGenericReturnStatement()).build();
-
-				neo4jClient.query(renderer.render(statement))
-						.bindAll(Collections.singletonMap(Constants.NAME_OF_IDS, TemplateSupport.convertToLongIdOrStringElementId(nodeIds)))
-						.fetch()
-						.one()
-						.ifPresent(iterateAndMapNextLevel(relationshipsToRelatedNodes, relationshipDescription, nextPathStep));
-			}
-		}
-
-		@NonNull
-		private Consumer<Map<String, Object>> iterateAndMapNextLevel(Map<String, Set<String>> relationshipsToRelatedNodes,
-																	 RelationshipDescription relationshipDescription,
-																	 PropertyPathWalkStep currentPathStep) {
-
-			return record -> {
-
-				Map<String, Set<String>> relatedNodesVisited = new HashMap<>(relationshipsToRelatedNodes);
-				@SuppressWarnings("unchecked")
-				List<String> newRelationshipIds = ((List<Object>) record.get(Constants.NAME_OF_SYNTHESIZED_RELATIONS)).stream().map(TemplateSupport::convertIdOrElementIdToString).toList();
-				@SuppressWarnings("unchecked")
-				Set<String> relatedIds = new HashSet<>(((List<Object>) record.get(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES)).stream().map(TemplateSupport::convertIdOrElementIdToString).toList());
-
-				// use this list to get down the road
-				// 1. remove already visited ones;
-				// we don't know which id came with which node, so we need to assume that a relationshipId connects to all related nodes
-				for (String newRelationshipId : newRelationshipIds) {
-					relatedNodesVisited.put(newRelationshipId, relatedIds);
-					Set<String> knownRelatedNodesBefore = relationshipsToRelatedNodes.get(newRelationshipId);
-					if (knownRelatedNodesBefore != null) {
-						Set<String> mergedKnownRelatedNodes = new HashSet<>(knownRelatedNodesBefore);
-						// there are already existing nodes in there for this relationship
-						mergedKnownRelatedNodes.addAll(relatedIds);
-						relatedNodesVisited.put(newRelationshipId, mergedKnownRelatedNodes);
-						relatedIds.removeAll(knownRelatedNodesBefore);
-					}
-				}
+			Map<String, Object> usedParameters = new HashMap<>(parameters);
+			usedParameters.putAll(statement.getCatalog().getParameters());
 
-				relationshipsToRelatedNodes.putAll(relatedNodesVisited);
-				// 2. for the rest start the exploration
-				if (!relatedIds.isEmpty()) {
-					iterateNextLevel(relatedIds, relationshipDescription, relationshipsToRelatedNodes, currentPathStep);
-				}
-			};
+			return neo4jClient.query(renderer.render(statement))
+					.bindAll(usedParameters)
+					.fetchAs(NodesAndRelationshipsByIdStatementProvider.class)
+					.mappedBy((t, r) -> TemplateSupport.createNodesAndRelationshipsByIdStatementProvider(r, queryFragments, elementIdOrIdFunction))
+					.one()
+					.orElse(NodesAndRelationshipsByIdStatementProvider.EMPTY);
 		}
 	}
 }
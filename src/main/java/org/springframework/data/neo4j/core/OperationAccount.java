@@ -0,0 +1,137 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.time.Duration;
+
+import org.apiguardian.api.API;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.summary.SummaryCounters;
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.lang.Nullable;
+
+/**
+ * The mutable account of a single top-level operation, collecting the statements sent by the clients while the
+ * operation runs. The account of an imperative operation is bound to the current thread, the one of a reactive
+ * operation is stored in the Reactor context under {@link #REACTOR_CONTEXT_KEY}. Statements of a reactive operation may
+ * finish concurrently, hence all updates are synchronized.
+ *
+ * @since 7.4
+ */
+@API(status = API.Status.INTERNAL, since = "7.4")
+final class OperationAccount {
+
+	static final String REACTOR_CONTEXT_KEY = OperationAccount.class.getName();
+
+	private static final ThreadLocal<OperationAccount> CURRENT = new NamedThreadLocal<>("Current Neo4j operation account");
+
+	private final String operation;
+
+	private final long start = System.nanoTime();
+
+	private long statements;
+
+	private long recordsReturned;
+
+	private long nodesCreated;
+
+	private long nodesDeleted;
+
+	private long relationshipsCreated;
+
+	private long relationshipsDeleted;
+
+	private long propertiesSet;
+
+	OperationAccount(String operation) {
+		this.operation = operation;
+	}
+
+	/**
+	 * @return The account bound to the current thread, if any
+	 */
+	@Nullable
+	static OperationAccount current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Binds the given account to the current thread.
+	 *
+	 * @param account The account to bind, {@literal null} to unbind the current one
+	 * @return The previously bound account
+	 */
+	@Nullable
+	static OperationAccount bind(@Nullable OperationAccount account) {
+
+		OperationAccount previous = CURRENT.get();
+		if (account == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(account);
+		}
+		return previous;
+	}
+
+	String getOperation() {
+		return operation;
+	}
+
+	synchronized void statementSent() {
+		++statements;
+	}
+
+	synchronized void recordReturned() {
+		++recordsReturned;
+	}
+
+	synchronized void summaryReceived(ResultSummary summary) {
+
+		SummaryCounters counters = summary.counters();
+		if (counters == null || !counters.containsUpdates()) {
+			return;
+		}
+		nodesCreated += counters.nodesCreated();
+		nodesDeleted += counters.nodesDeleted();
+		relationshipsCreated += counters.relationshipsCreated();
+		relationshipsDeleted += counters.relationshipsDeleted();
+		propertiesSet += counters.propertiesSet();
+	}
+
+	/**
+	 * Adds the statistics of a nested operation that has been accounted separately.
+	 *
+	 * @param statistics The statistics of the nested operation
+	 */
+	synchronized void add(Neo4jOperationStatistics statistics) {
+
+		statements += statistics.statements();
+		recordsReturned += statistics.recordsReturned();
+		nodesCreated += statistics.nodesCreated();
+		nodesDeleted += statistics.nodesDeleted();
+		relationshipsCreated += statistics.relationshipsCreated();
+		relationshipsDeleted += statistics.relationshipsDeleted();
+		propertiesSet += statistics.propertiesSet();
+	}
+
+	/**
+	 * @return The statistics collected so far
+	 */
+	synchronized Neo4jOperationStatistics snapshot() {
+		return new Neo4jOperationStatistics(operation, statements, recordsReturned, nodesCreated, nodesDeleted,
+				relationshipsCreated, relationshipsDeleted, propertiesSet, Duration.ofNanos(System.nanoTime() - start));
+	}
+}
@@ -24,6 +24,7 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.LogFactory;
 import org.apiguardian.api.API;
 import org.neo4j.driver.Driver;
@@ -35,6 +36,7 @@ import org.springframework.core.log.LogAccessor;
 import org.springframework.data.neo4j.core.Neo4jClient.BindSpec;
 import org.springframework.data.neo4j.core.convert.Neo4jConversions;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Reactive Neo4j client. The main difference to the {@link Neo4jClient imperative Neo4j client} is the fact that all
@@ -86,6 +88,11 @@ public interface ReactiveNeo4jClient {
 		@Nullable
 		Neo4jBookmarkManager bookmarkManager;
 
+		ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+		@Nullable
+		Neo4jObservationConvention observationConvention;
+
 		private Builder(Driver driver) {
 			this.driver = driver;
 		}
@@ -142,6 +149,34 @@ public interface ReactiveNeo4jClient {
 			return this;
 		}
 
+		/**
+		 * Configures the {@link ObservationRegistry} used to observe every statement run through the client, see
+		 * {@link Neo4jObservation#STATEMENT}. Statements are not observed by default.
+		 *
+		 * @param observationRegistry The registry to use
+		 * @return The builder
+		 * @since 7.4
+		 */
+		public Builder withObservationRegistry(ObservationRegistry observationRegistry) {
+
+			Assert.notNull(observationRegistry, "The observation registry must not be null");
+			this.observationRegistry = observationRegistry;
+			return this;
+		}
+
+		/**
+		 * Configures a custom {@link Neo4jObservationConvention} to name and tag the statement observations.
+		 *
+		 * @param observationConvention The convention to use, can be {@literal null}, in this case the
+		 *                              {@link DefaultNeo4jObservationConvention} is used.
+		 * @return The builder
+		 * @since 7.4
+		 */
+		public Builder withObservationConvention(@Nullable Neo4jObservationConvention observationConvention) {
+			this.observationConvention = observationConvention;
+			return this;
+		}
+
 		public ReactiveNeo4jClient build() {
 			return new DefaultReactiveNeo4jClient(this);
 		}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import io.micrometer.observation.Observation;
+import org.apiguardian.api.API;
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Accounts reactive calls as operations of a {@link Neo4jOperationAccounting}. The operation of a call is stored in the
+ * subscriber context, so that all statements sent by the {@link ReactiveNeo4jClient} on behalf of the call are added to
+ * it. This type is kept apart from {@link Neo4jOperationAccounting}, which must be usable without Project Reactor.
+ *
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public final class ReactiveNeo4jOperationAccounting {
+
+	private final Neo4jOperationAccounting accounting;
+
+	/**
+	 * @param accounting The accounting to which the operations are added
+	 * @return Reactive access to the given accounting
+	 */
+	public static ReactiveNeo4jOperationAccounting of(Neo4jOperationAccounting accounting) {
+
+		Assert.notNull(accounting, "The accounting must not be null");
+		return new ReactiveNeo4jOperationAccounting(accounting);
+	}
+
+	private ReactiveNeo4jOperationAccounting(Neo4jOperationAccounting accounting) {
+		this.accounting = accounting;
+	}
+
+	/**
+	 * Accounts each subscription to the given publisher as an operation. Joins the operation stored in the subscriber
+	 * context, if any.
+	 *
+	 * @param operation The name of the operation
+	 * @param call      The call to account
+	 * @param <T>       The type of the result
+	 * @return The accounted call
+	 */
+	public <T> Mono<T> account(String operation, Mono<T> call) {
+
+		Assert.hasText(operation, "The name of an operation must not be empty");
+		return Mono.deferContextual(reactorContext -> {
+			if (reactorContext.hasKey(OperationAccount.REACTOR_CONTEXT_KEY)) {
+				return call;
+			}
+			OperationAccount account = new OperationAccount(operation);
+			Observation observation = accounting.startObservation(operation,
+					reactorContext.getOrDefault(StatementObservation.REACTOR_CONTEXT_KEY, null));
+			return call
+					.doOnError(observation::error)
+					.doFinally(signal -> accounting.finish(account, observation))
+					.contextWrite(context -> bind(context, account, observation));
+		});
+	}
+
+	/**
+	 * Accounts each subscription to the given publisher as an operation. Joins the operation stored in the subscriber
+	 * context, if any.
+	 *
+	 * @param operation The name of the operation
+	 * @param call      The call to account
+	 * @param <T>       The type of the results
+	 * @return The accounted call
+	 */
+	public <T> Flux<T> account(String operation, Flux<T> call) {
+
+		Assert.hasText(operation, "The name of an operation must not be empty");
+		return Flux.deferContextual(reactorContext -> {
+			if (reactorContext.hasKey(OperationAccount.REACTOR_CONTEXT_KEY)) {
+				return call;
+			}
+			OperationAccount account = new OperationAccount(operation);
+			Observation observation = accounting.startObservation(operation,
+					reactorContext.getOrDefault(StatementObservation.REACTOR_CONTEXT_KEY, null));
+			return call
+					.doOnError(observation::error)
+					.doFinally(signal -> accounting.finish(account, observation))
+					.contextWrite(context -> bind(context, account, observation));
+		});
+	}
+
+	private static Context bind(Context context, OperationAccount account, Observation observation) {
+
+		Context result = context.put(OperationAccount.REACTOR_CONTEXT_KEY, account);
+		return observation.isNoop() ? result : result.put(StatementObservation.REACTOR_CONTEXT_KEY, observation);
+	}
+}
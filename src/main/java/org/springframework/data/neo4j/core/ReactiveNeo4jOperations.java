@@ -15,6 +15,7 @@
  */
 package org.springframework.data.neo4j.core;
 
+import org.reactivestreams.Publisher;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.repository.query.QueryFragmentsAndParameters;
@@ -263,6 +264,25 @@ public interface ReactiveNeo4jOperations {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Imports a potentially large number of entities. The instances are saved in chunks of {@code chunkSize}, each chunk
+	 * like {@link #saveAll(Iterable)} and in a new transaction that is committed before the next chunk is requested from
+	 * the publisher, so that only one chunk is held in memory. Entities with assigned ids are written with one
+	 * {@code UNWIND} statement per chunk and type. The saved instances are not returned.
+	 * <p>
+	 * A failing chunk is rolled back and ends the import, all chunks before it stay committed.
+	 *
+	 * @param instances the instances to be imported. Must not be {@code null}.
+	 * @param chunkSize the number of instances per chunk and transaction, must be greater than zero
+	 * @param <T> the type of the entity.
+	 * @return a summary of the import
+	 * @since 7.4
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+	default <T> Mono<Neo4jImportSummary> importAll(Publisher<T> instances, int chunkSize) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * Deletes a single entity including all entities related to that entity.
 	 *
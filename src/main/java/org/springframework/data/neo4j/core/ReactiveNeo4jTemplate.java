@@ -21,7 +21,6 @@ import org.neo4j.cypherdsl.core.Condition;
 import org.neo4j.cypherdsl.core.Cypher;
 import org.neo4j.cypherdsl.core.FunctionInvocation;
 import org.neo4j.cypherdsl.core.Named;
-import org.neo4j.cypherdsl.core.Node;
 import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.cypherdsl.core.renderer.Configuration;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
@@ -38,7 +37,6 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.core.log.LogAccessor;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
@@ -65,7 +63,6 @@ import org.springframework.data.neo4j.core.mapping.PropertyFilter;
 import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
 import org.springframework.data.neo4j.core.mapping.SpringDataCypherDsl;
 import org.springframework.data.neo4j.core.mapping.callback.ReactiveEventSupport;
-import org.springframework.data.neo4j.core.schema.TargetNode;
 import org.springframework.data.neo4j.core.transaction.ReactiveNeo4jTransactionManager;
 import org.springframework.data.neo4j.repository.query.QueryFragments;
 import org.springframework.data.neo4j.repository.query.QueryFragmentsAndParameters;
@@ -73,7 +70,6 @@ import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.ProjectionInformation;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.util.TypeInformation;
-import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.transaction.ReactiveTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
@@ -96,7 +92,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -104,7 +99,6 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-import static org.neo4j.cypherdsl.core.Cypher.anyNode;
 import static org.neo4j.cypherdsl.core.Cypher.asterisk;
 import static org.neo4j.cypherdsl.core.Cypher.parameter;
 
@@ -138,10 +132,19 @@ public final class ReactiveNeo4jTemplate implements
 		}
 	};
 
+	private static final TransactionDefinition newTransactionDefinition = new TransactionDefinition() {
+		@Override
+		public int getPropagationBehavior() {
+			return PROPAGATION_REQUIRES_NEW;
+		}
+	};
+
 	private TransactionalOperator transactionalOperatorReadOnly;
 
 	private TransactionalOperator transactionalOperator;
 
+	private TransactionalOperator transactionalOperatorNew;
+
 	private ClassLoader beanClassLoader;
 
 	private ReactiveEventSupport eventSupport;
@@ -150,6 +153,8 @@ public final class ReactiveNeo4jTemplate implements
 
 	private Renderer renderer;
 
+	private RenderedStatementCache renderedStatementCache;
+
 	private Function<Named, FunctionInvocation> elementIdOrIdFunction;
 
 	public ReactiveNeo4jTemplate(ReactiveNeo4jClient neo4jClient, Neo4jMappingContext neo4jMappingContext) {
@@ -166,6 +171,7 @@ public final class ReactiveNeo4jTemplate implements
 		this.cypherGenerator = CypherGenerator.INSTANCE;
 		this.eventSupport = ReactiveEventSupport.useExistingCallbacks(neo4jMappingContext, ReactiveEntityCallbacks.create());
 		this.renderer = Renderer.getDefaultRenderer();
+		this.renderedStatementCache = new RenderedStatementCache(this.renderer, this.cypherGenerator);
 		this.elementIdOrIdFunction = SpringDataCypherDsl.elementIdOrIdFunction.apply(null);
 		setTransactionManager(transactionManager);
 	}
@@ -457,8 +463,8 @@ public final class ReactiveNeo4jTemplate implements
 							includedProperties, entityMetaData,
 							neo4jMappingContext.getRequiredBinderFunctionFor((Class<T>) entityToBeSaved.getClass()));
 
-					boolean canUseElementId = TemplateSupport.rendererRendersElementId(renderer);
-					Mono<Entity> idMono = this.neo4jClient.query(() -> renderer.render(cypherGenerator.prepareSaveOf(entityMetaData, dynamicLabels, canUseElementId)))
+					boolean canUseElementId = renderedStatementCache.canUseElementId();
+					Mono<Entity> idMono = this.neo4jClient.query(() -> renderedStatementCache.get(RenderedStatementCache.Kind.SAVE, entityMetaData, dynamicLabels))
 							.bind(entityToBeSaved)
 							.with(binderFunction)
 							.fetchAs(Entity.class)
@@ -493,7 +499,7 @@ public final class ReactiveNeo4jTemplate implements
 			PersistentPropertyAccessor<?> propertyAccessor = entityMetaData.getPropertyAccessor(entityToBeSaved);
 			Neo4jPersistentProperty idProperty = entityMetaData.getRequiredIdProperty();
 			ReactiveNeo4jClient.RunnableSpec runnableQuery = neo4jClient
-					.query(() -> renderer.render(cypherGenerator.createStatementReturningDynamicLabels(entityMetaData)))
+					.query(() -> renderedStatementCache.get(RenderedStatementCache.Kind.DYNAMIC_LABELS, entityMetaData))
 					.bind(convertIdValues(idProperty, propertyAccessor.getProperty(idProperty)))
 					.to(Constants.NAME_OF_ID).bind(entityMetaData.getStaticLabels()).to(Constants.NAME_OF_STATIC_LABELS_PARAM);
 
@@ -515,6 +521,35 @@ public final class ReactiveNeo4jTemplate implements
 		return transactionalOperator.transactional(saveAllImpl(instances, Collections.emptySet(), null));
 	}
 
+	@Override
+	public <T> Mono<Neo4jImportSummary> importAll(Publisher<T> instances, int chunkSize) {
+
+		Assert.isTrue(chunkSize > 0, "The chunk size must be greater than zero");
+
+		// The chunks are accounted on their own and added to an enclosing operation afterwards
+		return Mono.deferContextual(reactorContext -> {
+			OperationAccount previousAccount = reactorContext.getOrDefault(OperationAccount.REACTOR_CONTEXT_KEY, null);
+			OperationAccount account = new OperationAccount("importAll");
+			// Without prefetching, the next chunk is only requested after the previous one has been committed
+			return Flux.from(instances)
+					.buffer(chunkSize)
+					.concatMap(chunk -> transactionalOperatorNew
+							.transactional(saveAllImpl(chunk, Collections.emptySet(), null).then())
+							.thenReturn(chunk.size()), 0)
+					.collect(() -> new long[2], (totals, numberOfEntities) -> {
+						totals[0] += numberOfEntities;
+						++totals[1];
+					})
+					.map(totals -> Neo4jImportSummary.of(totals[0], totals[1], account.snapshot()))
+					.doFinally(signalType -> {
+						if (previousAccount != null) {
+							previousAccount.add(account.snapshot());
+						}
+					})
+					.contextWrite(context -> context.put(OperationAccount.REACTOR_CONTEXT_KEY, account));
+		});
+	}
+
 	@Override
 	public <T> Flux<T> saveAllAs(Iterable<T> instances, BiPredicate<PropertyPath, Neo4jPersistentProperty> includeProperty) {
 
@@ -608,7 +643,7 @@ public final class ReactiveNeo4jTemplate implements
 							.map(Tuple3::getT3) // extract PotentiallyModified
 							.map(binderFunction).collect(Collectors.toList());
 					return neo4jClient
-							.query(() -> renderer.render(cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData)))
+							.query(() -> renderedStatementCache.get(RenderedStatementCache.Kind.SAVE_ALL, entityMetaData))
 							.bind(boundedEntityList).to(Constants.NAME_OF_ENTITY_LIST_PARAM)
 							.fetchAs(Tuple2.class)
 							.mappedBy((t, r) -> Tuples.of(r.get(Constants.NAME_OF_ID), TemplateSupport.convertIdOrElementIdToString(r.get(Constants.NAME_OF_ELEMENT_ID))))
@@ -630,14 +665,11 @@ public final class ReactiveNeo4jTemplate implements
 	public <T> Mono<Void> deleteAllById(Iterable<?> ids, Class<T> domainType) {
 
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainType);
-		String nameOfParameter = "ids";
-		Condition condition = entityMetaData.getIdExpression().in(parameter(nameOfParameter));
 
-		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
 		return transactionalOperator.transactional(Mono.defer(() ->
-				this.neo4jClient.query(() -> renderer.render(statement))
+				this.neo4jClient.query(() -> renderedStatementCache.get(RenderedStatementCache.Kind.DELETE_ALL_BY_ID, entityMetaData))
 					.bind(convertIdValues(entityMetaData.getRequiredIdProperty(), ids))
-					.to(nameOfParameter).run().then()));
+					.to(RenderedStatementCache.NAME_OF_IDS_PARAM).run().then()));
 	}
 
 	@Override
@@ -645,15 +677,12 @@ public final class ReactiveNeo4jTemplate implements
 
 		Assert.notNull(id, "The given id must not be null");
 
-		String nameOfParameter = "id";
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainType);
-		Condition condition = entityMetaData.getIdExpression().isEqualTo(parameter(nameOfParameter));
 
-		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData, condition);
 		return transactionalOperator.transactional(Mono.defer(() ->
-				this.neo4jClient.query(() -> renderer.render(statement))
+				this.neo4jClient.query(() -> renderedStatementCache.get(RenderedStatementCache.Kind.DELETE_BY_ID, entityMetaData))
 					.bind(convertIdValues(entityMetaData.getRequiredIdProperty(), id))
-					.to(nameOfParameter).run().then()));
+					.to(RenderedStatementCache.NAME_OF_ID_PARAM).run().then()));
 	}
 
 	@Override
@@ -690,8 +719,8 @@ public final class ReactiveNeo4jTemplate implements
 	public Mono<Void> deleteAll(Class<?> domainType) {
 
 		Neo4jPersistentEntity<?> entityMetaData = neo4jMappingContext.getRequiredPersistentEntity(domainType);
-		Statement statement = cypherGenerator.prepareDeleteOf(entityMetaData);
-		return transactionalOperator.transactional(Mono.defer(() -> this.neo4jClient.query(() -> renderer.render(statement)).run().then()));
+		return transactionalOperator.transactional(Mono.defer(() -> this.neo4jClient
+				.query(() -> renderedStatementCache.get(RenderedStatementCache.Kind.DELETE_ALL, entityMetaData)).run().then()));
 	}
 
 	private <T> Mono<ExecutableQuery<T>> createExecutableQuery(Class<T> domainType, Statement statement) {
@@ -738,128 +767,41 @@ public final class ReactiveNeo4jTemplate implements
 	private Mono<NodesAndRelationshipsByIdStatementProvider> createNodesAndRelationshipsByIdStatementProvider(Neo4jPersistentEntity<?> entityMetaData,
 		 	QueryFragments queryFragments, Map<String, Object> parameters) {
 
-			return Mono.deferContextual(ctx -> {
-				Class<?> rootClass = entityMetaData.getUnderlyingClass();
-
-				Set<String> rootNodeIds = ctx.get("rootNodes");
-				Map<String, Set<String>> relationshipsToRelatedNodeIds = ctx.get("relationshipsToRelatedNodeIds");
-				return Flux.fromIterable(entityMetaData.getRelationshipsInHierarchy(queryFragments::includeField))
-						.concatMap(relationshipDescription -> {
-
-							Statement statement = cypherGenerator.prepareMatchOf(entityMetaData, relationshipDescription,
-									queryFragments.getMatchOn(), queryFragments.getCondition())
-									.returning(cypherGenerator.createReturnStatementForMatch(entityMetaData)).build();
-
-							Map<String, Object> usedParameters = new HashMap<>(parameters);
-							usedParameters.putAll(statement.getCatalog().getParameters());
-							return neo4jClient.query(renderer.render(statement))
-									.bindAll(usedParameters)
-									.fetchAs(Tuple2.class)
-									.mappedBy((t, r) -> {
-										Collection<String> rootIds = r.get(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE).asList(TemplateSupport::convertIdOrElementIdToString);
-										rootNodeIds.addAll(rootIds);
-										Collection<String> newRelationshipIds = r.get(Constants.NAME_OF_SYNTHESIZED_RELATIONS).asList(TemplateSupport::convertIdOrElementIdToString);
-										Collection<String> newRelatedNodeIds = r.get(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES).asList(TemplateSupport::convertIdOrElementIdToString);
-										return Tuples.of(newRelationshipIds, newRelatedNodeIds);
-									})
-									.one()
-									.map((t) -> {
-										//noinspection unchecked
-										return (Tuple2<Collection<String>, Collection<String>>) t;
-									})
-									.expand(iterateAndMapNextLevel(relationshipDescription, queryFragments, rootClass, PropertyPathWalkStep.empty()));
-						})
-						.then(Mono.fromSupplier(() -> new NodesAndRelationshipsByIdStatementProvider(rootNodeIds, relationshipsToRelatedNodeIds.keySet(), relationshipsToRelatedNodeIds.values().stream().flatMap(Collection::stream).toList(), queryFragments, elementIdOrIdFunction)));
-			})
-			.contextWrite(ctx -> ctx
-					.put("rootNodes", ConcurrentHashMap.newKeySet())
-					.put("relationshipsToRelatedNodeIds", new ConcurrentHashMap<>()));
-
-	}
-
-	private Flux<Tuple2<Collection<String>, Collection<String>>> iterateNextLevel(Collection<String> relatedNodeIds,
-			  RelationshipDescription sourceRelationshipDescription, QueryFragments queryFragments,
-			  Class<?> rootClass, PropertyPathWalkStep currentPathStep) {
-
-		NodeDescription<?> target = sourceRelationshipDescription.getTarget();
-
-		@SuppressWarnings("unchecked")
-		String fieldName = ((Association<Neo4jPersistentProperty>) sourceRelationshipDescription).getInverse().getFieldName();
-
-		PropertyPathWalkStep nextPathStep = currentPathStep.with((sourceRelationshipDescription.hasRelationshipProperties() ?
-				fieldName + "." + ((Neo4jPersistentEntity<?>) sourceRelationshipDescription.getRelationshipPropertiesEntity())
-						.getPersistentProperty(TargetNode.class).getFieldName() : fieldName));
-
-		return Flux.fromIterable(target
-				.getRelationshipsInHierarchy(
-						relaxedPropertyPath -> {
-							PropertyFilter.RelaxedPropertyPath prepend = relaxedPropertyPath.prepend(nextPathStep.path);
-							prepend = PropertyFilter.RelaxedPropertyPath.withRootType(rootClass).append(prepend.toDotPath());
-							return queryFragments.includeField(prepend);
-						}
-				))
-			.concatMap(relDe -> {
-				Node node = anyNode(Constants.NAME_OF_TYPED_ROOT_NODE.apply(target));
-
-				Statement statement = cypherGenerator
-						.prepareMatchOf(target, relDe, null,
-								elementIdOrIdFunction.apply(node).in(Cypher.parameter(Constants.NAME_OF_ID)))
-						.returning(cypherGenerator.createGenericReturnStatement()).build();
+			Optional<Collection<RelationshipDescription>> reachableRelationships =
+					TemplateSupport.getRelationshipsForSingleQuerySubgraphLoading(entityMetaData, queryFragments);
+			if (reachableRelationships.isPresent()) {
+				Statement statement = cypherGenerator.prepareMatchOfReachableSubgraph(entityMetaData, reachableRelationships.get(),
+						queryFragments.getMatchOn(), queryFragments.getCondition());
 
+				Map<String, Object> usedParameters = new HashMap<>(parameters);
+				usedParameters.putAll(statement.getCatalog().getParameters());
 				return neo4jClient.query(renderer.render(statement))
-						.bindAll(Collections.singletonMap(Constants.NAME_OF_ID, TemplateSupport.convertToLongIdOrStringElementId(relatedNodeIds)))
-						.fetchAs(Tuple2.class)
-						.mappedBy((t, r) -> {
-							Collection<String> newRelationshipIds = r.get(Constants.NAME_OF_SYNTHESIZED_RELATIONS).asList(TemplateSupport::convertIdOrElementIdToString);
-							Collection<String> newRelatedNodeIds = r.get(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES).asList(TemplateSupport::convertIdOrElementIdToString);
-
-							return Tuples.of(newRelationshipIds, newRelatedNodeIds);
-						})
+						.bindAll(usedParameters)
+						.fetchAs(NodesAndRelationshipsByIdStatementProvider.class)
+						.mappedBy((t, r) -> TemplateSupport.createNodesAndRelationshipsByIdStatementProvider(r, queryFragments, elementIdOrIdFunction))
 						.one()
-						.map((t) -> {
-							//noinspection unchecked
-							return (Tuple2<Collection<String>, Collection<String>>) t;
-						})
-						.expand(object -> iterateAndMapNextLevel(relDe, queryFragments, rootClass, nextPathStep).apply(object));
-			});
-
-	}
-
-	@NonNull
-	private Function<Tuple2<Collection<String>, Collection<String>>,
-			Publisher<Tuple2<Collection<String>, Collection<String>>>> iterateAndMapNextLevel(
-			RelationshipDescription relationshipDescription, QueryFragments queryFragments, Class<?> rootClass, PropertyPathWalkStep currentPathStep) {
-
-		return newRelationshipAndRelatedNodeIds ->
-			Flux.deferContextual(ctx -> {
-				Map<String, Set<String>> relationshipsToRelatedNodeIds = ctx.get("relationshipsToRelatedNodeIds");
-				Map<String, Set<String>> relatedNodesVisited = new HashMap<>(relationshipsToRelatedNodeIds);
-
-				Collection<String> newRelationshipIds = newRelationshipAndRelatedNodeIds.getT1();
-
-				Collection<String> newRelatedNodeIds = newRelationshipAndRelatedNodeIds.getT2();
-				Set<String> relatedIds = ConcurrentHashMap.newKeySet(newRelatedNodeIds.size());
-				relatedIds.addAll(newRelatedNodeIds);
-
-				for (String newRelationshipId : newRelationshipIds) {
-					relatedNodesVisited.put(newRelationshipId, relatedIds);
-					Set<String> knownRelatedNodesBefore = relationshipsToRelatedNodeIds.get(newRelationshipId);
-					if (knownRelatedNodesBefore != null) {
-						Set<String> mergedKnownRelatedNodes = new HashSet<>(knownRelatedNodesBefore);
-						// there are already existing nodes in there for this relationship
-						mergedKnownRelatedNodes.addAll(relatedIds);
-						relatedNodesVisited.put(newRelationshipId, mergedKnownRelatedNodes);
-						relatedIds.removeAll(knownRelatedNodesBefore);
-					}
-				}
-				relationshipsToRelatedNodeIds.putAll(relatedNodesVisited);
-
-				if (relatedIds.isEmpty()) {
-					return Mono.empty();
-				}
+						.defaultIfEmpty(NodesAndRelationshipsByIdStatementProvider.EMPTY);
+			}
 
-				return iterateNextLevel(newRelatedNodeIds, relationshipDescription, queryFragments, rootClass, currentPathStep);
-			});
+			// load all related nodes and relationships level by level
+			return Mono.fromSupplier(() -> new BreadthFirstExpansion(entityMetaData, queryFragments,
+							entityMetaData.getUnderlyingClass(), cypherGenerator, elementIdOrIdFunction))
+					.flatMap(expansion -> Mono.just(expansion)
+							.expand(currentExpansion -> {
+								if (!currentExpansion.hasNextLevel()) {
+									return Mono.empty();
+								}
+								BreadthFirstExpansion.Level level = currentExpansion.nextLevel(parameters);
+								return neo4jClient.query(renderer.render(level.statement()))
+										.bindAll(level.parameters())
+										.fetchAs(MapAccessor.class)
+										.mappedBy((t, r) -> r)
+										.all()
+										.collectList()
+										.doOnNext(currentExpansion::processLevel)
+										.thenReturn(currentExpansion);
+							})
+							.then(Mono.fromSupplier(() -> expansion.toStatementProvider(expansion.getRootNodeIds()))));
 	}
 
 	/**
@@ -929,7 +871,7 @@ public final class ReactiveNeo4jTemplate implements
 			// Remove all relationships before creating all new if the entity is not new and the relationship
 			// has not been processed before.
 			// This avoids the usage of cache but might have significant impact on overall performance
-			boolean canUseElementId = TemplateSupport.rendererRendersElementId(renderer);
+			boolean canUseElementId = renderedStatementCache.canUseElementId();
 			if (!isParentObjectNew && !stateMachine.hasProcessedRelationship(fromId, relationshipDescription)) {
 
 				List<Object> knownRelationshipsIds = new ArrayList<>();
@@ -948,10 +890,8 @@ public final class ReactiveNeo4jTemplate implements
 					}
 				}
 
-				Statement relationshipRemoveQuery = cypherGenerator.prepareDeleteOf(sourceEntity, relationshipDescription, canUseElementId);
-
 				relationshipDeleteMonos.add(
-						neo4jClient.query(renderer.render(relationshipRemoveQuery))
+						neo4jClient.query(renderedStatementCache.get(RenderedStatementCache.Kind.DELETE_RELATIONSHIPS, sourceEntity, relationshipDescription))
 								.bind(convertIdValues(sourceEntity.getIdProperty(), fromId)) //
 									.to(Constants.FROM_ID_PARAMETER_NAME) //
 								.bind(knownRelationshipsIds) //
@@ -1144,7 +1084,7 @@ public final class ReactiveNeo4jTemplate implements
 						return tree;
 					});
 					return neo4jClient
-							.query(() -> renderer.render(cypherGenerator.prepareSaveOf(targetNodeDescription, dynamicLabels, TemplateSupport.rendererRendersElementId(renderer))))
+							.query(() -> renderedStatementCache.get(RenderedStatementCache.Kind.SAVE, targetNodeDescription, dynamicLabels))
 							.bind(entity).with(binderFunction)
 							.fetchAs(Entity.class)
 							.one();
@@ -1216,6 +1156,7 @@ public final class ReactiveNeo4jTemplate implements
 		this.renderer = Renderer.getRenderer(cypherDslConfiguration);
 		this.elementIdOrIdFunction = SpringDataCypherDsl.elementIdOrIdFunction.apply(cypherDslConfiguration.getDialect());
 		this.cypherGenerator.setElementIdOrIdFunction(elementIdOrIdFunction);
+		this.renderedStatementCache = new RenderedStatementCache(this.renderer, this.cypherGenerator);
 
 		if (this.transactionalOperator != null && this.transactionalOperatorReadOnly != null) {
 			return;
@@ -1242,6 +1183,7 @@ public final class ReactiveNeo4jTemplate implements
 		}
 		this.transactionalOperator = TransactionalOperator.create(reactiveTransactionManager);
 		this.transactionalOperatorReadOnly = TransactionalOperator.create(reactiveTransactionManager, readOnlyTransactionDefinition);
+		this.transactionalOperatorNew = TransactionalOperator.create(reactiveTransactionManager, newTransactionDefinition);
 	}
 
 	@Override
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+
+/**
+ * Internal helper class that collects the removal and creation of simple relationships (neither dynamic nor with
+ * properties) and the update of existing relationships with properties of many source entities and writes them grouped
+ * by relationship with one {@code UNWIND} based statement each, instead of one statement per source entity and
+ * relationship. None of these statements return anything needed while saving, so they can be deferred until all nodes
+ * of a save operation have been written.
+ *
+ * @since 7.4
+ */
+@API(status = API.Status.INTERNAL, since = "7.4")
+final class RelationshipBatch {
+
+	/**
+	 * Only relationships whose creation does not need any ids from the database and whose removal does not need to
+	 * retain any known relationship can be deferred.
+	 *
+	 * @param relationshipDescription The relationship to check
+	 * @return True if writing the relationship can be deferred into a batch
+	 */
+	static boolean supports(RelationshipDescription relationshipDescription) {
+		return !(relationshipDescription.isDynamic() || relationshipDescription.hasRelationshipProperties());
+	}
+
+	private final Map<Key, Group> groups = new LinkedHashMap<>();
+
+	/**
+	 * Registers the removal of all existing relationships of a given source node.
+	 *
+	 * @param sourceEntity            The entity owning the relationship
+	 * @param relationshipDescription The relationship to remove
+	 * @param fromId                  The id of the source node, already converted into a driver compatible value
+	 */
+	void addRemoval(Neo4jPersistentEntity<?> sourceEntity, RelationshipDescription relationshipDescription, Object fromId) {
+		groupFor(sourceEntity, relationshipDescription).idsOfSourceNodes.add(fromId);
+	}
+
+	/**
+	 * Registers the removal of relationships between pairs of nodes, leaving all other relationships in place.
+	 *
+	 * @param sourceEntity            The entity owning the relationship
+	 * @param relationshipDescription The relationship to remove
+	 * @param rows                    Rows containing start and end node ids
+	 */
+	void addRemovalBetween(Neo4jPersistentEntity<?> sourceEntity, RelationshipDescription relationshipDescription, List<Object> rows) {
+		groupFor(sourceEntity, relationshipDescription).rowsToRemove.addAll(rows);
+	}
+
+	/**
+	 * Registers the creation of relationships.
+	 *
+	 * @param sourceEntity            The entity owning the relationship
+	 * @param relationshipDescription The relationship to create
+	 * @param rows                    Rows containing start and end node ids
+	 */
+	void addCreation(Neo4jPersistentEntity<?> sourceEntity, RelationshipDescription relationshipDescription, List<Object> rows) {
+		groupFor(sourceEntity, relationshipDescription).rows.addAll(rows);
+	}
+
+	/**
+	 * Registers the update of the properties of existing relationships. The removal of other relationships of the same
+	 * kind is not deferred, as it must retain the updated ones and precede the creation of new ones.
+	 *
+	 * @param sourceEntity            The entity owning the relationship
+	 * @param relationshipDescription The relationship to update, must neither be dynamic nor without properties
+	 * @param rows                    Rows containing start and end node ids, the id of the relationship and its properties
+	 */
+	void addUpdate(Neo4jPersistentEntity<?> sourceEntity, RelationshipDescription relationshipDescription, List<Map<String, Object>> rows) {
+		groupFor(sourceEntity, relationshipDescription).rowsToUpdate.addAll(rows);
+	}
+
+	/**
+	 * Writes all registered changes. All removals are executed before all creations, so that relationships that are
+	 * recreated by another source node are not removed afterwards. Updates are written last.
+	 *
+	 * @param neo4jClient            The client to use
+	 * @param renderedStatementCache The cache providing the rendered statements
+	 */
+	void flush(Neo4jClient neo4jClient, RenderedStatementCache renderedStatementCache) {
+
+		groups.forEach((key, group) -> {
+			if (group.idsOfSourceNodes.isEmpty()) {
+				return;
+			}
+			neo4jClient.query(renderedStatementCache.get(RenderedStatementCache.Kind.DELETE_RELATIONSHIPS_ALL,
+							key.sourceEntity(), key.relationshipDescription()))
+					.bind(group.idsOfSourceNodes).to(Constants.NAME_OF_IDS)
+					.run();
+		});
+
+		groups.forEach((key, group) -> {
+			if (group.rowsToRemove.isEmpty()) {
+				return;
+			}
+			neo4jClient.query(renderedStatementCache.get(RenderedStatementCache.Kind.DELETE_RELATIONSHIPS_BETWEEN,
+							key.sourceEntity(), key.relationshipDescription()))
+					.bind(group.rowsToRemove).to(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM)
+					.run();
+		});
+
+		groups.forEach((key, group) -> {
+			if (group.rows.isEmpty()) {
+				return;
+			}
+			neo4jClient.query(renderedStatementCache.get(RenderedStatementCache.Kind.SAVE_RELATIONSHIPS,
+							key.sourceEntity(), key.relationshipDescription()))
+					.bind(group.rows).to(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM)
+					.run();
+		});
+
+		groups.forEach((key, group) -> {
+			if (group.rowsToUpdate.isEmpty()) {
+				return;
+			}
+			neo4jClient.query(renderedStatementCache.get(RenderedStatementCache.Kind.UPDATE_RELATIONSHIPS_WITH_PROPERTIES,
+							key.sourceEntity(), key.relationshipDescription()))
+					.bind(group.rowsToUpdate).to(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM)
+					.run();
+		});
+		groups.clear();
+	}
+
+	private Group groupFor(Neo4jPersistentEntity<?> sourceEntity, RelationshipDescription relationshipDescription) {
+		return groups.computeIfAbsent(new Key(sourceEntity, relationshipDescription), k -> new Group());
+	}
+
+	private record Key(Neo4jPersistentEntity<?> sourceEntity, RelationshipDescription relationshipDescription) {
+	}
+
+	private static final class Group {
+
+		private final List<Object> idsOfSourceNodes = new ArrayList<>();
+
+		private final List<Object> rowsToRemove = new ArrayList<>();
+
+		private final List<Object> rows = new ArrayList<>();
+
+		private final List<Map<String, Object>> rowsToUpdate = new ArrayList<>();
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import static org.neo4j.cypherdsl.core.Cypher.parameter;
+
+import java.util.Objects;
+
+import org.apiguardian.api.API;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.springframework.data.neo4j.core.mapping.CypherGenerator;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.NodeDescription;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * A bounded cache of rendered Cypher for all statements issued by the templates whose text depends only on the
+ * metadata of the entities involved and not on the values of an instance. Statements are keyed by their
+ * {@link Kind kind}, the node and relationship they are generated for, the dynamic labels to apply and whether the
+ * renderer renders element ids. An instance is bound to one renderer and must be recreated when the renderer changes.
+ *
+ * @since 7.4
+ */
+@API(status = API.Status.INTERNAL, since = "7.4")
+final class RenderedStatementCache {
+
+	/**
+	 * Default number of cached statements.
+	 */
+	static final int DEFAULT_CACHE_SIZE = 512;
+
+	/**
+	 * Name of the parameter holding a single id in {@link Kind#DELETE_BY_ID}.
+	 */
+	static final String NAME_OF_ID_PARAM = "id";
+
+	/**
+	 * Name of the parameter holding the list of ids in {@link Kind#DELETE_ALL_BY_ID}.
+	 */
+	static final String NAME_OF_IDS_PARAM = "ids";
+
+	/**
+	 * The kind of cached statements.
+	 */
+	enum Kind {
+		/**
+		 * {@link CypherGenerator#prepareSaveOf(NodeDescription, java.util.function.UnaryOperator, boolean)}
+		 */
+		SAVE,
+		/**
+		 * {@link CypherGenerator#prepareSaveOfMultipleInstancesOf(NodeDescription, java.util.function.UnaryOperator)}
+		 */
+		SAVE_ALL,
+		/**
+		 * {@link CypherGenerator#createStatementReturningDynamicLabels(NodeDescription)}
+		 */
+		DYNAMIC_LABELS,
+		/**
+		 * {@link CypherGenerator#createStatementReturningDynamicLabelsOfMultipleInstances(NodeDescription)}
+		 */
+		DYNAMIC_LABELS_ALL,
+		/**
+		 * Deletes one node by the id passed as {@link #NAME_OF_ID_PARAM}.
+		 */
+		DELETE_BY_ID,
+		/**
+		 * Deletes all nodes with the ids passed as {@link #NAME_OF_IDS_PARAM}.
+		 */
+		DELETE_ALL_BY_ID,
+		/**
+		 * Deletes all nodes of a type.
+		 */
+		DELETE_ALL,
+		/**
+		 * Removes all relationships of a single source node, except the known ones.
+		 */
+		DELETE_RELATIONSHIPS,
+		/**
+		 * Removes all relationships of many source nodes.
+		 */
+		DELETE_RELATIONSHIPS_ALL,
+		/**
+		 * Removes simple relationships between pairs of source and target nodes from a list of rows.
+		 */
+		DELETE_RELATIONSHIPS_BETWEEN,
+		/**
+		 * Creates simple relationships, neither dynamic nor with properties, from a list of rows.
+		 */
+		SAVE_RELATIONSHIPS,
+		/**
+		 * Updates the properties of existing, non-dynamic relationships with properties from a list of rows.
+		 */
+		UPDATE_RELATIONSHIPS_WITH_PROPERTIES
+	}
+
+	private record Key(Kind kind, NodeDescription<?> nodeDescription,
+			@Nullable RelationshipDescription relationshipDescription, DynamicLabels dynamicLabels,
+			boolean canUseElementId) {
+	}
+
+	private final Renderer renderer;
+
+	private final CypherGenerator cypherGenerator;
+
+	private final boolean canUseElementId;
+
+	private final ConcurrentLruCache<Key, String> cache;
+
+	RenderedStatementCache(Renderer renderer, CypherGenerator cypherGenerator) {
+		this(renderer, cypherGenerator, DEFAULT_CACHE_SIZE);
+	}
+
+	RenderedStatementCache(Renderer renderer, CypherGenerator cypherGenerator, int cacheSize) {
+		this.renderer = renderer;
+		this.cypherGenerator = cypherGenerator;
+		this.canUseElementId = TemplateSupport.rendererRendersElementId(renderer);
+		this.cache = new ConcurrentLruCache<>(cacheSize, this::render);
+	}
+
+	/**
+	 * @return True if the renderer this cache is bound to renders element ids
+	 */
+	boolean canUseElementId() {
+		return canUseElementId;
+	}
+
+	String get(Kind kind, NodeDescription<?> nodeDescription) {
+		return get(kind, nodeDescription, null, DynamicLabels.EMPTY);
+	}
+
+	String get(Kind kind, NodeDescription<?> nodeDescription, DynamicLabels dynamicLabels) {
+		return get(kind, nodeDescription, null, dynamicLabels);
+	}
+
+	String get(Kind kind, NodeDescription<?> nodeDescription, RelationshipDescription relationshipDescription) {
+		return get(kind, nodeDescription, relationshipDescription, DynamicLabels.EMPTY);
+	}
+
+	private String get(Kind kind, NodeDescription<?> nodeDescription,
+			@Nullable RelationshipDescription relationshipDescription, DynamicLabels dynamicLabels) {
+		return cache.get(new Key(kind, nodeDescription, relationshipDescription, dynamicLabels, canUseElementId));
+	}
+
+	/**
+	 * @return The number of currently cached statements
+	 */
+	int size() {
+		return cache.size();
+	}
+
+	private String render(Key key) {
+
+		NodeDescription<?> nodeDescription = key.nodeDescription();
+		return renderer.render(switch (key.kind()) {
+			case SAVE -> cypherGenerator.prepareSaveOf(nodeDescription, key.dynamicLabels(), key.canUseElementId());
+			case SAVE_ALL -> cypherGenerator.prepareSaveOfMultipleInstancesOf(nodeDescription, key.dynamicLabels());
+			case DYNAMIC_LABELS -> cypherGenerator.createStatementReturningDynamicLabels(nodeDescription);
+			case DYNAMIC_LABELS_ALL -> cypherGenerator.createStatementReturningDynamicLabelsOfMultipleInstances(nodeDescription);
+			case DELETE_BY_ID -> cypherGenerator.prepareDeleteOf(nodeDescription,
+					asEntity(nodeDescription).getIdExpression().isEqualTo(parameter(NAME_OF_ID_PARAM)));
+			case DELETE_ALL_BY_ID -> cypherGenerator.prepareDeleteOf(nodeDescription,
+					asEntity(nodeDescription).getIdExpression().in(parameter(NAME_OF_IDS_PARAM)));
+			case DELETE_ALL -> cypherGenerator.prepareDeleteOf(nodeDescription);
+			case DELETE_RELATIONSHIPS -> cypherGenerator.prepareDeleteOf(asEntity(nodeDescription),
+					requireRelationship(key), key.canUseElementId());
+			case DELETE_RELATIONSHIPS_ALL -> cypherGenerator.prepareDeleteOfMultipleInstancesOf(asEntity(nodeDescription),
+					requireRelationship(key), key.canUseElementId());
+			case DELETE_RELATIONSHIPS_BETWEEN -> cypherGenerator.prepareDeleteOfRelationshipsBetween(asEntity(nodeDescription),
+					requireRelationship(key), key.canUseElementId());
+			case SAVE_RELATIONSHIPS -> cypherGenerator.prepareSaveOfRelationships(asEntity(nodeDescription),
+					requireRelationship(key), null, key.canUseElementId());
+			case UPDATE_RELATIONSHIPS_WITH_PROPERTIES -> cypherGenerator.prepareUpdateOfRelationshipsWithProperties(
+					asEntity(nodeDescription), requireRelationship(key), false, key.canUseElementId());
+		});
+	}
+
+	private static Neo4jPersistentEntity<?> asEntity(NodeDescription<?> nodeDescription) {
+		return (Neo4jPersistentEntity<?>) nodeDescription;
+	}
+
+	private static RelationshipDescription requireRelationship(Key key) {
+		return Objects.requireNonNull(key.relationshipDescription(),
+				() -> "A relationship is required to render statements of kind " + key.kind());
+	}
+}
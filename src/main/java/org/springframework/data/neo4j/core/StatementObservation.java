@@ -0,0 +1,173 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.function.BiFunction;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.apiguardian.api.API;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.types.TypeSystem;
+import org.springframework.lang.Nullable;
+
+/**
+ * A running {@link Neo4jObservation#STATEMENT statement observation} together with its context, used by both clients to
+ * time the phases of a statement and to account the statement to the current {@link OperationAccount}, if any. All
+ * methods return immediately when the observation is a no-op and no operation is accounted, so that nothing is measured
+ * without a configured registry or accounting.
+ *
+ * @since 7.4
+ */
+@API(status = API.Status.INTERNAL, since = "7.4")
+final class StatementObservation {
+
+	/**
+	 * Key of the current observation in the Reactor context, the same as used by Micrometer's context propagation. The
+	 * accessor itself is not referenced as the context propagation library is optional.
+	 */
+	static final String REACTOR_CONTEXT_KEY = "micrometer.observation";
+
+	private final Observation observation;
+
+	private final Neo4jObservationContext context;
+
+	private final boolean observed;
+
+	@Nullable
+	private final OperationAccount account;
+
+	private long roundTripStart = -1;
+
+	private long consumptionStart = -1;
+
+	static StatementObservation start(ObservationRegistry registry, @Nullable Neo4jObservationConvention convention,
+			Neo4jObservationContext context, @Nullable Observation parent, @Nullable OperationAccount account) {
+
+		Observation observation = Neo4jObservation.STATEMENT.observation(convention,
+				DefaultNeo4jObservationConvention.INSTANCE, () -> context, registry);
+		if (parent != null) {
+			observation.parentObservation(parent);
+		}
+		if (account != null) {
+			account.statementSent();
+		}
+		return new StatementObservation(observation.start(), context, account);
+	}
+
+	private StatementObservation(Observation observation, Neo4jObservationContext context,
+			@Nullable OperationAccount account) {
+		this.observation = observation;
+		this.context = context;
+		this.observed = !observation.isNoop();
+		this.account = account;
+	}
+
+	Observation getObservation() {
+		return observation;
+	}
+
+	/**
+	 * @return {@literal true} if the statement is neither observed nor accounted
+	 */
+	boolean isNoop() {
+		return !observed && account == null;
+	}
+
+	/**
+	 * @return {@literal true} if the statement is observed by a registry
+	 */
+	boolean isObserved() {
+		return observed;
+	}
+
+	void setDatabase(DatabaseSelection databaseSelection) {
+		if (observed) {
+			context.setDatabaseName(databaseSelection.getValue());
+		}
+	}
+
+	void startRoundTrip() {
+		if (observed) {
+			roundTripStart = System.nanoTime();
+		}
+	}
+
+	/**
+	 * Ends the round trip when called for the first time after {@link #startRoundTrip()}, subsequent calls are ignored.
+	 */
+	void endRoundTrip() {
+		if (roundTripStart >= 0) {
+			context.recordRoundTrip(System.nanoTime() - roundTripStart);
+			roundTripStart = -1;
+		}
+	}
+
+	void startConsumption() {
+		if (observed) {
+			consumptionStart = System.nanoTime();
+		}
+	}
+
+	void endConsumption() {
+		if (consumptionStart >= 0) {
+			context.recordConsumption(System.nanoTime() - consumptionStart);
+			consumptionStart = -1;
+		}
+	}
+
+	void summaryReceived(ResultSummary summary) {
+		if (account != null) {
+			account.summaryReceived(summary);
+		}
+	}
+
+	/**
+	 * @param mappingFunction The mapping function to instrument
+	 * @param <T>             The type of the mapped records
+	 * @return A mapping function counting and timing the mapped records or the original one for no-op observations
+	 */
+	<T> BiFunction<TypeSystem, Record, T> instrument(BiFunction<TypeSystem, Record, T> mappingFunction) {
+
+		if (isNoop()) {
+			return mappingFunction;
+		}
+		return (typeSystem, record) -> {
+			if (account != null) {
+				account.recordReturned();
+			}
+			if (!observed) {
+				return mappingFunction.apply(typeSystem, record);
+			}
+			endRoundTrip();
+			long start = System.nanoTime();
+			try {
+				return mappingFunction.apply(typeSystem, record);
+			} finally {
+				context.recordMappedRecord(System.nanoTime() - start);
+			}
+		};
+	}
+
+	void error(Throwable error) {
+		observation.error(error);
+	}
+
+	void stop() {
+		observation.stop();
+	}
+}
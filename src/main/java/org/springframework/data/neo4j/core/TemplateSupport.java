@@ -15,11 +15,14 @@
  */
 package org.springframework.data.neo4j.core;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -46,6 +49,7 @@ import org.neo4j.driver.Value;
 import org.neo4j.driver.types.Entity;
 import org.neo4j.driver.types.MapAccessor;
 import org.neo4j.driver.types.TypeSystem;
+import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.neo4j.core.mapping.Constants;
@@ -58,7 +62,9 @@ import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.core.mapping.NodeDescription;
 import org.springframework.data.neo4j.core.mapping.PropertyFilter;
 import org.springframework.data.neo4j.core.mapping.PropertyTraverser;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
 import org.springframework.data.neo4j.core.mapping.SpringDataCypherDsl;
+import org.springframework.data.neo4j.core.schema.SubgraphLoading;
 import org.springframework.data.neo4j.repository.query.QueryFragments;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -175,6 +181,67 @@ public final class TemplateSupport {
 		return mergedParameters;
 	}
 
+	/**
+	 * Determines whether the subgraph of a cyclic domain model should be loaded with one single query, and if so, collects
+	 * all relationships reachable from the root entity. Only the relationships of the root entity itself are subject to
+	 * the property filter of the query, all deeper relationships are followed, so that the result is a superset of what
+	 * is needed to map the entities.
+	 *
+	 * @param entityMetaData The root entity
+	 * @param queryFragments The query, possibly overriding the strategy of the entity
+	 * @return All reachable relationships or an empty optional if the subgraph has to be loaded relationship by relationship
+	 */
+	@SuppressWarnings("unchecked")
+	static Optional<Collection<RelationshipDescription>> getRelationshipsForSingleQuerySubgraphLoading(
+			Neo4jPersistentEntity<?> entityMetaData, QueryFragments queryFragments) {
+
+		SubgraphLoading.Strategy strategy = Optional.ofNullable(queryFragments.getSubgraphLoadingStrategy())
+				.orElseGet(entityMetaData::getSubgraphLoadingStrategy);
+		if (strategy != SubgraphLoading.Strategy.SINGLE_QUERY) {
+			return Optional.empty();
+		}
+
+		Set<RelationshipDescription> relationships = new LinkedHashSet<>();
+		Set<NodeDescription<?>> visitedTargets = new HashSet<>();
+		Deque<RelationshipDescription> relationshipsToVisit = new ArrayDeque<>(entityMetaData.getRelationshipsInHierarchy(queryFragments::includeField));
+		while (!relationshipsToVisit.isEmpty()) {
+			RelationshipDescription relationshipDescription = relationshipsToVisit.poll();
+			if (relationshipDescription.isDynamic()) {
+				Class<?> keyType = ((Association<Neo4jPersistentProperty>) relationshipDescription).getInverse().getComponentType();
+				if (keyType == null || !keyType.isEnum()) {
+					return Optional.empty();
+				}
+			}
+			relationships.add(relationshipDescription);
+			NodeDescription<?> target = relationshipDescription.getTarget();
+			if (visitedTargets.add(target)) {
+				relationshipsToVisit.addAll(target.getRelationshipsInHierarchy(PropertyFilter.NO_FILTER));
+			}
+		}
+		return Optional.of(relationships);
+	}
+
+	/**
+	 * Creates the provider for the final fetch from the single record returned by a statement created via
+	 * {@link org.springframework.data.neo4j.core.mapping.CypherGenerator#prepareMatchOfReachableSubgraph}.
+	 *
+	 * @param record            The record containing all ids
+	 * @param queryFragments    The original query
+	 * @param elementIdFunction The function to use for matching by id
+	 * @return A provider for the final fetch or {@link NodesAndRelationshipsByIdStatementProvider#EMPTY} if no root node was found
+	 */
+	static NodesAndRelationshipsByIdStatementProvider createNodesAndRelationshipsByIdStatementProvider(MapAccessor record,
+			QueryFragments queryFragments, Function<Named, FunctionInvocation> elementIdFunction) {
+
+		Collection<String> rootNodeIds = new HashSet<>(record.get(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE).asList(TemplateSupport::convertIdOrElementIdToString));
+		if (rootNodeIds.isEmpty()) {
+			return NodesAndRelationshipsByIdStatementProvider.EMPTY;
+		}
+		Collection<String> relatedNodeIds = new HashSet<>(record.get(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES).asList(TemplateSupport::convertIdOrElementIdToString));
+		Collection<String> relationshipIds = new HashSet<>(record.get(Constants.NAME_OF_SYNTHESIZED_RELATIONS).asList(TemplateSupport::convertIdOrElementIdToString));
+		return new NodesAndRelationshipsByIdStatementProvider(rootNodeIds, relationshipIds, relatedNodeIds, queryFragments, elementIdFunction);
+	}
+
 	/**
 	 * Parameter holder class for a query with the return pattern of `rootNodes, relationships, relatedNodes`.
 	 * The parameter values must be internal node or relationship ids.
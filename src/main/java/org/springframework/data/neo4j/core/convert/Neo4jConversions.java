@@ -21,8 +21,11 @@ import java.util.Collections;
 import java.util.List;
 
 import org.apiguardian.api.API;
+import org.neo4j.driver.Value;
 import org.springframework.core.convert.converter.ConverterRegistry;
 import org.springframework.data.convert.CustomConversions;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 
 /**
  * @author Michael J. Simons
@@ -35,6 +38,12 @@ public final class Neo4jConversions extends CustomConversions {
 	private static final StoreConversions STORE_CONVERSIONS;
 	private static final List<Object> STORE_CONVERTERS;
 
+	/**
+	 * The converters passed to this instance without the built-in ones, {@literal null} if there are none.
+	 */
+	@Nullable
+	private final CustomConversions userConversions;
+
 	static {
 
 		List<Object> converters = new ArrayList<>();
@@ -61,6 +70,26 @@ public final class Neo4jConversions extends CustomConversions {
 	 */
 	public Neo4jConversions(Collection<?> converters) {
 		super(STORE_CONVERSIONS, converters);
+		this.userConversions = converters.isEmpty() ? null : new CustomConversions(StoreConversions.of(Neo4jSimpleTypes.HOLDER), converters);
+	}
+
+	/**
+	 * Checks whether any of the converters passed to this instance reads or writes values of the given type, so that
+	 * the built-in conversion for that type must not be bypassed.
+	 *
+	 * @param type The type to check
+	 * @return True if values of the given type might be converted by a user defined converter
+	 * @since 7.4
+	 */
+	@API(status = API.Status.INTERNAL, since = "7.4")
+	public boolean hasUserConverterFor(Class<?> type) {
+
+		if (userConversions == null) {
+			return false;
+		}
+		Class<?> boxedType = ClassUtils.resolvePrimitiveIfNecessary(type);
+		return userConversions.hasCustomReadTarget(Value.class, boxedType) || userConversions.hasCustomWriteTarget(boxedType)
+			   || userConversions.hasCustomReadTarget(Value.class, type) || userConversions.hasCustomWriteTarget(type);
 	}
 
 	@Override
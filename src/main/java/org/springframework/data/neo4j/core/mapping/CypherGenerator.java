@@ -29,8 +29,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
@@ -62,6 +65,7 @@ import org.neo4j.cypherdsl.core.renderer.Renderer;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.neo4j.core.schema.Relationship.Direction;
 import org.springframework.data.neo4j.core.schema.TargetNode;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
@@ -174,16 +178,7 @@ public enum CypherGenerator {
 				relationshipDescription.getTarget().getAdditionalLabels())
 				.named(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES);
 
-		boolean dynamicRelationship = relationshipDescription.isDynamic();
-		Class<?> componentType = ((DefaultRelationshipDescription) relationshipDescription).getInverse().getComponentType();
-		List<String> relationshipTypes = new ArrayList<>();
-		if (dynamicRelationship && componentType != null && componentType.isEnum()) {
-			Arrays.stream(componentType.getEnumConstants())
-					.forEach(constantName -> relationshipTypes.add(constantName.toString()));
-		} else if (!dynamicRelationship) {
-			relationshipTypes.add(relationshipDescription.getType());
-		}
-		String[] types = relationshipTypes.toArray(new String[]{});
+		String[] types = getRelationshipTypes(relationshipDescription).toArray(new String[]{});
 
 		Relationship relationship = switch (relationshipDescription.getDirection()) {
 			case OUTGOING -> rootNode.relationshipTo(targetNode, types);
@@ -202,6 +197,88 @@ public enum CypherGenerator {
 				.with(expressions.toArray(IdentifiableElement[]::new));
 	}
 
+	/**
+	 * Creates a statement that collects the ids of all root nodes and of all nodes and relationships reachable from them
+	 * in one go, following the types of the given relationships. The pattern is directed if all relationships share the
+	 * same direction, otherwise undirected.
+	 * <p>
+	 * The reachable nodes are matched with a variable-length pattern without a path and only collected distinct, which
+	 * allows the planner to expand breadth first, visiting each node once, instead of enumerating every path. The
+	 * number of paths grows exponentially in graphs with cycles or branches. The relationships are then matched one hop
+	 * from each reachable node, so that each of them is returned once.
+	 *
+	 * @param nodeDescription The node description of the root nodes
+	 * @param relationships   All relationships reachable from the root nodes, none of them must be a dynamic relationship
+	 *                        without an enumerable set of types
+	 * @param initialMatchOn  Optional patterns to match the root nodes on
+	 * @param condition       Optional condition for the root nodes
+	 * @return A statement returning the ids of the root nodes, the related nodes and the relationships in one record, or
+	 * no record if there are no root nodes
+	 * @since 7.4
+	 */
+	public Statement prepareMatchOfReachableSubgraph(NodeDescription<?> nodeDescription,
+			Collection<RelationshipDescription> relationships, @Nullable List<PatternElement> initialMatchOn,
+			@Nullable Condition condition) {
+
+		Node rootNode = createRootNode(nodeDescription);
+		StatementBuilder.OngoingReadingWithoutWhere match = prepareMatchOfRootNode(rootNode, initialMatchOn);
+
+		Set<String> relationshipTypes = new LinkedHashSet<>();
+		Set<Direction> directions = EnumSet.noneOf(Direction.class);
+		for (RelationshipDescription relationshipDescription : relationships) {
+			relationshipTypes.addAll(getRelationshipTypes(relationshipDescription));
+			directions.add(relationshipDescription.getDirection());
+		}
+		String[] types = relationshipTypes.toArray(new String[]{});
+
+		Node relatedNode = anyNode(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES);
+		Node reachableNode = anyNode("n");
+		Relationship reachableRelationships;
+		Relationship relationship;
+		if (directions.size() > 1) {
+			reachableRelationships = rootNode.relationshipBetween(relatedNode, types);
+			relationship = reachableNode.relationshipBetween(anyNode(), types);
+		} else if (directions.contains(Direction.INCOMING)) {
+			reachableRelationships = rootNode.relationshipFrom(relatedNode, types);
+			relationship = reachableNode.relationshipFrom(anyNode(), types);
+		} else {
+			reachableRelationships = rootNode.relationshipTo(relatedNode, types);
+			relationship = reachableNode.relationshipTo(anyNode(), types);
+		}
+		relationship = relationship.named("r");
+
+		SymbolicName rootNodes = Cypher.name(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE);
+		SymbolicName relatedNodes = Cypher.name(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES);
+		Node element = anyNode("x");
+		return match
+				.where(conditionOrNoCondition(condition))
+				.optionalMatch(reachableRelationships.unbounded())
+				.with(Cypher.collectDistinct(rootNode).as(rootNodes), Cypher.collectDistinct(relatedNode).as(relatedNodes))
+				.unwind(rootNodes.add(relatedNodes)).as(reachableNode.getRequiredSymbolicName())
+				.optionalMatch(relationship)
+				.returning(
+						Cypher.listWith(element.getRequiredSymbolicName()).in(rootNodes)
+								.returning(elementIdOrIdFunction.apply(element)).as(rootNodes),
+						Cypher.listWith(element.getRequiredSymbolicName()).in(relatedNodes)
+								.returning(elementIdOrIdFunction.apply(element)).as(relatedNodes),
+						Cypher.collectDistinct(elementIdOrIdFunction.apply(relationship)).as(Constants.NAME_OF_SYNTHESIZED_RELATIONS))
+				.build();
+	}
+
+	private static List<String> getRelationshipTypes(RelationshipDescription relationshipDescription) {
+
+		boolean dynamicRelationship = relationshipDescription.isDynamic();
+		Class<?> componentType = ((DefaultRelationshipDescription) relationshipDescription).getInverse().getComponentType();
+		List<String> relationshipTypes = new ArrayList<>();
+		if (dynamicRelationship && componentType != null && componentType.isEnum()) {
+			Arrays.stream(componentType.getEnumConstants())
+					.forEach(constantName -> relationshipTypes.add(constantName.toString()));
+		} else if (!dynamicRelationship) {
+			relationshipTypes.add(relationshipDescription.getType());
+		}
+		return relationshipTypes;
+	}
+
 	@NonNull
 	public Node createRootNode(NodeDescription<?> nodeDescription) {
 		String primaryLabel = nodeDescription.getPrimaryLabel();
@@ -261,6 +338,32 @@ public enum CypherGenerator {
 				.returning(collect(Cypher.name("label")).as(Constants.NAME_OF_LABELS)).build();
 	}
 
+	/**
+	 * Creates a statement returning the dynamic labels of all nodes whose ids are passed as list in the parameter
+	 * {@link Constants#NAME_OF_IDS}. Each row contains the id and the labels of one node.
+	 *
+	 * @param nodeDescription The description of the nodes
+	 * @return A statement returning the dynamic labels of multiple nodes
+	 * @since 7.4
+	 */
+	public Statement createStatementReturningDynamicLabelsOfMultipleInstances(NodeDescription<?> nodeDescription) {
+
+		IdDescription idDescription = nodeDescription.getIdDescription();
+		Assert.notNull(idDescription, "Cannot load specific nodes by id without a corresponding attribute");
+
+		final Node rootNode = createRootNode(nodeDescription);
+		SymbolicName label = Cypher.name("label");
+
+		return match(rootNode)
+				.where(idDescription.asIdExpression().in(parameter(Constants.NAME_OF_IDS)))
+				.returning(
+						idDescription.asIdExpression().as(Constants.NAME_OF_ID),
+						Cypher.listWith(label).in(rootNode.labels())
+								.where(label.in(parameter(Constants.NAME_OF_STATIC_LABELS_PARAM)).not())
+								.returning().as(Constants.NAME_OF_LABELS))
+				.build();
+	}
+
 	public Statement prepareDeleteOf(NodeDescription<?> nodeDescription) {
 		return prepareDeleteOf(nodeDescription, null);
 	}
@@ -406,6 +509,24 @@ public enum CypherGenerator {
 	}
 
 	public Statement prepareSaveOfMultipleInstancesOf(NodeDescription<?> nodeDescription) {
+		return prepareSaveOfMultipleInstancesOf(nodeDescription, UnaryOperator.identity());
+	}
+
+	/**
+	 * Creates a statement that saves all entities passed as list of rows in the parameter
+	 * {@link Constants#NAME_OF_ENTITY_LIST_PARAM}. Each row must contain the id, the properties and, if the entity is
+	 * versioned, the expected version of the entity. Rows of existing nodes whose version does not match are not written
+	 * and don't produce a result, so that callers can determine which rows failed the optimistic locking check by
+	 * comparing the returned ids with the ones passed.
+	 *
+	 * @param nodeDescription The description of the entities to save
+	 * @param updateDecorator A decorator applied to the update of each row, used for example for dynamic labels that are
+	 *                        the same for all rows
+	 * @return A statement saving multiple instances, returning id, element id and version of each saved row
+	 * @since 7.4
+	 */
+	public Statement prepareSaveOfMultipleInstancesOf(NodeDescription<?> nodeDescription,
+			UnaryOperator<OngoingMatchAndUpdate> updateDecorator) {
 
 		Assert.isTrue(!nodeDescription.isUsingInternalIds(),
 				"Only entities that use external IDs can be saved in a batch");
@@ -426,9 +547,35 @@ public enum CypherGenerator {
 		expressions.add(rootNode.property(nameOfIdProperty).as(Constants.NAME_OF_ID));
 
 		String row = "entity";
-		return Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM)).as(row)
-				.merge(rootNode.withProperties(nameOfIdProperty, Cypher.property(row, Constants.NAME_OF_ID)))
-				.mutate(rootNode, Cypher.property(row, Constants.NAME_OF_PROPERTIES_PARAM))
+		Expression idOfRow = Cypher.property(row, Constants.NAME_OF_ID);
+		Expression propertiesOfRow = Cypher.property(row, Constants.NAME_OF_PROPERTIES_PARAM);
+
+		if (!(nodeDescription instanceof Neo4jPersistentEntity<?> entity && entity.hasVersionProperty())) {
+			return updateDecorator.apply(Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM)).as(row)
+					.merge(rootNode.withProperties(nameOfIdProperty, idOfRow))
+					.mutate(rootNode, propertiesOfRow))
+					.returning(expressions)
+					.build();
+		}
+
+		Property versionProperty = rootNode.property(entity.getRequiredVersionProperty().getName());
+		expressions.add(versionProperty.as(Constants.NAME_OF_VERSION_PARAM));
+
+		Expression versionOfRow = Cypher.property(row, Constants.NAME_OF_VERSION_PARAM);
+		Node possibleExistingNode = node(nodeDescription.getPrimaryLabel(), nodeDescription.getAdditionalLabels()).named("hlp");
+		Property versionOfPossibleExistingNode = possibleExistingNode.property(entity.getRequiredVersionProperty().getName());
+
+		return updateDecorator.apply(Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM)).as(row)
+				.optionalMatch(possibleExistingNode)
+				.where(possibleExistingNode.property(nameOfIdProperty).isEqualTo(idOfRow))
+				.with(Cypher.name(row), possibleExistingNode.getRequiredSymbolicName())
+				.where(possibleExistingNode.isNull().or(versionOfPossibleExistingNode.isEqualTo(versionOfRow))) // Initial check
+				.merge(rootNode.withProperties(nameOfIdProperty, idOfRow))
+				.onCreate().set(versionProperty.to(literalOf(0)))
+				.onMatch().set(versionProperty.to(versionProperty.add(literalOf(1)))) // Acquire lock
+				.with(Cypher.name(row), possibleExistingNode.getRequiredSymbolicName(), rootNode.getRequiredSymbolicName())
+				.where(possibleExistingNode.isNull().or(versionProperty.isEqualTo(coalesce(versionOfRow, literalOf(0)).add(literalOf(1)))))
+				.mutate(rootNode, propertiesOfRow))
 				.returning(expressions)
 				.build();
 	}
@@ -663,6 +810,81 @@ public enum CypherGenerator {
 				.build();
 	}
 
+	/**
+	 * Creates a statement that removes the given relationship from all start nodes whose ids are passed as a list
+	 * in the parameter {@link Constants#NAME_OF_IDS}. Known relationships are not retained, so this must be used only
+	 * for relationships without properties.
+	 *
+	 * @param neo4jPersistentEntity   The entity owning the relationship
+	 * @param relationshipDescription The relationship to remove
+	 * @param canUseElementId         Flag if element ids can be used
+	 * @return A statement removing the relationships from all start nodes
+	 */
+	public Statement prepareDeleteOfMultipleInstancesOf(
+			Neo4jPersistentEntity<?> neo4jPersistentEntity,
+			RelationshipDescription relationshipDescription,
+			boolean canUseElementId
+	) {
+		final Node startNode = neo4jPersistentEntity.isUsingInternalIds() ? anyNode(START_NODE_NAME)
+				: node(neo4jPersistentEntity.getPrimaryLabel(), neo4jPersistentEntity.getAdditionalLabels())
+						.named(START_NODE_NAME);
+
+		NodeDescription<?> target = relationshipDescription.getTarget();
+		Node endNode = node(target.getPrimaryLabel(), target.getAdditionalLabels());
+
+		String relationshipType = relationshipDescription.isDynamic() ? null : relationshipDescription.getType();
+
+		String relationshipToRemoveName = "rel";
+		Relationship relationship = relationshipDescription.isOutgoing()
+				? startNode.relationshipTo(endNode, relationshipType).named(relationshipToRemoveName)
+				: startNode.relationshipFrom(endNode, relationshipType).named(relationshipToRemoveName);
+
+		return match(relationship)
+				.where(getNodeIdFunction(neo4jPersistentEntity, canUseElementId).apply(startNode).in(parameter(Constants.NAME_OF_IDS)))
+				.delete(relationship.getRequiredSymbolicName())
+				.build();
+	}
+
+	/**
+	 * Creates a statement that removes the given relationship between pairs of start and end nodes. The pairs are passed
+	 * as a list of rows in the parameter {@link Constants#NAME_OF_RELATIONSHIP_LIST_PARAM}, each row containing the id of
+	 * the start node as {@link Constants#FROM_ID_PARAMETER_NAME} and the internal id of the end node as
+	 * {@link Constants#TO_ID_PARAMETER_NAME}, just like the rows used for creating relationships.
+	 *
+	 * @param neo4jPersistentEntity   The entity owning the relationship
+	 * @param relationshipDescription The relationship to remove, must not be dynamic
+	 * @param canUseElementId         Flag if element ids can be used
+	 * @return A statement removing the relationships between the given nodes
+	 * @since 7.4
+	 */
+	public Statement prepareDeleteOfRelationshipsBetween(
+			Neo4jPersistentEntity<?> neo4jPersistentEntity,
+			RelationshipDescription relationshipDescription,
+			boolean canUseElementId
+	) {
+		Assert.isTrue(!relationshipDescription.isDynamic(), "Only relationships of a known type can be removed between nodes");
+
+		final Node startNode = neo4jPersistentEntity.isUsingInternalIds() ? anyNode(START_NODE_NAME)
+				: node(neo4jPersistentEntity.getPrimaryLabel(), neo4jPersistentEntity.getAdditionalLabels())
+						.named(START_NODE_NAME);
+
+		NodeDescription<?> target = relationshipDescription.getTarget();
+		Node endNode = node(target.getPrimaryLabel(), target.getAdditionalLabels()).named(END_NODE_NAME);
+
+		String relationshipToRemoveName = "rel";
+		Relationship relationship = relationshipDescription.isOutgoing()
+				? startNode.relationshipTo(endNode, relationshipDescription.getType()).named(relationshipToRemoveName)
+				: startNode.relationshipFrom(endNode, relationshipDescription.getType()).named(relationshipToRemoveName);
+
+		String row = "relationship";
+		return Cypher.unwind(parameter(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM)).as(row)
+				.match(relationship)
+				.where(getNodeIdFunction(neo4jPersistentEntity, canUseElementId).apply(startNode).isEqualTo(Cypher.property(row, Constants.FROM_ID_PARAMETER_NAME)))
+				.and(getEndNodeIdFunction((Neo4jPersistentEntity<?>) target, canUseElementId).apply(endNode).isEqualTo(Cypher.property(row, Constants.TO_ID_PARAMETER_NAME)))
+				.delete(relationship.getRequiredSymbolicName())
+				.build();
+	}
+
 	public Collection<Expression> createReturnStatementForExists(Neo4jPersistentEntity<?> nodeDescription) {
 
 		return Collections.singleton(Cypher.count(Constants.NAME_OF_TYPED_ROOT_NODE.apply(nodeDescription)));
@@ -15,7 +15,16 @@
  */
 package org.springframework.data.neo4j.core.mapping;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -23,7 +32,9 @@ import java.util.function.Predicate;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
 import org.springframework.core.CollectionFactory;
+import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.support.ConfigurableConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.dao.TypeMismatchDataAccessException;
@@ -45,6 +56,15 @@ final class DefaultNeo4jConversionService implements Neo4jConversionService {
 	private final Predicate<Class<?>> hasCustomWriteTargetPredicate;
 	private final SimpleTypeHolder simpleTypes;
 
+	/**
+	 * Conversions of simple types that are read and written directly, without looking up a converter for each value.
+	 */
+	private final Map<Class<?>, SimpleTypeConversion> simpleTypeConversions;
+
+	private final Map<ConversionKey, Function<Value, Object>> readers = new ConcurrentHashMap<>();
+
+	private final Map<ConversionKey, Function<Object, Value>> writers = new ConcurrentHashMap<>();
+
 	DefaultNeo4jConversionService(Neo4jConversions neo4jConversions) {
 
 		final ConfigurableConversionService configurableConversionService = new DefaultConversionService();
@@ -53,6 +73,46 @@ final class DefaultNeo4jConversionService implements Neo4jConversionService {
 		this.conversionService = configurableConversionService;
 		this.hasCustomWriteTargetPredicate = neo4jConversions::hasCustomWriteTarget;
 		this.simpleTypes = neo4jConversions.getSimpleTypeHolder();
+
+		Map<Class<?>, SimpleTypeConversion> conversions = new HashMap<>();
+		addSimpleTypeConversion(conversions, String.class, Value::asString, v -> Values.value((String) v));
+		addSimpleTypeConversion(conversions, Long.class, Value::asLong, v -> Values.value((long) (Long) v));
+		addSimpleTypeConversion(conversions, long.class, Value::asLong, v -> Values.value((long) (Long) v));
+		addSimpleTypeConversion(conversions, Integer.class, Value::asInt, v -> Values.value((int) (Integer) v));
+		addSimpleTypeConversion(conversions, int.class, Value::asInt, v -> Values.value((int) (Integer) v));
+		addSimpleTypeConversion(conversions, Double.class, Value::asDouble, v -> Values.value((double) (Double) v));
+		addSimpleTypeConversion(conversions, double.class, Value::asDouble, v -> Values.value((double) (Double) v));
+		addSimpleTypeConversion(conversions, Boolean.class, Value::asBoolean, v -> Values.value((boolean) (Boolean) v));
+		addSimpleTypeConversion(conversions, boolean.class, Value::asBoolean, v -> Values.value((boolean) (Boolean) v));
+		addSimpleTypeConversion(conversions, LocalDate.class, Value::asLocalDate, v -> Values.value((LocalDate) v));
+		addSimpleTypeConversion(conversions, LocalDateTime.class, Value::asLocalDateTime, v -> Values.value((LocalDateTime) v));
+		addSimpleTypeConversion(conversions, LocalTime.class, Value::asLocalTime, v -> Values.value((LocalTime) v));
+		addSimpleTypeConversion(conversions, OffsetTime.class, Value::asOffsetTime, v -> Values.value((OffsetTime) v));
+		addSimpleTypeConversion(conversions, OffsetDateTime.class, Value::asOffsetDateTime, v -> Values.value((OffsetDateTime) v));
+		addSimpleTypeConversion(conversions, ZonedDateTime.class, Value::asZonedDateTime, v -> Values.value((ZonedDateTime) v));
+		conversions.keySet().removeIf(neo4jConversions::hasUserConverterFor);
+		this.simpleTypeConversions = Map.copyOf(conversions);
+	}
+
+	private static void addSimpleTypeConversion(Map<Class<?>, SimpleTypeConversion> conversions, Class<?> type,
+			Function<Value, Object> reader, Function<Object, Value> writer) {
+
+		// Failures are reported like the conversion service would report them
+		TypeDescriptor typeDescriptor = TypeDescriptor.valueOf(type);
+		TypeDescriptor valueDescriptor = TypeDescriptor.valueOf(Value.class);
+		conversions.put(type, new SimpleTypeConversion(v -> {
+			try {
+				return reader.apply(v);
+			} catch (RuntimeException e) {
+				throw new ConversionFailedException(TypeDescriptor.forObject(v), typeDescriptor, v, e);
+			}
+		}, v -> {
+			try {
+				return v == null ? null : writer.apply(v);
+			} catch (RuntimeException e) {
+				throw new ConversionFailedException(TypeDescriptor.forObject(v), valueDescriptor, v, e);
+			}
+		}));
 	}
 
 	@Override
@@ -71,33 +131,62 @@ final class DefaultNeo4jConversionService implements Neo4jConversionService {
 	public Object readValue(@Nullable Value source, TypeInformation<?> targetType,
 			@Nullable Neo4jPersistentPropertyConverter<?> conversionOverride) {
 
-		BiFunction<Value, Class<?>, Object> conversion;
-		boolean applyConversionToCompleteCollection = false;
-		if (conversionOverride == null) {
-			conversion = (v, t) -> conversionService.convert(v, t);
-		} else {
-			applyConversionToCompleteCollection = conversionOverride instanceof NullSafeNeo4jPersistentPropertyConverter
+		return readers.computeIfAbsent(new ConversionKey(targetType, conversionOverride), key -> getReaderFor(targetType, conversionOverride))
+				.apply(source);
+	}
+
+	/**
+	 * Resolves the conversion applied by {@link #readValue(Value, TypeInformation, Neo4jPersistentPropertyConverter)}
+	 * once, so that it can be applied to many values without deciding on it again.
+	 *
+	 * @param targetType         The type to read the values into
+	 * @param conversionOverride An optional converter for the values
+	 * @return A function reading values into the given type
+	 */
+	Function<Value, Object> getReaderFor(TypeInformation<?> targetType,
+			@Nullable Neo4jPersistentPropertyConverter<?> conversionOverride) {
+
+		boolean applyConversionToCompleteCollection = conversionOverride instanceof NullSafeNeo4jPersistentPropertyConverter
 												  && ((NullSafeNeo4jPersistentPropertyConverter<?>) conversionOverride).isForCollection();
+		Class<?> rawType = targetType.getType();
+		Class<?> elementType = null;
+		if (isCollection(targetType) && !applyConversionToCompleteCollection) {
+			TypeInformation<?> componentType = targetType.getComponentType();
+			elementType = componentType == null ? Object.class : componentType.getType();
+		}
+
+		BiFunction<Value, Class<?>, Object> conversion;
+		SimpleTypeConversion simpleTypeConversion = simpleTypeConversions.get(elementType == null ? rawType : elementType);
+		if (conversionOverride != null) {
 			conversion = (v, t) -> conversionOverride.read(v);
+		} else if (simpleTypeConversion != null) {
+			Function<Value, Object> reader = simpleTypeConversion.reader();
+			conversion = (v, t) -> reader.apply(v);
+		} else {
+			ConversionService delegate = this.conversionService;
+			conversion = (v, t) -> delegate.convert(v, t);
 		}
 
-		return readValueImpl(source, targetType, conversion, applyConversionToCompleteCollection);
+		Class<?> finalElementType = elementType;
+		return value -> readValueImpl(value, targetType, rawType, finalElementType, conversion);
 	}
 
+	/**
+	 * @param elementType The type of the elements when converting a collection element by element, {@literal null} when
+	 *                    the value is converted as a whole
+	 */
 	@Nullable
-	private Object readValueImpl(@Nullable Value value, TypeInformation<?> type,
-			BiFunction<Value, Class<?>, Object> conversion, boolean applyConversionToCompleteCollection) {
+	private static Object readValueImpl(@Nullable Value value, TypeInformation<?> type, Class<?> rawType,
+			@Nullable Class<?> elementType, BiFunction<Value, Class<?>, Object> conversion) {
 
 		boolean valueIsLiteralNullOrNullValue = value == null || value == Values.NULL;
 
 		try {
-			Class<?> rawType = type.getType();
-
-			if (!valueIsLiteralNullOrNullValue && isCollection(type) && !applyConversionToCompleteCollection) {
-				Collection<Object> target = CollectionFactory
-						.createCollection(rawType, type.getComponentType().getType(), value.size());
-				value.values()
-						.forEach(element -> target.add(conversion.apply(element, type.getComponentType().getType())));
+			if (!valueIsLiteralNullOrNullValue && elementType != null) {
+				Collection<Object> target = CollectionFactory.createCollection(rawType, elementType, value.size());
+				for (Value element : value.values()) {
+					target.add(conversion.apply(element, elementType));
+				}
 				return target;
 			}
 			return valueIsLiteralNullOrNullValue ? null : conversion.apply(value, rawType);
@@ -111,23 +200,43 @@ final class DefaultNeo4jConversionService implements Neo4jConversionService {
 	public Value writeValue(@Nullable Object value, TypeInformation<?> sourceType,
 			@Nullable Neo4jPersistentPropertyConverter<?> writingConverter) {
 
+		return writers.computeIfAbsent(new ConversionKey(sourceType, writingConverter), key -> getWriterFor(sourceType, writingConverter))
+				.apply(value);
+	}
+
+	/**
+	 * Resolves the conversion applied by {@link #writeValue(Object, TypeInformation, Neo4jPersistentPropertyConverter)}
+	 * once, so that it can be applied to many values without deciding on it again.
+	 *
+	 * @param sourceType       The type of the values to write
+	 * @param writingConverter An optional converter for the values
+	 * @return A function writing values of the given type
+	 */
+	Function<Object, Value> getWriterFor(TypeInformation<?> sourceType,
+			@Nullable Neo4jPersistentPropertyConverter<?> writingConverter) {
+
+		boolean applyConversionToCompleteCollection = writingConverter instanceof NullSafeNeo4jPersistentPropertyConverter
+												  && ((NullSafeNeo4jPersistentPropertyConverter<?>) writingConverter).isForCollection();
+		boolean convertElements = isCollection(sourceType) && !applyConversionToCompleteCollection;
+		TypeInformation<?> convertedType = convertElements ? sourceType.getComponentType() : sourceType;
+
 		Function<Object, Value> conversion;
-		boolean applyConversionToCompleteCollection = false;
-		if (writingConverter == null) {
-			conversion = v -> conversionService.convert(v, Value.class);
-		} else {
+		SimpleTypeConversion simpleTypeConversion = convertedType == null ? null : simpleTypeConversions.get(convertedType.getType());
+		if (writingConverter != null) {
 			@SuppressWarnings("unchecked")
 			Neo4jPersistentPropertyConverter<Object> hlp = (Neo4jPersistentPropertyConverter<Object>) writingConverter;
-			applyConversionToCompleteCollection = writingConverter instanceof NullSafeNeo4jPersistentPropertyConverter
-												  && ((NullSafeNeo4jPersistentPropertyConverter<?>) writingConverter).isForCollection();
 			conversion = hlp::write;
+		} else if (simpleTypeConversion != null) {
+			conversion = simpleTypeConversion.writer();
+		} else {
+			ConversionService delegate = this.conversionService;
+			conversion = v -> delegate.convert(v, Value.class);
 		}
 
-		return writeValueImpl(value, sourceType, conversion, applyConversionToCompleteCollection);
+		return value -> writeValueImpl(value, conversion, convertElements);
 	}
 
-	private Value writeValueImpl(@Nullable Object value, TypeInformation<?> type,
-			Function<Object, Value> conversion, boolean applyConversionToCompleteCollection) {
+	private static Value writeValueImpl(@Nullable Object value, Function<Object, Value> conversion, boolean convertElements) {
 
 		if (value == null) {
 			try {
@@ -138,9 +247,13 @@ final class DefaultNeo4jConversionService implements Neo4jConversionService {
 			}
 		}
 
-		if (isCollection(type) && !applyConversionToCompleteCollection) {
+		if (convertElements) {
 			Collection<?> sourceCollection = (Collection<?>) value;
-			Object[] targetCollection = (sourceCollection).stream().map(conversion::apply).toArray();
+			Object[] targetCollection = new Object[sourceCollection.size()];
+			int i = 0;
+			for (Object element : sourceCollection) {
+				targetCollection[i++] = conversion.apply(element);
+			}
 			return Values.value(targetCollection);
 		}
 
@@ -155,4 +268,10 @@ final class DefaultNeo4jConversionService implements Neo4jConversionService {
 	public boolean isSimpleType(Class<?> type) {
 		return simpleTypes.isSimpleType(type);
 	}
+
+	private record ConversionKey(TypeInformation<?> type, @Nullable Neo4jPersistentPropertyConverter<?> converter) {
+	}
+
+	private record SimpleTypeConversion(Function<Value, Object> reader, Function<Object, Value> writer) {
+	}
 }
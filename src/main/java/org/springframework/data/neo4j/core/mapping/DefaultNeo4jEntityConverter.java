@@ -25,9 +25,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -44,18 +41,15 @@ import org.neo4j.driver.types.Relationship;
 import org.neo4j.driver.types.Type;
 import org.neo4j.driver.types.TypeSystem;
 import org.springframework.core.CollectionFactory;
-import org.springframework.core.KotlinDetector;
 import org.springframework.data.mapping.AssociationHandler;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.Parameter;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
-import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.EntityInstantiators;
 import org.springframework.data.mapping.model.ParameterValueProvider;
 import org.springframework.data.neo4j.core.convert.Neo4jConversionService;
 import org.springframework.data.neo4j.core.mapping.callback.EventSupport;
 import org.springframework.data.neo4j.core.schema.TargetNode;
-import org.springframework.data.util.ReflectionUtils;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
@@ -76,6 +70,10 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 
 	private final EventSupport eventSupport;
 
+	private final Function<Class<?>, EntityWriter> entityWriters;
+
+	private final Function<Neo4jPersistentEntity<?>, EntityReader> entityReaders;
+
 	private final KnownObjects knownObjects = new KnownObjects();
 
 	private final Type nodeType;
@@ -86,8 +84,16 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 
 	private final Map<String, Collection<Node>> labelNodeCache = new HashMap<>();
 
+	/**
+	 * Index of the relationships of the record currently being mapped, created from the relationships extracted for that
+	 * record.
+	 */
+	@Nullable
+	private RelationshipIndex relationshipIndex;
+
 	DefaultNeo4jEntityConverter(EntityInstantiators entityInstantiators, NodeDescriptionStore nodeDescriptionStore,
-			Neo4jConversionService conversionService, EventSupport eventSupport, TypeSystem typeSystem) {
+			Neo4jConversionService conversionService, EventSupport eventSupport, TypeSystem typeSystem,
+			Function<Class<?>, EntityWriter> entityWriters, Function<Neo4jPersistentEntity<?>, EntityReader> entityReaders) {
 
 		Assert.notNull(entityInstantiators, "EntityInstantiators must not be null");
 		Assert.notNull(conversionService, "Neo4jConversionService must not be null");
@@ -98,6 +104,8 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		this.conversionService = conversionService;
 		this.nodeDescriptionStore = nodeDescriptionStore;
 		this.eventSupport = eventSupport;
+		this.entityWriters = entityWriters;
+		this.entityReaders = entityReaders;
 
 		this.nodeType = typeSystem.NODE();
 		this.relationshipType = typeSystem.RELATIONSHIP();
@@ -112,6 +120,7 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 
 		knownObjects.nextRecord();
 		labelNodeCache.clear();
+		relationshipIndex = null;
 
 		@SuppressWarnings("unchecked") // ¯\_(ツ)_/¯
 		Neo4jPersistentEntity<R> rootNodeDescription = (Neo4jPersistentEntity<R>) nodeDescriptionStore.getNodeDescription(targetType);
@@ -229,43 +238,7 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 
 	@Override
 	public void write(Object source, Map<String, Object> parameters) {
-		Map<String, Object> properties = new HashMap<>();
-
-		Neo4jPersistentEntity<?> nodeDescription = (Neo4jPersistentEntity<?>) nodeDescriptionStore
-				.getNodeDescription(source.getClass());
-
-		PersistentPropertyAccessor<Object> propertyAccessor = nodeDescription.getPropertyAccessor(source);
-		PropertyHandlerSupport.of(nodeDescription).doWithProperties((Neo4jPersistentProperty p) -> {
-
-			// Skip the internal properties, we don't want them to end up stored as properties
-			if (p.isInternalIdProperty() || p.isDynamicLabels() || p.isEntity() || p.isVersionProperty() || p.isReadOnly()) {
-				return;
-			}
-
-			final Value value = conversionService.writeValue(propertyAccessor.getProperty(p), p.getTypeInformation(), p.getOptionalConverter());
-			if (p.isComposite()) {
-				properties.put(p.getPropertyName(), new MapValueWrapper(value));
-				//value.keys().forEach(k -> properties.put(k, value.get(k)));
-			} else {
-				properties.put(p.getPropertyName(), value);
-			}
-		});
-
-		parameters.put(Constants.NAME_OF_PROPERTIES_PARAM, properties);
-
-		// in case of relationship properties ignore internal id property
-		if (nodeDescription.hasIdProperty()) {
-			Neo4jPersistentProperty idProperty = nodeDescription.getRequiredIdProperty();
-			parameters.put(Constants.NAME_OF_ID,
-					conversionService.writeValue(propertyAccessor.getProperty(idProperty), idProperty.getTypeInformation(), idProperty.getOptionalConverter()));
-		}
-		// in case of relationship properties ignore internal id property
-		if (nodeDescription.hasVersionProperty()) {
-			Long versionProperty = (Long) propertyAccessor.getProperty(nodeDescription.getRequiredVersionProperty());
-
-			// we incremented this upfront the persist operation so the matching version would be one "before"
-			parameters.put(Constants.NAME_OF_VERSION_PARAM, versionProperty);
-		}
+		entityWriters.apply(source.getClass()).write(source, parameters);
 	}
 
 	/**
@@ -298,6 +271,7 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 	private <ET> ET map(MapAccessor queryResult, MapAccessor allValues, Neo4jPersistentEntity<ET> nodeDescription) {
 		Collection<Relationship> relationshipsFromResult = extractRelationships(allValues);
 		Collection<Node> nodesFromResult = extractNodes(allValues);
+		relationshipIndex = new RelationshipIndex(relationshipsFromResult);
 		return map(queryResult, nodeDescription, nodeDescription, null, null, relationshipsFromResult, nodesFromResult);
 	}
 
@@ -375,7 +349,8 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 
 	@Nullable
 	private <ET> ET getMostCurrentInstance(String internalId, ET fallbackInstance) {
-		return (ET) (knownObjects.getObject(internalId) != null ? knownObjects.getObject(internalId) : fallbackInstance);
+		Object mostCurrentInstance = knownObjects.getObject(internalId);
+		return (ET) (mostCurrentInstance != null ? mostCurrentInstance : fallbackInstance);
 	}
 
 
@@ -399,11 +374,9 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		Predicate<Neo4jPersistentProperty> isConstructorParameter = concreteNodeDescription
 				.getInstanceCreatorMetadata()::isCreatorParameter;
 
-		boolean isKotlinType = KotlinDetector.isKotlinType(concreteNodeDescription.getType());
 		// Fill simple properties
-		PropertyHandler<Neo4jPersistentProperty> handler = populateFrom(queryResult, propertyAccessor,
-				isConstructorParameter, nodeDescriptionAndLabels.getDynamicLabels(), lastMappedEntity, isKotlinType, objectAlreadyMapped);
-		PropertyHandlerSupport.of(concreteNodeDescription).doWithProperties(handler);
+		populateFrom(queryResult, propertyAccessor, entityReaders.apply(concreteNodeDescription),
+				nodeDescriptionAndLabels.getDynamicLabels(), lastMappedEntity, objectAlreadyMapped);
 		// in a cyclic graph / with bidirectional relationships, we could end up in a state in which we
 		// reference the start again. Because it is getting still constructed, it won't be in the knownObjects
 		// store unless we temporarily put it there.
@@ -466,16 +439,22 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 			Collection<String> surplusLabels, @Nullable Object lastMappedEntity,
 			Collection<Relationship> relationshipsFromResult, Collection<Node> nodesFromResult) {
 
+		EntityReader entityReader = entityReaders.apply(nodeDescription);
 		ParameterValueProvider<Neo4jPersistentProperty> parameterValueProvider = new ParameterValueProvider<Neo4jPersistentProperty>() {
 
 			@SuppressWarnings("unchecked") // Needed for the last cast. It's easier that way than using the parameter type info and checking for primitives
 			@Override
 			public <T> T getParameterValue(Parameter<T, Neo4jPersistentProperty> parameter) {
-				Neo4jPersistentProperty matchingProperty = nodeDescription.getRequiredPersistentProperty(parameter.getName());
+				EntityReader.PropertyReader propertyReader = entityReader.getParameter(parameter.getName());
+				Neo4jPersistentProperty matchingProperty = propertyReader != null
+						? propertyReader.getProperty()
+						: nodeDescription.getRequiredPersistentProperty(parameter.getName());
 
 				Object result;
 				if (matchingProperty.isRelationship()) {
-					RelationshipDescription relationshipDescription = nodeDescription.getRelationships().stream()
+					RelationshipDescription relationshipDescription = propertyReader != null
+							? propertyReader.getRelationship()
+							: nodeDescription.getRelationships().stream()
 							.filter(r -> {
 								String propertyFieldName = matchingProperty.getFieldName();
 								return r.getFieldName().equals(propertyFieldName);
@@ -501,6 +480,8 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 					result = createDynamicLabelsProperty(matchingProperty.getTypeInformation(), surplusLabels);
 				} else if (matchingProperty.isEntityWithRelationshipProperties()) {
 					result = lastMappedEntity;
+				} else if (propertyReader != null) {
+					result = propertyReader.read(values);
 				} else {
 					result =  conversionService.readValue(extractValueOf(matchingProperty, values), parameter.getType(), matchingProperty.getOptionalConverter());
 				}
@@ -511,40 +492,26 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		return entityInstantiators.getInstantiatorFor(nodeDescription).createInstance(nodeDescription, parameterValueProvider);
 	}
 
-	private PropertyHandler<Neo4jPersistentProperty> populateFrom(MapAccessor queryResult,
-			  PersistentPropertyAccessor<?> propertyAccessor, Predicate<Neo4jPersistentProperty> isConstructorParameter,
-			  Collection<String> surplusLabels, @Nullable Object targetNode, boolean ownerIsKotlinType, boolean objectAlreadyMapped) {
-
-		return property -> {
-			if (isConstructorParameter.test(property)) {
-				return;
-			}
+	private void populateFrom(MapAccessor queryResult, PersistentPropertyAccessor<?> propertyAccessor,
+			EntityReader entityReader, Collection<String> surplusLabels, @Nullable Object targetNode, boolean objectAlreadyMapped) {
 
-			TypeInformation<?> typeInformation = property.getTypeInformation();
-			if (!objectAlreadyMapped) {
-				if (property.isDynamicLabels()) {
-					propertyAccessor.setProperty(property,
-							createDynamicLabelsProperty(typeInformation, surplusLabels));
-				} else if (property.isAnnotationPresent(TargetNode.class)) {
-					if (queryResult instanceof Relationship) {
-						propertyAccessor.setProperty(property, targetNode);
-					}
+		for (EntityReader.PropertyReader propertyReader : entityReader.getProperties()) {
+			Neo4jPersistentProperty property = propertyReader.getProperty();
+			if (propertyReader.isDynamicLabels()) {
+				if (!objectAlreadyMapped) {
+					propertyAccessor.setProperty(property, createDynamicLabelsProperty(property.getTypeInformation(), surplusLabels));
 				}
-			}
-			if (!property.isDynamicLabels() && !property.isAnnotationPresent(TargetNode.class)) {
-				Object value = conversionService.readValue(extractValueOf(property, queryResult), typeInformation, property.getOptionalConverter());
+			} else if (propertyReader.isTargetNode()) {
+				if (!objectAlreadyMapped && queryResult instanceof Relationship) {
+					propertyAccessor.setProperty(property, targetNode);
+				}
+			} else {
+				Object value = propertyReader.read(queryResult);
 				if (value != null) {
-					Class<?> rawType = typeInformation.getType();
-					propertyAccessor.setProperty(property, getValueOrDefault(ownerIsKotlinType, rawType, value));
+					propertyAccessor.setProperty(property, value);
 				}
 			}
-		};
-	}
-
-	@Nullable
-	private static Object getValueOrDefault(boolean ownerIsKotlinType, Class<?> rawType, @Nullable Object value) {
-
-		return value == null && !ownerIsKotlinType && rawType.isPrimitive() ? ReflectionUtils.getPrimitiveDefault(rawType) : value;
+		}
 	}
 
 	private AssociationHandler<Neo4jPersistentProperty> populateFrom(MapAccessor queryResult, NodeDescription<?> baseDescription,
@@ -684,84 +651,95 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 
 		if (relationshipListEmptyOrNull && hasIdValue) {
 			String sourceNodeId;
-			Function<Relationship, String> sourceIdSelector;
 			Function<Relationship, String> targetIdSelector = relationshipDescription.isIncoming() ? Relationship::startNodeElementId : Relationship::endNodeElementId;
 
-			if (elementId != null) {
+			// Retrieve all matching relationships from the result's list(s)
+			Collection<Relationship> allMatchingTypeRelationshipsInResult;
+			if (elementId != null && relationshipIndex != null) {
 				sourceNodeId = elementId;
-				sourceIdSelector = relationshipDescription.isIncoming() ? Relationship::endNodeElementId : Relationship::startNodeElementId;
+				allMatchingTypeRelationshipsInResult = relationshipIndex.get(sourceNodeId,
+						relationshipDescription.isIncoming(), relationshipDescription.isDynamic() ? null : typeOfRelationship);
 			} else {
-				// this can happen when someone used dto mapping and added the "classical" approach
-				sourceNodeId = Long.toString(internalId);
-				Function<Relationship, Long> hlp = relationshipDescription.isIncoming() ? Relationship::endNodeId : Relationship::startNodeId;
-				sourceIdSelector = hlp.andThen(l -> Long.toString(l));
+				Function<Relationship, String> sourceIdSelector;
+				if (elementId != null) {
+					sourceNodeId = elementId;
+					sourceIdSelector = relationshipDescription.isIncoming() ? Relationship::endNodeElementId : Relationship::startNodeElementId;
+				} else {
+					// this can happen when someone used dto mapping and added the "classical" approach
+					sourceNodeId = Long.toString(internalId);
+					Function<Relationship, Long> hlp = relationshipDescription.isIncoming() ? Relationship::endNodeId : Relationship::startNodeId;
+					sourceIdSelector = hlp.andThen(l -> Long.toString(l));
+				}
+				allMatchingTypeRelationshipsInResult =
+						extractMatchingRelationships(relationshipsFromResult, relationshipDescription, typeOfRelationship,
+								(possibleRelationship) -> sourceIdSelector.apply(possibleRelationship).equals(sourceNodeId));
 			}
 
-			// Retrieve all matching relationships from the result's list(s)
-			Collection<Relationship> allMatchingTypeRelationshipsInResult =
-					extractMatchingRelationships(relationshipsFromResult, relationshipDescription, typeOfRelationship,
-							(possibleRelationship) -> sourceIdSelector.apply(possibleRelationship).equals(sourceNodeId));
-
 			// Fast exit if there is no relationship that can be mapped
 			if (!allMatchingTypeRelationshipsInResult.isEmpty()) {
 
+				// Group the relationships by their target, so that each node only looks at its own relationships
+				Map<String, List<Relationship>> matchingRelationshipsByTargetNodeId = new HashMap<>();
+				for (Relationship possibleRelationship : allMatchingTypeRelationshipsInResult) {
+					matchingRelationshipsByTargetNodeId
+							.computeIfAbsent(targetIdSelector.apply(possibleRelationship), id -> new ArrayList<>())
+							.add(possibleRelationship);
+				}
+
 				// Retrieve all nodes from the result's list(s)
 				Collection<Node> allNodesWithMatchingLabelInResult = extractMatchingNodes(nodesFromResult, targetLabel);
 				for (Node possibleValueNode : allNodesWithMatchingLabelInResult) {
 					String targetNodeId = IdentitySupport.getElementId(possibleValueNode);
+					List<Relationship> relationshipsToTargetNode = matchingRelationshipsByTargetNodeId.remove(targetNodeId);
+					if (relationshipsToTargetNode == null) {
+						continue;
+					}
 
 					Neo4jPersistentEntity<?> concreteTargetNodeDescription =
 							getMostConcreteTargetNodeDescription(genericTargetNodeDescription, possibleValueNode);
 
-					Set<Relationship> relationshipsProcessed = new HashSet<>();
-					for (Relationship possibleRelationship : allMatchingTypeRelationshipsInResult) {
-						if (targetIdSelector.apply(possibleRelationship).equals(targetNodeId)) {
-
-							// Reduce the amount of relationships in the candidate list.
-							// If this relationship got processed twice (OUTGOING, INCOMING), it is never needed again
-							// and therefor should not be in the list.
-							// Otherwise, for highly linked data it could potentially cause a StackOverflowError.
-							String direction = relationshipDescription.getDirection().name();
-							if (knownObjects.hasProcessedRelationshipCompletely("R" + direction + IdentitySupport.getElementId(possibleRelationship))) {
-								relationshipsFromResult.remove(possibleRelationship);
-							}
-							// If the target is the same(equal) node, get the related object from the cache.
-							// Avoiding the call to the map method also breaks an endless cycle of trying to finish
-							// the property population of _this_ object.
-							// The initial population will happen at the end of this mapping. This is sufficient because
-							// it only affects properties not changing the instance of the object.
-							Object mappedObject;
+					for (Relationship possibleRelationship : relationshipsToTargetNode) {
+						// Reduce the amount of relationships in the candidate list.
+						// If this relationship got processed twice (OUTGOING, INCOMING), it is never needed again
+						// and therefor should not be in the list.
+						// Otherwise, for highly linked data it could potentially cause a StackOverflowError.
+						if (knownObjects.hasProcessedRelationshipCompletely(possibleRelationship, relationshipDescription.isIncoming())) {
+							relationshipsFromResult.remove(possibleRelationship);
+						}
+						// If the target is the same(equal) node, get the related object from the cache.
+						// Avoiding the call to the map method also breaks an endless cycle of trying to finish
+						// the property population of _this_ object.
+						// The initial population will happen at the end of this mapping. This is sufficient because
+						// it only affects properties not changing the instance of the object.
+						Object mappedObject;
+						if (fetchMore) {
+							mappedObject = sourceNodeId != null && sourceNodeId.equals(targetNodeId)
+									? knownObjects.getObject("N" + sourceNodeId)
+									: map(possibleValueNode, concreteTargetNodeDescription, baseDescription, null, null, relationshipsFromResult, nodesFromResult);
+						} else {
+							Object objectFromStore = knownObjects.getObject("N" + targetNodeId);
+							mappedObject = objectFromStore != null
+									? objectFromStore
+									: map(possibleValueNode, concreteTargetNodeDescription, baseDescription, null, null, relationshipsFromResult, nodesFromResult);
+						}
+
+						if (relationshipDescription.hasRelationshipProperties()) {
+							Object relationshipProperties;
+							Neo4jPersistentEntity<?> relationshipPropertiesEntity = (Neo4jPersistentEntity<?>) relationshipDescription.getRelationshipPropertiesEntity();
 							if (fetchMore) {
-								mappedObject = sourceNodeId != null && sourceNodeId.equals(targetNodeId)
-										? knownObjects.getObject("N" + sourceNodeId)
-										: map(possibleValueNode, concreteTargetNodeDescription, baseDescription, null, null, relationshipsFromResult, nodesFromResult);
+								relationshipProperties = map(possibleRelationship, relationshipPropertiesEntity, relationshipPropertiesEntity, mappedObject, relationshipDescription, relationshipsFromResult, nodesFromResult);
 							} else {
-								Object objectFromStore = knownObjects.getObject("N" + targetNodeId);
-								mappedObject = objectFromStore != null
+								Object objectFromStore = knownObjects.getObject(IdentitySupport.getPrefixedElementId(possibleRelationship, relationshipDescription.getDirection().name()));
+								relationshipProperties = objectFromStore != null
 										? objectFromStore
-										: map(possibleValueNode, concreteTargetNodeDescription, baseDescription, null, null, relationshipsFromResult, nodesFromResult);
-							}
-
-							if (relationshipDescription.hasRelationshipProperties()) {
-								Object relationshipProperties;
-								Neo4jPersistentEntity<?> relationshipPropertiesEntity = (Neo4jPersistentEntity<?>) relationshipDescription.getRelationshipPropertiesEntity();
-								if (fetchMore) {
-									relationshipProperties = map(possibleRelationship, relationshipPropertiesEntity, relationshipPropertiesEntity, mappedObject, relationshipDescription, relationshipsFromResult, nodesFromResult);
-								} else {
-									Object objectFromStore = knownObjects.getObject(IdentitySupport.getPrefixedElementId(possibleRelationship, relationshipDescription.getDirection().name()));
-									relationshipProperties = objectFromStore != null
-											? objectFromStore
-											: map(possibleRelationship, relationshipPropertiesEntity, relationshipPropertiesEntity, mappedObject, relationshipDescription, relationshipsFromResult, nodesFromResult);
-								}
-								relationshipsAndProperties.add(relationshipProperties);
-								mappedObjectHandler.accept(possibleRelationship.type(), relationshipProperties);
-							} else {
-								mappedObjectHandler.accept(possibleRelationship.type(), mappedObject);
+										: map(possibleRelationship, relationshipPropertiesEntity, relationshipPropertiesEntity, mappedObject, relationshipDescription, relationshipsFromResult, nodesFromResult);
 							}
-							relationshipsProcessed.add(possibleRelationship);
+							relationshipsAndProperties.add(relationshipProperties);
+							mappedObjectHandler.accept(possibleRelationship.type(), relationshipProperties);
+						} else {
+							mappedObjectHandler.accept(possibleRelationship.type(), mappedObject);
 						}
 					}
-					allMatchingTypeRelationshipsInResult.removeAll(relationshipsProcessed);
 				}
 			}
 		} else if (!relationshipListEmptyOrNull) {
@@ -874,28 +852,43 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 	}
 
 	private static Value extractValueOf(Neo4jPersistentProperty property, MapAccessor propertyContainer) {
-		if (property.isInternalIdProperty()) {
-			if (Neo4jPersistentEntity.DEPRECATED_GENERATED_ID_TYPES.contains(property.getType())) {
-				return Values.value(IdentitySupport.getInternalId(propertyContainer));
-			}
-			return Values.value(IdentitySupport.getElementId(propertyContainer));
-		} else if (property.isComposite()) {
-			String prefix = property.computePrefixWithDelimiter();
 
-			if (propertyContainer.containsKey(Constants.NAME_OF_ALL_PROPERTIES)) {
-				return extractCompositePropertyValues(propertyContainer.get(Constants.NAME_OF_ALL_PROPERTIES), prefix);
-			} else {
-				return extractCompositePropertyValues(propertyContainer, prefix);
-			}
+		boolean internalId = property.isInternalIdProperty();
+		return extractValueOf(propertyContainer, internalId,
+				internalId && Neo4jPersistentEntity.DEPRECATED_GENERATED_ID_TYPES.contains(property.getType()),
+				!internalId && property.isComposite() ? property.computePrefixWithDelimiter() : null,
+				property.getPropertyName());
+	}
+
+	/**
+	 * Extracts the raw value of a property from a node, relationship or map. The properties may also be contained in a
+	 * map under {@link Constants#NAME_OF_ALL_PROPERTIES}. Used by this converter and by the precomputed
+	 * {@link EntityReader}, which determine the arguments once per property.
+	 *
+	 * @param propertyContainer    The node, relationship or map containing the property
+	 * @param internalId           Whether the property is the internal id
+	 * @param deprecatedInternalId Whether the internal id is read as deprecated long id instead of an element id
+	 * @param compositePrefix      The prefix including the delimiter if the property is composite, {@literal null} otherwise
+	 * @param graphPropertyName    The name of the property in the graph
+	 * @return The raw value, {@link Values#NULL} if the property is missing
+	 */
+	static Value extractValueOf(MapAccessor propertyContainer, boolean internalId, boolean deprecatedInternalId,
+			@Nullable String compositePrefix, String graphPropertyName) {
+
+		if (internalId) {
+			return deprecatedInternalId
+					? Values.value(IdentitySupport.getInternalId(propertyContainer))
+					: Values.value(IdentitySupport.getElementId(propertyContainer));
+		} else if (compositePrefix != null) {
+			return propertyContainer.containsKey(Constants.NAME_OF_ALL_PROPERTIES)
+					? extractCompositePropertyValues(propertyContainer.get(Constants.NAME_OF_ALL_PROPERTIES), compositePrefix)
+					: extractCompositePropertyValues(propertyContainer, compositePrefix);
+		} else if (propertyContainer.containsKey(graphPropertyName)) {
+			return propertyContainer.get(graphPropertyName);
+		} else if (propertyContainer.containsKey(Constants.NAME_OF_ALL_PROPERTIES)) {
+			return propertyContainer.get(Constants.NAME_OF_ALL_PROPERTIES).get(graphPropertyName);
 		} else {
-			String graphPropertyName = property.getPropertyName();
-			if (propertyContainer.containsKey(graphPropertyName)) {
-				return propertyContainer.get(graphPropertyName);
-			} else if (propertyContainer.containsKey(Constants.NAME_OF_ALL_PROPERTIES)) {
-				return propertyContainer.get(Constants.NAME_OF_ALL_PROPERTIES).get(graphPropertyName);
-			} else {
-				return Values.NULL;
-			}
+			return Values.NULL;
 		}
 	}
 
@@ -909,66 +902,36 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		return Values.value(hlp);
 	}
 
-	static class KnownObjects {
-
-		private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-		private final Lock read = lock.readLock();
-		private final Lock write = lock.writeLock();
+	/**
+	 * The state of one mapping session: all objects mapped so far from the records of a single result set, keyed by their
+	 * prefixed element ids. A session is owned by exactly one converter and the converter is created per mapping function,
+	 * i.e. per query and its result set (see {@link Neo4jMappingContext#getEntityConverter()}), so the state is never shared
+	 * between threads and needs no locking. Result sets can be mapped in parallel by using one converter each.
+	 */
+	static final class KnownObjects {
 
 		private final Map<String, Object> internalIdStore = new HashMap<>();
 		private final Map<String, Boolean> internalCurrentRecord = new HashMap<>();
 		private final Set<String> previousRecords = new HashSet<>();
 		private final Set<String> idsInCreation = new HashSet<>();
 
-		private final Map<String, Integer> processedRelationships = new HashMap<>();
+		private final Map<ProcessedRelationship, Integer> processedRelationships = new HashMap<>();
 		private final Map<String, Set<Map<String, Object>>> mappedQueryResults = new HashMap<>();
 
 		private void storeObject(@Nullable String internalId, Object object) {
 			if (internalId == null) {
 				return;
 			}
-			try {
-				write.lock();
-				idsInCreation.remove(internalId);
-				internalIdStore.put(internalId, object);
-				internalCurrentRecord.put(internalId, false);
-			} finally {
-				write.unlock();
-			}
+			idsInCreation.remove(internalId);
+			internalIdStore.put(internalId, object);
+			internalCurrentRecord.put(internalId, false);
 		}
 
 		private void setInCreation(@Nullable String internalId) {
 			if (internalId == null) {
 				return;
 			}
-			try {
-				write.lock();
-				idsInCreation.add(internalId);
-			} finally {
-				write.unlock();
-			}
-		}
-
-		private boolean isInCreation(@Nullable String internalId) {
-			if (internalId == null) {
-				return false;
-			}
-			try {
-				read.lock();
-				return idsInCreation.contains(internalId);
-			} finally {
-				read.unlock();
-			}
-		}
-
-		private boolean containsNode(Node node) {
-
-			try {
-				read.lock();
-				return internalIdStore.containsKey(IdentitySupport.getElementId(node));
-			} finally {
-				read.unlock();
-			}
+			idsInCreation.add(internalId);
 		}
 
 		@Nullable
@@ -976,47 +939,29 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 			if (internalId == null) {
 				return null;
 			}
-			try {
-				read.lock();
-				if (isInCreation(internalId)) {
-					throw new MappingException(
-							String.format(
-									"The node with id %s has a logical cyclic mapping dependency; " +
-											"its creation caused the creation of another node that has a reference to this",
-									internalId.substring(1))
-					);
-				}
-				return internalIdStore.get(internalId);
-			} finally {
-				read.unlock();
+			if (idsInCreation.contains(internalId)) {
+				throw new MappingException(
+						String.format(
+								"The node with id %s has a logical cyclic mapping dependency; " +
+										"its creation caused the creation of another node that has a reference to this",
+								internalId.substring(1))
+				);
 			}
+			return internalIdStore.get(internalId);
 		}
 
 		private void removeFromInCreation(@Nullable String internalId) {
 			if (internalId == null) {
 				return;
 			}
-			try {
-				write.lock();
-				idsInCreation.remove(internalId);
-			} finally {
-				write.unlock();
-			}
+			idsInCreation.remove(internalId);
 		}
 
 		private boolean alreadyMappedInPreviousRecord(@Nullable String internalId) {
 			if (internalId == null) {
 				return false;
 			}
-			try {
-
-				read.lock();
-
-				return previousRecords.contains(internalId) || internalCurrentRecord.get(internalId);
-
-			} finally {
-				read.unlock();
-			}
+			return previousRecords.contains(internalId) || internalCurrentRecord.get(internalId);
 		}
 
 		/**
@@ -1024,21 +969,16 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		 * It increases the process count of relationships (mapped by their ids)
 		 * AND checks if it was already processed twice (INCOMING/OUTGOING).
 		 */
-		private boolean hasProcessedRelationshipCompletely(String relationshipId) {
-			try {
-				write.lock();
-
-				int processedAmount = processedRelationships.computeIfAbsent(relationshipId, s -> 0);
-				if (processedAmount == 2) {
-					return true;
-				}
+		private boolean hasProcessedRelationshipCompletely(Relationship relationship, boolean incoming) {
 
-				processedRelationships.put(relationshipId, processedAmount + 1);
-				return false;
-
-			} finally {
-				write.unlock();
+			ProcessedRelationship key = new ProcessedRelationship(IdentitySupport.getElementId(relationship), incoming);
+			int processedAmount = processedRelationships.getOrDefault(key, 0);
+			if (processedAmount == 2) {
+				return true;
 			}
+
+			processedRelationships.put(key, processedAmount + 1);
+			return false;
 		}
 
 		/**
@@ -1050,22 +990,69 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		}
 
 		private void mappedWithQueryResult(String internalId, MapAccessor queryResult) {
-			try {
-				write.lock();
-				mappedQueryResults.computeIfAbsent(internalId, id -> ConcurrentHashMap.newKeySet())
-						.add(queryResult.asMap());
-			} finally {
-				write.unlock();
-			}
+			mappedQueryResults.computeIfAbsent(internalId, id -> new HashSet<>()).add(queryResult.asMap());
 		}
 
 		private Set<Map<String, Object>> getQueryResultsFor(String internalId) {
-			try {
-				read.lock();
-				return mappedQueryResults.get(internalId);
-			} finally {
-				read.unlock();
+			return mappedQueryResults.get(internalId);
+		}
+
+		private record ProcessedRelationship(String elementId, boolean incoming) {
+		}
+	}
+
+	/**
+	 * Indexes the relationships of one record by the element id of their start and end node and their type, so that the
+	 * relationships of a node can be retrieved without scanning all relationships of the record. The index is created
+	 * lazily on first access. Relationships that have been removed from the underlying collection after they have been
+	 * processed completely are not returned.
+	 */
+	static final class RelationshipIndex {
+
+		private final Collection<Relationship> relationships;
+
+		@Nullable
+		private Map<Key, List<Relationship>> index;
+
+		RelationshipIndex(Collection<Relationship> relationships) {
+			this.relationships = relationships;
+		}
+
+		/**
+		 * @param nodeId   The element id of the node on the source side of the relationships
+		 * @param incoming True if the node is the end node of the relationships, false if it is the start node
+		 * @param type     The type of the relationships, {@literal null} to retrieve relationships of all types
+		 * @return The matching relationships in the order of the underlying collection
+		 */
+		List<Relationship> get(String nodeId, boolean incoming, @Nullable String type) {
+
+			Map<Key, List<Relationship>> currentIndex = this.index;
+			if (currentIndex == null) {
+				currentIndex = new HashMap<>();
+				for (Relationship relationship : relationships) {
+					add(currentIndex, new Key(relationship.startNodeElementId(), false, null), relationship);
+					add(currentIndex, new Key(relationship.startNodeElementId(), false, relationship.type()), relationship);
+					add(currentIndex, new Key(relationship.endNodeElementId(), true, null), relationship);
+					add(currentIndex, new Key(relationship.endNodeElementId(), true, relationship.type()), relationship);
+				}
+				this.index = currentIndex;
 			}
+
+			List<Relationship> candidates = currentIndex.getOrDefault(new Key(nodeId, incoming, type), List.of());
+			List<Relationship> result = new ArrayList<>(candidates.size());
+			for (Relationship candidate : candidates) {
+				if (relationships.contains(candidate)) {
+					result.add(candidate);
+				}
+			}
+			return result;
+		}
+
+		private static void add(Map<Key, List<Relationship>> index, Key key, Relationship relationship) {
+			index.computeIfAbsent(key, k -> new ArrayList<>()).add(relationship);
+		}
+
+		private record Key(String nodeId, boolean incoming, @Nullable String type) {
 		}
 	}
 }
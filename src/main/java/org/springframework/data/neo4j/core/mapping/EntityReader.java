@@ -0,0 +1,170 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.types.MapAccessor;
+import org.springframework.data.mapping.InstanceCreatorMetadata;
+import org.springframework.data.mapping.Parameter;
+import org.springframework.data.neo4j.core.convert.Neo4jConversionService;
+import org.springframework.data.neo4j.core.convert.Neo4jPersistentPropertyConverter;
+import org.springframework.data.neo4j.core.schema.TargetNode;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+
+/**
+ * The plan for reading records into instances of one concrete entity. Which properties are populated after
+ * instantiation, which are passed to the constructor, how they are extracted from a record and how they are converted
+ * is resolved once when the reader is created and reused for every record. Relationships, dynamic labels and the
+ * selection of the concrete entity depend on the records and are still handled by the {@link DefaultNeo4jEntityConverter}.
+ *
+ * @since 7.4
+ */
+final class EntityReader {
+
+	private final PropertyReader[] properties;
+
+	private final Map<String, PropertyReader> parameters;
+
+	EntityReader(Neo4jPersistentEntity<?> entity, Neo4jConversionService conversionService) {
+
+		Map<String, RelationshipDescription> relationships = new HashMap<>();
+		for (RelationshipDescription relationship : entity.getRelationships()) {
+			relationships.putIfAbsent(relationship.getFieldName(), relationship);
+		}
+
+		InstanceCreatorMetadata<Neo4jPersistentProperty> creator = entity.getInstanceCreatorMetadata();
+		List<PropertyReader> propertyReaders = new ArrayList<>();
+		PropertyHandlerSupport.of(entity).doWithProperties((Neo4jPersistentProperty p) -> {
+			if (creator == null || !creator.isCreatorParameter(p)) {
+				propertyReaders.add(new PropertyReader(p, p.getTypeInformation(), null, conversionService));
+			}
+		});
+		this.properties = propertyReaders.toArray(new PropertyReader[0]);
+
+		this.parameters = new HashMap<>();
+		if (creator != null) {
+			for (Parameter<Object, Neo4jPersistentProperty> parameter : creator.getParameters()) {
+				String name = parameter.getName();
+				Neo4jPersistentProperty property = name == null ? null : entity.getPersistentProperty(name);
+				if (property != null) {
+					RelationshipDescription relationship = property.isRelationship() ? relationships.get(property.getFieldName()) : null;
+					if (!property.isRelationship() || relationship != null) {
+						this.parameters.put(name, new PropertyReader(property, parameter.getType(), relationship, conversionService));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return The readers of all properties that are populated after the entity has been instantiated
+	 */
+	PropertyReader[] getProperties() {
+		return properties;
+	}
+
+	/**
+	 * @param name The name of a constructor parameter
+	 * @return The reader of the property passed as the given parameter, {@literal null} if it cannot be resolved upfront
+	 */
+	@Nullable
+	PropertyReader getParameter(@Nullable String name) {
+		return parameters.get(name);
+	}
+
+	/**
+	 * Reads one property of an entity.
+	 */
+	static final class PropertyReader {
+
+		private final Neo4jPersistentProperty property;
+
+		private final boolean dynamicLabels;
+
+		private final boolean targetNode;
+
+		@Nullable
+		private final RelationshipDescription relationship;
+
+		private final boolean internalId;
+
+		private final boolean deprecatedInternalId;
+
+		@Nullable
+		private final String compositePrefix;
+
+		private final String graphPropertyName;
+
+		private final Function<Value, Object> conversion;
+
+		PropertyReader(Neo4jPersistentProperty property, TypeInformation<?> type, @Nullable RelationshipDescription relationship,
+				Neo4jConversionService conversionService) {
+
+			this.property = property;
+			this.dynamicLabels = property.isDynamicLabels();
+			this.targetNode = property.isAnnotationPresent(TargetNode.class);
+			this.relationship = relationship;
+			this.internalId = property.isInternalIdProperty();
+			this.deprecatedInternalId = internalId && Neo4jPersistentEntity.DEPRECATED_GENERATED_ID_TYPES.contains(property.getType());
+			this.compositePrefix = !internalId && property.isComposite() ? property.computePrefixWithDelimiter() : null;
+			this.graphPropertyName = property.getPropertyName();
+
+			Neo4jPersistentPropertyConverter<?> converter = property.getOptionalConverter();
+			if (conversionService instanceof DefaultNeo4jConversionService defaultConversionService) {
+				this.conversion = defaultConversionService.getReaderFor(type, converter);
+			} else {
+				this.conversion = value -> conversionService.readValue(value, type, converter);
+			}
+		}
+
+		Neo4jPersistentProperty getProperty() {
+			return property;
+		}
+
+		boolean isDynamicLabels() {
+			return dynamicLabels;
+		}
+
+		boolean isTargetNode() {
+			return targetNode;
+		}
+
+		/**
+		 * @return The description of the relationship, if the property is a relationship passed to the constructor
+		 */
+		@Nullable
+		RelationshipDescription getRelationship() {
+			return relationship;
+		}
+
+		/**
+		 * @param propertyContainer The node, relationship or map containing the property
+		 * @return The converted value of the property
+		 */
+		@Nullable
+		Object read(MapAccessor propertyContainer) {
+			return conversion.apply(DefaultNeo4jEntityConverter.extractValueOf(propertyContainer, internalId,
+					deprecatedInternalId, compositePrefix, graphPropertyName));
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.neo4j.driver.Value;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.neo4j.core.convert.Neo4jConversionService;
+import org.springframework.data.neo4j.core.convert.Neo4jPersistentPropertyConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Writes instances of one entity into the parameters of a statement. The properties to write and their conversions are
+ * resolved once when the writer is created, so that writing an instance only reads and converts its property values.
+ *
+ * @since 7.4
+ */
+final class EntityWriter {
+
+	private final Neo4jPersistentEntity<?> entity;
+
+	private final Neo4jPersistentProperty[] properties;
+
+	private final String[] propertyNames;
+
+	private final boolean[] composites;
+
+	private final Function<Object, Value>[] conversions;
+
+	@Nullable
+	private final Neo4jPersistentProperty idProperty;
+
+	@Nullable
+	private final Function<Object, Value> idConversion;
+
+	@Nullable
+	private final Neo4jPersistentProperty versionProperty;
+
+	private final int numberOfParameters;
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	EntityWriter(Neo4jPersistentEntity<?> entity, Neo4jConversionService conversionService) {
+
+		this.entity = entity;
+
+		List<Neo4jPersistentProperty> writtenProperties = new ArrayList<>();
+		PropertyHandlerSupport.of(entity).doWithProperties((Neo4jPersistentProperty p) -> {
+			// Skip the internal properties, we don't want them to end up stored as properties
+			if (!(p.isInternalIdProperty() || p.isDynamicLabels() || p.isEntity() || p.isVersionProperty() || p.isReadOnly())) {
+				writtenProperties.add(p);
+			}
+		});
+
+		int numberOfProperties = writtenProperties.size();
+		this.properties = writtenProperties.toArray(new Neo4jPersistentProperty[0]);
+		this.propertyNames = new String[numberOfProperties];
+		this.composites = new boolean[numberOfProperties];
+		this.conversions = new Function[numberOfProperties];
+		for (int i = 0; i < numberOfProperties; ++i) {
+			Neo4jPersistentProperty property = properties[i];
+			this.propertyNames[i] = property.getPropertyName();
+			this.composites[i] = property.isComposite();
+			this.conversions[i] = getWriterFor(conversionService, property);
+		}
+
+		// in case of relationship properties ignore internal id property
+		this.idProperty = entity.hasIdProperty() ? entity.getRequiredIdProperty() : null;
+		this.idConversion = idProperty == null ? null : getWriterFor(conversionService, idProperty);
+		this.versionProperty = entity.hasVersionProperty() ? entity.getRequiredVersionProperty() : null;
+		this.numberOfParameters = 1 + (idProperty == null ? 0 : 1) + (versionProperty == null ? 0 : 1);
+	}
+
+	private static Function<Object, Value> getWriterFor(Neo4jConversionService conversionService, Neo4jPersistentProperty property) {
+
+		Neo4jPersistentPropertyConverter<?> converter = property.getOptionalConverter();
+		if (conversionService instanceof DefaultNeo4jConversionService defaultConversionService) {
+			return defaultConversionService.getWriterFor(property.getTypeInformation(), converter);
+		}
+		return value -> conversionService.writeValue(value, property.getTypeInformation(), converter);
+	}
+
+	/**
+	 * @param source The instance to write
+	 * @return New parameters containing the properties, the id and the version of the instance
+	 */
+	Map<String, Object> write(Object source) {
+
+		Map<String, Object> parameters = CollectionUtils.newHashMap(numberOfParameters);
+		write(source, parameters);
+		return parameters;
+	}
+
+	void write(Object source, Map<String, Object> parameters) {
+
+		PersistentPropertyAccessor<Object> propertyAccessor = entity.getPropertyAccessor(source);
+
+		Map<String, Object> properties = CollectionUtils.newHashMap(this.properties.length);
+		for (int i = 0; i < this.properties.length; ++i) {
+			Value value = conversions[i].apply(propertyAccessor.getProperty(this.properties[i]));
+			properties.put(propertyNames[i], composites[i] ? new MapValueWrapper(value) : value);
+		}
+		parameters.put(Constants.NAME_OF_PROPERTIES_PARAM, properties);
+
+		if (idProperty != null) {
+			parameters.put(Constants.NAME_OF_ID, idConversion.apply(propertyAccessor.getProperty(idProperty)));
+		}
+		if (versionProperty != null) {
+			// we incremented this upfront the persist operation so the matching version would be one "before"
+			parameters.put(Constants.NAME_OF_VERSION_PARAM, (Long) propertyAccessor.getProperty(versionProperty));
+		}
+	}
+}
@@ -34,6 +34,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apiguardian.api.API;
@@ -105,10 +108,26 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 	 */
 	private final NodeDescriptionStore nodeDescriptionStore = new NodeDescriptionStore();
 
+	/**
+	 * Guards relaxing the strictness while linking entities to their parents. A lock instead of a monitor, as resolving
+	 * the parent acquires the locks of the {@link AbstractMappingContext}, which would pin a virtual thread otherwise.
+	 */
+	private final Lock parentNodeLock = new ReentrantLock();
+
 	private final TypeSystem typeSystem;
 
 	private final Neo4jConversionService conversionService;
 
+	/**
+	 * Writers for all entities that have been written so far, keyed by the class of the written instances.
+	 */
+	private final Map<Class<?>, EntityWriter> entityWriters = new ConcurrentHashMap<>();
+
+	/**
+	 * Readers for all entities that have been read so far.
+	 */
+	private final Map<Neo4jPersistentEntity<?>, EntityReader> entityReaders = new ConcurrentHashMap<>();
+
 	private final Map<Neo4jPersistentEntity, Set<MethodHolder>> postLoadMethods = new ConcurrentHashMap<>();
 
 	private EventSupport eventSupport;
@@ -222,7 +241,46 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 
 	public Neo4jEntityConverter getEntityConverter() {
 		return new DefaultNeo4jEntityConverter(INSTANTIATORS, nodeDescriptionStore, conversionService, eventSupport,
-				typeSystem);
+				typeSystem, this::getEntityWriter, this::getEntityReader);
+	}
+
+	@Override
+	public <T> Function<T, Map<String, Object>> getRequiredBinderFunctionFor(Class<T> sourceClass) {
+
+		NodeDescription<?> nodeDescription = getNodeDescription(sourceClass);
+		if (nodeDescription == null) {
+			throw new UnknownEntityException(sourceClass);
+		}
+
+		EntityWriter entityWriter = getEntityWriter(sourceClass);
+		return t -> (t.getClass() == sourceClass ? entityWriter : getEntityWriter(t.getClass())).write(t);
+	}
+
+	/**
+	 * @param entity The entity to read
+	 * @return A reader for instances of the given entity, created once per entity
+	 */
+	EntityReader getEntityReader(Neo4jPersistentEntity<?> entity) {
+
+		EntityReader entityReader = entityReaders.get(entity);
+		if (entityReader == null) {
+			entityReader = entityReaders.computeIfAbsent(entity, e -> new EntityReader(e, conversionService));
+		}
+		return entityReader;
+	}
+
+	/**
+	 * @param type The type of the instances to write
+	 * @return A writer for instances of the given type, created once per type
+	 */
+	EntityWriter getEntityWriter(Class<?> type) {
+
+		EntityWriter entityWriter = entityWriters.get(type);
+		if (entityWriter == null) {
+			entityWriter = entityWriters.computeIfAbsent(type,
+					t -> new EntityWriter((Neo4jPersistentEntity<?>) nodeDescriptionStore.getNodeDescription(t), conversionService));
+		}
+		return entityWriter;
 	}
 
 	public Neo4jConversionService getConversionService() {
@@ -293,7 +351,8 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 		Class<? super T> superclass = type.getSuperclass();
 
 		if (isValidParentNode(superclass)) {
-			synchronized (this) {
+			try {
+				parentNodeLock.lock();
 				super.setStrict(false);
 				Neo4jPersistentEntity<?> parentNodeDescription = getPersistentEntity(superclass);
 				if (parentNodeDescription != null) {
@@ -301,6 +360,8 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 					newEntity.setParentNodeDescription(parentNodeDescription);
 				}
 				this.setStrict(strict);
+			} finally {
+				parentNodeLock.unlock();
 			}
 		}
 
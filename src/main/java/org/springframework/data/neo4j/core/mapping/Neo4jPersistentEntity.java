@@ -22,6 +22,7 @@ import org.apiguardian.api.API;
 import org.springframework.data.mapping.AssociationHandler;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.MutablePersistentEntity;
+import org.springframework.data.neo4j.core.schema.SubgraphLoading;
 
 /**
  * A {@link org.springframework.data.mapping.PersistentEntity} interface with additional methods for metadata related to
@@ -56,6 +57,15 @@ public interface Neo4jPersistentEntity<T>
 	 */
 	boolean isRelationshipPropertiesEntity();
 
+	/**
+	 * @return The strategy used to load the graph of this entity if it contains possible cycles
+	 * @since 7.4
+	 */
+	default SubgraphLoading.Strategy getSubgraphLoadingStrategy() {
+		SubgraphLoading subgraphLoading = findAnnotation(SubgraphLoading.class);
+		return subgraphLoading == null ? SubgraphLoading.Strategy.PER_RELATIONSHIP : subgraphLoading.value();
+	}
+
 	/**
 	 * @return True if the underlying domain classes uses {@code id()} to compute internally generated ids.
 	 */
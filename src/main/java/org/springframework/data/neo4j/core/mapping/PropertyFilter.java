@@ -17,6 +17,7 @@ package org.springframework.data.neo4j.core.mapping;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -230,6 +231,23 @@ public abstract class PropertyFilter {
 			}
 			return new RelaxedPropertyPath(getSegment().equals(dotPath) ? lastSegment : getSegment() + "." + lastSegment, type);
 		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			RelaxedPropertyPath that = (RelaxedPropertyPath) o;
+			return dotPath.equals(that.dotPath) && Objects.equals(type, that.type);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(dotPath, type);
+		}
 	}
 
 	/**
@@ -243,5 +261,22 @@ public abstract class PropertyFilter {
 			this.propertyPath = propertyPath;
 			this.isEntity = isEntity;
 		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			ProjectedPath that = (ProjectedPath) o;
+			return isEntity == that.isEntity && propertyPath.equals(that.propertyPath);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(propertyPath, isEntity);
+		}
 	}
 }
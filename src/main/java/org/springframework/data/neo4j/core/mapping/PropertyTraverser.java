@@ -19,6 +19,8 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.BiPredicate;
 
@@ -41,6 +43,7 @@ public final class PropertyTraverser {
 
 	private final Neo4jMappingContext ctx;
 	private final Set<Association<?>> pathsTraversed = new HashSet<>();
+	private final Lock lock = new ReentrantLock();
 
 	public PropertyTraverser(Neo4jMappingContext ctx) {
 		this.ctx = ctx;
@@ -53,13 +56,18 @@ public final class PropertyTraverser {
 		traverse(root, (path, toProperty) -> true, sink);
 	}
 
-	public synchronized void traverse(
+	public void traverse(
 			Class<?> root,
 			BiPredicate<PropertyPath, Neo4jPersistentProperty> predicate,
 			BiConsumer<PropertyPath, Neo4jPersistentProperty> sink
 	) {
-		this.pathsTraversed.clear();
-		traverseImpl(ctx.getRequiredPersistentEntity(root), null, predicate, sink, false);
+		try {
+			lock.lock();
+			this.pathsTraversed.clear();
+			traverseImpl(ctx.getRequiredPersistentEntity(root), null, predicate, sink, false);
+		} finally {
+			lock.unlock();
+		}
 	}
 
 	private void traverseImpl(
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.schema;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+
+/**
+ * Marks a {@link Node @Node} annotated class as cacheable by the entity cache of the {@code Neo4jTemplate}. Lookups by
+ * id of marked entities are answered from the cache, if an entity cache has been configured. Without a configured
+ * entity cache, this annotation has no effect.
+ * <p>
+ * The time to live and the maximum size are applied by the local caches of the entity cache. They are ignored when the
+ * caches are provided by a {@link org.springframework.cache.CacheManager}, which must configure the eviction itself.
+ *
+ * @since 7.4
+ * @see org.springframework.data.neo4j.core.Neo4jEntityCache
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public @interface Cached {
+
+	/**
+	 * @return The name of the cache, defaults to the fully qualified name of the annotated class
+	 */
+	String value() default "";
+
+	/**
+	 * @return The time in seconds after which a cached entity expires, {@literal 0} to keep entities until they are
+	 *         evicted
+	 */
+	long timeToLiveSeconds() default 0;
+
+	/**
+	 * @return The maximum number of cached entities, {@literal 0} for no limit
+	 */
+	long maximumSize() default 0;
+}
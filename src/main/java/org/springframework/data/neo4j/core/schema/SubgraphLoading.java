@@ -0,0 +1,71 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.schema;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+
+/**
+ * Configures how the graph of a domain model containing possible cycles is loaded. The annotation can be put on a
+ * {@link Node @Node} annotated class, affecting all queries for that class, or on a derived finder method of a
+ * repository, affecting only that query. An annotated finder method has precedence over the entity.
+ * <p>
+ * Domain models without possible cycles are always loaded with one single query and are not affected by this
+ * annotation.
+ *
+ * @since 7.4
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Documented
+@Inherited
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public @interface SubgraphLoading {
+
+	/**
+	 * Enumeration of the available loading strategies.
+	 *
+	 * @since 7.4
+	 */
+	enum Strategy {
+
+		/**
+		 * Follows every mapped relationship hop by hop, using one query per relationship and level, and loads the
+		 * collected nodes and relationships afterwards. This is the default.
+		 */
+		PER_RELATIONSHIP,
+
+		/**
+		 * Collects all reachable nodes and relationships with one variable-length pattern, restricted to the mapped
+		 * relationship types, and loads them afterwards. This needs two queries in total regardless of the depth of the
+		 * graph, but may collect more than needed if relationships of the same type are mapped in different directions.
+		 * Models containing dynamic relationships without an enumerable set of types fall back to
+		 * {@link #PER_RELATIONSHIP}.
+		 */
+		SINGLE_QUERY
+	}
+
+	/**
+	 * @return The strategy to use
+	 */
+	Strategy value();
+}
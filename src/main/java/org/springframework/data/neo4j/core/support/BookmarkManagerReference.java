@@ -15,6 +15,8 @@
  */
 package org.springframework.data.neo4j.core.support;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import org.springframework.beans.BeansException;
@@ -60,6 +62,8 @@ public final class BookmarkManagerReference implements ApplicationContextAware {
 	@Nullable
 	private volatile Neo4jBookmarkManager bookmarkManager;
 
+	private final Lock lock = new ReentrantLock();
+
 	private ApplicationEventPublisher applicationEventPublisher;
 
 	public BookmarkManagerReference(Supplier<Neo4jBookmarkManager> defaultBookmarkManagerSupplier, @Nullable Neo4jBookmarkManager bookmarkManager) {
@@ -80,13 +84,16 @@ public final class BookmarkManagerReference implements ApplicationContextAware {
 	public Neo4jBookmarkManager resolve() {
 		Neo4jBookmarkManager result = this.bookmarkManager;
 		if (result == null) {
-			synchronized (this) {
+			try {
+				lock.lock();
 				result = this.bookmarkManager;
 				if (result == null) {
 					this.bookmarkManager = neo4jBookmarkManagers.getIfAvailable(this.defaultBookmarkManagerSupplier);
 					this.bookmarkManager.setApplicationEventPublisher(this.applicationEventPublisher);
 					result = this.bookmarkManager;
 				}
+			} finally {
+				lock.unlock();
 			}
 		}
 		return result;
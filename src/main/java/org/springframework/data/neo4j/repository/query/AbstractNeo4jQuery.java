@@ -24,6 +24,8 @@ import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
+import org.neo4j.cypherdsl.core.Cypher;
+import org.neo4j.cypherdsl.core.Node;
 import org.neo4j.driver.types.MapAccessor;
 import org.neo4j.driver.types.TypeSystem;
 import org.springframework.core.convert.converter.Converter;
@@ -59,6 +61,9 @@ abstract class AbstractNeo4jQuery extends Neo4jQuerySupport implements Repositor
 
 	protected final Neo4jOperations neo4jOperations;
 	private final ProjectionFactory factory;
+	private PageTotalStrategy pageTotalStrategy = PageTotalStrategy.exact();
+	@Nullable
+	private ConcurrentPageCounts concurrentPageCounts;
 
 	AbstractNeo4jQuery(Neo4jOperations neo4jOperations, Neo4jMappingContext mappingContext,
 			Neo4jQueryMethod queryMethod,
@@ -76,7 +81,18 @@ abstract class AbstractNeo4jQuery extends Neo4jQuerySupport implements Repositor
 		return this.queryMethod;
 	}
 
+	void setPageTotalStrategy(PageTotalStrategy pageTotalStrategy) {
+
+		Assert.notNull(pageTotalStrategy, "The page total strategy is required");
+		this.pageTotalStrategy = pageTotalStrategy;
+	}
+
+	void setConcurrentPageCounts(@Nullable ConcurrentPageCounts concurrentPageCounts) {
+		this.concurrentPageCounts = concurrentPageCounts;
+	}
+
 	@Override
+	@SuppressWarnings("unchecked")
 	public final Object execute(Object[] parameters) {
 
 		boolean incrementLimit = queryMethod.incrementLimit();
@@ -90,7 +106,9 @@ abstract class AbstractNeo4jQuery extends Neo4jQuerySupport implements Repositor
 				PropertyFilterSupport.getInputProperties(resultProcessor, factory, mappingContext), parameterAccessor,
 				null, getMappingFunction(resultProcessor), incrementLimit ? l -> l + 1 : UnaryOperator.identity());
 
-		Object rawResult = new Neo4jQueryExecution.DefaultQueryExecution(neo4jOperations).execute(preparedQuery, queryMethod.asCollectionQuery());
+		Neo4jQueryExecution queryExecution = queryMethod.isStreamQuery()
+				? new Neo4jQueryExecution.StreamQueryExecution(neo4jOperations)
+				: new Neo4jQueryExecution.DefaultQueryExecution(neo4jOperations);
 
 		Converter<Object, Object> preparingConverter = OptionalUnwrappingConverter.INSTANCE;
 		if (returnedType.isProjecting()) {
@@ -101,27 +119,53 @@ abstract class AbstractNeo4jQuery extends Neo4jQuerySupport implements Repositor
 					(EntityInstanceWithSource) OptionalUnwrappingConverter.INSTANCE.convert(source));
 		}
 
+		Object rawResult;
 		if (queryMethod.isPageQuery()) {
-			rawResult = createPage(parameterAccessor, (List<?>) rawResult);
-		} else if (queryMethod.isSliceQuery()) {
-			rawResult = createSlice(incrementLimit, parameterAccessor, (List<?>) rawResult);
-		} else if (queryMethod.isScrollQuery()) {
-			rawResult = createWindow(resultProcessor, incrementLimit, parameterAccessor, (List<?>) rawResult, preparedQuery.getQueryFragmentsAndParameters());
+			// The content is executed as part of creating the page, so that the total can be counted concurrently
+			rawResult = createPage(parameterAccessor,
+					() -> (List<Object>) queryExecution.execute(preparedQuery, queryMethod.asCollectionQuery()));
+		} else {
+			rawResult = queryExecution.execute(preparedQuery, queryMethod.asCollectionQuery());
+			if (queryMethod.isSliceQuery()) {
+				rawResult = createSlice(incrementLimit, parameterAccessor, (List<?>) rawResult);
+			} else if (queryMethod.isScrollQuery()) {
+				rawResult = createWindow(resultProcessor, incrementLimit, parameterAccessor, (List<?>) rawResult, preparedQuery.getQueryFragmentsAndParameters());
+			}
 		}
 		return resultProcessor.processResult(rawResult, preparingConverter);
 	}
 
-	private Page<?> createPage(Neo4jParameterAccessor parameterAccessor, List<?> rawResult) {
+	private Page<?> createPage(Neo4jParameterAccessor parameterAccessor, Supplier<List<Object>> content) {
 
-		LongSupplier totalSupplier = () -> {
+		Pageable pageable = parameterAccessor.getPageable();
+		Supplier<PreparedQuery<Long>> countQuerySupplier = () -> getCountQuery(parameterAccessor)
+				.orElseGet(() -> prepareQuery(Long.class, Collections.emptySet(), parameterAccessor, Neo4jQueryType.COUNT,
+						null, UnaryOperator.identity()));
+
+		if (concurrentPageCounts != null && pageTotalStrategy == PageTotalStrategies.EXACT) {
+			PreparedQuery<Long> countQuery = countQuerySupplier.get();
+			return concurrentPageCounts.getPage(content, pageable,
+					() -> neo4jOperations.toExecutableQuery(countQuery).getRequiredSingleResult());
+		}
 
-			Supplier<PreparedQuery<Long>> defaultCountQuery = () -> prepareQuery(Long.class,
-					Collections.emptySet(), parameterAccessor, Neo4jQueryType.COUNT, null, UnaryOperator.identity());
-			PreparedQuery<Long> countQuery = getCountQuery(parameterAccessor).orElseGet(defaultCountQuery);
+		List<Object> rawResult = content.get();
+		LongSupplier totalSupplier = () -> {
 
-			return neo4jOperations.toExecutableQuery(countQuery).getRequiredSingleResult();
+			PreparedQuery<Long> countQuery = countQuerySupplier.get();
+			return pageTotalStrategy.getTotal(new PageTotalStrategy.CountQuery(queryMethod,
+					countQuery.getQueryFragmentsAndParameters(), pageable, rawResult.size(),
+					() -> neo4jOperations.toExecutableQuery(countQuery).getRequiredSingleResult(),
+					this::countAllNodesOfDomainType));
 		};
-		return PageableExecutionUtils.getPage(rawResult, parameterAccessor.getPageable(), totalSupplier);
+		return PageableExecutionUtils.getPage(rawResult, pageable, totalSupplier);
+	}
+
+	private long countAllNodesOfDomainType() {
+
+		// A single label and no condition can be answered from the count store
+		String primaryLabel = mappingContext.getRequiredPersistentEntity(queryMethod.getEntityInformation().getJavaType()).getPrimaryLabel();
+		Node node = Cypher.node(primaryLabel).named("n");
+		return neo4jOperations.count(Cypher.match(node).returning(Cypher.count(node)).build());
 	}
 
 	private Slice<?> createSlice(boolean incrementLimit, Neo4jParameterAccessor parameterAccessor, List<?> rawResult) {
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Runs the count query of a {@link Page} concurrently with the query for its content, so that the page is available
+ * after the slower of both queries instead of after both of them. Register exactly one bean of this type to enable
+ * concurrent counts for imperative repositories. They apply to query methods, {@code findAll(Pageable)} and the
+ * {@code findAll(Condition, Pageable)} of the Cypher-DSL executor.
+ * <p>
+ * The count query runs on a thread of the given executor and therefore in its own session and transaction. It is only
+ * run concurrently when the calling thread has no transaction or a read-only one, as it would not see the uncommitted
+ * changes of a read-write transaction. Any state the configured providers for the database or the user read from the
+ * calling thread must be propagated by the executor. Totals that are not computed by running the count query, such as
+ * {@link PageTotalStrategy#cached(java.time.Duration, int) cached} totals, are never computed concurrently.
+ *
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+public final class ConcurrentPageCounts {
+
+	private final Executor executor;
+
+	/**
+	 * @param executor The executor for the count queries
+	 * @return Concurrent counts on the given executor
+	 */
+	public static ConcurrentPageCounts using(Executor executor) {
+
+		Assert.notNull(executor, "An executor is required");
+		return new ConcurrentPageCounts(executor);
+	}
+
+	private ConcurrentPageCounts(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Creates a page. The total is computed concurrently with the content if possible and it is not needed when the
+	 * content is not a full page.
+	 *
+	 * @param content  Supplies the content of the page
+	 * @param pageable The requested page
+	 * @param total    Supplies the total number of elements
+	 * @param <T>      The type of the content
+	 * @return The page
+	 */
+	@API(status = API.Status.INTERNAL, since = "7.4")
+	public <T> Page<T> getPage(Supplier<List<T>> content, Pageable pageable, LongSupplier total) {
+
+		if (pageable.isUnpaged() || !canCountConcurrently()) {
+			return PageableExecutionUtils.getPage(content.get(), pageable, total);
+		}
+
+		CompletableFuture<Long> futureTotal = CompletableFuture.supplyAsync(total::getAsLong, executor);
+		try {
+			return PageableExecutionUtils.getPage(content.get(), pageable, () -> join(futureTotal));
+		} finally {
+			// Does nothing if the total has been used and avoids counting if the content has been sufficient
+			futureTotal.cancel(false);
+		}
+	}
+
+	private static boolean canCountConcurrently() {
+		return !TransactionSynchronizationManager.isActualTransactionActive()
+			   || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+	}
+
+	private static long join(CompletableFuture<Long> futureTotal) {
+
+		try {
+			return futureTotal.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			} else if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+}
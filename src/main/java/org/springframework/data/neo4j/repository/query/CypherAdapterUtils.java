@@ -140,10 +140,14 @@ public final class CypherAdapterUtils {
 		var root = Constants.NAME_OF_TYPED_ROOT_NODE.apply(entity);
 
 		var resultingCondition = Cypher.noCondition();
-		// This is the next equality pair if previous sort key was equal
+		// This is the conjunction of equality pairs of all previous sort keys
 		var nextEquals = Cypher.noCondition();
 		// This is the condition for when all the sort orderedKeys are equal, and we must filter via id
 		var allEqualsWithArtificialSort = Cypher.noCondition();
+		// A redundant, inclusive bound on the first sort key, which Neo4j can use for seeking a range index on it
+		Condition seekableBound = null;
+		// When the id itself is sorted on, the keys are unique and the artificial sort is not needed
+		var sortedByUniqueId = false;
 
 		for (Map.Entry<String, Object> entry : orderedKeys.entrySet()) {
 
@@ -167,11 +171,24 @@ public final class CypherAdapterUtils {
 
 				var comparatorFunction = getComparatorFunction(p.order.getDirection(), scrollDirection);
 				resultingCondition = resultingCondition.or(nextEquals.and(comparatorFunction.apply(expression, parameter)));
-				nextEquals = expression.eq(parameter);
-				allEqualsWithArtificialSort = allEqualsWithArtificialSort.and(nextEquals);
+				if (seekableBound == null && orderedKeys.size() > 1) {
+					seekableBound = getInclusiveComparatorFunction(p.order.getDirection(), scrollDirection).apply(expression, parameter);
+				}
+				nextEquals = nextEquals.and(expression.eq(parameter));
+				allEqualsWithArtificialSort = allEqualsWithArtificialSort.and(expression.eq(parameter));
+				sortedByUniqueId = sortedByUniqueId || p.property.isIdProperty();
 			}
 		}
-		return resultingCondition.or(allEqualsWithArtificialSort);
+
+		var condition = sortedByUniqueId ? resultingCondition : resultingCondition.or(allEqualsWithArtificialSort);
+		return seekableBound == null ? condition : seekableBound.and(condition);
+	}
+
+	private static BiFunction<Expression, Expression, Condition> getInclusiveComparatorFunction(Sort.Direction sortDirection, KeysetScrollPosition.Direction scrollDirection) {
+		if (scrollDirection == Direction.BACKWARD) {
+			return sortDirection.isAscending() ? Expression::lte : Expression::gte;
+		}
+		return sortDirection.isAscending() ? Expression::gte : Expression::lte;
 	}
 
 	private static BiFunction<Expression, Expression, Condition> getComparatorFunction(Sort.Direction sortDirection, KeysetScrollPosition.Direction scrollDirection) {
@@ -19,6 +19,7 @@ import static org.neo4j.cypherdsl.core.Cypher.point;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -155,6 +156,13 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 		this.keysetRequiresSort = queryMethod.isScrollQuery() && actualParameters.getScrollPosition() instanceof KeysetScrollPosition;
 	}
 
+	/**
+	 * @return The parameters bound while creating the query, in the order of the bindable method parameters
+	 */
+	List<Parameter> getBoundedParameters() {
+		return Collections.unmodifiableList(boundedParameters);
+	}
+
 	@Override
 	protected Condition create(Part part, Iterator<Object> actualParameters) {
 		return createImpl(part, actualParameters);
@@ -213,6 +221,10 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 		} else {
 			queryFragments.addMatchOn(startNode);
 		}
+
+		if (queryMethod instanceof Neo4jQueryMethod neo4jQueryMethod) {
+			neo4jQueryMethod.getSubgraphLoadingStrategy().ifPresent(queryFragments::setSubgraphLoadingStrategy);
+		}
 		// end of initial filter query creation
 
 		if (queryType == Neo4jQueryType.COUNT) {
@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.LongSupplier;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.neo4j.cypherdsl.core.Condition;
@@ -39,6 +40,7 @@ import org.springframework.data.neo4j.core.mapping.PropertyFilter;
 import org.springframework.data.neo4j.repository.support.CypherdslConditionExecutor;
 import org.springframework.data.neo4j.repository.support.Neo4jEntityInformation;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.lang.Nullable;
 
 /**
  * @author Michael J. Simons
@@ -54,12 +56,22 @@ public final class CypherdslConditionExecutorImpl<T> implements CypherdslConditi
 
 	private final Neo4jPersistentEntity<T> metaData;
 
+	@Nullable
+	private final ConcurrentPageCounts concurrentPageCounts;
+
 	public CypherdslConditionExecutorImpl(Neo4jEntityInformation<T, Object> entityInformation,
 			Neo4jOperations neo4jOperations) {
 
+		this(entityInformation, neo4jOperations, null);
+	}
+
+	public CypherdslConditionExecutorImpl(Neo4jEntityInformation<T, Object> entityInformation,
+			Neo4jOperations neo4jOperations, @Nullable ConcurrentPageCounts concurrentPageCounts) {
+
 		this.entityInformation = entityInformation;
 		this.neo4jOperations = neo4jOperations;
 		this.metaData = this.entityInformation.getEntityMetaData();
+		this.concurrentPageCounts = concurrentPageCounts;
 	}
 
 	@Override
@@ -116,12 +128,15 @@ public final class CypherdslConditionExecutorImpl<T> implements CypherdslConditi
 	public Page<T> findAll(Condition condition, Pageable pageable) {
 
 		Predicate<PropertyFilter.RelaxedPropertyPath> noFilter = PropertyFilter.NO_FILTER;
-		List<T> page = this.neo4jOperations.toExecutableQuery(
+		Supplier<List<T>> page = () -> this.neo4jOperations.toExecutableQuery(
 				this.metaData.getType(),
 				QueryFragmentsAndParameters.forConditionAndPageable(this.metaData, condition, pageable, noFilter)
 		).getResults();
 		LongSupplier totalCountSupplier = () -> this.count(condition);
-		return PageableExecutionUtils.getPage(page, pageable, totalCountSupplier);
+		if (concurrentPageCounts != null) {
+			return concurrentPageCounts.getPage(page, pageable, totalCountSupplier);
+		}
+		return PageableExecutionUtils.getPage(page.get(), pageable, totalCountSupplier);
 	}
 
 	@Override
@@ -111,7 +111,11 @@ abstract class FluentQuerySupport<R> {
 					var persistentProperty = entity.getRequiredPersistentProperty(o.getProperty());
 					keys.put(persistentProperty.getPropertyName(), accessor.getProperty(persistentProperty));
 				});
-				keys.put(Constants.NAME_OF_ADDITIONAL_SORT, accessor.getProperty(entity.getRequiredIdProperty()));
+				// The id is unique, there is no need to store it twice when it is already part of the sort
+				var idProperty = entity.getRequiredIdProperty();
+				if (!keys.containsKey(idProperty.getPropertyName())) {
+					keys.put(Constants.NAME_OF_ADDITIONAL_SORT, accessor.getProperty(idProperty));
+				}
 				return ScrollPosition.forward(keys);
 			};
 		}
@@ -55,6 +55,25 @@ interface Neo4jQueryExecution {
 		}
 	}
 
+	/**
+	 * Execution for repository methods returning a {@link java.util.stream.Stream}. The records are mapped while the
+	 * stream is consumed and not collected upfront.
+	 */
+	class StreamQueryExecution implements Neo4jQueryExecution {
+
+		private final Neo4jOperations neo4jOperations;
+
+		StreamQueryExecution(Neo4jOperations neo4jOperations) {
+			this.neo4jOperations = neo4jOperations;
+		}
+
+		@Override
+		public Object execute(PreparedQuery<?> preparedQuery, boolean asCollectionQuery) {
+
+			return neo4jOperations.toExecutableQuery(preparedQuery).stream();
+		}
+	}
+
 	class ReactiveQueryExecution implements Neo4jQueryExecution {
 
 		private final ReactiveNeo4jOperations neo4jOperations;
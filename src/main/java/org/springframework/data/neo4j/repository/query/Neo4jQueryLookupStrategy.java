@@ -26,6 +26,7 @@ import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.lang.Nullable;
 
 /**
  * Lookup strategy for queries. This is the internal api of the {@code query package}.
@@ -40,12 +41,23 @@ public final class Neo4jQueryLookupStrategy implements QueryLookupStrategy {
 	private final Neo4jMappingContext mappingContext;
 	private final Neo4jOperations neo4jOperations;
 	private final QueryMethodEvaluationContextProvider evaluationContextProvider;
+	private final PageTotalStrategy pageTotalStrategy;
+	@Nullable
+	private final ConcurrentPageCounts concurrentPageCounts;
 
 	public Neo4jQueryLookupStrategy(Neo4jOperations neo4jOperations, Neo4jMappingContext mappingContext,
 			QueryMethodEvaluationContextProvider evaluationContextProvider) {
+		this(neo4jOperations, mappingContext, evaluationContextProvider, PageTotalStrategy.exact(), null);
+	}
+
+	public Neo4jQueryLookupStrategy(Neo4jOperations neo4jOperations, Neo4jMappingContext mappingContext,
+			QueryMethodEvaluationContextProvider evaluationContextProvider, PageTotalStrategy pageTotalStrategy,
+			@Nullable ConcurrentPageCounts concurrentPageCounts) {
 		this.neo4jOperations = neo4jOperations;
 		this.mappingContext = mappingContext;
 		this.evaluationContextProvider = evaluationContextProvider;
+		this.pageTotalStrategy = pageTotalStrategy;
+		this.concurrentPageCounts = concurrentPageCounts;
 	}
 
 	/* (non-Javadoc)
@@ -58,16 +70,20 @@ public final class Neo4jQueryLookupStrategy implements QueryLookupStrategy {
 		Neo4jQueryMethod queryMethod = new Neo4jQueryMethod(method, metadata, factory);
 		String namedQueryName = queryMethod.getNamedQueryName();
 
+		AbstractNeo4jQuery query;
 		if (namedQueries.hasQuery(namedQueryName)) {
-			return StringBasedNeo4jQuery.create(neo4jOperations, mappingContext, evaluationContextProvider, queryMethod,
+			query = StringBasedNeo4jQuery.create(neo4jOperations, mappingContext, evaluationContextProvider, queryMethod,
 					namedQueries.getQuery(namedQueryName), factory);
 		} else if (queryMethod.hasQueryAnnotation()) {
-			return StringBasedNeo4jQuery.create(neo4jOperations, mappingContext, evaluationContextProvider, queryMethod,
+			query = StringBasedNeo4jQuery.create(neo4jOperations, mappingContext, evaluationContextProvider, queryMethod,
 					factory);
 		} else if (queryMethod.isCypherBasedProjection()) {
-			return CypherdslBasedQuery.create(neo4jOperations, mappingContext, queryMethod, factory);
+			query = CypherdslBasedQuery.create(neo4jOperations, mappingContext, queryMethod, factory);
 		} else {
-			return PartTreeNeo4jQuery.create(neo4jOperations, mappingContext, queryMethod, factory);
+			query = PartTreeNeo4jQuery.create(neo4jOperations, mappingContext, queryMethod, factory);
 		}
+		query.setPageTotalStrategy(pageTotalStrategy);
+		query.setConcurrentPageCounts(concurrentPageCounts);
+		return query;
 	}
 }
@@ -21,6 +21,7 @@ import java.util.Optional;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.neo4j.core.schema.SubgraphLoading;
 import org.springframework.data.neo4j.repository.support.CypherdslStatementExecutor;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
@@ -49,6 +50,11 @@ class Neo4jQueryMethod extends QueryMethod {
 	 */
 	private @Nullable final Query queryAnnotation;
 
+	/**
+	 * Optional annotation configuring the loading of cyclic domain models for this method.
+	 */
+	private @Nullable final SubgraphLoading subgraphLoadingAnnotation;
+
 	private final String repositoryName;
 
 	private final boolean cypherBasedProjection;
@@ -82,6 +88,7 @@ class Neo4jQueryMethod extends QueryMethod {
 		this.repositoryName = declaringClass.getName();
 		this.cypherBasedProjection = cypherBasedProjection;
 		this.queryAnnotation = AnnotatedElementUtils.findMergedAnnotation(method, Query.class);
+		this.subgraphLoadingAnnotation = AnnotatedElementUtils.findMergedAnnotation(method, SubgraphLoading.class);
 	}
 
 	String getRepositoryName() {
@@ -110,6 +117,13 @@ class Neo4jQueryMethod extends QueryMethod {
 		return Optional.ofNullable(this.queryAnnotation);
 	}
 
+	/**
+	 * @return the strategy configured via {@link SubgraphLoading} on the method or an empty {@link Optional} if none available.
+	 */
+	Optional<SubgraphLoading.Strategy> getSubgraphLoadingStrategy() {
+		return Optional.ofNullable(this.subgraphLoadingAnnotation).map(SubgraphLoading::value);
+	}
+
 	@Override
 	protected Parameters<Neo4jParameters, Neo4jParameter> createParameters(Method method, TypeInformation<?> domainType) {
 		return new Neo4jParameters(method, domainType);
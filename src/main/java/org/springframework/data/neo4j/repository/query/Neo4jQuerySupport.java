@@ -304,7 +304,11 @@ abstract class Neo4jQuerySupport {
 					keys.put(persistentProperty.getPropertyName(), accessor.getProperty(persistentProperty));
 					// keys.put(persistentProperty.getPropertyName(), conversionService.convert(accessor.getProperty(persistentProperty), Value.class));
 				});
-				keys.put(Constants.NAME_OF_ADDITIONAL_SORT, accessor.getProperty(neo4jPersistentEntity.getRequiredIdProperty()));
+				// The id is unique, there is no need to store it twice when it is already part of the sort
+				var idProperty = neo4jPersistentEntity.getRequiredIdProperty();
+				if (!keys.containsKey(idProperty.getPropertyName())) {
+					keys.put(Constants.NAME_OF_ADDITIONAL_SORT, accessor.getProperty(idProperty));
+				}
 				// keys.put(Constants.NAME_OF_ADDITIONAL_SORT, conversionService.convert(accessor.getProperty(neo4jPersistentEntity.getRequiredIdProperty()), Value.class));
 				return ScrollPosition.forward(keys);
 			}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.domain.Pageable;
+
+/**
+ * The implementations of the {@link PageTotalStrategy} returned by its factory methods.
+ *
+ * @since 7.4
+ */
+final class PageTotalStrategies {
+
+	static final PageTotalStrategy EXACT = PageTotalStrategy.CountQuery::execute;
+
+	static final PageTotalStrategy UNKNOWN = countQuery -> {
+
+		Pageable pageable = countQuery.getPageable();
+		int numberOfElements = countQuery.getNumberOfElements();
+		long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+		boolean mayHaveMore = pageable.isPaged() && numberOfElements >= pageable.getPageSize();
+		return offset + numberOfElements + (mayHaveMore ? 1 : 0);
+	};
+
+	/**
+	 * Caches exact totals per count query and parameters, with a time to live and a least recently used eviction.
+	 */
+	static final class Cached implements PageTotalStrategy {
+
+		private final long timeToLiveNanos;
+
+		private final Map<Key, Total> totals;
+
+		Cached(Duration timeToLive, int maximumSize) {
+
+			this.timeToLiveNanos = timeToLive.toNanos();
+			this.totals = new LinkedHashMap<>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Key, Total> eldest) {
+					return size() > maximumSize;
+				}
+			};
+		}
+
+		@Override
+		public long getTotal(PageTotalStrategy.CountQuery countQuery) {
+
+			Key key = new Key(countQuery.getCypherQuery(), countQuery.getParameters());
+			long now = System.nanoTime();
+			synchronized (totals) {
+				Total total = totals.get(key);
+				if (total != null && now - total.computedAt() < timeToLiveNanos) {
+					return total.value();
+				}
+			}
+
+			// The count query runs outside the lock, concurrent misses of the same key may count twice
+			long value = countQuery.execute();
+			synchronized (totals) {
+				totals.put(key, new Total(value, now));
+			}
+			return value;
+		}
+
+		private record Key(String cypherQuery, Map<String, Object> parameters) {
+		}
+
+		private record Total(long value, long computedAt) {
+		}
+	}
+
+	private PageTotalStrategies() {
+	}
+}
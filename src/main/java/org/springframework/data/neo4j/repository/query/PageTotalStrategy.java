@@ -0,0 +1,203 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.apiguardian.api.API;
+import org.neo4j.cypherdsl.core.Statement;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Computes the total number of elements of a {@link org.springframework.data.domain.Page} returned by a repository
+ * method. The strategy is only asked for totals that cannot be derived from the content of the page itself, that is
+ * for full pages and for pages beyond the last one. Register exactly one bean of this type to change how the totals of
+ * all pages are computed, the default is to {@link #exact() run the count query} for every such page.
+ *
+ * @since 7.4
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+@FunctionalInterface
+public interface PageTotalStrategy {
+
+	/**
+	 * @param countQuery The count query of the page and the page itself
+	 * @return The total number of elements
+	 */
+	long getTotal(CountQuery countQuery);
+
+	/**
+	 * @return A strategy that runs the count query for every page
+	 */
+	static PageTotalStrategy exact() {
+		return PageTotalStrategies.EXACT;
+	}
+
+	/**
+	 * Caches the totals per count query and parameters. Pages of the same query with the same parameters reuse the total
+	 * of the first page until it expires, so the totals may lag behind concurrent writes for up to the given duration.
+	 *
+	 * @param timeToLive  The duration after which a cached total is computed again
+	 * @param maximumSize The maximum number of cached totals, the least recently used total is evicted first
+	 * @return A strategy that caches exact totals
+	 */
+	static PageTotalStrategy cached(Duration timeToLive, int maximumSize) {
+
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "The time to live must be positive");
+		Assert.isTrue(maximumSize > 0, "The maximum size must be positive");
+		return new PageTotalStrategies.Cached(timeToLive, maximumSize);
+	}
+
+	/**
+	 * Uses the number of nodes with the primary label of the domain type as total. Neo4j answers that number from its
+	 * count store without touching a single node. It is exact for queries that return all nodes of the domain type and
+	 * an upper bound for all other queries, so that the last pages may be empty.
+	 *
+	 * @return A strategy that estimates totals from the count store
+	 */
+	static PageTotalStrategy estimated() {
+		return CountQuery::countAllNodesOfDomainType;
+	}
+
+	/**
+	 * Does not compute totals at all. The total reported for a full page is one element more than the page and the
+	 * pages before it contain, so that {@link org.springframework.data.domain.Page#hasNext()} is {@literal true} and
+	 * clients can navigate until they receive a page that is not full.
+	 *
+	 * @return A strategy that never runs a count query
+	 */
+	static PageTotalStrategy unknown() {
+		return PageTotalStrategies.UNKNOWN;
+	}
+
+	/**
+	 * The count query belonging to a page and the page itself.
+	 */
+	@API(status = API.Status.EXPERIMENTAL, since = "7.4")
+	final class CountQuery {
+
+		private final QueryMethod queryMethod;
+
+		private final QueryFragmentsAndParameters queryFragmentsAndParameters;
+
+		private final Pageable pageable;
+
+		private final int numberOfElements;
+
+		private final LongSupplier exactCount;
+
+		private final LongSupplier domainTypeCount;
+
+		@Nullable
+		private String cypherQuery;
+
+		@Nullable
+		private Map<String, Object> parameters;
+
+		CountQuery(QueryMethod queryMethod, QueryFragmentsAndParameters queryFragmentsAndParameters, Pageable pageable,
+				int numberOfElements, LongSupplier exactCount, LongSupplier domainTypeCount) {
+
+			this.queryMethod = queryMethod;
+			this.queryFragmentsAndParameters = queryFragmentsAndParameters;
+			this.pageable = pageable;
+			this.numberOfElements = numberOfElements;
+			this.exactCount = exactCount;
+			this.domainTypeCount = domainTypeCount;
+		}
+
+		/**
+		 * @return The repository method that returns the page
+		 */
+		public QueryMethod getQueryMethod() {
+			return queryMethod;
+		}
+
+		/**
+		 * @return The Cypher statement that counts all elements
+		 */
+		public String getCypherQuery() {
+			render();
+			return cypherQuery;
+		}
+
+		/**
+		 * @return The parameters of the Cypher statement that counts all elements
+		 */
+		public Map<String, Object> getParameters() {
+			render();
+			return parameters;
+		}
+
+		/**
+		 * @return The requested page
+		 */
+		public Pageable getPageable() {
+			return pageable;
+		}
+
+		/**
+		 * @return The number of elements on the requested page
+		 */
+		public int getNumberOfElements() {
+			return numberOfElements;
+		}
+
+		/**
+		 * Runs the count query.
+		 *
+		 * @return The exact total number of elements
+		 */
+		public long execute() {
+			return exactCount.getAsLong();
+		}
+
+		/**
+		 * Counts all nodes with the primary label of the domain type of the repository.
+		 *
+		 * @return The number of all nodes of the domain type, regardless of any condition of the query
+		 */
+		public long countAllNodesOfDomainType() {
+			return domainTypeCount.getAsLong();
+		}
+
+		private void render() {
+
+			if (cypherQuery != null) {
+				return;
+			}
+
+			Map<String, Object> queryParameters = new HashMap<>();
+			String query = queryFragmentsAndParameters.getCypherQuery();
+			if (query == null) {
+				Statement statement = queryFragmentsAndParameters.getQueryFragments().toStatement();
+				query = Renderer.getDefaultRenderer().render(statement);
+				queryParameters.putAll(statement.getCatalog().getParameters());
+			}
+			if (queryFragmentsAndParameters.getParameters() != null) {
+				queryParameters.putAll(queryFragmentsAndParameters.getParameters());
+			}
+			this.parameters = queryParameters;
+			this.cypherQuery = query;
+		}
+	}
+}
@@ -44,7 +44,9 @@ final class PartTreeNeo4jQuery extends AbstractNeo4jQuery {
 
 	private final PartTree tree;
 
-	public static RepositoryQuery create(Neo4jOperations neo4jOperations, Neo4jMappingContext mappingContext,
+	private final PartTreeQueryTemplateCache queryTemplates;
+
+	public static PartTreeNeo4jQuery create(Neo4jOperations neo4jOperations, Neo4jMappingContext mappingContext,
 										 Neo4jQueryMethod queryMethod, ProjectionFactory factory) {
 		return new PartTreeNeo4jQuery(neo4jOperations, mappingContext, queryMethod,
 				new PartTree(queryMethod.getName(), getDomainType(queryMethod)), factory);
@@ -55,6 +57,7 @@ final class PartTreeNeo4jQuery extends AbstractNeo4jQuery {
 		super(neo4jOperations, mappingContext, queryMethod, Neo4jQueryType.fromPartTree(tree), factory);
 
 		this.tree = tree;
+		this.queryTemplates = new PartTreeQueryTemplateCache(tree);
 		// Validate parts. Sort properties will be validated by Spring Data already.
 		PartValidator validator = new PartValidator(mappingContext, queryMethod);
 		this.tree.flatMap(OrPart::stream).forEach(validator::validatePart);
@@ -65,11 +68,12 @@ final class PartTreeNeo4jQuery extends AbstractNeo4jQuery {
 			Neo4jParameterAccessor parameterAccessor, @Nullable Neo4jQueryType queryType,
 			@Nullable Supplier<BiFunction<TypeSystem, MapAccessor, ?>> mappingFunction, UnaryOperator<Integer> limitModifier) {
 
-		CypherQueryCreator queryCreator = new CypherQueryCreator(mappingContext, queryMethod, getDomainType(queryMethod),
-				Optional.ofNullable(queryType).orElseGet(() -> Neo4jQueryType.fromPartTree(tree)), tree, parameterAccessor,
-				includedProperties, this::convertParameter, limitModifier);
-
-		QueryFragmentsAndParameters queryAndParameters = queryCreator.createQuery();
+		Neo4jQueryType actualQueryType = Optional.ofNullable(queryType).orElseGet(() -> Neo4jQueryType.fromPartTree(tree));
+		QueryFragmentsAndParameters queryAndParameters = queryTemplates.createQuery(actualQueryType, includedProperties,
+				parameterAccessor, limitModifier,
+				() -> new CypherQueryCreator(mappingContext, queryMethod, getDomainType(queryMethod), actualQueryType, tree,
+						parameterAccessor, includedProperties, this::convertParameter, limitModifier),
+				this::convertParameter);
 		return PreparedQuery.queryFor(returnedType).withQueryFragmentsAndParameters(queryAndParameters)
 				.usingMappingFunction(mappingFunction).build();
 	}
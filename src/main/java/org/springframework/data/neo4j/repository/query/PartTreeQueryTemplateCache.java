@@ -0,0 +1,172 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.core.convert.Neo4jPersistentPropertyConverter;
+import org.springframework.data.neo4j.core.mapping.PropertyFilter;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
+
+/**
+ * Caches the query fragments created for a derived finder method. The fragments of a derived query only depend on the
+ * shape of an invocation and not on the actual parameter values. The shape is made up by the query type, the
+ * properties to return, sort and paging as well as the types of the parameter values, as some keywords such as
+ * {@code NEAR}, {@code WITHIN} or {@code BETWEEN} create different conditions for different types of values.
+ * Invocations with the same shape reuse the fragments and only bind their parameters.
+ * <p>
+ * Invocations with a scroll position are never cached, as keyset based scrolling renders the keys of the position into
+ * the condition. Once the maximum number of templates has been reached, new shapes are created but not cached.
+ *
+ * @since 7.4
+ */
+final class PartTreeQueryTemplateCache {
+
+	/**
+	 * Default number of cached templates per derived finder method.
+	 */
+	static final int DEFAULT_CACHE_SIZE = 32;
+
+	private final PartTree tree;
+
+	private final int cacheSize;
+
+	private final Map<Key, Template> templates = new ConcurrentHashMap<>();
+
+	PartTreeQueryTemplateCache(PartTree tree) {
+		this(tree, DEFAULT_CACHE_SIZE);
+	}
+
+	PartTreeQueryTemplateCache(PartTree tree, int cacheSize) {
+		this.tree = tree;
+		this.cacheSize = cacheSize;
+	}
+
+	/**
+	 * Creates the query for an invocation of a derived finder method, either by binding the parameters to a cached
+	 * template or by using the given query creator.
+	 *
+	 * @param queryType           The type of the query
+	 * @param includedProperties  The properties to return
+	 * @param parameterAccessor   The parameters of the invocation
+	 * @param limitModifier       Modifier for the limit of sliced or paged queries
+	 * @param queryCreator        Creates a fresh query creator if no template is available
+	 * @param parameterConversion The conversion to apply to the parameter values
+	 * @return Query fragments and parameters ready to be executed
+	 */
+	QueryFragmentsAndParameters createQuery(Neo4jQueryType queryType,
+			Collection<PropertyFilter.ProjectedPath> includedProperties, Neo4jParameterAccessor parameterAccessor,
+			@Nullable UnaryOperator<Integer> limitModifier, Supplier<CypherQueryCreator> queryCreator,
+			BiFunction<Object, Neo4jPersistentPropertyConverter<?>, Object> parameterConversion) {
+
+		if (parameterAccessor.getScrollPosition() != null) {
+			return queryCreator.get().createQuery();
+		}
+
+		Key key = new Key(queryType, Set.copyOf(includedProperties), parameterAccessor.getSort(),
+				pagingShapeOf(parameterAccessor.getPageable(), limitModifier), parameterShapesOf(parameterAccessor));
+		Template template = templates.get(key);
+		if (template != null) {
+			return template.bind(parameterAccessor, parameterConversion);
+		}
+
+		CypherQueryCreator creator = queryCreator.get();
+		QueryFragmentsAndParameters queryFragmentsAndParameters = creator.createQuery();
+		if (templates.size() < cacheSize) {
+			templates.putIfAbsent(key, new Template(queryFragmentsAndParameters, creator.getBoundedParameters()));
+		}
+		return queryFragmentsAndParameters;
+	}
+
+	/**
+	 * @return The number of cached templates
+	 */
+	int size() {
+		return templates.size();
+	}
+
+	private List<Object> pagingShapeOf(Pageable pageable, @Nullable UnaryOperator<Integer> limitModifier) {
+
+		Integer limit = pageable.isPaged() ? Integer.valueOf(pageable.getPageSize()) : tree.isLimiting() ? tree.getMaxResults() : null;
+		if (limit != null && limitModifier != null) {
+			limit = limitModifier.apply(limit);
+		}
+		List<Object> shape = new ArrayList<>(3);
+		shape.add(pageable.isPaged());
+		shape.add(limit);
+		shape.add(pageable.getSort());
+		return shape;
+	}
+
+	private static List<Object> parameterShapesOf(Neo4jParameterAccessor parameterAccessor) {
+
+		List<Object> shapes = new ArrayList<>();
+		for (Object value : parameterAccessor) {
+			if (value instanceof Range<?> range) {
+				shapes.add(List.of(Range.class,
+						range.getLowerBound().isBounded(), range.getLowerBound().isInclusive(),
+						range.getUpperBound().isBounded(), range.getUpperBound().isInclusive()));
+			} else {
+				shapes.add(value == null ? null : value.getClass());
+			}
+		}
+		return shapes;
+	}
+
+	/**
+	 * Everything that determines the fragments of a derived query, apart from the query method itself.
+	 */
+	private record Key(Neo4jQueryType queryType, Set<PropertyFilter.ProjectedPath> includedProperties, Sort sort,
+			List<Object> pagingShape, List<Object> parameterShapes) {
+	}
+
+	/**
+	 * The fragments of a derived query together with the names and converters of its parameters, in the order of the
+	 * bindable parameters of the query method.
+	 */
+	private record Template(QueryFragmentsAndParameters queryFragmentsAndParameters,
+			List<CypherQueryCreator.Parameter> parameters) {
+
+		QueryFragmentsAndParameters bind(Neo4jParameterAccessor parameterAccessor,
+				BiFunction<Object, Neo4jPersistentPropertyConverter<?>, Object> parameterConversion) {
+
+			Map<String, Object> convertedParameters = new HashMap<>(parameters.size());
+			Iterator<Object> values = parameterAccessor.iterator();
+			for (CypherQueryCreator.Parameter parameter : parameters) {
+				Object value = values.next();
+				Neo4jQuerySupport.logParameterIfNull(parameter.nameOrIndex, value);
+				convertedParameters.put(parameter.nameOrIndex, parameterConversion.apply(value, parameter.conversionOverride));
+			}
+
+			return new QueryFragmentsAndParameters(queryFragmentsAndParameters.getNodeDescription(),
+					queryFragmentsAndParameters.getQueryFragments(), convertedParameters, queryFragmentsAndParameters.getSort());
+		}
+	}
+}
@@ -37,6 +37,7 @@ import org.springframework.data.neo4j.core.mapping.PropertyFilter;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.core.mapping.NodeDescription;
 import org.springframework.data.neo4j.core.schema.Property;
+import org.springframework.data.neo4j.core.schema.SubgraphLoading;
 import org.springframework.lang.Nullable;
 
 /**
@@ -62,12 +63,23 @@ public final class QueryFragments {
 	 */
 	private boolean requiresReverseSort = false;
 	private Predicate<PropertyFilter.RelaxedPropertyPath> projectingPropertyFilter;
+	/**
+	 * Overrides the {@link Neo4jPersistentEntity#getSubgraphLoadingStrategy() strategy of the entity} for this query if set.
+	 */
+	private SubgraphLoading.Strategy subgraphLoadingStrategy;
+	/**
+	 * The statement is built only once and reused as long as none of the fragments change, so that repeated executions
+	 * of the same fragments hit the statement cache of the Cypher-DSL renderer.
+	 */
+	private volatile Statement statement;
 
 	public void addMatchOn(PatternElement match) {
+		this.statement = null;
 		this.matchOn.add(match);
 	}
 
 	public void setMatchOn(List<PatternElement> match) {
+		this.statement = null;
 		this.matchOn = match;
 	}
 
@@ -76,6 +88,7 @@ public final class QueryFragments {
 	}
 
 	public void setCondition(@Nullable Condition condition) {
+		this.statement = null;
 		this.condition = Optional.ofNullable(condition).orElse(Cypher.noCondition());
 	}
 
@@ -84,19 +97,23 @@ public final class QueryFragments {
 	}
 
 	public void setReturnExpressions(Collection<Expression> expression) {
+		this.statement = null;
 		this.returnExpressions = expression;
 	}
 
 	public void setDeleteExpression(Expression expression) {
+		this.statement = null;
 		this.deleteExpression = expression;
 	}
 
 	public void setReturnExpression(Expression returnExpression, boolean isScalarValue) {
+		this.statement = null;
 		this.returnExpressions = Collections.singletonList(returnExpression);
 		this.scalarValueReturn = isScalarValue;
 	}
 
 	public void setProjectingPropertyFilter(Predicate<PropertyFilter.RelaxedPropertyPath> projectingPropertyFilter) {
+		this.statement = null;
 		this.projectingPropertyFilter = projectingPropertyFilter;
 	}
 
@@ -106,22 +123,36 @@ public final class QueryFragments {
 	}
 
 	public void setOrderBy(Collection<SortItem> orderBy) {
+		this.statement = null;
 		this.orderBy = orderBy;
 	}
 
 	public void setLimit(Number limit) {
+		this.statement = null;
 		this.limit = limit;
 	}
 
 	public void setSkip(Long skip) {
+		this.statement = null;
 		this.skip = skip;
 	}
 
 	public void setReturnBasedOn(NodeDescription<?> nodeDescription, Collection<PropertyFilter.ProjectedPath> includedProperties,
 			boolean isDistinct) {
+		this.statement = null;
 		this.returnTuple = new ReturnTuple(nodeDescription, includedProperties, isDistinct);
 	}
 
+	public void setSubgraphLoadingStrategy(@Nullable SubgraphLoading.Strategy subgraphLoadingStrategy) {
+		this.statement = null;
+		this.subgraphLoadingStrategy = subgraphLoadingStrategy;
+	}
+
+	@Nullable
+	public SubgraphLoading.Strategy getSubgraphLoadingStrategy() {
+		return subgraphLoadingStrategy;
+	}
+
 	public boolean isScalarValueReturn() {
 		return scalarValueReturn;
 	}
@@ -131,15 +162,27 @@ public final class QueryFragments {
 	}
 
 	public void setRequiresReverseSort(boolean requiresReverseSort) {
+		this.statement = null;
 		this.requiresReverseSort = requiresReverseSort;
 	}
 
 	public void setRenderConstantsAsParameters(boolean renderConstantsAsParameters) {
+		this.statement = null;
 		this.renderConstantsAsParameters = renderConstantsAsParameters;
 	}
 
 	public Statement toStatement() {
 
+		Statement result = this.statement;
+		if (result == null) {
+			result = buildStatement();
+			this.statement = result;
+		}
+		return result;
+	}
+
+	private Statement buildStatement() {
+
 		StatementBuilder.OngoingReadingWithoutWhere match = null;
 
 		for (PatternElement patternElement : matchOn) {
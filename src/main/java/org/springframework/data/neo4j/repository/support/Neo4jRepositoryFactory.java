@@ -21,8 +21,10 @@ import org.springframework.data.neo4j.core.Neo4jOperations;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.repository.Neo4jRepository;
+import org.springframework.data.neo4j.repository.query.ConcurrentPageCounts;
 import org.springframework.data.neo4j.repository.query.CypherdslConditionExecutorImpl;
 import org.springframework.data.neo4j.repository.query.Neo4jQueryLookupStrategy;
+import org.springframework.data.neo4j.repository.query.PageTotalStrategy;
 import org.springframework.data.neo4j.repository.query.QuerydslNeo4jPredicateExecutor;
 import org.springframework.data.neo4j.repository.query.SimpleQueryByExampleExecutor;
 import org.springframework.data.projection.ProjectionFactory;
@@ -37,6 +39,7 @@ import org.springframework.data.repository.core.support.RepositoryFragment;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.lang.Nullable;
 
 /**
  * Factory to create {@link Neo4jRepository} instances.
@@ -51,6 +54,11 @@ final class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 
 	private final Neo4jMappingContext mappingContext;
 
+	private PageTotalStrategy pageTotalStrategy = PageTotalStrategy.exact();
+
+	@Nullable
+	private ConcurrentPageCounts concurrentPageCounts;
+
 	Neo4jRepositoryFactory(Neo4jOperations neo4jOperations, Neo4jMappingContext mappingContext) {
 
 		this.neo4jOperations = neo4jOperations;
@@ -59,6 +67,14 @@ final class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 		setEvaluationContextProvider(QueryMethodEvaluationContextProvider.DEFAULT);
 	}
 
+	void setPageTotalStrategy(PageTotalStrategy pageTotalStrategy) {
+		this.pageTotalStrategy = pageTotalStrategy;
+	}
+
+	void setConcurrentPageCounts(@Nullable ConcurrentPageCounts concurrentPageCounts) {
+		this.concurrentPageCounts = concurrentPageCounts;
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T, ID> Neo4jEntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
@@ -72,7 +88,11 @@ final class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 
 		Neo4jEntityInformation<?, Object> entityInformation = getEntityInformation(metadata.getDomainType());
 		Neo4jRepositoryFactorySupport.assertIdentifierType(metadata.getIdType(), entityInformation.getIdType());
-		return getTargetRepositoryViaReflection(metadata, neo4jOperations, entityInformation);
+		Object repository = getTargetRepositoryViaReflection(metadata, neo4jOperations, entityInformation);
+		if (repository instanceof SimpleNeo4jRepository<?, ?> simpleNeo4jRepository) {
+			simpleNeo4jRepository.setConcurrentPageCounts(concurrentPageCounts);
+		}
+		return repository;
 	}
 
 	@Override
@@ -95,7 +115,7 @@ final class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 
 		if (CypherdslConditionExecutor.class.isAssignableFrom(metadata.getRepositoryInterface())) {
 
-			fragments = fragments.append(createDSLExecutorFragment(metadata, CypherdslConditionExecutorImpl.class));
+			fragments = fragments.append(createCypherdslConditionExecutorFragment(metadata));
 		}
 
 		return fragments;
@@ -109,12 +129,12 @@ final class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 		return RepositoryFragment.implemented(querydslFragment);
 	}
 
-	private RepositoryFragment<Object> createDSLExecutorFragment(RepositoryMetadata metadata, Class<?> implementor) {
+	private RepositoryFragment<Object> createCypherdslConditionExecutorFragment(RepositoryMetadata metadata) {
 
 		Neo4jEntityInformation<?, Object> entityInformation = getEntityInformation(metadata.getDomainType());
-		Object querydslFragment = instantiateClass(implementor, entityInformation, neo4jOperations);
+		Object cypherdslFragment = new CypherdslConditionExecutorImpl<>(entityInformation, neo4jOperations, concurrentPageCounts);
 
-		return RepositoryFragment.implemented(querydslFragment);
+		return RepositoryFragment.implemented(cypherdslFragment);
 	}
 
 	@Override
@@ -130,7 +150,8 @@ final class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(Key key,
 			QueryMethodEvaluationContextProvider evaluationContextProvider) {
 
-		return Optional.of(new Neo4jQueryLookupStrategy(neo4jOperations, mappingContext, evaluationContextProvider));
+		return Optional.of(new Neo4jQueryLookupStrategy(neo4jOperations, mappingContext, evaluationContextProvider,
+				pageTotalStrategy, concurrentPageCounts));
 	}
 
 	@Override
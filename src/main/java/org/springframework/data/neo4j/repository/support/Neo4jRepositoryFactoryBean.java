@@ -18,11 +18,16 @@ package org.springframework.data.neo4j.repository.support;
 import java.io.Serializable;
 
 import org.apiguardian.api.API;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.data.neo4j.core.Neo4jOperationAccounting;
 import org.springframework.data.neo4j.core.Neo4jOperations;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.repository.query.ConcurrentPageCounts;
+import org.springframework.data.neo4j.repository.query.PageTotalStrategy;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
 import org.springframework.data.repository.core.support.TransactionalRepositoryFactoryBeanSupport;
+import org.springframework.lang.Nullable;
 
 /**
  * Special adapter for Springs {@link org.springframework.beans.factory.FactoryBean} interface to allow easy setup of
@@ -43,6 +48,15 @@ public final class Neo4jRepositoryFactoryBean<T extends Repository<S, ID>, S, ID
 
 	private Neo4jMappingContext neo4jMappingContext;
 
+	@Nullable
+	private Neo4jOperationAccounting operationAccounting;
+
+	@Nullable
+	private PageTotalStrategy pageTotalStrategy;
+
+	@Nullable
+	private ConcurrentPageCounts concurrentPageCounts;
+
 	/**
 	 * Creates a new {@link TransactionalRepositoryFactoryBeanSupport} for the given repository interface.
 	 *
@@ -61,8 +75,26 @@ public final class Neo4jRepositoryFactoryBean<T extends Repository<S, ID>, S, ID
 		this.neo4jMappingContext = neo4jMappingContext;
 	}
 
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		super.setBeanFactory(beanFactory);
+		this.operationAccounting = beanFactory.getBeanProvider(Neo4jOperationAccounting.class).getIfUnique();
+		this.pageTotalStrategy = beanFactory.getBeanProvider(PageTotalStrategy.class).getIfUnique();
+		this.concurrentPageCounts = beanFactory.getBeanProvider(ConcurrentPageCounts.class).getIfUnique();
+	}
+
 	@Override
 	protected RepositoryFactorySupport doCreateRepositoryFactory() {
-		return new Neo4jRepositoryFactory(neo4jOperations, neo4jMappingContext);
+
+		Neo4jRepositoryFactory factory = new Neo4jRepositoryFactory(neo4jOperations, neo4jMappingContext);
+		if (pageTotalStrategy != null) {
+			factory.setPageTotalStrategy(pageTotalStrategy);
+		}
+		factory.setConcurrentPageCounts(concurrentPageCounts);
+		if (operationAccounting != null) {
+			factory.addRepositoryProxyPostProcessor(
+					OperationAccountingMethodInterceptor.createPostProcessor(operationAccounting, false));
+		}
+		return factory;
 	}
 }
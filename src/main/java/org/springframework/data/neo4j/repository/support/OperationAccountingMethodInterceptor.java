@@ -0,0 +1,93 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.support;
+
+import java.lang.reflect.Method;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.neo4j.core.Neo4jOperationAccounting;
+import org.springframework.data.neo4j.core.ReactiveNeo4jOperationAccounting;
+import org.springframework.data.repository.core.support.RepositoryProxyPostProcessor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Accounts each call of a repository method as an operation of a {@link Neo4jOperationAccounting}, named after the
+ * repository interface and the method. Results of reactive repositories are accounted per subscription.
+ *
+ * @since 7.4
+ */
+final class OperationAccountingMethodInterceptor implements MethodInterceptor {
+
+	/**
+	 * @param accounting The accounting to use
+	 * @param reactive   Whether the repositories return publishers
+	 * @return A post processor adding the interceptor to repository proxies
+	 */
+	static RepositoryProxyPostProcessor createPostProcessor(Neo4jOperationAccounting accounting, boolean reactive) {
+		return (factory, repositoryInformation) -> factory.addAdvice(new OperationAccountingMethodInterceptor(accounting,
+				repositoryInformation.getRepositoryInterface().getSimpleName(), reactive));
+	}
+
+	private final Neo4jOperationAccounting accounting;
+
+	private final String repositoryName;
+
+	/**
+	 * Only present for reactive repositories, which are the only ones requiring Project Reactor.
+	 */
+	@Nullable
+	private final ReactiveNeo4jOperationAccounting reactiveAccounting;
+
+	private OperationAccountingMethodInterceptor(Neo4jOperationAccounting accounting, String repositoryName,
+			boolean reactive) {
+		this.accounting = accounting;
+		this.repositoryName = repositoryName;
+		this.reactiveAccounting = reactive ? ReactiveNeo4jOperationAccounting.of(accounting) : null;
+	}
+
+	@Nullable
+	@Override
+	public Object invoke(@SuppressWarnings("null") MethodInvocation invocation) throws Throwable {
+
+		Method method = invocation.getMethod();
+		if (ReflectionUtils.isObjectMethod(method)) {
+			return invocation.proceed();
+		}
+
+		String operation = repositoryName + "." + method.getName();
+		if (reactiveAccounting != null) {
+			Object result = invocation.proceed();
+			if (result instanceof Mono<?> mono) {
+				return reactiveAccounting.account(operation, mono);
+			} else if (result instanceof Flux<?> flux) {
+				return reactiveAccounting.account(operation, flux);
+			}
+			return result;
+		}
+
+		Neo4jOperationAccounting.Scope scope = accounting.open(operation);
+		try {
+			return invocation.proceed();
+		} finally {
+			scope.close();
+		}
+	}
+}
@@ -18,11 +18,14 @@ package org.springframework.data.neo4j.repository.support;
 import java.io.Serializable;
 
 import org.apiguardian.api.API;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.data.neo4j.core.Neo4jOperationAccounting;
 import org.springframework.data.neo4j.core.ReactiveNeo4jOperations;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
 import org.springframework.data.repository.core.support.TransactionalRepositoryFactoryBeanSupport;
+import org.springframework.lang.Nullable;
 
 /**
  * Special adapter for Springs {@link org.springframework.beans.factory.FactoryBean} interface to allow easy setup of
@@ -43,6 +46,9 @@ public final class ReactiveNeo4jRepositoryFactoryBean<T extends Repository<S, ID
 
 	private Neo4jMappingContext neo4jMappingContext;
 
+	@Nullable
+	private Neo4jOperationAccounting operationAccounting;
+
 	/**
 	 * Creates a new {@link TransactionalRepositoryFactoryBeanSupport} for the given repository interface.
 	 *
@@ -61,8 +67,20 @@ public final class ReactiveNeo4jRepositoryFactoryBean<T extends Repository<S, ID
 		this.neo4jMappingContext = neo4jMappingContext;
 	}
 
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		super.setBeanFactory(beanFactory);
+		this.operationAccounting = beanFactory.getBeanProvider(Neo4jOperationAccounting.class).getIfUnique();
+	}
+
 	@Override
 	protected RepositoryFactorySupport doCreateRepositoryFactory() {
-		return new ReactiveNeo4jRepositoryFactory(neo4jOperations, neo4jMappingContext);
+
+		RepositoryFactorySupport factory = new ReactiveNeo4jRepositoryFactory(neo4jOperations, neo4jMappingContext);
+		if (operationAccounting != null) {
+			factory.addRepositoryProxyPostProcessor(
+					OperationAccountingMethodInterceptor.createPostProcessor(operationAccounting, true));
+		}
+		return factory;
 	}
 }
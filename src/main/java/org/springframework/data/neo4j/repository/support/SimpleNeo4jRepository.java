@@ -18,6 +18,7 @@ package org.springframework.data.neo4j.repository.support;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -28,10 +29,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.core.Neo4jOperations;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.repository.query.ConcurrentPageCounts;
 import org.springframework.data.neo4j.repository.query.QueryFragmentsAndParameters;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
@@ -58,6 +61,9 @@ public class SimpleNeo4jRepository<T, ID> implements PagingAndSortingRepository<
 
 	private final Neo4jPersistentEntity<T> entityMetaData;
 
+	@Nullable
+	private ConcurrentPageCounts concurrentPageCounts;
+
 	protected SimpleNeo4jRepository(Neo4jOperations neo4jOperations, Neo4jEntityInformation<T, ID> entityInformation) {
 
 		this.neo4jOperations = neo4jOperations;
@@ -65,6 +71,10 @@ public class SimpleNeo4jRepository<T, ID> implements PagingAndSortingRepository<
 		this.entityMetaData = this.entityInformation.getEntityMetaData();
 	}
 
+	void setConcurrentPageCounts(@Nullable ConcurrentPageCounts concurrentPageCounts) {
+		this.concurrentPageCounts = concurrentPageCounts;
+	}
+
 	@Override
 	public Optional<T> findById(ID id) {
 
@@ -93,12 +103,15 @@ public class SimpleNeo4jRepository<T, ID> implements PagingAndSortingRepository<
 
 	@Override
 	public Page<T> findAll(Pageable pageable) {
-		List<T> allResult = this.neo4jOperations.toExecutableQuery(entityInformation.getJavaType(),
+		Supplier<List<T>> allResult = () -> this.neo4jOperations.toExecutableQuery(entityInformation.getJavaType(),
 				QueryFragmentsAndParameters.forPageableAndSort(entityMetaData, pageable, null))
 				.getResults();
 
 		LongSupplier totalCountSupplier = this::count;
-		return PageableExecutionUtils.getPage(allResult, pageable, totalCountSupplier);
+		if (concurrentPageCounts != null) {
+			return concurrentPageCounts.getPage(allResult, pageable, totalCountSupplier);
+		}
+		return PageableExecutionUtils.getPage(allResult.get(), pageable, totalCountSupplier);
 	}
 
 	@Override
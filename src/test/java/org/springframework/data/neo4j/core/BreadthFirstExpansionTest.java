@@ -0,0 +1,118 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+import org.neo4j.cypherdsl.core.Cypher;
+import org.neo4j.cypherdsl.core.renderer.Configuration;
+import org.neo4j.cypherdsl.core.renderer.Dialect;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.springframework.data.neo4j.core.mapping.CypherGenerator;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.SpringDataCypherDsl;
+import org.springframework.data.neo4j.core.schema.GeneratedValue;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
+import org.springframework.data.neo4j.repository.query.QueryFragments;
+
+class BreadthFirstExpansionTest {
+
+	private final Renderer renderer = Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build());
+
+	@Test
+	void shouldExpandAllRelationshipsOfOneLevelWithOneStatement() {
+
+		BreadthFirstExpansion expansion = createExpansion();
+
+		assertThat(expansion.hasNextLevel()).isTrue();
+		BreadthFirstExpansion.Level firstLevel = expansion.nextLevel(Map.of("name", "Boss"));
+		assertThat(renderer.render(firstLevel.statement())).containsOnlyOnce("UNION ALL");
+		assertThat(firstLevel.parameters()).containsEntry("name", "Boss");
+
+		expansion.processLevel(List.of(
+				record(0, List.of("a"), List.of("b", "c"), List.of("r1", "r2")),
+				record(1, List.of("a"), List.of(), List.of())));
+
+		assertThat(expansion.hasNextLevel()).isTrue();
+		BreadthFirstExpansion.Level secondLevel = expansion.nextLevel(Map.of("name", "Boss"));
+		assertThat(renderer.render(secondLevel.statement()))
+				.containsOnlyOnce("UNION ALL")
+				.contains("$__ids__0", "$__ids__1");
+		assertThat(secondLevel.parameters())
+				.doesNotContainKey("name")
+				.containsEntry("__ids__0", List.of("b", "c"))
+				.containsEntry("__ids__1", List.of("b", "c"));
+	}
+
+	@Test
+	void shouldNotExpandNodesTwiceAlongTheSameRelationship() {
+
+		BreadthFirstExpansion expansion = createExpansion();
+		expansion.nextLevel(Map.of());
+		expansion.processLevel(List.of(
+				record(0, List.of("a"), List.of("b"), List.of("r1")),
+				record(1, List.of("a"), List.of(), List.of())));
+		expansion.nextLevel(Map.of());
+		expansion.processLevel(List.of(
+				record(0, List.of("b"), List.of("a"), List.of("r1")),
+				record(1, List.of("b"), List.of("a"), List.of("r3"))));
+
+		assertThat(expansion.hasNextLevel()).isFalse();
+		assertThat(expansion.getRootNodeIds()).containsExactly("a");
+		Map<String, Object> parameters = expansion.toStatementProvider(expansion.getRootNodeIds()).getParameters();
+		assertThat(parameters.get("relationshipIds")).asInstanceOf(InstanceOfAssertFactories.COLLECTION)
+				.containsExactlyInAnyOrder("r1", "r3");
+		assertThat(parameters.get("relatedNodeIds")).asInstanceOf(InstanceOfAssertFactories.COLLECTION)
+				.containsExactlyInAnyOrder("a", "b");
+	}
+
+	private static BreadthFirstExpansion createExpansion() {
+
+		Neo4jPersistentEntity<?> entity = new Neo4jMappingContext().getRequiredPersistentEntity(Employee.class);
+		QueryFragments queryFragments = new QueryFragments();
+		queryFragments.addMatchOn(CypherGenerator.INSTANCE.createRootNode(entity));
+		queryFragments.setCondition(Cypher.property("employee", "name").isEqualTo(Cypher.parameter("name")));
+
+		return new BreadthFirstExpansion(entity, queryFragments, Employee.class, CypherGenerator.INSTANCE,
+				SpringDataCypherDsl.elementIdOrIdFunction.apply(Dialect.NEO4J_5));
+	}
+
+	private static Value record(int branch, List<String> rootNodeIds, List<String> relatedNodeIds, List<String> relationshipIds) {
+		return Values.value(Map.of("__branch__", branch, "__sn__", rootNodeIds, "__srn__", relatedNodeIds, "__sr__", relationshipIds));
+	}
+
+	@Node
+	static class Employee {
+
+		@Id @GeneratedValue private String id;
+
+		private String name;
+
+		@Relationship("REPORTS_TO") private Employee manager;
+
+		@Relationship("MENTORS") private List<Employee> mentees;
+	}
+}
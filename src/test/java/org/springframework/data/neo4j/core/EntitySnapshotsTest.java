@@ -0,0 +1,112 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Values;
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class EntitySnapshotsTest {
+
+	private final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+	private final Neo4jPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(Person.class);
+
+	@Test
+	void shouldRetainOnlyChangedProperties() {
+
+		EntitySnapshots snapshots = new EntitySnapshots(mappingContext);
+		Person friend = new Person("f", "Friend");
+		Person person = new Person("p", "Person");
+		person.knows.add(friend);
+
+		snapshots.registerSaved(List.of(person), bean -> "4:db:" + ((Person) bean).id, true);
+
+		EntitySnapshots.EntitySnapshot snapshot = snapshots.get(entity, new Person("p", "Person"));
+		assertThat(snapshot).isNotNull();
+		assertThat(snapshot.internalId()).isEqualTo("4:db:p");
+		assertThat(snapshot.getRelationship(entity.getRelationships().iterator().next()).targets()).containsExactly("4:db:f");
+		assertThat(snapshots.get(entity, friend)).isNotNull();
+
+		Map<String, Object> parameters = snapshots.write(person);
+		assertThat(snapshot.retainChangedProperties(parameters)).isFalse();
+
+		person.name = "Changed";
+		parameters = snapshots.write(person);
+		assertThat(snapshot.retainChangedProperties(parameters)).isTrue();
+		assertThat(parameters.get(Constants.NAME_OF_PROPERTIES_PARAM)).isEqualTo(Map.of("name", Values.value("Changed")));
+	}
+
+	@Test
+	void shouldApplySnapshotsOfTransactionsOnlyAfterCommit() {
+
+		EntitySnapshots snapshots = new EntitySnapshots(mappingContext);
+		Person person = new Person("p", "Person");
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			snapshots.registerSaved(List.of(person), bean -> "4:db:p", true);
+			assertThat(snapshots.get(entity, person)).isNotNull();
+			complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		assertThat(snapshots.get(entity, person)).isNull();
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			snapshots.registerSaved(List.of(person), bean -> "4:db:p", true);
+			complete(TransactionSynchronization.STATUS_COMMITTED);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		assertThat(snapshots.get(entity, person)).isNotNull();
+	}
+
+	private static void complete(int status) {
+		TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(status));
+	}
+
+	@Node
+	static class Person {
+
+		@Id
+		private final String id;
+
+		private String name;
+
+		@Relationship("KNOWS")
+		private final List<Person> knows = new ArrayList<>();
+
+		Person(String id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -41,6 +41,10 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
 import org.assertj.core.matcher.AssertionMatcher;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -460,6 +464,42 @@ class Neo4jClientTest {
 			verify(session).close();
 		}
 
+		@Test
+		void streaming() {
+
+			prepareMocks();
+
+			when(session.run(anyString(), anyMap())).thenReturn(result);
+			when(result.stream()).thenReturn(Stream.of(record1, record2));
+			when(result.consume()).thenReturn(resultSummary);
+			when(record1.get("name")).thenReturn(Values.value("michael"));
+
+			Neo4jClient client = Neo4jClient.create(driver);
+
+			String cypher = "MATCH (o:User {name: $name}) - [:OWNS] -> (b:Bike) RETURN o, collect(b) as bikes";
+
+			BikeOwnerReader mappingFunction = new BikeOwnerReader();
+			try (Stream<BikeOwner> bikeOwners = client.query(cypher).bind("michael").to("name").fetchAs(BikeOwner.class)
+					.mappedBy(mappingFunction).stream()) {
+
+				verify(session, Mockito.never()).close();
+				assertThat(bikeOwners.findFirst()).hasValueSatisfying(owner -> assertThat(owner.getName()).isEqualTo("michael"));
+			}
+
+			verifyDatabaseSelection(null);
+
+			Map<String, Object> expectedParameters = new HashMap<>();
+			expectedParameters.put("name", "michael");
+
+			verify(session).run(eq(cypher), MockitoHamcrest.argThat(new MapAssertionMatcher(expectedParameters)));
+			verify(result).stream();
+			verify(result).consume();
+			verify(resultSummary).notifications();
+			verify(resultSummary).hasPlan();
+			verify(record1).get("name");
+			verify(session).close();
+		}
+
 		@Test
 		void writing() {
 
@@ -522,6 +562,114 @@ class Neo4jClientTest {
 		}
 	}
 
+	@Test
+	void statementsShouldBeObserved() {
+
+		prepareMocks();
+
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(result.hasNext()).thenReturn(true);
+		when(result.stream()).thenReturn(Stream.of(record1, record2));
+		when(result.consume()).thenReturn(resultSummary);
+		when(record1.get("name")).thenReturn(Values.value("michael"));
+		when(record2.get("name")).thenReturn(Values.value("gerrit"));
+
+		List<Neo4jObservationContext> observedStatements = new ArrayList<>();
+		ObservationRegistry observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig().observationHandler(new ObservationHandler<Neo4jObservationContext>() {
+			@Override
+			public void onStop(Neo4jObservationContext context) {
+				observedStatements.add(context);
+			}
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return context instanceof Neo4jObservationContext;
+			}
+		});
+
+		Neo4jClient client = Neo4jClient.with(driver).withObservationRegistry(observationRegistry).build();
+
+		String cypher = "MATCH (o:User) RETURN o.name AS name";
+		Collection<BikeOwner> bikeOwners = client.query(cypher).in("bikes").fetchAs(BikeOwner.class)
+				.mappedBy(new BikeOwnerReader()).all();
+
+		assertThat(bikeOwners).hasSize(2);
+		assertThat(observedStatements).singleElement().satisfies(context -> {
+			assertThat(context.getName()).isEqualTo("spring.data.neo4j.statement");
+			assertThat(context.getContextualName()).isEqualTo("neo4j all");
+			assertThat(context.getLowCardinalityKeyValues()).containsExactlyInAnyOrder(
+					KeyValue.of("db.system", "neo4j"),
+					KeyValue.of("db.operation", "all"),
+					KeyValue.of("db.name", "bikes"),
+					KeyValue.of("spring.data.repository.method", KeyValue.NONE_VALUE),
+					KeyValue.of("spring.data.neo4j.domain.type", BikeOwner.class.getName()));
+			assertThat(context.getHighCardinalityKeyValue("db.statement").getValue()).isEqualTo(cypher);
+			assertThat(context.getHighCardinalityKeyValue("spring.data.neo4j.records").getValue()).isEqualTo("2");
+			assertThat(context.getRecords()).isEqualTo(2L);
+			assertThat(context.getMappingTime()).isPositive();
+		});
+
+		verifyDatabaseSelection("bikes");
+
+		verify(session).run(eq(cypher), MockitoHamcrest.argThat(new MapAssertionMatcher(Collections.emptyMap())));
+		verify(result).hasNext();
+		verify(result).stream();
+		verify(result).consume();
+		verify(resultSummary).notifications();
+		verify(resultSummary).hasPlan();
+		verify(record1).get("name");
+		verify(record2).get("name");
+		verify(session).close();
+	}
+
+	@Test
+	void statementsShouldBeAccountedToTheTopLevelOperation() {
+
+		prepareMocks();
+
+		when(session.run(anyString(), anyMap())).thenReturn(result);
+		when(result.stream()).thenReturn(Stream.of(record1, record2));
+		when(result.consume()).thenReturn(resultSummary);
+		when(record1.get("name")).thenReturn(Values.value("michael"));
+		when(record2.get("name")).thenReturn(Values.value("gerrit"));
+
+		List<Neo4jOperationStatistics> finishedOperations = new ArrayList<>();
+		Neo4jOperationAccounting accounting = Neo4jOperationAccounting.create().addListener(finishedOperations::add);
+		Neo4jClient client = Neo4jClient.create(driver);
+
+		String cypher = "MATCH (o:User) RETURN o.name AS name";
+		try (Neo4jOperationAccounting.Scope ignored = accounting.open("loadOwners")) {
+			Collection<BikeOwner> bikeOwners = accounting.account("nested",
+					() -> client.query(cypher).fetchAs(BikeOwner.class).mappedBy(new BikeOwnerReader()).all());
+			assertThat(bikeOwners).hasSize(2);
+		}
+
+		assertThat(finishedOperations).singleElement().satisfies(statistics -> {
+			assertThat(statistics.operation()).isEqualTo("loadOwners");
+			assertThat(statistics.statements()).isEqualTo(1L);
+			assertThat(statistics.recordsReturned()).isEqualTo(2L);
+			assertThat(statistics.rowsWritten()).isZero();
+		});
+		assertThat(accounting.getSummary("nested")).isEmpty();
+		assertThat(accounting.getSummary("loadOwners")).hasValueSatisfying(summary -> {
+			assertThat(summary.calls()).isEqualTo(1L);
+			assertThat(summary.averageStatements()).isEqualTo(1.0);
+		});
+
+		verifyDatabaseSelection(null);
+
+		verify(session).run(eq(cypher), MockitoHamcrest.argThat(new MapAssertionMatcher(Collections.emptyMap())));
+		verify(result).stream();
+		verify(result).consume();
+		verify(resultSummary).counters();
+		verify(resultSummary).notifications();
+		verify(resultSummary).hasPlan();
+		verify(record1).get("name");
+		verify(record2).get("name");
+		verify(session).close();
+	}
+
 	@Test
 	@DisplayName("Queries that return nothing should fit in")
 	void queriesWithoutResultShouldFitInAsWell() {
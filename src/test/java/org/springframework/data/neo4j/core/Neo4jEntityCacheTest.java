@@ -0,0 +1,216 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Bookmark;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.schema.Cached;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class Neo4jEntityCacheTest {
+
+	private final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+	private final Neo4jPersistentEntity<?> country = mappingContext.getRequiredPersistentEntity(Country.class);
+
+	private final Neo4jPersistentEntity<?> city = mappingContext.getRequiredPersistentEntity(City.class);
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@Test
+	void shouldCacheLookupsAndEvictLeastRecentlyUsedEntities() {
+
+		Neo4jEntityCache cache = Neo4jEntityCache.builder()
+				.withCache(Country.class, "countries", Duration.ZERO, 2)
+				.build();
+
+		assertThat(findCountry(cache, "de")).isPresent();
+		assertThat(findCountry(cache, "de")).isPresent();
+		assertThat(loads).hasValue(1);
+
+		assertThat(cache.findAllById(mappingContext, country, List.of("de", "se", "fr"), this::loadCountries))
+				.extracting(c -> c.code).containsExactly("de", "se", "fr");
+		assertThat(loads).hasValue(2);
+
+		findCountry(cache, "de");
+		assertThat(loads).hasValue(3);
+
+		assertThat(findCountry(cache, "unknown")).isEmpty();
+		assertThat(findCountry(cache, "unknown")).isEmpty();
+		assertThat(loads).hasValue(5);
+	}
+
+	@Test
+	void shouldInvalidateAffectedCaches() {
+
+		Neo4jEntityCache cache = Neo4jEntityCache.builder().build();
+		findCountry(cache, "de");
+		findCountry(cache, "se");
+		findCity(cache, "berlin");
+
+		cache.invalidate(mappingContext, country, List.of("de"));
+		findCountry(cache, "se");
+		assertThat(loads).hasValue(3);
+		findCountry(cache, "de");
+		assertThat(loads).hasValue(4);
+
+		// Cities contain countries and saving a city may save its country as well
+		findCity(cache, "berlin");
+		assertThat(loads).hasValue(5);
+		cache.invalidate(mappingContext, city, List.of("berlin"));
+		findCountry(cache, "se");
+		findCountry(cache, "de");
+		assertThat(loads).hasValue(7);
+	}
+
+	@Test
+	void shouldBypassCachesInTransactionsThatInvalidatedThem() {
+
+		Neo4jEntityCache cache = Neo4jEntityCache.builder().build();
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			findCountry(cache, "de");
+			findCountry(cache, "de");
+			assertThat(loads).hasValue(1);
+
+			cache.invalidate(mappingContext, country, List.of("se"));
+			findCountry(cache, "de");
+			assertThat(loads).hasValue(2);
+			TransactionSynchronizationManager.getSynchronizations()
+					.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		findCountry(cache, "de");
+		findCountry(cache, "de");
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void shouldSkipEntriesLoadedBeforeBookmarksChanged() {
+
+		List<Bookmark> bookmarks = new ArrayList<>(List.of(Bookmark.from("a")));
+		Neo4jEntityCache cache = Neo4jEntityCache.builder().withBookmarks(() -> bookmarks).build();
+
+		findCountry(cache, "de");
+		findCountry(cache, "de");
+		assertThat(loads).hasValue(1);
+
+		bookmarks.set(0, Bookmark.from("b"));
+		findCountry(cache, "de");
+		findCountry(cache, "de");
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void shouldNormalizeIds() {
+
+		Neo4jEntityCache cache = Neo4jEntityCache.builder().build();
+		Neo4jPersistentEntity<?> airport = mappingContext.getRequiredPersistentEntity(Airport.class);
+
+		cache.findById(mappingContext, airport, 4711L, () -> {
+			loads.incrementAndGet();
+			return Optional.of(new Airport(4711L));
+		});
+		List<Airport> airports = cache.findAllById(mappingContext, airport, List.of(4711, 42), ids -> {
+			loads.incrementAndGet();
+			assertThat(ids).containsExactly(42);
+			return List.of(new Airport(42L));
+		});
+		assertThat(airports).extracting(a -> a.number).containsExactly(4711L, 42L);
+		assertThat(loads).hasValue(2);
+
+		cache.findById(mappingContext, airport, 42, Optional::empty);
+		assertThat(loads).hasValue(2);
+
+		cache.invalidate(mappingContext, airport, List.of(42));
+		assertThat(cache.findById(mappingContext, airport, 42L, Optional::empty)).isEmpty();
+	}
+
+	private Optional<Country> findCountry(Neo4jEntityCache cache, String code) {
+		return cache.findById(mappingContext, country, code, () -> loadCountries(List.of(code)).stream().findFirst());
+	}
+
+	private void findCity(Neo4jEntityCache cache, String name) {
+		cache.findById(mappingContext, city, name, () -> {
+			loads.incrementAndGet();
+			return Optional.of(new City(name, new Country("de")));
+		});
+	}
+
+	private List<Country> loadCountries(List<Object> codes) {
+		loads.incrementAndGet();
+		return codes.stream().filter(code -> !"unknown".equals(code)).map(code -> new Country((String) code))
+				.collect(Collectors.toList());
+	}
+
+	@Node
+	@Cached(maximumSize = 10)
+	static class Country {
+
+		@Id
+		private final String code;
+
+		Country(String code) {
+			this.code = code;
+		}
+	}
+
+	@Node
+	@Cached
+	static class Airport {
+
+		@Id
+		private final Long number;
+
+		Airport(Long number) {
+			this.number = number;
+		}
+	}
+
+	@Node
+	@Cached
+	static class City {
+
+		@Id
+		private final String name;
+
+		@Relationship("IN")
+		private final Country country;
+
+		City(String name, Country country) {
+			this.name = name;
+			this.country = country;
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.cypherdsl.core.renderer.Configuration;
+import org.neo4j.cypherdsl.core.renderer.Dialect;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.springframework.data.neo4j.core.mapping.CypherGenerator;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
+import org.springframework.data.neo4j.core.schema.RelationshipId;
+import org.springframework.data.neo4j.core.schema.RelationshipProperties;
+import org.springframework.data.neo4j.core.schema.TargetNode;
+
+class RenderedStatementCacheTest {
+
+	private final Neo4jPersistentEntity<?> entity = new Neo4jMappingContext().getRequiredPersistentEntity(Person.class);
+
+	@Test
+	void shouldRenderEachStatementOnlyOnce() {
+
+		RenderedStatementCache cache = new RenderedStatementCache(Renderer.getDefaultRenderer(), CypherGenerator.INSTANCE);
+
+		String cypher = cache.get(RenderedStatementCache.Kind.SAVE, entity, DynamicLabels.EMPTY);
+		assertThat(cache.get(RenderedStatementCache.Kind.SAVE, entity, DynamicLabels.EMPTY)).isSameAs(cypher);
+		assertThat(cache.get(RenderedStatementCache.Kind.DELETE_ALL, entity)).isNotEqualTo(cypher);
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldDistinguishDynamicLabels() {
+
+		RenderedStatementCache cache = new RenderedStatementCache(Renderer.getDefaultRenderer(), CypherGenerator.INSTANCE);
+
+		String withoutLabels = cache.get(RenderedStatementCache.Kind.SAVE, entity, DynamicLabels.EMPTY);
+		String withLabels = cache.get(RenderedStatementCache.Kind.SAVE, entity,
+				new DynamicLabels(entity, List.of("Old"), List.of("New")));
+
+		assertThat(withoutLabels).doesNotContain("Old", "New");
+		assertThat(withLabels).contains("REMOVE", "Old", "New");
+		assertThat(cache.get(RenderedStatementCache.Kind.SAVE, entity,
+				new DynamicLabels(entity, List.of("Old"), List.of("New")))).isSameAs(withLabels);
+	}
+
+	@Test
+	void shouldRenderRelationshipStatements() {
+
+		RenderedStatementCache cache = new RenderedStatementCache(Renderer.getDefaultRenderer(), CypherGenerator.INSTANCE);
+		RelationshipDescription relationshipDescription = relationship("KNOWS");
+
+		assertThat(cache.get(RenderedStatementCache.Kind.SAVE_RELATIONSHIPS, entity, relationshipDescription))
+				.contains("UNWIND $__relationships__", "KNOWS");
+		assertThat(cache.get(RenderedStatementCache.Kind.DELETE_RELATIONSHIPS_ALL, entity, relationshipDescription))
+				.contains("$__ids__", "DELETE rel");
+	}
+
+	@Test
+	void shouldRenderUpdatesOfRelationshipsWithProperties() {
+
+		RenderedStatementCache cache = new RenderedStatementCache(Renderer.getDefaultRenderer(), CypherGenerator.INSTANCE);
+
+		assertThat(cache.get(RenderedStatementCache.Kind.UPDATE_RELATIONSHIPS_WITH_PROPERTIES, entity, relationship("LIKES")))
+				.contains("UNWIND $__relationships__", "LIKES", "SET");
+	}
+
+	@Test
+	void shouldTakeElementIdModeFromRenderer() {
+
+		Renderer neo4j5Renderer = Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build());
+		assertThat(new RenderedStatementCache(neo4j5Renderer, CypherGenerator.INSTANCE).canUseElementId()).isTrue();
+		assertThat(new RenderedStatementCache(Renderer.getDefaultRenderer(), CypherGenerator.INSTANCE).canUseElementId()).isFalse();
+	}
+
+	@Test
+	void shouldBeBounded() {
+
+		RenderedStatementCache cache = new RenderedStatementCache(Renderer.getDefaultRenderer(), CypherGenerator.INSTANCE, 2);
+		for (RenderedStatementCache.Kind kind : List.of(RenderedStatementCache.Kind.DELETE_ALL, RenderedStatementCache.Kind.DELETE_BY_ID,
+				RenderedStatementCache.Kind.DELETE_ALL_BY_ID, RenderedStatementCache.Kind.DYNAMIC_LABELS)) {
+			cache.get(kind, entity);
+		}
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	private RelationshipDescription relationship(String type) {
+		return entity.getRelationships().stream().filter(r -> r.getType().equals(type)).findFirst().orElseThrow();
+	}
+
+	@Node
+	static class Person {
+
+		@Id private String name;
+
+		@Relationship("KNOWS") private List<Person> friends;
+
+		@Relationship("LIKES") private List<Likes> likes;
+	}
+
+	@RelationshipProperties
+	static class Likes {
+
+		@RelationshipId private Long id;
+
+		@TargetNode private Person person;
+
+		private int stars;
+	}
+}
@@ -38,9 +38,11 @@ import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.cypherdsl.core.renderer.Configuration;
 import org.neo4j.cypherdsl.core.renderer.Dialect;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.core.schema.Id;
 import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
 
 /**
  * @author Davide Fantuzzi
@@ -127,6 +129,87 @@ class CypherGeneratorTest {
 		Assertions.assertEquals(expectedQuery, Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build()).render(statement));
 	}
 
+	@Test
+	void shouldCreateRelationshipRemoveQueryForMultipleStartNodes() {
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity1.class);
+		Neo4jPersistentEntity<?> relatedEntity = new Neo4jMappingContext().getPersistentEntity(Entity2.class);
+		RelationshipDescription relationshipDescription = Mockito.mock(RelationshipDescription.class);
+		doReturn(relatedEntity).when(relationshipDescription).getTarget();
+		doReturn("HAS").when(relationshipDescription).getType();
+		doReturn(true).when(relationshipDescription).isOutgoing();
+
+		Statement statement = CypherGenerator.INSTANCE.prepareDeleteOfMultipleInstancesOf(persistentEntity, relationshipDescription, true);
+
+		String expectedQuery = "MATCH (startNode:`Entity1`)-[rel:`HAS`]->(:`Entity2`) WHERE startNode.id IN $__ids__ DELETE rel";
+		Assertions.assertEquals(expectedQuery, Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build()).render(statement));
+	}
+
+	@Test
+	void shouldCreateRelationshipRemoveQueryBetweenNodes() {
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity1.class);
+		Neo4jPersistentEntity<?> relatedEntity = new Neo4jMappingContext().getPersistentEntity(Entity2.class);
+		RelationshipDescription relationshipDescription = Mockito.mock(RelationshipDescription.class);
+		doReturn(relatedEntity).when(relationshipDescription).getTarget();
+		doReturn("HAS").when(relationshipDescription).getType();
+		doReturn(true).when(relationshipDescription).isOutgoing();
+
+		Statement statement = CypherGenerator.INSTANCE.prepareDeleteOfRelationshipsBetween(persistentEntity, relationshipDescription, true);
+
+		String expectedQuery = "UNWIND $__relationships__ AS relationship "
+				+ "MATCH (startNode:`Entity1`)-[rel:`HAS`]->(endNode:`Entity2`) "
+				+ "WHERE (startNode.id = relationship.fromId AND elementId(endNode) = relationship.toId) DELETE rel";
+		Assertions.assertEquals(expectedQuery, Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build()).render(statement));
+	}
+
+	@Test
+	void shouldCreateSaveQueryForMultipleVersionedInstances() {
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(VersionedEntity.class);
+
+		Statement statement = CypherGenerator.INSTANCE.prepareSaveOfMultipleInstancesOf(persistentEntity);
+
+		String expectedQuery = "UNWIND $__entities__ AS entity "
+				+ "OPTIONAL MATCH (hlp:`VersionedEntity`) WHERE hlp.id = entity.__id__ "
+				+ "WITH entity, hlp WHERE (hlp IS NULL OR hlp.version = entity.__version__) "
+				+ "MERGE (versionedEntity:`VersionedEntity` {id: entity.__id__}) "
+				+ "ON CREATE SET versionedEntity.version = 0 ON MATCH SET versionedEntity.version = (versionedEntity.version + 1) "
+				+ "WITH entity, hlp, versionedEntity WHERE (hlp IS NULL OR versionedEntity.version = (coalesce(entity.__version__, 0) + 1)) "
+				+ "SET versionedEntity += entity.__properties__ "
+				+ "RETURN elementId(versionedEntity) AS __elementId__, versionedEntity.id AS __id__, versionedEntity.version AS __version__";
+		Assertions.assertEquals(expectedQuery, Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build()).render(statement));
+	}
+
+	@Test
+	void shouldCreateDirectedMatchOfReachableSubgraph() {
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(ChainedEntity.class);
+
+		Statement statement = CypherGenerator.INSTANCE.prepareMatchOfReachableSubgraph(persistentEntity,
+				persistentEntity.getRelationships(), null, null);
+
+		String expectedQuery = "MATCH (chainedEntity:`ChainedEntity`) "
+				+ "OPTIONAL MATCH (chainedEntity)-[:`NEXT`*]->(__srn__) "
+				+ "WITH collect(DISTINCT chainedEntity) AS __sn__, collect(DISTINCT __srn__) AS __srn__ "
+				+ "UNWIND (__sn__ + __srn__) AS n OPTIONAL MATCH (n)-[r:`NEXT`]->() "
+				+ "RETURN [x IN __sn__ | elementId(x)] AS __sn__, [x IN __srn__ | elementId(x)] AS __srn__, "
+				+ "collect(DISTINCT elementId(r)) AS __sr__";
+		Assertions.assertEquals(expectedQuery, Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build()).render(statement));
+	}
+
+	@Test
+	void shouldCreateUndirectedMatchOfReachableSubgraphForMixedDirections() {
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(ChainedEntityWithMixedDirections.class);
+
+		Statement statement = CypherGenerator.INSTANCE.prepareMatchOfReachableSubgraph(persistentEntity,
+				persistentEntity.getRelationships(), null, null);
+
+		String expectedQuery = "MATCH (chainedEntityWithMixedDirections:`ChainedEntityWithMixedDirections`) "
+				+ "OPTIONAL MATCH (chainedEntityWithMixedDirections)-[:`NEXT`*]-(__srn__) "
+				+ "WITH collect(DISTINCT chainedEntityWithMixedDirections) AS __sn__, collect(DISTINCT __srn__) AS __srn__ "
+				+ "UNWIND (__sn__ + __srn__) AS n OPTIONAL MATCH (n)-[r:`NEXT`]-() "
+				+ "RETURN [x IN __sn__ | elementId(x)] AS __sn__, [x IN __srn__ | elementId(x)] AS __srn__, "
+				+ "collect(DISTINCT elementId(r)) AS __sr__";
+		Assertions.assertEquals(expectedQuery, Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build()).render(statement));
+	}
+
 	@Test
 	void shouldCreateRelationshipRemoveQueryWithoutUsingInternalIds() {
 
@@ -265,6 +348,32 @@ class CypherGeneratorTest {
 		private Map<String, Entity1> dynamicRelationships;
 	}
 
+	@Node
+	private static class ChainedEntity {
+
+		@Id private Long id;
+
+		@Relationship("NEXT") private ChainedEntity next;
+	}
+
+	@Node
+	private static class ChainedEntityWithMixedDirections {
+
+		@Id private Long id;
+
+		@Relationship("NEXT") private ChainedEntityWithMixedDirections next;
+
+		@Relationship(type = "NEXT", direction = Relationship.Direction.INCOMING) private ChainedEntityWithMixedDirections previous;
+	}
+
+	@Node
+	private static class VersionedEntity {
+
+		@Id private String id;
+
+		@Version private Long version;
+	}
+
 	@Node({ "Entity1", "MultipleLabel" })
 	private static class MultipleLabelEntity1 {
 
@@ -24,15 +24,19 @@ import java.time.Period;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAmount;
 import java.util.Date;
+import java.util.List;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
 import org.neo4j.driver.exceptions.value.Uncoercible;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConverterNotFoundException;
 import org.springframework.dao.TypeMismatchDataAccessException;
+import org.springframework.data.convert.ConverterBuilder;
 import org.springframework.data.neo4j.core.ReactiveNeo4jClient;
 import org.springframework.data.neo4j.core.convert.Neo4jConversions;
 import org.springframework.data.util.TypeInformation;
@@ -107,5 +111,22 @@ class DefaultNeo4jConversionServiceTest {
 							"Could not convert \"Das funktioniert nicht.\" into org.springframework.data.neo4j.core.ReactiveNeo4jClient")
 					.withRootCauseInstanceOf(ConverterNotFoundException.class);
 		}
+
+		@Test
+		void shouldReadAndWriteSimpleTypesDirectly() {
+			assertThat(defaultNeo4jEntityAccessor.readValue(Values.value(42L), TypeInformation.of(long.class), null)).isEqualTo(42L);
+			assertThat(defaultNeo4jEntityAccessor.readValue(Values.value(List.of("a", "b")), TypeInformation.of(ResolvableType.forClassWithGenerics(List.class, String.class)), null))
+					.isEqualTo(List.of("a", "b"));
+			assertThat(defaultNeo4jEntityAccessor.writeValue("a", TypeInformation.of(String.class), null)).isEqualTo(Values.value("a"));
+			assertThat(defaultNeo4jEntityAccessor.writeValue(null, TypeInformation.of(String.class), null)).isNull();
+		}
+
+		@Test
+		void shouldPreferUserConvertersForSimpleTypes() {
+			DefaultNeo4jConversionService conversionService = new DefaultNeo4jConversionService(new Neo4jConversions(
+					List.of(ConverterBuilder.reading(Value.class, String.class, source -> source.asString().toUpperCase(Locale.ROOT)))));
+
+			assertThat(conversionService.readValue(Values.value("a"), TypeInformation.of(String.class), null)).isEqualTo("A");
+		}
 	}
 }
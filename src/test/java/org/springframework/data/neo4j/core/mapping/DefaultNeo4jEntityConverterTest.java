@@ -19,8 +19,10 @@ import org.junit.jupiter.api.Test;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
 import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.InternalRelationship;
 import org.neo4j.driver.internal.types.InternalTypeSystem;
 import org.neo4j.driver.internal.value.NodeValue;
+import org.neo4j.driver.types.Relationship;
 import org.neo4j.driver.types.TypeSystem;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.mapping.model.EntityInstantiators;
@@ -31,8 +33,11 @@ import org.springframework.data.neo4j.core.schema.Id;
 import org.springframework.data.neo4j.core.schema.Node;
 import org.springframework.data.util.TypeInformation;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -51,9 +56,12 @@ class DefaultNeo4jEntityConverterTest {
 		Neo4jMappingContext context = new Neo4jMappingContext();
 		context.addPersistentEntity(TypeInformation.of(EntityWithDefaultValues.class));
 		nodeDescriptionStore.put("User", (DefaultNeo4jPersistentEntity<?>) context.getNodeDescription(EntityWithDefaultValues.class));
+		context.addPersistentEntity(TypeInformation.of(ImmutableEntity.class));
+		nodeDescriptionStore.put("ImmutableEntity", (DefaultNeo4jPersistentEntity<?>) context.getNodeDescription(ImmutableEntity.class));
 		EventSupport eventSupport = EventSupport.useExistingCallbacks(context, EntityCallbacks.create());
 		TypeSystem typeSystem = InternalTypeSystem.TYPE_SYSTEM;
-		this.entityConverter = new DefaultNeo4jEntityConverter(entityInstantiators, nodeDescriptionStore, conversionService, eventSupport, typeSystem);
+		this.entityConverter = new DefaultNeo4jEntityConverter(entityInstantiators, nodeDescriptionStore, conversionService, eventSupport, typeSystem,
+				context::getEntityWriter, context::getEntityReader);
 	}
 
 	@Test
@@ -84,10 +92,76 @@ class DefaultNeo4jEntityConverterTest {
 		assertThat(readNode.defaultValue).isEqualTo("valueFromDatabase2");
 	}
 
+	@Test
+	void readEntityThroughConstructorForEveryRecord() {
+		long id = 0;
+		for (String name : List.of("a", "b")) {
+			Map<String, Value> properties = new HashMap<>();
+			properties.put("name", Values.value(name));
+			properties.put("tags", Values.value(List.of("x", name)));
+			NodeValue mapAccessor = new NodeValue(
+					new InternalNode(++id, Collections.singleton("ImmutableEntity"), properties)
+			);
+
+			ImmutableEntity readNode = entityConverter.read(ImmutableEntity.class, mapAccessor);
+			assertThat(readNode).isNotNull();
+			assertThat(readNode.id).isEqualTo(id);
+			assertThat(readNode.name).isEqualTo(name);
+			assertThat(readNode.tags).containsExactly("x", name);
+		}
+	}
+
+	@Test
+	void writeEntityIntoParameters() {
+		EntityWithDefaultValues entity = new EntityWithDefaultValues();
+		entity.id = 4711L;
+		entity.noDefaultValue = "value";
+
+		Map<String, Object> parameters = new HashMap<>();
+		entityConverter.write(entity, parameters);
+
+		assertThat(parameters).containsOnlyKeys(Constants.NAME_OF_PROPERTIES_PARAM, Constants.NAME_OF_ID);
+		assertThat(parameters.get(Constants.NAME_OF_ID)).isEqualTo(Values.value(4711L));
+		assertThat(parameters.get(Constants.NAME_OF_PROPERTIES_PARAM))
+				.isEqualTo(Map.of("noDefaultValue", Values.value("value"), "defaultValue", Values.value("Test")));
+	}
+
+	@Test
+	void relationshipIndexShouldFindRelationshipsBySourceNodeAndType() {
+		Relationship knows1 = new InternalRelationship(10L, 1L, 2L, "KNOWS");
+		Relationship knows2 = new InternalRelationship(11L, 1L, 3L, "KNOWS");
+		Relationship likes = new InternalRelationship(12L, 1L, 2L, "LIKES");
+		Relationship other = new InternalRelationship(13L, 2L, 1L, "KNOWS");
+		Collection<Relationship> relationships = new LinkedHashSet<>(List.of(knows1, likes, knows2, other));
+
+		DefaultNeo4jEntityConverter.RelationshipIndex index = new DefaultNeo4jEntityConverter.RelationshipIndex(relationships);
+
+		assertThat(index.get("1", false, "KNOWS")).containsExactly(knows1, knows2);
+		assertThat(index.get("1", false, null)).containsExactly(knows1, likes, knows2);
+		assertThat(index.get("1", true, "KNOWS")).containsExactly(other);
+		assertThat(index.get("3", false, "KNOWS")).isEmpty();
+
+		relationships.remove(knows1);
+		assertThat(index.get("1", false, "KNOWS")).containsExactly(knows2);
+	}
+
 	@Node
 	static class EntityWithDefaultValues {
 		@Id @GeneratedValue Long id;
 		public String noDefaultValue;
 		public String defaultValue = "Test";
 	}
+
+	@Node
+	static class ImmutableEntity {
+		@Id @GeneratedValue final Long id;
+		final String name;
+		final List<String> tags;
+
+		ImmutableEntity(Long id, String name, List<String> tags) {
+			this.id = id;
+			this.name = name;
+			this.tags = tags;
+		}
+	}
 }
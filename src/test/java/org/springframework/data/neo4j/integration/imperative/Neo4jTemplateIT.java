@@ -17,6 +17,8 @@ package org.springframework.data.neo4j.integration.imperative;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
 import org.neo4j.cypherdsl.core.Cypher;
 import org.neo4j.cypherdsl.core.Node;
 import org.neo4j.cypherdsl.core.Statement;
@@ -31,17 +33,27 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.neo4j.core.DatabaseSelectionProvider;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.data.neo4j.core.Neo4jImportSummary;
+import org.springframework.data.neo4j.core.Neo4jOperationAccounting;
 import org.springframework.data.neo4j.core.Neo4jTemplate;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.core.transaction.Neo4jBookmarkManager;
 import org.springframework.data.neo4j.core.transaction.Neo4jTransactionManager;
 import org.springframework.data.neo4j.integration.shared.common.EntityWithPrimitiveConstructorArguments;
+import org.springframework.data.neo4j.integration.shared.common.Hobby;
+import org.springframework.data.neo4j.integration.shared.common.LikesHobbyRelationship;
 import org.springframework.data.neo4j.integration.shared.common.Person;
 import org.springframework.data.neo4j.integration.shared.common.PersonWithAllConstructor;
 import org.springframework.data.neo4j.integration.shared.common.PersonWithAssignedId;
+import org.springframework.data.neo4j.integration.shared.common.PersonWithRelationshipWithProperties;
+import org.springframework.data.neo4j.integration.shared.common.Pet;
 import org.springframework.data.neo4j.integration.shared.common.ThingWithGeneratedId;
+import org.springframework.data.neo4j.integration.shared.common.VersionedThing;
 import org.springframework.data.neo4j.test.BookmarkCapture;
 import org.springframework.data.neo4j.test.Neo4jExtension.Neo4jConnectionSupport;
 import org.springframework.data.neo4j.test.Neo4jImperativeTestConfiguration;
@@ -58,12 +70,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 /**
  * @author Gerrit Meier
@@ -291,6 +306,30 @@ class Neo4jTemplateIT {
 		}
 	}
 
+	@Test
+	void importAllShouldCommitChunks() {
+
+		List<PersonWithAssignedId> people = new ArrayList<>();
+		for (int i = 0; i < 25; ++i) {
+			PersonWithAssignedId person = new PersonWithAssignedId();
+			person.setId("import" + i);
+			person.setFirstName("Imported " + i);
+			people.add(person);
+		}
+
+		Neo4jImportSummary summary = neo4jTemplate.importAll(people.stream(), 10);
+
+		assertThat(summary.entities()).isEqualTo(25L);
+		assertThat(summary.chunks()).isEqualTo(3L);
+		assertThat(summary.statements()).isGreaterThanOrEqualTo(3L);
+		assertThat(summary.nodesCreated()).isEqualTo(25L);
+
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			Result result = session.run("MATCH (p:PersonWithAssignedId) WHERE p.id STARTS WITH 'import' RETURN count(p) AS count");
+			assertThat(result.single().get("count").asLong()).isEqualTo(25L);
+		}
+	}
+
 	@Test
 	void deleteById() {
 		neo4jTemplate.deleteById(person1Id, PersonWithAllConstructor.class);
@@ -982,6 +1021,143 @@ class Neo4jTemplateIT {
 		assertThat(people).extracting(Person::getLastName).containsExactly("Schnitzel");
 	}
 
+	@Test
+	void shouldUpdateNestedRelationshipsWithProperties() {
+
+		Hobby music = new Hobby();
+		music.setName("Music");
+		Hobby sports = new Hobby();
+		sports.setName("Sports");
+		LikesHobbyRelationship likesMusic = new LikesHobbyRelationship(1995);
+		likesMusic.setHobby(music);
+		LikesHobbyRelationship likesSports = new LikesHobbyRelationship(2000);
+		likesSports.setHobby(sports);
+		PersonWithRelationshipWithProperties person = neo4jTemplate.save(new PersonWithRelationshipWithProperties("Freddie",
+				new ArrayList<>(List.of(likesMusic, likesSports)), null));
+
+		PersonWithRelationshipWithProperties loadedPerson = neo4jTemplate
+				.findById(person.getId(), PersonWithRelationshipWithProperties.class).orElseThrow();
+		Hobby cooking = new Hobby();
+		cooking.setName("Cooking");
+		LikesHobbyRelationship likesCooking = new LikesHobbyRelationship(2010);
+		likesCooking.setHobby(cooking);
+		List<LikesHobbyRelationship> hobbies = new ArrayList<>(loadedPerson.getHobbies());
+		hobbies.removeIf(likes -> likes.getHobby().getName().equals("Sports"));
+		hobbies.forEach(likes -> likes.setActive(true));
+		hobbies.add(likesCooking);
+		neo4jTemplate.save(new PersonWithRelationshipWithProperties(loadedPerson.getId(), loadedPerson.getName(), hobbies, null));
+
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			List<String> likes = session.run(
+					"MATCH (:PersonWithRelationshipWithProperties {name: 'Freddie'})-[r:LIKES]->(h:Hobby) RETURN h.name + ':' + r.since + ':' + coalesce(r.active, false) AS likes")
+					.list(r -> r.get("likes").asString());
+			assertThat(likes).containsExactlyInAnyOrder("Music:1995:true", "Cooking:2010:false");
+		}
+	}
+
+	@Test
+	void shouldSaveCyclicRelationships() {
+
+		Pet luna = new Pet("Luna");
+		Pet tom = new Pet("Tom");
+		luna.setFriends(new ArrayList<>(List.of(tom)));
+		tom.setFriends(new ArrayList<>(List.of(luna)));
+		luna = neo4jTemplate.save(luna);
+
+		Pet loadedLuna = neo4jTemplate.findById(luna.getId(), Pet.class).orElseThrow();
+		assertThat(loadedLuna.getFriends()).singleElement().satisfies(friend -> {
+			assertThat(friend.getName()).isEqualTo("Tom");
+			assertThat(friend.getFriends()).singleElement().isSameAs(loadedLuna);
+			friend.setFriends(new ArrayList<>());
+		});
+		neo4jTemplate.save(loadedLuna);
+
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			List<String> friendships = session.run("MATCH (a:Pet)-[:Has]->(b:Pet) RETURN a.name + '->' + b.name AS friendship")
+					.list(r -> r.get("friendship").asString());
+			assertThat(friendships).containsExactly("Luna->Tom");
+		}
+	}
+
+	@Test
+	void shouldRollbackSaveFailingWhileWritingBatchedRelationships(@Autowired Neo4jClient neo4jClient,
+			@Autowired Neo4jMappingContext mappingContext, @Autowired PlatformTransactionManager transactionManager) {
+
+		// Fail the second of the batched relationship statements, after the nodes and the first batch have been written
+		Neo4jClient failingClient = Mockito.spy(neo4jClient);
+		AtomicInteger batches = new AtomicInteger();
+		Mockito.doAnswer(invocation -> {
+			String cypher = invocation.getArgument(0);
+			if (cypher.startsWith("UNWIND") && batches.incrementAndGet() == 2) {
+				throw new IllegalStateException("Failure while writing relationships");
+			}
+			return invocation.callRealMethod();
+		}).when(failingClient).query(ArgumentMatchers.anyString());
+		Neo4jTemplate template = new Neo4jTemplate(failingClient, mappingContext, transactionManager);
+
+		Hobby music = new Hobby();
+		music.setName("Music");
+		Pet luna = new Pet("Luna");
+		luna.setHobbies(Set.of(music));
+		luna.setFriends(List.of(new Pet("Tom")));
+
+		assertThatIllegalStateException().isThrownBy(() -> template.save(luna))
+				.withMessage("Failure while writing relationships");
+		assertThat(batches).hasValue(2);
+
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			long count = session.run("MATCH (n) WHERE n:Pet OR n:Hobby RETURN count(n) AS cnt").single().get("cnt").asLong();
+			assertThat(count).isZero();
+		}
+	}
+
+	@Test
+	void changeTrackingShouldOnlyWriteChanges(@Autowired Neo4jClient neo4jClient,
+			@Autowired Neo4jMappingContext mappingContext, @Autowired PlatformTransactionManager transactionManager) {
+
+		Neo4jTemplate template = new Neo4jTemplate(neo4jClient, mappingContext, transactionManager);
+		template.setChangeTracking(true);
+		Neo4jOperationAccounting accounting = Neo4jOperationAccounting.create();
+
+		Pet luna = new Pet("Luna");
+		luna.setFriends(List.of(new Pet("Tom"), new Pet("Max")));
+		Long id = template.save(luna).getId();
+
+		Pet loadedLuna = template.findById(id, Pet.class).orElseThrow();
+		try (Neo4jOperationAccounting.Scope scope = accounting.open("saveUnchanged")) {
+			template.save(loadedLuna);
+			assertThat(scope.getStatistics().statements()).isZero();
+		}
+
+		loadedLuna.setFriends(loadedLuna.getFriends().stream().filter(pet -> pet.getName().equals("Tom")).toList());
+		try (Neo4jOperationAccounting.Scope scope = accounting.open("saveWithRemovedFriend")) {
+			template.save(loadedLuna);
+			assertThat(scope.getStatistics().relationshipsDeleted()).isOne();
+			assertThat(scope.getStatistics().relationshipsCreated()).isZero();
+		}
+
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			List<String> friendships = session.run("MATCH (a:Pet)-[:Has]->(b:Pet) RETURN a.name + '->' + b.name AS friendship")
+					.list(r -> r.get("friendship").asString());
+			assertThat(friendships).containsExactly("Luna->Tom");
+		}
+	}
+
+	@Test
+	void changeTrackingShouldNotBypassOptimisticLocking(@Autowired Neo4jClient neo4jClient,
+			@Autowired Neo4jMappingContext mappingContext, @Autowired PlatformTransactionManager transactionManager) {
+
+		Neo4jTemplate template = new Neo4jTemplate(neo4jClient, mappingContext, transactionManager);
+		template.setChangeTracking(true);
+
+		Long id = template.save(new VersionedThing("Thing1")).getId();
+		VersionedThing thing = template.findById(id, VersionedThing.class).orElseThrow();
+		VersionedThing staleThing = template.findById(id, VersionedThing.class).orElseThrow();
+
+		assertThat(template.save(thing).getMyVersion()).isOne();
+		assertThatExceptionOfType(OptimisticLockingFailureException.class).isThrownBy(() -> template.save(staleThing));
+	}
+
 	@Configuration
 	@EnableTransactionManagement
 	static class Config extends Neo4jImperativeTestConfiguration {
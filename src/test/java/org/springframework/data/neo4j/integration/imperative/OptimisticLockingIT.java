@@ -227,6 +227,49 @@ class OptimisticLockingIT {
 
 	}
 
+	@Test
+	void shouldReportFailedRowsAndRollbackForMultipleSaveForAssignedId(
+			@Autowired VersionedThingWithAssignedIdRepository repository) {
+		VersionedThingWithAssignedId thing1 = new VersionedThingWithAssignedId(4711L, "Thing1");
+		VersionedThingWithAssignedId thing2 = new VersionedThingWithAssignedId(42L, "Thing2");
+		List<VersionedThingWithAssignedId> thingsToSave = Arrays.asList(thing1, thing2);
+
+		List<VersionedThingWithAssignedId> versionedThings = repository.saveAll(thingsToSave);
+
+		versionedThings.get(0).setMyVersion(1L); // Version in DB is 0
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+				.isThrownBy(() -> repository.saveAll(versionedThings))
+				.withMessageContaining("4711")
+				.withMessageNotContaining("42");
+
+		assertThat(repository.findById(42L)).hasValueSatisfying(thing -> assertThat(thing.getMyVersion()).isEqualTo(0L));
+	}
+
+	@Test
+	void shouldSaveTheSameInstanceTwiceInMultipleSaveForAssignedId(
+			@Autowired VersionedThingWithAssignedIdRepository repository) {
+		VersionedThingWithAssignedId thing = new VersionedThingWithAssignedId(4711L, "Thing1");
+
+		List<VersionedThingWithAssignedId> versionedThings = repository.saveAll(Arrays.asList(thing, thing));
+
+		assertThat(versionedThings).last().extracting(VersionedThingWithAssignedId::getMyVersion).isEqualTo(1L);
+		assertThat(repository.findById(4711L)).hasValueSatisfying(t -> assertThat(t.getMyVersion()).isEqualTo(1L));
+	}
+
+	@Test
+	void shouldFailForStaleDuplicateInMultipleSaveForAssignedId(
+			@Autowired VersionedThingWithAssignedIdRepository repository) {
+		VersionedThingWithAssignedId thing = repository.save(new VersionedThingWithAssignedId(4711L, "Thing1"));
+		VersionedThingWithAssignedId copy = new VersionedThingWithAssignedId(4711L, "Thing1");
+		copy.setMyVersion(thing.getMyVersion());
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+				.isThrownBy(() -> repository.saveAll(Arrays.asList(thing, copy)));
+
+		assertThat(repository.findById(4711L)).hasValueSatisfying(t -> assertThat(t.getMyVersion()).isEqualTo(0L));
+	}
+
 	@Test
 	void shouldNotFailOnDeleteByIdWithNullVersion(@Autowired VersionedThingWithAssignedIdRepository repository) {
 		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
@@ -54,11 +54,15 @@ import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.condition.EnabledIf;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.cypherdsl.core.Cypher;
+import org.neo4j.cypherdsl.core.Statement;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Session;
@@ -99,7 +103,11 @@ import org.springframework.data.neo4j.core.Neo4jTemplate;
 import org.springframework.data.neo4j.core.UserSelection;
 import org.springframework.data.neo4j.core.UserSelectionProvider;
 import org.springframework.data.neo4j.core.convert.Neo4jConversions;
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.CypherGenerator;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.schema.SubgraphLoading;
 import org.springframework.data.neo4j.core.transaction.Neo4jBookmarkManager;
 import org.springframework.data.neo4j.core.transaction.Neo4jTransactionManager;
 import org.springframework.data.neo4j.integration.imperative.repositories.FlightRepository;
@@ -1041,6 +1049,58 @@ class RepositoryIT {
 			assertThat(iteration10.nextType).isNull();
 		}
 
+		@Test
+		void findLoopingDeepRelationshipsWithSingleQuery(@Autowired LoopingRelationshipRepository loopingRelationshipRepository) {
+
+			long type1Id = TestIdentitySupport.getInternalId(doWithSession(session -> session.run("""
+				CREATE (t1:LoopingType1)-[:NEXT_TYPE]->(:LoopingType2)-[:NEXT_TYPE]->(:LoopingType3)-[:NEXT_TYPE]->
+				(:LoopingType1)-[:NEXT_TYPE]->(:LoopingType2)-[:NEXT_TYPE]->(:LoopingType3)-[:NEXT_TYPE]->
+				(:LoopingType1)-[:NEXT_TYPE]->(:LoopingType2)-[:NEXT_TYPE]->(:LoopingType3)-[:NEXT_TYPE]->
+				(:LoopingType1)RETURN t1
+				"""
+			).single().get("t1").asNode()));
+
+			DeepRelationships.LoopingType1 type1 = loopingRelationshipRepository.findOneById(type1Id).get();
+
+			DeepRelationships.LoopingType1 iteration1 = type1.nextType.nextType.nextType;
+			assertThat(iteration1).isNotNull();
+			DeepRelationships.LoopingType1 iteration2 = iteration1.nextType.nextType.nextType;
+			assertThat(iteration2).isNotNull();
+			DeepRelationships.LoopingType1 iteration3 = iteration2.nextType.nextType.nextType;
+			assertThat(iteration3).isNotNull();
+			assertThat(iteration3.nextType).isNull();
+		}
+
+		@Test
+		@Timeout(60)
+		void findCyclicAndBranchingRelationshipsWithSingleQuery(@Autowired PetRepository repository,
+				@Autowired Neo4jMappingContext mappingContext) {
+
+			// Twenty diamonds closed to a cycle: millions of undirected paths, but only 60 nodes and 80 relationships
+			doWithSession(session -> session.run("UNWIND range(0, 19) AS i CREATE (:Pet {name: 'a' + i})").consume());
+			doWithSession(session -> session.run("""
+				UNWIND range(0, 19) AS i
+				MATCH (a:Pet {name: 'a' + i}), (next:Pet {name: 'a' + ((i + 1) % 20)})
+				CREATE (a)-[:Has]->(:Pet {name: 'b' + i})-[:Has]->(next), (a)-[:Has]->(:Pet {name: 'c' + i})-[:Has]->(next)
+				"""
+			).consume());
+
+			Neo4jPersistentEntity<?> petEntity = mappingContext.getRequiredPersistentEntity(Pet.class);
+			Statement statement = CypherGenerator.INSTANCE.prepareMatchOfReachableSubgraph(petEntity,
+					petEntity.getRelationships(), null,
+					CypherGenerator.INSTANCE.createRootNode(petEntity).property("name").isEqualTo(Cypher.literalOf("a0")));
+			Record record = doWithSession(session -> session.run(Renderer.getDefaultRenderer().render(statement)).single());
+
+			assertThat(record.get(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE).asList()).hasSize(1);
+			assertThat(record.get(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES).asList()).hasSize(60).doesNotHaveDuplicates();
+			assertThat(record.get(Constants.NAME_OF_SYNTHESIZED_RELATIONS).asList()).hasSize(80).doesNotHaveDuplicates();
+
+			Pet a0 = repository.findOneByName("a0").get();
+			assertThat(a0.getFriends()).hasSize(2)
+					.allSatisfy(friend -> assertThat(friend.getFriends()).singleElement()
+							.satisfies(a1 -> assertThat(a1.getFriends()).hasSize(2)));
+		}
+
 		@Test
 		void findEntityWithRelationshipToTheSameNode(@Autowired RelationshipRepository repository) {
 
@@ -3791,7 +3851,25 @@ class RepositoryIT {
 
 		@Test
 		void streamMethodsShouldWork(@Autowired PersonRepository repository) {
-			assertThat(repository.findAllByNameLike(TEST_PERSON1_NAME)).hasSize(2);
+			try (Stream<PersonWithAllConstructor> people = repository.findAllByNameLike(TEST_PERSON1_NAME)) {
+				assertThat(people).hasSize(2);
+			}
+		}
+
+		@Test
+		void customQueryStreamMethodsShouldWork(@Autowired PersonRepository repository) {
+			try (Stream<PersonWithAllConstructor> people = repository.streamAllByCustomQuery(TEST_PERSON1_NAME)) {
+				assertThat(people).extracting(PersonWithAllConstructor::getName)
+						.containsExactlyInAnyOrder(TEST_PERSON1_NAME, TEST_PERSON2_NAME);
+			}
+		}
+
+		@Test
+		void aggregatingCustomQueryStreamMethodsShouldWork(@Autowired PersonRepository repository) {
+			try (Stream<PersonWithAllConstructor> people = repository.streamAllCollectedByCustomQuery(TEST_PERSON1_NAME)) {
+				assertThat(people).extracting(PersonWithAllConstructor::getName)
+						.containsExactlyInAnyOrder(TEST_PERSON1_NAME, TEST_PERSON2_NAME);
+			}
 		}
 	}
 
@@ -4519,7 +4597,11 @@ class RepositoryIT {
 
 	interface BidirectionalEndRepository extends Neo4jRepository<BidirectionalEnd, Long> {}
 
-	interface LoopingRelationshipRepository extends Neo4jRepository<DeepRelationships.LoopingType1, Long> {}
+	interface LoopingRelationshipRepository extends Neo4jRepository<DeepRelationships.LoopingType1, Long> {
+
+		@SubgraphLoading(SubgraphLoading.Strategy.SINGLE_QUERY)
+		Optional<DeepRelationships.LoopingType1> findOneById(Long id);
+	}
 
 	interface ImmutablePersonRepository extends Neo4jRepository<ImmutablePerson, String> {}
 
@@ -4557,6 +4639,9 @@ class RepositoryIT {
 		@Query(value = "MATCH (p:Pet) return p SKIP $skip LIMIT $limit", countQuery = "MATCH (p:Pet) return count(p)")
 		Slice<Pet> slicedPets(Pageable pageable);
 
+		@SubgraphLoading(SubgraphLoading.Strategy.SINGLE_QUERY)
+		Optional<Pet> findOneByName(String name);
+
 		@Query(value = "MATCH (p:#{#staticLabels}) where p.name=$petName return p SKIP $skip LIMIT $limit",
 				countQuery = "MATCH (p:#{#staticLabels}) return count(p)")
 		Page<Pet> pagedPetsWithParameter(@Param("petName") String petName, Pageable pageable);
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.integration.imperative;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.neo4j.integration.shared.common.Hobby;
+import org.springframework.data.neo4j.repository.Neo4jRepository;
+import org.springframework.data.neo4j.repository.config.EnableNeo4jRepositories;
+import org.springframework.data.neo4j.repository.query.ConcurrentPageCounts;
+import org.springframework.data.neo4j.test.Neo4jExtension;
+import org.springframework.data.neo4j.test.Neo4jImperativeTestConfiguration;
+import org.springframework.data.neo4j.test.Neo4jIntegrationTest;
+import org.springframework.data.neo4j.test.VirtualThreads;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+/**
+ * Runs thousands of concurrent, blocking repository calls on virtual threads and makes sure that none of them pins its
+ * carrier thread inside Spring Data Neo4j.
+ *
+ * @since 7.4
+ */
+@Neo4jIntegrationTest
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadsIT {
+
+	private static final int NUMBER_OF_TASKS = 2_000;
+
+	private static final int NUMBER_OF_EXISTING_HOBBIES = 5;
+
+	protected static Neo4jExtension.Neo4jConnectionSupport neo4jConnectionSupport;
+
+	private final Driver driver;
+
+	@Autowired
+	VirtualThreadsIT(Driver driver) {
+		this.driver = driver;
+	}
+
+	@BeforeEach
+	void setupData() {
+		try (Session session = driver.session()) {
+			session.run("MATCH (n) DETACH DELETE n").consume();
+			// Makes sure that the first page is full, regardless of which of the concurrent saves are visible
+			session.run("UNWIND range(1, $numberOfHobbies) AS i CREATE (:Hobby {name: 'Hobby ' + i})",
+					Map.of("numberOfHobbies", NUMBER_OF_EXISTING_HOBBIES)).consume();
+		}
+	}
+
+	@Test
+	void shouldServeConcurrentRepositoryCallsWithoutPinning(@Autowired HobbyRepository repository) throws Exception {
+
+		Path recordingFile = Files.createTempFile("virtual-threads", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("jdk.VirtualThreadPinned").withStackTrace().withThreshold(Duration.ZERO);
+			recording.start();
+
+			ExecutorService executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+			List<Future<Page<Hobby>>> results = new ArrayList<>(NUMBER_OF_TASKS);
+			try {
+				for (int i = 0; i < NUMBER_OF_TASKS; ++i) {
+					String name = "Hobby " + (i % 10);
+					results.add(executor.submit(() -> {
+						Hobby hobby = new Hobby();
+						hobby.setName(name);
+						hobby = repository.save(hobby);
+
+						assertThat(repository.findById(hobby.getId())).isPresent();
+						assertThat(repository.findAllByName(name)).isNotEmpty();
+						return repository.findAllByNameStartingWith("Hobby", PageRequest.of(0, 5));
+					}));
+				}
+				for (Future<Page<Hobby>> result : results) {
+					assertThat(result.get(2, TimeUnit.MINUTES).getContent()).hasSize(5);
+				}
+			} finally {
+				executor.shutdown();
+				assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+			}
+
+			recording.stop();
+			recording.dump(recordingFile);
+			assertThat(RecordingFile.readAllEvents(recordingFile)).noneMatch(VirtualThreadsIT::isPinnedInsideSpringDataNeo4j);
+		} finally {
+			Files.deleteIfExists(recordingFile);
+		}
+		assertThat(repository.count()).isEqualTo(NUMBER_OF_TASKS + NUMBER_OF_EXISTING_HOBBIES);
+	}
+
+	/**
+	 * A virtual thread is pinned by Spring Data Neo4j if any of our frames, apart from the ones of this test, is on the
+	 * stack while it is pinned, for example when holding a monitor while calling into the driver.
+	 */
+	private static boolean isPinnedInsideSpringDataNeo4j(RecordedEvent event) {
+
+		if (event.getStackTrace() == null) {
+			return false;
+		}
+		return event.getStackTrace().getFrames().stream()
+				.map(frame -> frame.getMethod().getType().getName())
+				.anyMatch(className -> className.startsWith("org.springframework.data.neo4j.")
+						&& !className.startsWith(VirtualThreadsIT.class.getName()));
+	}
+
+	interface HobbyRepository extends Neo4jRepository<Hobby, Long> {
+
+		List<Hobby> findAllByName(String name);
+
+		Page<Hobby> findAllByNameStartingWith(String name, Pageable pageable);
+	}
+
+	@Configuration
+	@EnableTransactionManagement
+	@EnableNeo4jRepositories(considerNestedRepositories = true)
+	static class Config extends Neo4jImperativeTestConfiguration {
+
+		@Bean
+		public Driver driver() {
+			return neo4jConnectionSupport.getDriver();
+		}
+
+		@Bean
+		public ConcurrentPageCounts concurrentPageCounts() {
+			return ConcurrentPageCounts.using(VirtualThreads.newVirtualThreadPerTaskExecutor());
+		}
+
+		@Override
+		protected Collection<String> getMappingBasePackages() {
+			return Collections.singleton(Hobby.class.getPackage().getName());
+		}
+
+		@Override
+		public boolean isCypher5Compatible() {
+			return neo4jConnectionSupport.isCypher5SyntaxCompatible();
+		}
+	}
+}
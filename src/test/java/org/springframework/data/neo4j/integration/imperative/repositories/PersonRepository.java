@@ -138,6 +138,12 @@ public interface PersonRepository extends Neo4jRepository<PersonWithAllConstruct
 
 	Stream<PersonWithAllConstructor> findAllByNameLike(String aName);
 
+	@Query("MATCH (n:PersonWithAllConstructor) WHERE n.name STARTS WITH $aName RETURN n")
+	Stream<PersonWithAllConstructor> streamAllByCustomQuery(@Param("aName") String aName);
+
+	@Query("MATCH (n:PersonWithAllConstructor) WHERE n.name STARTS WITH $aName RETURN collect(n)")
+	Stream<PersonWithAllConstructor> streamAllCollectedByCustomQuery(@Param("aName") String aName);
+
 	List<PersonWithAllConstructor> findAllBySameValue(String sameValue);
 
 	List<PersonWithAllConstructor> findAllBySameValueIgnoreCase(String sameValue);
@@ -67,6 +67,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 
@@ -293,6 +294,49 @@ class ReactiveNeo4jTemplateIT {
 		}
 	}
 
+	@Test
+	void importAllShouldCommitChunks(@Autowired BookmarkCapture bookmarkCapture) {
+
+		Flux<PersonWithAssignedId> people = Flux.range(0, 25).map(i -> {
+			PersonWithAssignedId person = new PersonWithAssignedId();
+			person.setId("import" + i);
+			person.setFirstName("Imported " + i);
+			return person;
+		});
+
+		StepVerifier.create(neo4jTemplate.importAll(people, 10))
+				.assertNext(summary -> {
+					assertThat(summary.entities()).isEqualTo(25L);
+					assertThat(summary.chunks()).isEqualTo(3L);
+					assertThat(summary.statements()).isGreaterThanOrEqualTo(3L);
+					assertThat(summary.nodesCreated()).isEqualTo(25L);
+				})
+				.verifyComplete();
+
+		try (Session session = driver.session(bookmarkCapture.createSessionConfig())) {
+			Result result = session.run("MATCH (p:PersonWithAssignedId) WHERE p.id STARTS WITH 'import' RETURN count(p) AS count");
+			assertThat(result.single().get("count").asLong()).isEqualTo(25L);
+		}
+	}
+
+	@Test
+	void importAllShouldRequestOneChunkAfterAnother() {
+
+		List<Long> requests = new CopyOnWriteArrayList<>();
+		Flux<PersonWithAssignedId> people = Flux.range(0, 25).map(i -> {
+			PersonWithAssignedId person = new PersonWithAssignedId();
+			person.setId("import" + i);
+			person.setFirstName("Imported " + i);
+			return person;
+		}).doOnRequest(requests::add);
+
+		StepVerifier.create(neo4jTemplate.importAll(people, 10))
+				.assertNext(summary -> assertThat(summary.chunks()).isEqualTo(3L))
+				.verifyComplete();
+
+		assertThat(requests).containsExactly(10L, 10L, 10L);
+	}
+
 	@Test
 		// 2230
 	void findAllWithStatementWithoutParameters() {
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ConcurrentPageCountsTest {
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+	private final ConcurrentPageCounts concurrentPageCounts = ConcurrentPageCounts.using(executor);
+
+	@AfterEach
+	void shutdownExecutor() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void shouldCountWhileLoadingTheContent() {
+
+		CountDownLatch counting = new CountDownLatch(1);
+		Page<String> page = concurrentPageCounts.getPage(() -> {
+			await(counting);
+			return List.of("a", "b");
+		}, PageRequest.of(1, 2), () -> {
+			counting.countDown();
+			return 5L;
+		});
+
+		assertThat(page.getContent()).containsExactly("a", "b");
+		assertThat(page.getTotalElements()).isEqualTo(5L);
+	}
+
+	@Test
+	void shouldCountAfterTheContentInReadWriteTransactions() {
+
+		AtomicReference<Thread> countingThread = new AtomicReference<>();
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		try {
+			Page<String> page = concurrentPageCounts.getPage(() -> List.of("a", "b"), PageRequest.of(1, 2), () -> {
+				countingThread.set(Thread.currentThread());
+				return 5L;
+			});
+			assertThat(page.getTotalElements()).isEqualTo(5L);
+		} finally {
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+		}
+		assertThat(countingThread).hasValue(Thread.currentThread());
+	}
+
+	@Test
+	void shouldPropagateFailedCounts() {
+
+		assertThatIllegalStateException().isThrownBy(() -> concurrentPageCounts.getPage(() -> List.of("a", "b"),
+						PageRequest.of(1, 2), () -> {
+							throw new IllegalStateException("Count failed");
+						}))
+				.withMessage("Count failed");
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -50,20 +50,46 @@ class CypherAdapterUtilsTest {
 
 		var expected = """
 				MATCH (scrollingEntity)
-				WHERE (((scrollingEntity.b > $pcdsl01
+				WHERE (scrollingEntity.b >= $pcdsl01
+				  AND (((scrollingEntity.b > $pcdsl01
+				        OR (scrollingEntity.b = $pcdsl01
+				          AND scrollingEntity.foobar < $pcdsl02))
 				      OR (scrollingEntity.b = $pcdsl01
-				        AND scrollingEntity.foobar < $pcdsl02))
-				    OR (scrollingEntity.foobar = $pcdsl02
-				      AND scrollingEntity.c > $pcdsl03))
-				  OR (scrollingEntity.b = $pcdsl01
-				    AND scrollingEntity.foobar = $pcdsl02
-				    AND scrollingEntity.c = $pcdsl03))
+				        AND scrollingEntity.foobar = $pcdsl02
+				        AND scrollingEntity.c > $pcdsl03))
+				    OR (scrollingEntity.b = $pcdsl01
+				      AND scrollingEntity.foobar = $pcdsl02
+				      AND scrollingEntity.c = $pcdsl03)))
 				RETURN scrollingEntity""";
 
 		assertThat(Renderer.getRenderer(Configuration.prettyPrinting()).render(Cypher.match(Cypher.anyNode(n)).where(condition).returning(n).build()))
 						.isEqualTo(expected);
 	}
 
+	@Test
+	void shouldNotRequireArtificialSortWhenSortedById() {
+
+		var mappingContext = new Neo4jMappingContext();
+		var entity = mappingContext.getPersistentEntity(ScrollingEntity.class);
+		var n = Constants.NAME_OF_TYPED_ROOT_NODE.apply(entity);
+
+		var condition = CypherAdapterUtils.combineKeysetIntoCondition(entity,
+				ScrollPosition.forward(Map.of("b", 3, "id", "a1b2")),
+				Sort.by(Sort.Order.desc("b"), Sort.Order.asc("id")), mappingContext.getConversionService()
+		);
+
+		var expected = """
+				MATCH (scrollingEntity)
+				WHERE (scrollingEntity.b <= $pcdsl01
+				  AND (scrollingEntity.b < $pcdsl01
+				    OR (scrollingEntity.b = $pcdsl01
+				      AND scrollingEntity.id > $pcdsl02)))
+				RETURN scrollingEntity""";
+
+		assertThat(Renderer.getRenderer(Configuration.prettyPrinting()).render(Cypher.match(Cypher.anyNode(n)).where(condition).returning(n).build()))
+				.isEqualTo(expected);
+	}
+
 	@Test
 	void sortByCompositePropertyField() {
 		var mappingContext = new Neo4jMappingContext();
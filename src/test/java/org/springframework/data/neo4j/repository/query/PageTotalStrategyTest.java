@@ -0,0 +1,72 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+class PageTotalStrategyTest {
+
+	private final AtomicInteger counts = new AtomicInteger();
+
+	@Test
+	void shouldCacheTotalsPerQueryAndParameters() {
+
+		PageTotalStrategy strategy = PageTotalStrategy.cached(Duration.ofMinutes(1), 1);
+
+		assertThat(strategy.getTotal(countQuery(Map.of("name", "a"), PageRequest.of(0, 10), 10))).isEqualTo(42L);
+		assertThat(strategy.getTotal(countQuery(Map.of("name", "a"), PageRequest.of(1, 10), 10))).isEqualTo(42L);
+		assertThat(counts).hasValue(1);
+
+		strategy.getTotal(countQuery(Map.of("name", "b"), PageRequest.of(0, 10), 10));
+		strategy.getTotal(countQuery(Map.of("name", "a"), PageRequest.of(0, 10), 10));
+		assertThat(counts).hasValue(3);
+	}
+
+	@Test
+	void shouldNotCountUnknownTotals() {
+
+		PageTotalStrategy strategy = PageTotalStrategy.unknown();
+
+		assertThat(strategy.getTotal(countQuery(Map.of(), PageRequest.of(2, 10), 10))).isEqualTo(31L);
+		assertThat(strategy.getTotal(countQuery(Map.of(), PageRequest.of(2, 10), 0))).isEqualTo(20L);
+		assertThat(counts).hasValue(0);
+	}
+
+	@Test
+	void shouldEstimateTotalsFromAllNodesOfTheDomainType() {
+
+		assertThat(PageTotalStrategy.estimated().getTotal(countQuery(Map.of(), PageRequest.of(0, 10), 10))).isEqualTo(4711L);
+		assertThat(counts).hasValue(0);
+	}
+
+	private PageTotalStrategy.CountQuery countQuery(Map<String, Object> parameters, Pageable pageable, int numberOfElements) {
+
+		return new PageTotalStrategy.CountQuery(null,
+				new QueryFragmentsAndParameters("MATCH (n:Person) WHERE n.name = $name RETURN count(n)", parameters),
+				pageable, numberOfElements, () -> {
+					counts.incrementAndGet();
+					return 42L;
+				}, () -> 4711L);
+	}
+}
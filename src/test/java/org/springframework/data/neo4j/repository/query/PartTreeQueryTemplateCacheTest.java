@@ -0,0 +1,140 @@
+/*
+ * Copyright 2011-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.util.ReflectionUtils;
+
+class PartTreeQueryTemplateCacheTest {
+
+	private final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+	private final AtomicInteger createdQueries = new AtomicInteger();
+
+	PartTreeQueryTemplateCacheTest() {
+		mappingContext.getPersistentEntity(TestEntity.class);
+	}
+
+	@Test
+	void shouldReuseFragmentsForInvocationsOfTheSameShape() {
+
+		Neo4jQueryMethod queryMethod = queryMethod("findAllByName", String.class);
+		PartTreeQueryTemplateCache cache = new PartTreeQueryTemplateCache(partTree(queryMethod));
+
+		QueryFragmentsAndParameters first = createQuery(cache, queryMethod, "A");
+		QueryFragmentsAndParameters second = createQuery(cache, queryMethod, "B");
+
+		assertThat(createdQueries).hasValue(1);
+		assertThat(second.getQueryFragments()).isSameAs(first.getQueryFragments());
+		assertThat(second.getQueryFragments().toStatement()).isSameAs(first.getQueryFragments().toStatement());
+		assertThat(first.getParameters()).containsEntry("name", "A");
+		assertThat(second.getParameters()).containsEntry("name", "B");
+	}
+
+	@Test
+	void shouldDistinguishSort() {
+
+		Neo4jQueryMethod queryMethod = queryMethod("findAllByName", String.class, Sort.class);
+		PartTreeQueryTemplateCache cache = new PartTreeQueryTemplateCache(partTree(queryMethod));
+
+		QueryFragmentsAndParameters byName = createQuery(cache, queryMethod, "A", Sort.by("name"));
+		QueryFragmentsAndParameters byId = createQuery(cache, queryMethod, "A", Sort.by("id"));
+		createQuery(cache, queryMethod, "B", Sort.by("name"));
+
+		assertThat(createdQueries).hasValue(2);
+		assertThat(render(byName)).contains("ORDER BY testEntity.name").doesNotContain("testEntity.id");
+		assertThat(render(byId)).contains("ORDER BY testEntity.__internalNeo4jId__");
+	}
+
+	@Test
+	void shouldDistinguishTheShapeOfParameterValues() {
+
+		Neo4jQueryMethod queryMethod = queryMethod("findAllByIdBetween", Range.class);
+		PartTreeQueryTemplateCache cache = new PartTreeQueryTemplateCache(partTree(queryMethod));
+
+		QueryFragmentsAndParameters closed = createQuery(cache, queryMethod, Range.closed(1L, 2L));
+		QueryFragmentsAndParameters open = createQuery(cache, queryMethod, Range.rightUnbounded(Range.Bound.exclusive(1L)));
+		createQuery(cache, queryMethod, Range.closed(3L, 4L));
+
+		assertThat(createdQueries).hasValue(2);
+		assertThat(render(closed)).contains(">=", "<=");
+		assertThat(render(open)).contains(">").doesNotContain(">=", "<");
+	}
+
+	@Test
+	void shouldBeBounded() {
+
+		Neo4jQueryMethod queryMethod = queryMethod("findAllByName", String.class, Sort.class);
+		PartTreeQueryTemplateCache cache = new PartTreeQueryTemplateCache(partTree(queryMethod), 1);
+
+		createQuery(cache, queryMethod, "A", Sort.by("name"));
+		createQuery(cache, queryMethod, "A", Sort.by("id"));
+		createQuery(cache, queryMethod, "A", Sort.by("id"));
+
+		assertThat(createdQueries).hasValue(3);
+		assertThat(cache.size()).isOne();
+	}
+
+	private QueryFragmentsAndParameters createQuery(PartTreeQueryTemplateCache cache, Neo4jQueryMethod queryMethod,
+			Object... values) {
+
+		PartTree tree = partTree(queryMethod);
+		Neo4jParameterAccessor parameterAccessor = new Neo4jParameterAccessor(
+				(Neo4jQueryMethod.Neo4jParameters) queryMethod.getParameters(), values);
+		return cache.createQuery(Neo4jQueryType.fromPartTree(tree), Collections.emptySet(), parameterAccessor, null,
+				() -> {
+					createdQueries.incrementAndGet();
+					return new CypherQueryCreator(mappingContext, queryMethod, TestEntity.class, Neo4jQueryType.fromPartTree(tree),
+							tree, parameterAccessor, Collections.emptySet(), (v, c) -> v, null);
+				}, (v, c) -> v);
+	}
+
+	private static String render(QueryFragmentsAndParameters queryFragmentsAndParameters) {
+		return Renderer.getDefaultRenderer().render(queryFragmentsAndParameters.getQueryFragments().toStatement());
+	}
+
+	private static PartTree partTree(Neo4jQueryMethod queryMethod) {
+		return new PartTree(queryMethod.getName(), TestEntity.class);
+	}
+
+	private static Neo4jQueryMethod queryMethod(String name, Class<?>... parameters) {
+		return new Neo4jQueryMethod(ReflectionUtils.findMethod(TestRepository.class, name, parameters),
+				new DefaultRepositoryMetadata(TestRepository.class), new SpelAwareProxyProjectionFactory());
+	}
+
+	private interface TestRepository extends CrudRepository<TestEntity, Long> {
+
+		List<TestEntity> findAllByName(String name);
+
+		List<TestEntity> findAllByName(String name, Sort sort);
+
+		List<TestEntity> findAllByIdBetween(Range<Long> range);
+	}
+}